@@ -24,14 +24,15 @@ import eu.europa.esig.dss.exception.IllegalInputException;
 import eu.europa.esig.dss.model.DSSDocument;
 import eu.europa.esig.dss.model.DSSException;
 import eu.europa.esig.dss.model.FileDocument;
-import eu.europa.esig.dss.model.InMemoryDocument;
 import eu.europa.esig.dss.enumerations.MimeType;
+import eu.europa.esig.dss.signature.resources.DSSResourcesHandler;
+import eu.europa.esig.dss.signature.resources.DSSResourcesHandlerBuilder;
+import eu.europa.esig.dss.signature.resources.InMemoryResourcesHandlerBuilder;
 import eu.europa.esig.dss.spi.DSSUtils;
 import eu.europa.esig.dss.utils.Utils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
@@ -40,6 +41,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
 import java.util.zip.CRC32;
 import java.util.zip.ZipEntry;
@@ -82,11 +84,18 @@ public class SecureContainerHandler implements ZipContainerHandler {
 	 */
 	private boolean extractComments = false;
 
+	/**
+	 * The builder used to create a new {@code DSSResourcesHandler} for every extracted entry or created archive,
+	 * defining whether the binaries are kept in memory or spooled to temporary files.
+	 * Default : {@code InMemoryResourcesHandlerBuilder} (data is kept in memory)
+	 */
+	private DSSResourcesHandlerBuilder resourcesHandlerBuilder = new InMemoryResourcesHandlerBuilder();
+
 	/**
 	 * Internal variable used to calculate the extracted entries size
 	 * NOTE: shall be reset on every use
 	 */
-	private int byteCounter = 0;
+	private long byteCounter = 0;
 
 	/**
 	 * Internal variables used to count a number of malformed ZIP entries
@@ -167,6 +176,24 @@ public class SecureContainerHandler implements ZipContainerHandler {
 		this.extractComments = extractComments;
 	}
 
+	/**
+	 * Sets the builder used to create a {@code DSSResourcesHandler} for every ZIP entry extracted from
+	 * a not file-based archive, as well as for every created ZIP archive.
+	 *
+	 * Use {@code eu.europa.esig.dss.signature.resources.TempFileResourcesHandlerBuilder} in order to spool
+	 * the extracted entries and the created archives to temporary files, instead of keeping them in memory.
+	 * Recommended for processing of large containers.
+	 * NOTE: entries of a {@code FileDocument} archive are always read on request from the file itself.
+	 *
+	 * Default : {@code InMemoryResourcesHandlerBuilder} (data is kept in memory)
+	 *
+	 * @param resourcesHandlerBuilder {@link DSSResourcesHandlerBuilder}
+	 */
+	public void setResourcesHandlerBuilder(DSSResourcesHandlerBuilder resourcesHandlerBuilder) {
+		Objects.requireNonNull(resourcesHandlerBuilder, "DSSResourcesHandlerBuilder cannot be null!");
+		this.resourcesHandlerBuilder = resourcesHandlerBuilder;
+	}
+
 	@Override
 	public List<DSSDocument> extractContainerContent(DSSDocument zipArchive) {
 		resetCounters();
@@ -292,9 +319,32 @@ public class SecureContainerHandler implements ZipContainerHandler {
 
 	@Override
 	public DSSDocument createZipArchive(List<DSSDocument> containerEntries, Date creationTime, String zipComment) {
-		try (ByteArrayOutputStream baos = new ByteArrayOutputStream();
-			 	ZipOutputStream zos = new ZipOutputStream(baos)) {
+		try (DSSResourcesHandler resourcesHandler = resourcesHandlerBuilder.createResourcesHandler()) {
+			try (OutputStream os = resourcesHandler.createOutputStream()) {
+				writeZipArchive(containerEntries, creationTime, zipComment, os);
+			}
+			return resourcesHandler.writeToDSSDocument();
+
+		} catch (IOException e) {
+			throw new DSSException(String.format("Unable to create an ASiC container. Reason : %s", e.getMessage()), e);
+		}
+	}
 
+	/**
+	 * Writes a ZIP-Archive with the given {@code containerEntries} directly to the provided {@code OutputStream}.
+	 * The entries are streamed one by one, without loading the whole archive into memory.
+	 *
+	 * NOTE: the given {@code OutputStream} is not closed by the method
+	 *
+	 * @param containerEntries a list of {@link DSSDocument}s to embed into the new container instance
+	 * @param creationTime     (Optional) {@link Date} defined time of an archive creation,
+	 *                         will be set for all embedded files. If null, the local current time will be used
+	 * @param zipComment       (Optional) {@link String} defined a zipComment
+	 * @param os               {@link OutputStream} to write the ZIP-Archive to
+	 */
+	public void writeZipArchive(List<DSSDocument> containerEntries, Date creationTime, String zipComment, OutputStream os) {
+		try {
+			ZipOutputStream zos = new ZipOutputStream(os);
 			for (DSSDocument entry : containerEntries) {
 				final ZipEntry zipEntry = getZipEntry(entry, creationTime);
 				zos.putNextEntry(zipEntry);
@@ -306,8 +356,7 @@ public class SecureContainerHandler implements ZipContainerHandler {
 				zos.setComment(zipComment);
 			}
 			zos.finish();
-
-			return new InMemoryDocument(baos.toByteArray());
+			zos.flush();
 
 		} catch (IOException e) {
 			throw new DSSException(String.format("Unable to create an ASiC container. Reason : %s", e.getMessage()), e);
@@ -345,11 +394,20 @@ public class SecureContainerHandler implements ZipContainerHandler {
 		 * because they must appear before the user data in the resulting zip file.
 		 */
 		if (ZipEntry.STORED == zipEntry.getMethod()) {
-			final byte[] byteArray = DSSUtils.toByteArray(content);
-			zipEntry.setSize(byteArray.length);
-			zipEntry.setCompressedSize(byteArray.length);
 			final CRC32 crc = new CRC32();
-			crc.update(byteArray, 0, byteArray.length);
+			long size = 0;
+			try (InputStream is = content.openStream()) {
+				byte[] data = new byte[8192];
+				int nRead;
+				while ((nRead = is.read(data)) != -1) {
+					crc.update(data, 0, nRead);
+					size += nRead;
+				}
+			} catch (IOException e) {
+				throw new DSSException(String.format("Unable to compute CRC of a ZIP entry. Reason : %s", e.getMessage()), e);
+			}
+			zipEntry.setSize(size);
+			zipEntry.setCompressedSize(size);
 			zipEntry.setCrc(crc.getValue());
 		}
 		/*
@@ -417,11 +475,12 @@ public class SecureContainerHandler implements ZipContainerHandler {
 	 */
 	private DSSDocument getCurrentEntryDocument(ZipInputStream zis, ZipEntry entry, long containerSize) {
 		long allowedSize = containerSize * maxCompressionRatio;
-		try (ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
-			secureCopy(zis, baos, allowedSize);
-			baos.flush();
+		try (DSSResourcesHandler resourcesHandler = resourcesHandlerBuilder.createResourcesHandler()) {
+			try (OutputStream os = resourcesHandler.createOutputStream()) {
+				secureCopy(zis, os, allowedSize);
+			}
 
-			DSSDocument currentDocument = new InMemoryDocument(baos.toByteArray());
+			DSSDocument currentDocument = resourcesHandler.writeToDSSDocument();
 			String fileName = entry.getName();
 			currentDocument.setName(entry.getName());
 			currentDocument.setMimeType(MimeType.fromFileName(fileName));
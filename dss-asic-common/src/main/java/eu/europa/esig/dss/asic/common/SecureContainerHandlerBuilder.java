@@ -20,6 +20,9 @@
  */
 package eu.europa.esig.dss.asic.common;
 
+import eu.europa.esig.dss.signature.resources.DSSResourcesHandlerBuilder;
+import eu.europa.esig.dss.signature.resources.InMemoryResourcesHandlerBuilder;
+
 /**
  * Default implementation of a builder,
  * building a new instance of {@code eu.europa.esig.dss.asic.common.SecureContainerHandler}
@@ -53,6 +56,12 @@ public class SecureContainerHandlerBuilder implements ZipContainerHandlerBuilder
      */
     private boolean extractComments = false;
 
+    /**
+     * Defines whether extracted entries and created archives are kept in memory or spooled to temporary files.
+     * Default : {@code InMemoryResourcesHandlerBuilder} (data is kept in memory)
+     */
+    private DSSResourcesHandlerBuilder resourcesHandlerBuilder = new InMemoryResourcesHandlerBuilder();
+
     /**
      * Sets the maximum allowed threshold after exceeding each the security checks
      * are enforced
@@ -129,6 +138,23 @@ public class SecureContainerHandlerBuilder implements ZipContainerHandlerBuilder
         return this;
     }
 
+    /**
+     * Sets the builder used to create a {@code DSSResourcesHandler} for every ZIP entry extracted from
+     * a not file-based archive, as well as for every created ZIP archive.
+     * <p>
+     * Use {@code eu.europa.esig.dss.signature.resources.TempFileResourcesHandlerBuilder} in order to spool
+     * the data to temporary files, instead of keeping it in memory.
+     * <p>
+     * Default : {@code InMemoryResourcesHandlerBuilder} (data is kept in memory)
+     *
+     * @param resourcesHandlerBuilder {@link DSSResourcesHandlerBuilder}
+     * @return {@link SecureContainerHandlerBuilder}
+     */
+    public SecureContainerHandlerBuilder setResourcesHandlerBuilder(DSSResourcesHandlerBuilder resourcesHandlerBuilder) {
+        this.resourcesHandlerBuilder = resourcesHandlerBuilder;
+        return this;
+    }
+
     @Override
     public SecureContainerHandler build() {
         final SecureContainerHandler secureContainerHandler = new SecureContainerHandler();
@@ -137,6 +163,7 @@ public class SecureContainerHandlerBuilder implements ZipContainerHandlerBuilder
         secureContainerHandler.setMaxAllowedFilesAmount(maxAllowedFilesAmount);
         secureContainerHandler.setMaxMalformedFiles(maxMalformedFiles);
         secureContainerHandler.setExtractComments(extractComments);
+        secureContainerHandler.setResourcesHandlerBuilder(resourcesHandlerBuilder);
         return secureContainerHandler;
     }
 
@@ -0,0 +1,111 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.asic.common;
+
+import eu.europa.esig.dss.enumerations.DigestAlgorithm;
+import eu.europa.esig.dss.enumerations.MimeTypeEnum;
+import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.model.FileDocument;
+import eu.europa.esig.dss.model.InMemoryDocument;
+import eu.europa.esig.dss.signature.resources.TempFileResourcesHandlerBuilder;
+import eu.europa.esig.dss.spi.DSSUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SecureContainerHandlerTest {
+
+    @TempDir
+    File tempDir;
+
+    private TempFileResourcesHandlerBuilder tempFileResourcesHandlerBuilder;
+
+    @BeforeEach
+    public void init() {
+        tempFileResourcesHandlerBuilder = new TempFileResourcesHandlerBuilder();
+        tempFileResourcesHandlerBuilder.setTempFileDirectory(tempDir);
+    }
+
+    @AfterEach
+    public void clean() {
+        tempFileResourcesHandlerBuilder.clear();
+    }
+
+    @Test
+    public void tempFileExtractionTest() {
+        FileDocument asicContainer = new FileDocument("src/test/resources/multifiles-ok.asice");
+        List<DSSDocument> expectedDocuments = new SecureContainerHandler().extractContainerContent(asicContainer);
+
+        SecureContainerHandler secureContainerHandler = new SecureContainerHandlerBuilder()
+                .setResourcesHandlerBuilder(tempFileResourcesHandlerBuilder).build();
+        // in-memory archive is processed with ZipInputStream
+        List<DSSDocument> documents = secureContainerHandler.extractContainerContent(new InMemoryDocument(DSSUtils.toByteArray(asicContainer)));
+        assertEquals(expectedDocuments.size(), documents.size());
+
+        for (int i = 0; i < documents.size(); i++) {
+            DSSDocument document = documents.get(i);
+            assertInstanceOf(ContainerEntryDocument.class, document);
+            assertEquals(expectedDocuments.get(i).getName(), document.getName());
+            assertEquals(expectedDocuments.get(i).getDigest(DigestAlgorithm.SHA256), document.getDigest(DigestAlgorithm.SHA256));
+        }
+        assertEquals(documents.size(), tempDir.listFiles().length);
+    }
+
+    @Test
+    public void tempFileArchiveCreationTest() {
+        DSSDocument mimetype = new InMemoryDocument(MimeTypeEnum.ASICE.getMimeTypeString().getBytes(), "mimetype");
+        DSSDocument content = new InMemoryDocument("Hello World!".getBytes(), "hello.txt");
+        List<DSSDocument> entries = Arrays.asList(mimetype, content);
+
+        SecureContainerHandler secureContainerHandler = new SecureContainerHandlerBuilder()
+                .setResourcesHandlerBuilder(tempFileResourcesHandlerBuilder).build();
+        DSSDocument zipArchive = secureContainerHandler.createZipArchive(entries, null, "comment");
+        assertInstanceOf(FileDocument.class, zipArchive);
+        assertTrue(((FileDocument) zipArchive).getFile().toPath().startsWith(tempDir.toPath()));
+
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        secureContainerHandler.writeZipArchive(entries, null, "comment", baos);
+        byte[] streamedArchive = baos.toByteArray();
+
+        List<DSSDocument> extractedFromFile = secureContainerHandler.extractContainerContent(zipArchive);
+        List<DSSDocument> extractedFromStream = secureContainerHandler.extractContainerContent(new InMemoryDocument(streamedArchive));
+        assertEquals(2, extractedFromFile.size());
+        assertEquals(2, extractedFromStream.size());
+        for (int i = 0; i < entries.size(); i++) {
+            assertEquals(entries.get(i).getName(), extractedFromFile.get(i).getName());
+            assertArrayEquals(DSSUtils.toByteArray(entries.get(i)), DSSUtils.toByteArray(extractedFromFile.get(i)));
+            assertArrayEquals(DSSUtils.toByteArray(entries.get(i)), DSSUtils.toByteArray(extractedFromStream.get(i)));
+        }
+        assertTrue(ASiCUtils.isZip(zipArchive));
+    }
+
+}
@@ -0,0 +1,118 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.benchmarks;
+
+import eu.europa.esig.dss.enumerations.MimeTypeEnum;
+import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.model.DSSException;
+import eu.europa.esig.dss.model.InMemoryDocument;
+import eu.europa.esig.dss.utils.Utils;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDDocumentNameDictionary;
+import org.apache.pdfbox.pdmodel.PDEmbeddedFilesNameTreeNode;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.common.filespecification.PDComplexFileSpecification;
+import org.apache.pdfbox.pdmodel.common.filespecification.PDEmbeddedFile;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Random;
+
+/**
+ * Generates documents of a given size to be signed within benchmarks.
+ * The content is pseudo-random, but deterministic for the same size, so the runs are comparable.
+ *
+ */
+public enum BenchmarkDocuments {
+
+	/** Binary document */
+	BINARY {
+
+		@Override
+		public DSSDocument createDocument(int size) {
+			return new InMemoryDocument(getRandomBytes(size), "document.bin", MimeTypeEnum.BINARY);
+		}
+
+	},
+
+	/** XML document, containing the base64-encoded payload */
+	XML {
+
+		@Override
+		public DSSDocument createDocument(int size) {
+			// base64 encoding increases the size by 4/3
+			String payload = Utils.toBase64(getRandomBytes(size * 3 / 4));
+			String xml = "<?xml version=\"1.0\" encoding=\"UTF-8\"?><document><data>" + payload + "</data></document>";
+			return new InMemoryDocument(xml.getBytes(StandardCharsets.UTF_8), "document.xml", MimeTypeEnum.XML);
+		}
+
+	},
+
+	/** PDF document with a blank page and an embedded file containing the payload */
+	PDF {
+
+		@Override
+		public DSSDocument createDocument(int size) {
+			try (PDDocument pdDocument = new PDDocument(); ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
+				pdDocument.addPage(new PDPage());
+
+				byte[] payload = getRandomBytes(size);
+				PDEmbeddedFile embeddedFile = new PDEmbeddedFile(pdDocument, new ByteArrayInputStream(payload));
+				embeddedFile.setSize(payload.length);
+
+				PDComplexFileSpecification fileSpecification = new PDComplexFileSpecification();
+				fileSpecification.setFile("payload.bin");
+				fileSpecification.setEmbeddedFile(embeddedFile);
+
+				PDEmbeddedFilesNameTreeNode embeddedFiles = new PDEmbeddedFilesNameTreeNode();
+				embeddedFiles.setNames(Collections.singletonMap("payload.bin", fileSpecification));
+				PDDocumentNameDictionary names = new PDDocumentNameDictionary(pdDocument.getDocumentCatalog());
+				names.setEmbeddedFiles(embeddedFiles);
+				pdDocument.getDocumentCatalog().setNames(names);
+
+				pdDocument.save(baos);
+				return new InMemoryDocument(baos.toByteArray(), "document.pdf", MimeTypeEnum.PDF);
+
+			} catch (IOException e) {
+				throw new DSSException(String.format("Unable to create a PDF document. Reason : %s", e.getMessage()), e);
+			}
+		}
+
+	};
+
+	/**
+	 * Creates a new document of the approximate given size
+	 *
+	 * @param size the size of the content in bytes
+	 * @return {@link DSSDocument}
+	 */
+	public abstract DSSDocument createDocument(int size);
+
+	private static byte[] getRandomBytes(int size) {
+		byte[] bytes = new byte[size];
+		new Random(size).nextBytes(bytes);
+		return bytes;
+	}
+
+}
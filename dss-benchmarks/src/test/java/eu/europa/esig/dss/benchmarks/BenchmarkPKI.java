@@ -0,0 +1,168 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.benchmarks;
+
+import eu.europa.esig.dss.model.DSSException;
+import eu.europa.esig.dss.model.x509.CertificateToken;
+import eu.europa.esig.dss.pki.model.CertEntity;
+import eu.europa.esig.dss.policy.ValidationPolicyFacade;
+import eu.europa.esig.dss.spi.DSSUtils;
+import eu.europa.esig.dss.spi.x509.tsp.TSPSource;
+import eu.europa.esig.dss.test.PKIFactoryAccess;
+import eu.europa.esig.dss.test.pki.CertEntitySignatureTokenConnection;
+import eu.europa.esig.dss.token.DSSPrivateKeyEntry;
+import eu.europa.esig.dss.token.SignatureTokenConnection;
+import eu.europa.esig.dss.validation.CertificateVerifier;
+import eu.europa.esig.dss.validation.CommonCertificateVerifier;
+import eu.europa.esig.dss.validation.RevocationDataVerifier;
+
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Provides access to the local PKI Factory for benchmarks.
+ * All the sources are served offline (no cache, no network access), in order to get reproducible results.
+ *
+ */
+public class BenchmarkPKI extends PKIFactoryAccess {
+
+	/**
+	 * The date used to define acceptable cryptographic algorithms for revocation data.
+	 * The PKI Factory issues revocation data with RSA 2048 keys, which are not accepted by the default policy
+	 * after 2025. The fixed date keeps LT and LTA levels functional and the results comparable between runs.
+	 */
+	private static final Date CRYPTOGRAPHIC_CONSTRAINTS_DATE = DSSUtils.getUtcDate(2025, 0, 1);
+
+	/** The alias of the signing certificate entity */
+	private final String signingAlias;
+
+	/** The loaded signing certificate entity */
+	private final CertEntity certEntity;
+
+	/** The token connection used to produce signature values */
+	private final SignatureTokenConnection signatureToken;
+
+	/**
+	 * Default constructor
+	 *
+	 * @param signingAlias {@link String} alias of the signing certificate within the PKI Factory
+	 */
+	public BenchmarkPKI(String signingAlias) {
+		this.signingAlias = signingAlias;
+		this.certEntity = super.getCertEntity();
+		this.signatureToken = new CertEntitySignatureTokenConnection(certEntity);
+	}
+
+	@Override
+	protected String getSigningAlias() {
+		return signingAlias;
+	}
+
+	/**
+	 * Gets the signing certificate
+	 *
+	 * @return {@link CertificateToken}
+	 */
+	public CertificateToken getSigningCertificate() {
+		return certEntity.getCertificateToken();
+	}
+
+	/**
+	 * Gets the certificate chain of the signing certificate
+	 *
+	 * @return a list of {@link CertificateToken}s
+	 */
+	public List<CertificateToken> getSigningCertificateChain() {
+		return certEntity.getCertificateChain();
+	}
+
+	/**
+	 * Gets the signing certificate entity
+	 *
+	 * @return {@link CertEntity}
+	 */
+	public CertEntity getSigningCertEntity() {
+		return certEntity;
+	}
+
+	/**
+	 * Gets the certificate entity with the given alias
+	 *
+	 * @param alias {@link String}
+	 * @return {@link CertEntity}
+	 */
+	public CertEntity getCertEntity(String alias) {
+		return getXMLCertificateLoader().loadCertificateEntityFromXml(alias);
+	}
+
+	/**
+	 * Gets the token connection used to produce signature values
+	 *
+	 * @return {@link SignatureTokenConnection}
+	 */
+	public SignatureTokenConnection getSignatureToken() {
+		return signatureToken;
+	}
+
+	/**
+	 * Gets the key entry of the signing certificate
+	 *
+	 * @return {@link DSSPrivateKeyEntry}
+	 */
+	public DSSPrivateKeyEntry getSigningKey() {
+		return signatureToken.getKeys().iterator().next();
+	}
+
+	/**
+	 * Gets the time-stamping source, producing time-stamps with the PKI Factory TSA
+	 *
+	 * @return {@link TSPSource}
+	 */
+	public TSPSource getTSPSource() {
+		return getGoodTsa();
+	}
+
+	/**
+	 * Creates a new {@code CertificateVerifier} using the PKI Factory CRL, OCSP and AIA sources,
+	 * and the PKI Factory trust anchors
+	 *
+	 * @return {@link CertificateVerifier}
+	 */
+	public CertificateVerifier getOfflineCompleteCertificateVerifier() {
+		CertificateVerifier certificateVerifier = new CommonCertificateVerifier();
+		certificateVerifier.setCrlSource(pkiCRLSource());
+		certificateVerifier.setOcspSource(pkiOCSPSource());
+		certificateVerifier.setAIASource(pkiAIASource());
+		certificateVerifier.setTrustedCertSources(getTrustedCertificateSource());
+		certificateVerifier.setRevocationDataVerifier(getRevocationDataVerifier());
+		return certificateVerifier;
+	}
+
+	private RevocationDataVerifier getRevocationDataVerifier() {
+		try {
+			return RevocationDataVerifier.createRevocationDataVerifierFromPolicyWithTime(
+					ValidationPolicyFacade.newFacade().getDefaultValidationPolicy(), CRYPTOGRAPHIC_CONSTRAINTS_DATE);
+		} catch (Exception e) {
+			throw new DSSException(String.format("Unable to load the default validation policy. Reason : %s", e.getMessage()), e);
+		}
+	}
+
+}
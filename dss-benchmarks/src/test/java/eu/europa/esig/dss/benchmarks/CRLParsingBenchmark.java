@@ -0,0 +1,133 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.benchmarks;
+
+import eu.europa.esig.dss.crl.CRLBinary;
+import eu.europa.esig.dss.crl.CRLUtils;
+import eu.europa.esig.dss.crl.CRLValidity;
+import eu.europa.esig.dss.model.DSSException;
+import eu.europa.esig.dss.model.x509.CertificateToken;
+import eu.europa.esig.dss.pki.model.CertEntity;
+import org.bouncycastle.asn1.x509.CRLReason;
+import org.bouncycastle.cert.jcajce.JcaX509v2CRLBuilder;
+import org.bouncycastle.operator.jcajce.JcaContentSignerBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.security.cert.X509CRLEntry;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the parsing of CRLs with the configured {@code ICRLUtils} implementation
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CRLParsingBenchmark {
+
+	/** The alias of the CRL issuer within the PKI Factory */
+	private static final String CRL_ISSUER = "good-ca";
+
+	/** The number of revoked certificates within the CRL */
+	@Param({ "0", "1000", "100000" })
+	public int revokedCertificates;
+
+	/** The CRL issuer certificate */
+	private CertificateToken issuerCertificate;
+
+	/** The encoded CRL */
+	private byte[] crlBinaries;
+
+	/** The parsed CRL */
+	private CRLValidity crlValidity;
+
+	/** The serial number of a certificate in the middle of the CRL (or not revoked for an empty CRL) */
+	private BigInteger serialNumber;
+
+	/**
+	 * Generates the CRL signed by the PKI Factory CA
+	 *
+	 * @throws IOException if an error occurs on CRL parsing
+	 */
+	@Setup(Level.Trial)
+	public void setup() throws IOException {
+		CertEntity crlIssuer = new BenchmarkPKI(CRL_ISSUER).getSigningCertEntity();
+		issuerCertificate = crlIssuer.getCertificateToken();
+		crlBinaries = generateCRL(crlIssuer, revokedCertificates);
+		crlValidity = CRLUtils.buildCRLValidity(CRLUtils.buildCRLBinary(crlBinaries), issuerCertificate);
+		serialNumber = BigInteger.valueOf(revokedCertificates / 2 + 1L);
+	}
+
+	/**
+	 * Parses the CRL and verifies its signature
+	 *
+	 * @return {@link CRLValidity}
+	 * @throws IOException if an error occurs on CRL parsing
+	 */
+	@Benchmark
+	public CRLValidity parse() throws IOException {
+		CRLBinary crlBinary = CRLUtils.buildCRLBinary(crlBinaries);
+		return CRLUtils.buildCRLValidity(crlBinary, issuerCertificate);
+	}
+
+	/**
+	 * Retrieves the revocation status of a certificate from the parsed CRL
+	 *
+	 * @return {@link X509CRLEntry}
+	 */
+	@Benchmark
+	public X509CRLEntry getRevocationInfo() {
+		return CRLUtils.getRevocationInfo(crlValidity, serialNumber);
+	}
+
+	private static byte[] generateCRL(CertEntity crlIssuer, int revokedCertificates) {
+		try {
+			Date now = new Date();
+			JcaX509v2CRLBuilder builder = new JcaX509v2CRLBuilder(crlIssuer.getCertificateToken().getCertificate(), now);
+			builder.setNextUpdate(new Date(now.getTime() + TimeUnit.DAYS.toMillis(30)));
+			for (int i = 1; i <= revokedCertificates; i++) {
+				builder.addCRLEntry(BigInteger.valueOf(i), now, CRLReason.keyCompromise);
+			}
+			JcaContentSignerBuilder signerBuilder = new JcaContentSignerBuilder("SHA256withRSA");
+			return builder.build(signerBuilder.build(crlIssuer.getPrivateKey())).getEncoded();
+		} catch (Exception e) {
+			throw new DSSException(String.format("Unable to generate a CRL. Reason : %s", e.getMessage()), e);
+		}
+	}
+
+}
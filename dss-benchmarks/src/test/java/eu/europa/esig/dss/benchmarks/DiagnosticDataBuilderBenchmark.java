@@ -0,0 +1,107 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.benchmarks;
+
+import eu.europa.esig.dss.diagnostic.jaxb.XmlDiagnosticData;
+import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.validation.CertificateVerifier;
+import eu.europa.esig.dss.validation.DiagnosticDataBuilder;
+import eu.europa.esig.dss.xades.validation.XMLDocumentValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the building of {@code XmlDiagnosticData} by the {@code DiagnosticDataBuilder},
+ * once the validation context has been processed
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DiagnosticDataBuilderBenchmark {
+
+	/** The number of XAdES signatures within the validated document */
+	@Param({ "1", "10" })
+	public int signatureCount;
+
+	/** The baseline level of the signatures */
+	@Param({ "B", "LTA" })
+	public String level;
+
+	/** The prepared builder */
+	private DiagnosticDataBuilder diagnosticDataBuilder;
+
+	/**
+	 * Creates the signed document and processes its validation context
+	 */
+	@Setup(Level.Trial)
+	public void setup() {
+		BenchmarkPKI pki = new BenchmarkPKI("good-user");
+		CertificateVerifier certificateVerifier = pki.getOfflineCompleteCertificateVerifier();
+		DSSDocument signedDocument = SignatureValidationBenchmark.createSignedDocument(
+				SignatureFormat.XADES, level, signatureCount, 1024, pki, certificateVerifier);
+
+		BenchmarkXMLDocumentValidator validator = new BenchmarkXMLDocumentValidator(signedDocument);
+		validator.setCertificateVerifier(certificateVerifier);
+		diagnosticDataBuilder = validator.getDiagnosticDataBuilder();
+	}
+
+	/**
+	 * Builds the diagnostic data
+	 *
+	 * @return {@link XmlDiagnosticData}
+	 */
+	@Benchmark
+	public XmlDiagnosticData build() {
+		return diagnosticDataBuilder.build();
+	}
+
+	/**
+	 * Exposes the prepared {@code DiagnosticDataBuilder}
+	 */
+	private static class BenchmarkXMLDocumentValidator extends XMLDocumentValidator {
+
+		BenchmarkXMLDocumentValidator(DSSDocument document) {
+			super(document);
+		}
+
+		DiagnosticDataBuilder getDiagnosticDataBuilder() {
+			return prepareDiagnosticDataBuilder();
+		}
+
+	}
+
+}
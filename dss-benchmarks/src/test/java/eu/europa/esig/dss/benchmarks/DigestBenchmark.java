@@ -0,0 +1,96 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.benchmarks;
+
+import eu.europa.esig.dss.enumerations.DigestAlgorithm;
+import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.spi.DSSUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the digest computation with {@code DSSUtils}
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DigestBenchmark {
+
+	/** The digest algorithm */
+	@Param({ "SHA256", "SHA512", "SHA3_256" })
+	public DigestAlgorithm digestAlgorithm;
+
+	/** The size of the digested data in bytes */
+	@Param({ "1024", "1048576", "16777216" })
+	public int dataSize;
+
+	/** The data to be digested */
+	private byte[] data;
+
+	/** The document to be digested */
+	private DSSDocument document;
+
+	/**
+	 * Creates the data to be digested
+	 */
+	@Setup(Level.Trial)
+	public void setup() {
+		document = BenchmarkDocuments.BINARY.createDocument(dataSize);
+		data = DSSUtils.toByteArray(document);
+	}
+
+	/**
+	 * Digests a byte array
+	 *
+	 * @return digest value
+	 */
+	@Benchmark
+	public byte[] digestBytes() {
+		return DSSUtils.digest(digestAlgorithm, data);
+	}
+
+	/**
+	 * Digests a document, reading its content as a stream
+	 *
+	 * @return digest value
+	 */
+	@Benchmark
+	public byte[] digestDocument() {
+		return DSSUtils.digest(digestAlgorithm, document);
+	}
+
+}
@@ -0,0 +1,101 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.benchmarks;
+
+import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.validation.CertificateVerifier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the creation of a signature for every supported format and baseline level
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class SignatureCreationBenchmark {
+
+	/** The signature format */
+	@Param({ "XADES", "CADES", "JADES", "PADES", "ASIC_E_XADES", "ASIC_E_CADES" })
+	public SignatureFormat format;
+
+	/** The baseline level */
+	@Param({ "B", "T", "LT", "LTA" })
+	public String level;
+
+	/** The size of the signed document in bytes */
+	@Param({ "1024", "1048576" })
+	public int documentSize;
+
+	/**
+	 * The signing certificate alias, defining the certificate chain depth
+	 * ("good-user" : 3 certificates, "John Doe" : 4 certificates)
+	 */
+	@Param({ "good-user", "John Doe" })
+	public String signingAlias;
+
+	/** The PKI access */
+	private BenchmarkPKI pki;
+
+	/** The certificate verifier used on signature creation */
+	private CertificateVerifier certificateVerifier;
+
+	/** The document to be signed */
+	private DSSDocument documentToSign;
+
+	/**
+	 * Prepares the PKI and the document to be signed
+	 */
+	@Setup(Level.Trial)
+	public void setup() {
+		pki = new BenchmarkPKI(signingAlias);
+		certificateVerifier = pki.getOfflineCompleteCertificateVerifier();
+		documentToSign = format.createDocument(documentSize);
+	}
+
+	/**
+	 * Creates a signature
+	 *
+	 * @return {@link DSSDocument} signed document
+	 */
+	@Benchmark
+	public DSSDocument sign() {
+		return format.sign(documentToSign, level, pki, certificateVerifier, new Date());
+	}
+
+}
@@ -0,0 +1,208 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.benchmarks;
+
+import eu.europa.esig.dss.AbstractSignatureParameters;
+import eu.europa.esig.dss.asic.cades.ASiCWithCAdESSignatureParameters;
+import eu.europa.esig.dss.asic.cades.signature.ASiCWithCAdESService;
+import eu.europa.esig.dss.asic.xades.ASiCWithXAdESSignatureParameters;
+import eu.europa.esig.dss.asic.xades.signature.ASiCWithXAdESService;
+import eu.europa.esig.dss.cades.CAdESSignatureParameters;
+import eu.europa.esig.dss.cades.signature.CAdESService;
+import eu.europa.esig.dss.enumerations.ASiCContainerType;
+import eu.europa.esig.dss.enumerations.DigestAlgorithm;
+import eu.europa.esig.dss.enumerations.JWSSerializationType;
+import eu.europa.esig.dss.enumerations.SignatureLevel;
+import eu.europa.esig.dss.enumerations.SignaturePackaging;
+import eu.europa.esig.dss.jades.JAdESSignatureParameters;
+import eu.europa.esig.dss.jades.signature.JAdESService;
+import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.model.SerializableTimestampParameters;
+import eu.europa.esig.dss.model.SignatureValue;
+import eu.europa.esig.dss.model.ToBeSigned;
+import eu.europa.esig.dss.pades.PAdESSignatureParameters;
+import eu.europa.esig.dss.pades.signature.PAdESService;
+import eu.europa.esig.dss.signature.AbstractSignatureService;
+import eu.europa.esig.dss.validation.CertificateVerifier;
+import eu.europa.esig.dss.xades.XAdESSignatureParameters;
+import eu.europa.esig.dss.xades.signature.XAdESService;
+
+import java.util.Date;
+
+/**
+ * Defines the signature formats covered by the benchmarks.
+ * Every format uses a packaging allowing to add several signatures to the same document.
+ *
+ */
+public enum SignatureFormat {
+
+	/** Enveloped XAdES signature over an XML document */
+	XADES("XAdES", BenchmarkDocuments.XML) {
+
+		@Override
+		public DSSDocument sign(DSSDocument toSignDocument, String level, BenchmarkPKI pki,
+								CertificateVerifier certificateVerifier, Date signingDate) {
+			XAdESSignatureParameters parameters = new XAdESSignatureParameters();
+			parameters.setSignaturePackaging(SignaturePackaging.ENVELOPED);
+			return sign(new XAdESService(certificateVerifier), toSignDocument, parameters, level, pki, signingDate);
+		}
+
+	},
+
+	/** Enveloping CAdES signature */
+	CADES("CAdES", BenchmarkDocuments.BINARY) {
+
+		@Override
+		public DSSDocument sign(DSSDocument toSignDocument, String level, BenchmarkPKI pki,
+								CertificateVerifier certificateVerifier, Date signingDate) {
+			CAdESSignatureParameters parameters = new CAdESSignatureParameters();
+			parameters.setSignaturePackaging(SignaturePackaging.ENVELOPING);
+			return sign(new CAdESService(certificateVerifier), toSignDocument, parameters, level, pki, signingDate);
+		}
+
+	},
+
+	/** Enveloping JAdES signature with JSON serialization */
+	JADES("JAdES", BenchmarkDocuments.BINARY) {
+
+		@Override
+		public DSSDocument sign(DSSDocument toSignDocument, String level, BenchmarkPKI pki,
+								CertificateVerifier certificateVerifier, Date signingDate) {
+			JAdESSignatureParameters parameters = new JAdESSignatureParameters();
+			parameters.setSignaturePackaging(SignaturePackaging.ENVELOPING);
+			parameters.setJwsSerializationType(JWSSerializationType.JSON_SERIALIZATION);
+			return sign(new JAdESService(certificateVerifier), toSignDocument, parameters, level, pki, signingDate);
+		}
+
+	},
+
+	/** PAdES signature over a PDF document */
+	PADES("PAdES", BenchmarkDocuments.PDF) {
+
+		@Override
+		public DSSDocument sign(DSSDocument toSignDocument, String level, BenchmarkPKI pki,
+								CertificateVerifier certificateVerifier, Date signingDate) {
+			PAdESSignatureParameters parameters = new PAdESSignatureParameters();
+			return sign(new PAdESService(certificateVerifier), toSignDocument, parameters, level, pki, signingDate);
+		}
+
+	},
+
+	/** ASiC-E container with XAdES signatures */
+	ASIC_E_XADES("XAdES", BenchmarkDocuments.BINARY) {
+
+		@Override
+		public DSSDocument sign(DSSDocument toSignDocument, String level, BenchmarkPKI pki,
+								CertificateVerifier certificateVerifier, Date signingDate) {
+			ASiCWithXAdESSignatureParameters parameters = new ASiCWithXAdESSignatureParameters();
+			parameters.aSiC().setContainerType(ASiCContainerType.ASiC_E);
+			return sign(new ASiCWithXAdESService(certificateVerifier), toSignDocument, parameters, level, pki, signingDate);
+		}
+
+	},
+
+	/** ASiC-E container with CAdES signatures */
+	ASIC_E_CADES("CAdES", BenchmarkDocuments.BINARY) {
+
+		@Override
+		public DSSDocument sign(DSSDocument toSignDocument, String level, BenchmarkPKI pki,
+								CertificateVerifier certificateVerifier, Date signingDate) {
+			ASiCWithCAdESSignatureParameters parameters = new ASiCWithCAdESSignatureParameters();
+			parameters.aSiC().setContainerType(ASiCContainerType.ASiC_E);
+			return sign(new ASiCWithCAdESService(certificateVerifier), toSignDocument, parameters, level, pki, signingDate);
+		}
+
+	};
+
+	/** The prefix of the relevant {@code SignatureLevel} names (e.g. "XAdES") */
+	private final String levelPrefix;
+
+	/** The type of document to be signed */
+	private final BenchmarkDocuments documentType;
+
+	SignatureFormat(String levelPrefix, BenchmarkDocuments documentType) {
+		this.levelPrefix = levelPrefix;
+		this.documentType = documentType;
+	}
+
+	/**
+	 * Creates a document to be signed with the current format
+	 *
+	 * @param size the approximate size of the document in bytes
+	 * @return {@link DSSDocument}
+	 */
+	public DSSDocument createDocument(int size) {
+		return documentType.createDocument(size);
+	}
+
+	/**
+	 * Signs the document with the current format
+	 *
+	 * @param toSignDocument {@link DSSDocument} to be signed (or the signed document to add a new signature to)
+	 * @param level {@link String} the baseline level (one of "B", "T", "LT", "LTA")
+	 * @param pki {@link BenchmarkPKI} to get the signing key and the TSA from
+	 * @param certificateVerifier {@link CertificateVerifier}
+	 * @param signingDate {@link Date} the claimed signing time
+	 * @return {@link DSSDocument} signed document
+	 */
+	public abstract DSSDocument sign(DSSDocument toSignDocument, String level, BenchmarkPKI pki,
+									 CertificateVerifier certificateVerifier, Date signingDate);
+
+	/**
+	 * Gets the {@code SignatureLevel} of the current format for the given baseline level
+	 *
+	 * @param level {@link String} one of "B", "T", "LT", "LTA"
+	 * @return {@link SignatureLevel}
+	 */
+	protected SignatureLevel getSignatureLevel(String level) {
+		return SignatureLevel.valueOf(levelPrefix + "_BASELINE_" + level);
+	}
+
+	/**
+	 * Signs the document with the given service and parameters
+	 *
+	 * @param service {@link AbstractSignatureService} to be used
+	 * @param toSignDocument {@link DSSDocument} to be signed
+	 * @param parameters {@link AbstractSignatureParameters} format-specific parameters
+	 * @param level {@link String} the baseline level
+	 * @param pki {@link BenchmarkPKI}
+	 * @param signingDate {@link Date}
+	 * @return {@link DSSDocument} signed document
+	 * @param <SP> signature parameters
+	 * @param <TP> timestamp parameters
+	 */
+	protected <SP extends AbstractSignatureParameters<?>, TP extends SerializableTimestampParameters> DSSDocument sign(
+			AbstractSignatureService<SP, TP> service, DSSDocument toSignDocument, SP parameters, String level,
+			BenchmarkPKI pki, Date signingDate) {
+		service.setTspSource(pki.getTSPSource());
+
+		parameters.setSignatureLevel(getSignatureLevel(level));
+		parameters.setDigestAlgorithm(DigestAlgorithm.SHA256);
+		parameters.setSigningCertificate(pki.getSigningCertificate());
+		parameters.setCertificateChain(pki.getSigningCertificateChain());
+		parameters.bLevel().setSigningDate(signingDate);
+
+		ToBeSigned dataToSign = service.getDataToSign(toSignDocument, parameters);
+		SignatureValue signatureValue = pki.getSignatureToken().sign(dataToSign, parameters.getDigestAlgorithm(), pki.getSigningKey());
+		return service.signDocument(toSignDocument, parameters, signatureValue);
+	}
+
+}
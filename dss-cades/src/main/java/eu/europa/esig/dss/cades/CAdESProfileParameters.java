@@ -0,0 +1,68 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.cades;
+
+import eu.europa.esig.dss.ProfileParameters;
+
+/**
+ * This class is used to accelerate signature creation process for CAdES.
+ * The cache is set within {@code CAdESService.getDataToSign(...)} method and
+ * used in {@code CAdESService.signDocument(...)} method.
+ *
+ */
+public class CAdESProfileParameters extends ProfileParameters {
+
+    private static final long serialVersionUID = -3279487542164395628L;
+
+    /**
+     * Internal cache used to accelerate the signature creation process
+     */
+    private CAdESSignatureCache cadesSignatureCache;
+
+    /**
+     * Default constructor
+     */
+    public CAdESProfileParameters() {
+        // empty
+    }
+
+    /**
+     * Gets the CAdES signature cache
+     *
+     * @return {@link CAdESSignatureCache}
+     */
+    public CAdESSignatureCache getCAdESSignatureCache() {
+        if (cadesSignatureCache == null) {
+            cadesSignatureCache = new CAdESSignatureCache();
+        }
+        return cadesSignatureCache;
+    }
+
+    /**
+     * Sets the CAdES signature cache
+     *
+     * @param cadesSignatureCache {@link CAdESSignatureCache}
+     */
+    public void setCAdESSignatureCache(CAdESSignatureCache cadesSignatureCache) {
+        this.cadesSignatureCache = cadesSignatureCache;
+    }
+
+}
@@ -0,0 +1,81 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.cades;
+
+import eu.europa.esig.dss.AbstractSignatureParameters;
+import eu.europa.esig.dss.PreparedSignatureCache;
+import eu.europa.esig.dss.model.DSSMessageDigest;
+
+import java.util.List;
+
+/**
+ * This class is used as a DTO containing cached data to be used to accelerate the CAdES signature creation process
+ *
+ */
+public class CAdESSignatureCache extends PreparedSignatureCache {
+
+    private static final long serialVersionUID = 4319875301648813957L;
+
+    /**
+     * Cached message-digest of the content to be signed
+     */
+    private DSSMessageDigest messageDigest;
+
+    /**
+     * Default constructor instantiating object with null values
+     */
+    public CAdESSignatureCache() {
+        // empty
+    }
+
+    /**
+     * Gets message-digest computed on the content to be signed
+     *
+     * @return {@link DSSMessageDigest}
+     */
+    public DSSMessageDigest getMessageDigest() {
+        return messageDigest;
+    }
+
+    /**
+     * Sets message-digest of the content to be signed
+     *
+     * @param messageDigest {@link DSSMessageDigest}
+     */
+    public void setMessageDigest(DSSMessageDigest messageDigest) {
+        this.messageDigest = messageDigest;
+    }
+
+    @Override
+    protected List<Object> getParametersState(AbstractSignatureParameters<?> parameters) {
+        final List<Object> state = super.getParametersState(parameters);
+        if (parameters instanceof CAdESSignatureParameters) {
+            CAdESSignatureParameters cadesParameters = (CAdESSignatureParameters) parameters;
+            state.add(cadesParameters.isEn319122());
+            state.add(cadesParameters.getContentHintsType());
+            state.add(cadesParameters.getContentHintsDescription());
+            state.add(cadesParameters.getContentIdentifierPrefix());
+            state.add(cadesParameters.getContentIdentifierSuffix());
+        }
+        return state;
+    }
+
+}
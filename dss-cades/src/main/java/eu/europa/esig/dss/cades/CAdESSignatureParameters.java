@@ -197,4 +197,12 @@ public class CAdESSignatureParameters extends AbstractSignatureParameters<CAdEST
 		return archiveTimestampParameters;
 	}
 
+	@Override
+	public CAdESProfileParameters getContext() {
+		if (context == null) {
+			context = new CAdESProfileParameters();
+		}
+		return (CAdESProfileParameters) context;
+	}
+
 }
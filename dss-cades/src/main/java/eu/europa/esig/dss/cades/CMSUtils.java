@@ -32,6 +32,7 @@ import eu.europa.esig.dss.model.x509.CertificateToken;
 import eu.europa.esig.dss.spi.DSSASN1Utils;
 import eu.europa.esig.dss.spi.DSSUtils;
 import eu.europa.esig.dss.spi.OID;
+import eu.europa.esig.dss.spi.x509.CMSProcessableDSSDocument;
 import eu.europa.esig.dss.utils.Utils;
 import org.bouncycastle.asn1.ASN1Encodable;
 import org.bouncycastle.asn1.ASN1EncodableVector;
@@ -383,7 +384,7 @@ public final class CMSUtils {
 			FileDocument fileDocument = (FileDocument) toSignData;
 			content = new CMSProcessableFile(fileDocument.getFile());
 		} else {
-			content = new CMSProcessableByteArray(DSSUtils.toByteArray(toSignData));
+			content = new CMSProcessableDSSDocument(toSignData);
 		}
 		return content;
 	}
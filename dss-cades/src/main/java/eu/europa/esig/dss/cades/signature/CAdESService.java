@@ -20,14 +20,17 @@
  */
 package eu.europa.esig.dss.cades.signature;
 
+import eu.europa.esig.dss.cades.CAdESSignatureCache;
 import eu.europa.esig.dss.cades.CAdESSignatureParameters;
 import eu.europa.esig.dss.enumerations.DigestAlgorithm;
+import eu.europa.esig.dss.enumerations.MimeTypeEnum;
 import eu.europa.esig.dss.enumerations.SignatureAlgorithm;
 import eu.europa.esig.dss.enumerations.SignatureLevel;
 import eu.europa.esig.dss.enumerations.SignaturePackaging;
 import eu.europa.esig.dss.enumerations.TimestampType;
 import eu.europa.esig.dss.model.DSSDocument;
 import eu.europa.esig.dss.model.DSSException;
+import eu.europa.esig.dss.model.DSSMessageDigest;
 import eu.europa.esig.dss.model.DigestDocument;
 import eu.europa.esig.dss.model.InMemoryDocument;
 import eu.europa.esig.dss.model.SignaturePolicyStore;
@@ -37,12 +40,18 @@ import eu.europa.esig.dss.model.ToBeSigned;
 import eu.europa.esig.dss.signature.AbstractSignatureService;
 import eu.europa.esig.dss.signature.CounterSignatureService;
 import eu.europa.esig.dss.signature.SigningOperation;
+import eu.europa.esig.dss.signature.resources.DSSResourcesHandler;
+import eu.europa.esig.dss.signature.resources.DSSResourcesHandlerBuilder;
 import eu.europa.esig.dss.spi.DSSASN1Utils;
 import eu.europa.esig.dss.spi.DSSUtils;
 import eu.europa.esig.dss.spi.x509.CMSSignedDataBuilder;
 import eu.europa.esig.dss.spi.x509.tsp.TimestampToken;
 import eu.europa.esig.dss.utils.Utils;
 import eu.europa.esig.dss.validation.CertificateVerifier;
+import org.bouncycastle.asn1.ASN1OctetString;
+import org.bouncycastle.asn1.cms.Attribute;
+import org.bouncycastle.asn1.cms.AttributeTable;
+import org.bouncycastle.asn1.cms.CMSAttributes;
 import org.bouncycastle.cms.CMSException;
 import org.bouncycastle.cms.CMSSignedData;
 import org.bouncycastle.cms.CMSTypedData;
@@ -53,8 +62,10 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 
@@ -69,6 +80,15 @@ public class CAdESService extends
 
 	private static final Logger LOG = LoggerFactory.getLogger(CAdESService.class);
 
+	/**
+	 * The builder used to create a {@code DSSResourcesHandler} for a streaming signature creation.
+	 * When defined, new enveloping baseline-B signatures are written with a {@code CMSSignedDataStreamGenerator}
+	 * to the created handler, without loading the signed content into memory.
+	 *
+	 * Default : null (the signature is created in memory)
+	 */
+	private transient DSSResourcesHandlerBuilder resourcesHandlerBuilder;
+
 	/**
 	 * This is the constructor to create an instance of the {@code CAdESService}. A certificate verifier must be
 	 * provided.
@@ -82,6 +102,22 @@ public class CAdESService extends
 		LOG.debug("+ CAdESService created");
 	}
 
+	/**
+	 * Sets the builder of {@code DSSResourcesHandler} to be used for a streaming creation of enveloping signatures.
+	 * When defined, a new CAdES-BASELINE-B enveloping signature (without parallel signatures) is written
+	 * with a {@code CMSSignedDataStreamGenerator} to the output of the created handler
+	 * (e.g. use {@code TempFileResourcesHandlerBuilder} to obtain a signature stored within a temporary file).
+	 * This allows signing large documents (e.g. {@code FileDocument}) with a constant memory usage.
+	 * NOTE: the streamed signature is BER-encoded with indefinite lengths.
+	 *
+	 * Default : null (the signature is created in memory)
+	 *
+	 * @param resourcesHandlerBuilder {@link DSSResourcesHandlerBuilder}
+	 */
+	public void setResourcesHandlerBuilder(DSSResourcesHandlerBuilder resourcesHandlerBuilder) {
+		this.resourcesHandlerBuilder = resourcesHandlerBuilder;
+	}
+
 	@Override
 	public TimestampToken getContentTimestamp(DSSDocument toSignDocument, CAdESSignatureParameters parameters) {
 		Objects.requireNonNull(tspSource, "A TSPSource is required !");
@@ -113,9 +149,13 @@ public class CAdESService extends
 		final SignerInfoGenerator signerInfoGenerator = new CMSSignerInfoGeneratorBuilder()
 				.build(contentToSign, parameters, customContentSigner);
 
+		// the signed attributes do not depend on the content encapsulation, avoid copying the content into memory
 		final CMSSignedDataBuilder cmsSignedDataBuilder = getCMSSignedDataBuilder(parameters)
-				.setOriginalCMSSignedData(originalCmsSignedData);
-		cmsSignedDataBuilder.createCMSSignedData(signerInfoGenerator, contentToSign);
+				.setOriginalCMSSignedData(originalCmsSignedData)
+				.setEncapsulate(false);
+		final CMSSignedData cmsSignedData = cmsSignedDataBuilder.createCMSSignedData(signerInfoGenerator, contentToSign);
+		// the computed message-digest is reused on signDocument(...) call with the same parameters
+		cacheMessageDigest(toSignDocument, parameters, getNewSignerInformation(originalCmsSignedData, cmsSignedData));
 
 		final byte[] bytes = customContentSigner.getOutputStream().toByteArray();
 		return new ToBeSigned(bytes);
@@ -140,13 +180,26 @@ public class CAdESService extends
 		}
 		final DSSDocument contentToSign = getContentToSign(toSignDocument, parameters, originalCmsSignedData);
 
+		final DSSMessageDigest messageDigest = getCachedMessageDigest(toSignDocument, parameters);
+
 		final SignerInfoGenerator signerInfoGenerator = new CMSSignerInfoGeneratorBuilder()
 				.setIncludeUnsignedAttributes(true)
+				.setMessageDigest(messageDigest)
 				.build(contentToSign, parameters, customContentSigner);
 
+		if (isStreamingSignatureCreation(parameters, originalCmsSignedData, contentToSign)) {
+			final DSSDocument signature = writeCMSSignedData(signerInfoGenerator, contentToSign, parameters);
+			signature.setName(getFinalFileName(toSignDocument, SigningOperation.SIGN,
+					parameters.getSignatureLevel(), parameters.getSignaturePackaging()));
+			parameters.reinit();
+			return signature;
+		}
+
+		// the detached content is not embedded, thus it does not need to be read again when the digest is known
+		final boolean useCachedDigest = messageDigest != null && !isEncapsulateSignerData(parameters);
 		final CMSSignedData cmsSignedData = getCMSSignedDataBuilder(parameters)
 				.setOriginalCMSSignedData(originalCmsSignedData)
-				.createCMSSignedData(signerInfoGenerator, contentToSign);
+				.createCMSSignedData(signerInfoGenerator, useCachedDigest ? toDigestDocument(messageDigest) : contentToSign);
 
 		DSSDocument signature = new CMSSignedDocument(cmsSignedData);
 
@@ -164,6 +217,67 @@ public class CAdESService extends
 		return signature;
 	}
 
+	/**
+	 * Returns the message-digest of the signed content computed on a {@code getDataToSign} call
+	 * with the same {@code toSignDocument} and {@code parameters}, when still applicable
+	 *
+	 * @param toSignDocument {@link DSSDocument} to be signed
+	 * @param parameters {@link CAdESSignatureParameters}
+	 * @return {@link DSSMessageDigest} if available, null otherwise
+	 */
+	private DSSMessageDigest getCachedMessageDigest(final DSSDocument toSignDocument, final CAdESSignatureParameters parameters) {
+		final CAdESSignatureCache signatureCache = parameters.getContext().getCAdESSignatureCache();
+		if (signatureCache.getMessageDigest() != null && signatureCache.isValid(parameters, Collections.singletonList(toSignDocument))) {
+			LOG.debug("The message-digest computed on the data to be signed preparation is reused.");
+			return signatureCache.getMessageDigest();
+		}
+		return null;
+	}
+
+	private void cacheMessageDigest(final DSSDocument toSignDocument, final CAdESSignatureParameters parameters,
+									final SignerInformation signerInformation) {
+		final AttributeTable signedAttributes = signerInformation.getSignedAttributes();
+		final Attribute messageDigestAttribute = signedAttributes != null ? signedAttributes.get(CMSAttributes.messageDigest) : null;
+		if (messageDigestAttribute == null) {
+			LOG.debug("The message-digest attribute is not found. The message-digest is not cached.");
+			return;
+		}
+		final DigestAlgorithm digestAlgorithm = DigestAlgorithm.forOID(signerInformation.getDigestAlgOID());
+		final byte[] digestValue = ASN1OctetString.getInstance(messageDigestAttribute.getAttrValues().getObjectAt(0)).getOctets();
+
+		final CAdESSignatureCache signatureCache = parameters.getContext().getCAdESSignatureCache();
+		signatureCache.init(parameters, Collections.singletonList(toSignDocument));
+		signatureCache.setMessageDigest(new DSSMessageDigest(digestAlgorithm, digestValue));
+	}
+
+	private DigestDocument toDigestDocument(final DSSMessageDigest messageDigest) {
+		return new DigestDocument(messageDigest.getAlgorithm(), Utils.toBase64(messageDigest.getValue()));
+	}
+
+	private boolean isStreamingSignatureCreation(final CAdESSignatureParameters parameters,
+												 final CMSSignedData originalCmsSignedData, final DSSDocument contentToSign) {
+		return resourcesHandlerBuilder != null && originalCmsSignedData == null
+				&& SignaturePackaging.ENVELOPING.equals(parameters.getSignaturePackaging())
+				&& SignatureLevel.CAdES_BASELINE_B.equals(parameters.getSignatureLevel())
+				&& !(contentToSign instanceof DigestDocument);
+	}
+
+	private DSSDocument writeCMSSignedData(final SignerInfoGenerator signerInfoGenerator, final DSSDocument contentToSign,
+										   final CAdESSignatureParameters parameters) {
+		try (DSSResourcesHandler resourcesHandler = resourcesHandlerBuilder.createResourcesHandler();
+			 OutputStream os = resourcesHandler.createOutputStream()) {
+			getCMSSignedDataBuilder(parameters).writeCMSSignedData(signerInfoGenerator, contentToSign, os);
+			os.flush();
+
+			final DSSDocument signature = resourcesHandler.writeToDSSDocument();
+			signature.setMimeType(MimeTypeEnum.PKCS7);
+			return signature;
+
+		} catch (IOException e) {
+			throw new DSSException(String.format("Unable to create a CAdES signature. Reason : %s", e.getMessage()), e);
+		}
+	}
+
 	@Override
 	public DSSDocument extendDocument(final DSSDocument toExtendDocument, final CAdESSignatureParameters parameters) {
 		Objects.requireNonNull(toExtendDocument, "toExtendDocument is not defined!");
@@ -277,7 +391,7 @@ public class CAdESService extends
 		CMSSignedData cmsSignedData = null;
 		if (!(dssDocument instanceof DigestDocument) && DSSASN1Utils.isASN1SequenceTag(DSSUtils.readFirstByte(dssDocument))) {
 			try {
-				cmsSignedData = new CMSSignedData(DSSUtils.toByteArray(dssDocument));
+				cmsSignedData = DSSUtils.toCMSSignedData(dssDocument);
 				if (SignaturePackaging.ENVELOPING == parameters.getSignaturePackaging() && cmsSignedData.getSignedContent().getContent() == null) {
 					cmsSignedData = null;
 				}
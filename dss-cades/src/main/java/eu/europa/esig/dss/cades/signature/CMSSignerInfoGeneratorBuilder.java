@@ -25,9 +25,11 @@ import eu.europa.esig.dss.cades.validation.PrecomputedDigestCalculatorProvider;
 import eu.europa.esig.dss.enumerations.DigestAlgorithm;
 import eu.europa.esig.dss.model.DSSDocument;
 import eu.europa.esig.dss.model.DSSException;
+import eu.europa.esig.dss.model.DSSMessageDigest;
 import eu.europa.esig.dss.model.DigestDocument;
 import eu.europa.esig.dss.spi.DSSASN1Utils;
 import eu.europa.esig.dss.spi.DSSUtils;
+import eu.europa.esig.dss.utils.Utils;
 import org.bouncycastle.asn1.cms.AttributeTable;
 import org.bouncycastle.cert.X509CertificateHolder;
 import org.bouncycastle.cms.DefaultSignedAttributeTableGenerator;
@@ -49,6 +51,9 @@ public class CMSSignerInfoGeneratorBuilder {
     /** Defines whether the unsigned attributes should be included to a generated SignerInfoGenerator */
     private boolean includeUnsignedAttributes;
 
+    /** The pre-computed message-digest of the content to be signed (optional) */
+    private DSSMessageDigest messageDigest;
+
     /**
      * Default constructor
      */
@@ -67,6 +72,18 @@ public class CMSSignerInfoGeneratorBuilder {
         return this;
     }
 
+    /**
+     * Sets the pre-computed message-digest of the content to be signed.
+     * When defined, the content is not digested again.
+     *
+     * @param messageDigest {@link DSSMessageDigest}
+     * @return this
+     */
+    public CMSSignerInfoGeneratorBuilder setMessageDigest(DSSMessageDigest messageDigest) {
+        this.messageDigest = messageDigest;
+        return this;
+    }
+
     /**
      * Builds a {@code SignerInfoGenerator} with no original document provided
      *
@@ -99,7 +116,9 @@ public class CMSSignerInfoGeneratorBuilder {
      * @return {@link DigestCalculatorProvider}
      */
     private DigestCalculatorProvider getDigestCalculatorProvider(DSSDocument toSignDocument, DigestAlgorithm digestAlgorithm) {
-        if (digestAlgorithm != null) {
+        if (messageDigest != null) {
+            return new CustomMessageDigestCalculatorProvider(messageDigest.getAlgorithm(), Utils.toBase64(messageDigest.getValue()));
+        } else if (digestAlgorithm != null) {
             return new CustomMessageDigestCalculatorProvider(digestAlgorithm, toSignDocument.getDigest(digestAlgorithm));
         } else if (toSignDocument instanceof DigestDocument) {
             return new PrecomputedDigestCalculatorProvider((DigestDocument) toSignDocument);
@@ -21,7 +21,6 @@
 package eu.europa.esig.dss.cades.signature;
 
 import eu.europa.esig.dss.enumerations.DigestAlgorithm;
-import eu.europa.esig.dss.model.DSSException;
 import eu.europa.esig.dss.utils.Utils;
 import org.bouncycastle.asn1.ASN1ObjectIdentifier;
 import org.bouncycastle.asn1.x509.AlgorithmIdentifier;
@@ -31,8 +30,6 @@ import org.bouncycastle.operator.OperatorCreationException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.io.OutputStream;
 import java.util.Objects;
 
@@ -72,13 +69,20 @@ public class CustomMessageDigestCalculatorProvider implements DigestCalculatorPr
 
 			@Override
 			public OutputStream getOutputStream() {
-				OutputStream os = new ByteArrayOutputStream();
-				try {
-					Utils.write(getDigest(), os);
-				} catch (IOException e) {
-					throw new DSSException("Unable to get outputstream", e);
-				}
-				return os;
+				// the message-digest is pre-computed, the content written by the generator is ignored
+				return new OutputStream() {
+
+					@Override
+					public void write(int b) {
+						// do nothing
+					}
+
+					@Override
+					public void write(byte[] b, int off, int len) {
+						// do nothing
+					}
+
+				};
 			}
 
 			@Override
@@ -88,6 +92,10 @@ public class CustomMessageDigestCalculatorProvider implements DigestCalculatorPr
 
 			@Override
 			public AlgorithmIdentifier getAlgorithmIdentifier() {
+				// keep the requested identifier (with its parameters) when the algorithm matches
+				if (digestAlgorithmIdentifier != null && messageDigestAlgo.getOid().equals(digestAlgorithmIdentifier.getAlgorithm().getId())) {
+					return digestAlgorithmIdentifier;
+				}
 				return new AlgorithmIdentifier(new ASN1ObjectIdentifier(messageDigestAlgo.getOid()));
 			}
 
@@ -24,17 +24,39 @@ import eu.europa.esig.dss.cades.validation.scope.CAdESSignatureScopeFinder;
 import eu.europa.esig.dss.exception.IllegalInputException;
 import eu.europa.esig.dss.model.DSSDocument;
 import eu.europa.esig.dss.model.DSSException;
+import eu.europa.esig.dss.signature.resources.DSSResourcesHandler;
+import eu.europa.esig.dss.signature.resources.DSSResourcesHandlerBuilder;
 import eu.europa.esig.dss.spi.DSSASN1Utils;
 import eu.europa.esig.dss.spi.DSSUtils;
+import eu.europa.esig.dss.utils.Utils;
 import eu.europa.esig.dss.validation.AdvancedSignature;
 import eu.europa.esig.dss.validation.SignedDocumentValidator;
 import eu.europa.esig.dss.validation.evidencerecord.EvidenceRecordValidatorFactory;
 import eu.europa.esig.dss.validation.scope.SignatureScopeFinder;
+import org.bouncycastle.asn1.ASN1Encodable;
+import org.bouncycastle.asn1.ASN1EncodableVector;
+import org.bouncycastle.asn1.ASN1ObjectIdentifier;
+import org.bouncycastle.asn1.ASN1OctetStringParser;
+import org.bouncycastle.asn1.ASN1SequenceParser;
+import org.bouncycastle.asn1.ASN1SetParser;
+import org.bouncycastle.asn1.ASN1StreamParser;
+import org.bouncycastle.asn1.BERSequence;
+import org.bouncycastle.asn1.BERTaggedObject;
+import org.bouncycastle.asn1.BERTags;
+import org.bouncycastle.asn1.cms.CMSObjectIdentifiers;
+import org.bouncycastle.asn1.cms.ContentInfo;
+import org.bouncycastle.asn1.cms.ContentInfoParser;
+import org.bouncycastle.asn1.cms.SignedData;
+import org.bouncycastle.asn1.cms.SignedDataParser;
+import org.bouncycastle.cms.CMSException;
 import org.bouncycastle.cms.CMSSignedData;
 import org.bouncycastle.cms.SignerInformation;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -52,6 +74,12 @@ public class CMSDocumentValidator extends SignedDocumentValidator {
 	/** The CMSSignedData to be validated */
 	protected CMSSignedData cmsSignedData;
 
+	/**
+	 * The encapsulated content extracted from the validated document on a streaming parsing
+	 * (see {@code #CMSDocumentValidator(DSSDocument, DSSResourcesHandlerBuilder)})
+	 */
+	private DSSDocument encapsulatedContent;
+
 	/**
 	 * The empty constructor, instantiate {@link CAdESSignatureScopeFinder}
 	 */
@@ -92,6 +120,29 @@ public class CMSDocumentValidator extends SignedDocumentValidator {
 		this.cmsSignedData = toCMSSignedData(document);
 	}
 
+	/**
+	 * The constructor for {@code CMSDocumentValidator} parsing the {@code document} as a stream.
+	 * The encapsulated content is never loaded into memory, but is written to a document created
+	 * by the {@code resourcesHandlerBuilder} (e.g. use {@code TempFileResourcesHandlerBuilder} to store
+	 * the content within a temporary file) and is used as a detached content of the signature(s).
+	 * This allows validation of enveloping signatures over large documents with a constant memory usage.
+	 *
+	 * NOTE: {@code #getCmsSignedData} returns the CMSSignedData without the encapsulated content.
+	 *       The archive-time-stamp (ATSv2) message-imprint is computed over the encapsulated content encoding
+	 *       and cannot be validated within this mode.
+	 *
+	 * @param document
+	 *            document to validate (with the signature(s))
+	 * @param resourcesHandlerBuilder
+	 *            {@link DSSResourcesHandlerBuilder} to be used to store the encapsulated content
+	 */
+	public CMSDocumentValidator(final DSSDocument document, final DSSResourcesHandlerBuilder resourcesHandlerBuilder) {
+		Objects.requireNonNull(document, "Document to be validated cannot be null!");
+		Objects.requireNonNull(resourcesHandlerBuilder, "DSSResourcesHandlerBuilder cannot be null!");
+		this.document = document;
+		this.cmsSignedData = toCMSSignedData(document, resourcesHandlerBuilder);
+	}
+
 	private CMSSignedData toCMSSignedData(DSSDocument document) {
 		try {
 			return DSSUtils.toCMSSignedData(document);
@@ -100,6 +151,55 @@ public class CMSDocumentValidator extends SignedDocumentValidator {
 		}
 	}
 
+	private CMSSignedData toCMSSignedData(DSSDocument document, DSSResourcesHandlerBuilder resourcesHandlerBuilder) {
+		try (InputStream is = document.openStream();
+			 DSSResourcesHandler resourcesHandler = resourcesHandlerBuilder.createResourcesHandler()) {
+			final ASN1Encodable contentInfo = new ASN1StreamParser(is).readObject();
+			if (!(contentInfo instanceof ASN1SequenceParser)) {
+				throw new IllegalInputException("A CMS file is expected : the document is not an ASN.1 sequence!");
+			}
+			final ContentInfoParser contentInfoParser = new ContentInfoParser((ASN1SequenceParser) contentInfo);
+			if (!CMSObjectIdentifiers.signedData.equals(contentInfoParser.getContentType())) {
+				throw new IllegalInputException(String.format("A CMS file is expected : the content type '%s' is not a SignedData!",
+						contentInfoParser.getContentType()));
+			}
+			final SignedDataParser signedDataParser = SignedDataParser.getInstance(contentInfoParser.getContent(BERTags.SEQUENCE));
+
+			// The elements shall be read in the order of their definition
+			final ASN1EncodableVector signedData = new ASN1EncodableVector();
+			signedData.add(signedDataParser.getVersion());
+			signedData.add(signedDataParser.getDigestAlgorithms().toASN1Primitive());
+
+			final ContentInfoParser encapContentInfo = signedDataParser.getEncapContentInfo();
+			final ASN1ObjectIdentifier eContentType = encapContentInfo.getContentType();
+			final ASN1OctetStringParser eContent = (ASN1OctetStringParser) encapContentInfo.getContent(BERTags.OCTET_STRING);
+			if (eContent != null) {
+				try (InputStream eContentStream = eContent.getOctetStream();
+					 OutputStream os = resourcesHandler.createOutputStream()) {
+					Utils.copy(eContentStream, os);
+				}
+				encapsulatedContent = resourcesHandler.writeToDSSDocument();
+			}
+			signedData.add(new ContentInfo(eContentType, null));
+
+			final ASN1SetParser certificates = signedDataParser.getCertificates();
+			if (certificates != null) {
+				signedData.add(new BERTaggedObject(false, 0, certificates.toASN1Primitive()));
+			}
+			final ASN1SetParser crls = signedDataParser.getCrls();
+			if (crls != null) {
+				signedData.add(new BERTaggedObject(false, 1, crls.toASN1Primitive()));
+			}
+			signedData.add(signedDataParser.getSignerInfos().toASN1Primitive());
+
+			return new CMSSignedData(new ContentInfo(CMSObjectIdentifiers.signedData,
+					SignedData.getInstance(new BERSequence(signedData))));
+
+		} catch (IOException | CMSException e) {
+			throw new IllegalInputException(String.format("A CMS file is expected : %s", e.getMessage()), e);
+		}
+	}
+
 	/**
 	 * Creates a validator from a {@code DSSDocument}
 	 *
@@ -130,7 +230,11 @@ public class CMSDocumentValidator extends SignedDocumentValidator {
 				if (document != null) {
 					cadesSignature.setSignatureFilename(document.getName());
 				}
-				cadesSignature.setDetachedContents(detachedContents);
+				if (encapsulatedContent != null) {
+					cadesSignature.setDetachedContents(Collections.singletonList(encapsulatedContent));
+				} else {
+					cadesSignature.setDetachedContents(detachedContents);
+				}
 				cadesSignature.setContainerContents(containerContents);
 				cadesSignature.setManifestFile(manifestFile);
 				cadesSignature.setSigningCertificateSource(signingCertificateSource);
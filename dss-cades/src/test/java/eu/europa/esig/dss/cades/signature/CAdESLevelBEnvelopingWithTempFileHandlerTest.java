@@ -0,0 +1,140 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.cades.signature;
+
+import eu.europa.esig.dss.cades.CAdESSignatureParameters;
+import eu.europa.esig.dss.cades.validation.CMSDocumentValidator;
+import eu.europa.esig.dss.enumerations.DigestAlgorithm;
+import eu.europa.esig.dss.enumerations.SignatureLevel;
+import eu.europa.esig.dss.enumerations.SignaturePackaging;
+import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.model.FileDocument;
+import eu.europa.esig.dss.model.SignatureValue;
+import eu.europa.esig.dss.model.ToBeSigned;
+import eu.europa.esig.dss.signature.DocumentSignatureService;
+import eu.europa.esig.dss.signature.resources.TempFileResourcesHandlerBuilder;
+import eu.europa.esig.dss.validation.AdvancedSignature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CAdESLevelBEnvelopingWithTempFileHandlerTest extends AbstractCAdESTestSignature {
+
+	@TempDir
+	File tempDir;
+
+	private static final int CONTENT_SIZE = 5 * 1024 * 1024;
+
+	private CAdESService service;
+	private CAdESSignatureParameters signatureParameters;
+	private DSSDocument documentToSign;
+
+	@BeforeEach
+	public void init() throws Exception {
+		File file = new File(tempDir, "content.bin");
+		byte[] chunk = new byte[1024 * 1024];
+		new Random().nextBytes(chunk);
+		try (OutputStream os = Files.newOutputStream(file.toPath())) {
+			for (int i = 0; i < CONTENT_SIZE / chunk.length; i++) {
+				os.write(chunk);
+			}
+		}
+		documentToSign = new FileDocument(file);
+
+		signatureParameters = new CAdESSignatureParameters();
+		signatureParameters.bLevel().setSigningDate(new Date());
+		signatureParameters.setSigningCertificate(getSigningCert());
+		signatureParameters.setCertificateChain(getCertificateChain());
+		signatureParameters.setSignaturePackaging(SignaturePackaging.ENVELOPING);
+		signatureParameters.setSignatureLevel(SignatureLevel.CAdES_BASELINE_B);
+
+		TempFileResourcesHandlerBuilder tempFileResourcesHandlerBuilder = new TempFileResourcesHandlerBuilder();
+		tempFileResourcesHandlerBuilder.setTempFileDirectory(tempDir);
+
+		service = new CAdESService(getOfflineCertificateVerifier());
+		service.setResourcesHandlerBuilder(tempFileResourcesHandlerBuilder);
+	}
+
+	@Test
+	public void streamingValidationTest() throws Exception {
+		DSSDocument signedDocument = sign();
+
+		TempFileResourcesHandlerBuilder tempFileResourcesHandlerBuilder = new TempFileResourcesHandlerBuilder();
+		tempFileResourcesHandlerBuilder.setTempFileDirectory(tempDir);
+		CMSDocumentValidator validator = new CMSDocumentValidator(signedDocument, tempFileResourcesHandlerBuilder);
+
+		// the parsed CMSSignedData does not hold the encapsulated content
+		assertTrue(validator.getCmsSignedData().getEncoded().length < CONTENT_SIZE / 100);
+
+		List<AdvancedSignature> signatures = validator.getSignatures();
+		assertEquals(1, signatures.size());
+		AdvancedSignature signature = signatures.get(0);
+		signature.checkSignatureIntegrity();
+		assertTrue(signature.getSignatureCryptographicVerification().isSignatureIntact());
+		assertTrue(signature.getSignatureCryptographicVerification().isReferenceDataIntact());
+
+		List<DSSDocument> originalDocuments = validator.getOriginalDocuments(signature);
+		assertEquals(1, originalDocuments.size());
+		DSSDocument originalDocument = originalDocuments.get(0);
+		assertTrue(originalDocument instanceof FileDocument);
+		assertEquals(documentToSign.getDigest(DigestAlgorithm.SHA256), originalDocument.getDigest(DigestAlgorithm.SHA256));
+	}
+
+	@Override
+	protected DSSDocument sign() {
+		ToBeSigned dataToSign = service.getDataToSign(documentToSign, signatureParameters);
+		SignatureValue signatureValue = getToken().sign(dataToSign, signatureParameters.getDigestAlgorithm(), getPrivateKeyEntry());
+		DSSDocument signedDocument = service.signDocument(documentToSign, signatureParameters, signatureValue);
+		assertTrue(signedDocument instanceof FileDocument);
+		return signedDocument;
+	}
+
+	@Override
+	protected DocumentSignatureService<CAdESSignatureParameters, CAdESTimestampParameters> getService() {
+		return service;
+	}
+
+	@Override
+	protected CAdESSignatureParameters getSignatureParameters() {
+		return signatureParameters;
+	}
+
+	@Override
+	protected DSSDocument getDocumentToSign() {
+		return documentToSign;
+	}
+
+	@Override
+	protected String getSigningAlias() {
+		return GOOD_USER;
+	}
+
+}
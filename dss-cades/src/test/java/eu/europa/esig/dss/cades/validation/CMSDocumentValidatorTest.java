@@ -20,23 +20,33 @@
  */
 package eu.europa.esig.dss.cades.validation;
 
+import eu.europa.esig.dss.enumerations.DigestAlgorithm;
+import eu.europa.esig.dss.exception.IllegalInputException;
 import eu.europa.esig.dss.model.DSSDocument;
 import eu.europa.esig.dss.model.FileDocument;
 import eu.europa.esig.dss.model.InMemoryDocument;
+import eu.europa.esig.dss.signature.resources.TempFileResourcesHandlerBuilder;
 import eu.europa.esig.dss.test.validation.AbstractTestValidator;
 import eu.europa.esig.dss.utils.Utils;
 import eu.europa.esig.dss.validation.AdvancedSignature;
 import eu.europa.esig.dss.validation.SignedDocumentValidator;
+import org.bouncycastle.asn1.cms.SignedData;
 import org.bouncycastle.cms.CMSException;
 import org.bouncycastle.cms.CMSSignedData;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class CMSDocumentValidatorTest extends AbstractTestValidator {
@@ -65,6 +75,69 @@ public class CMSDocumentValidatorTest extends AbstractTestValidator {
 		assertTrue(Utils.isCollectionNotEmpty(signatures));
 	}
 
+	@Test
+	public void testStreamingParsing(@TempDir File tempDir) {
+		TempFileResourcesHandlerBuilder resourcesHandlerBuilder = new TempFileResourcesHandlerBuilder();
+		resourcesHandlerBuilder.setTempFileDirectory(tempDir);
+
+		CMSDocumentValidator validator = new CMSDocumentValidator(new FileDocument(PATH), resourcesHandlerBuilder);
+		assertTrue(validator.getCmsSignedData().isDetachedSignature());
+		List<AdvancedSignature> signatures = validator.getSignatures();
+
+		CMSDocumentValidator inMemoryValidator = new CMSDocumentValidator(new FileDocument(PATH));
+		assertFalse(inMemoryValidator.getCmsSignedData().isDetachedSignature());
+		List<AdvancedSignature> inMemorySignatures = inMemoryValidator.getSignatures();
+		assertEquals(inMemorySignatures.size(), signatures.size());
+
+		for (int i = 0; i < signatures.size(); i++) {
+			AdvancedSignature signature = signatures.get(i);
+			AdvancedSignature inMemorySignature = inMemorySignatures.get(i);
+			assertEquals(inMemorySignature.getId(), signature.getId());
+
+			signature.checkSignatureIntegrity();
+			assertTrue(signature.getSignatureCryptographicVerification().isSignatureValid());
+
+			List<DSSDocument> originalDocuments = validator.getOriginalDocuments(signature);
+			assertEquals(1, originalDocuments.size());
+			assertTrue(originalDocuments.get(0) instanceof FileDocument);
+			assertEquals(inMemoryValidator.getOriginalDocuments(inMemorySignature).get(0).getDigest(DigestAlgorithm.SHA256),
+					originalDocuments.get(0).getDigest(DigestAlgorithm.SHA256));
+		}
+	}
+
+	@Test
+	public void testStreamingParsingKeepsEncoding(@TempDir File tempDir) throws Exception {
+		TempFileResourcesHandlerBuilder resourcesHandlerBuilder = new TempFileResourcesHandlerBuilder();
+		resourcesHandlerBuilder.setTempFileDirectory(tempDir);
+
+		for (DSSDocument document : getValidDocuments()) {
+			CMSSignedData streamedCMS = new CMSDocumentValidator(document, resourcesHandlerBuilder).getCmsSignedData();
+			SignedData streamed = SignedData.getInstance(new CMSSignedData(streamedCMS.getEncoded()).toASN1Structure().getContent());
+			SignedData inMemory = SignedData.getInstance(new CMSDocumentValidator(document).getCmsSignedData().toASN1Structure().getContent());
+
+			assertArrayEquals(inMemory.getDigestAlgorithms().getEncoded(), streamed.getDigestAlgorithms().getEncoded());
+			assertArrayEquals(inMemory.getCertificates().getEncoded(), streamed.getCertificates().getEncoded());
+			if (inMemory.getCRLs() != null) {
+				assertArrayEquals(inMemory.getCRLs().getEncoded(), streamed.getCRLs().getEncoded());
+			}
+			assertArrayEquals(inMemory.getSignerInfos().getEncoded(), streamed.getSignerInfos().getEncoded());
+		}
+	}
+
+	@Test
+	public void testStreamingParsingMalformedDocument(@TempDir File tempDir) {
+		TempFileResourcesHandlerBuilder resourcesHandlerBuilder = new TempFileResourcesHandlerBuilder();
+		resourcesHandlerBuilder.setTempFileDirectory(tempDir);
+
+		Exception exception = assertThrows(IllegalInputException.class,
+				() -> new CMSDocumentValidator(getMalformedDocument(), resourcesHandlerBuilder));
+		assertTrue(exception.getMessage().contains("A CMS file is expected"));
+
+		exception = assertThrows(IllegalInputException.class,
+				() -> new CMSDocumentValidator(getOtherTypeDocument(), resourcesHandlerBuilder));
+		assertTrue(exception.getMessage().contains("A CMS file is expected"));
+	}
+
 	@Override
 	protected SignedDocumentValidator initEmptyValidator() {
 		return new CMSDocumentValidator();
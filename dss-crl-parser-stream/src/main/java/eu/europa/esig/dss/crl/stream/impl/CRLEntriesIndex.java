@@ -0,0 +1,155 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.crl.stream.impl;
+
+import org.bouncycastle.asn1.ASN1Primitive;
+import org.bouncycastle.asn1.x509.TBSCertList.CRLEntry;
+import org.bouncycastle.jce.provider.X509CRLEntryObject;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.security.cert.X509CRLEntry;
+import java.util.Arrays;
+
+/**
+ * This class is an index of the revokedCertificates entries of a CRL.
+ * It maps the certificate serial numbers to the position of the corresponding entries within the DER encoded CRL,
+ * allowing to retrieve the revocation info without parsing the complete revokedCertificates sequence.
+ * <p>
+ * The index is an open-addressing hash table over primitive arrays (about 24 bytes per entry),
+ * keyed by the lower 64 bits of the serial numbers. The complete serial number is compared on lookup.
+ */
+class CRLEntriesIndex {
+
+	/** The initial capacity of the entries arrays */
+	private static final int INITIAL_CAPACITY = 16;
+
+	/** The lower 64 bits of the serial numbers, in the order of the entries within the CRL */
+	private long[] keys = new long[INITIAL_CAPACITY];
+
+	/** The offsets of the entries within the DER encoded CRL */
+	private int[] offsets = new int[INITIAL_CAPACITY];
+
+	/** The lengths of the DER encoded entries (including tag and length) */
+	private int[] lengths = new int[INITIAL_CAPACITY];
+
+	/** The number of indexed entries */
+	private int size = 0;
+
+	/** The hash table containing the position of the entry + 1 (0 for an empty slot) */
+	private int[] table;
+
+	/**
+	 * Default constructor
+	 */
+	CRLEntriesIndex() {
+		// empty
+	}
+
+	/**
+	 * Adds a revokedCertificates entry to the index
+	 *
+	 * @param serialNumber {@link BigInteger} the serial number of the revoked certificate
+	 * @param offset the offset of the entry within the DER encoded CRL
+	 * @param length the length of the DER encoded entry
+	 */
+	void addEntry(BigInteger serialNumber, int offset, int length) {
+		if (table != null) {
+			throw new IllegalStateException("The index is already built!");
+		}
+		if (size == keys.length) {
+			int newCapacity = size * 2;
+			keys = Arrays.copyOf(keys, newCapacity);
+			offsets = Arrays.copyOf(offsets, newCapacity);
+			lengths = Arrays.copyOf(lengths, newCapacity);
+		}
+		keys[size] = serialNumber.longValue();
+		offsets[size] = offset;
+		lengths[size] = length;
+		size++;
+	}
+
+	/**
+	 * Builds the hash table. Shall be called once all the entries are added.
+	 */
+	void build() {
+		keys = Arrays.copyOf(keys, size);
+		offsets = Arrays.copyOf(offsets, size);
+		lengths = Arrays.copyOf(lengths, size);
+
+		int capacity = 2;
+		while (capacity < size * 2) {
+			capacity <<= 1;
+		}
+		table = new int[capacity];
+		int mask = capacity - 1;
+		for (int i = 0; i < size; i++) {
+			int slot = hash(keys[i]) & mask;
+			while (table[slot] != 0) {
+				slot = (slot + 1) & mask;
+			}
+			table[slot] = i + 1;
+		}
+	}
+
+	/**
+	 * Gets the number of indexed entries
+	 *
+	 * @return number of entries
+	 */
+	int size() {
+		return size;
+	}
+
+	/**
+	 * Returns the revocation info for the given serial number
+	 *
+	 * @param crlBinaries the DER encoded CRL used to build the index
+	 * @param serialNumber {@link BigInteger} the certificate's serial number
+	 * @return {@link X509CRLEntry} or null if the serial number is not present in the CRL
+	 * @throws IOException if an exception occurs on the entry parsing
+	 */
+	X509CRLEntry getRevocationInfo(byte[] crlBinaries, BigInteger serialNumber) throws IOException {
+		if (table == null) {
+			throw new IllegalStateException("The index is not built!");
+		}
+		final long key = serialNumber.longValue();
+		final int mask = table.length - 1;
+		// the entries with the same key are probed in the order of the CRL
+		for (int slot = hash(key) & mask; table[slot] != 0; slot = (slot + 1) & mask) {
+			int i = table[slot] - 1;
+			if (keys[i] == key) {
+				byte[] entryArray = Arrays.copyOfRange(crlBinaries, offsets[i], offsets[i] + lengths[i]);
+				CRLEntry crlEntry = CRLEntry.getInstance(ASN1Primitive.fromByteArray(entryArray));
+				if (serialNumber.equals(crlEntry.getUserCertificate().getValue())) {
+					return new X509CRLEntryObject(crlEntry);
+				}
+			}
+		}
+		return null;
+	}
+
+	private static int hash(long key) {
+		long h = key * 0x9E3779B97F4A7C15L;
+		return (int) (h ^ (h >>> 32));
+	}
+
+}
@@ -196,6 +196,97 @@ class CRLParser {
 		return null;
 	}
 
+	/**
+	 * This method parses the revokedCertificates sequence once and builds an index of its entries,
+	 * allowing the following revocation info requests to not re-read the CRL
+	 *
+	 * @param crlBinaries
+	 *            DER encoded CRL
+	 * @return {@link CRLEntriesIndex}
+	 * @throws IOException if an exception occurs
+	 */
+	public CRLEntriesIndex buildRevokedCertificatesIndex(byte[] crlBinaries) throws IOException {
+		final CRLEntriesIndex index = new CRLEntriesIndex();
+
+		try (ByteArrayInputStream is = new ByteArrayInputStream(crlBinaries)) {
+			// Skip CertificateList Sequence info
+			consumeTagIntro(is);
+
+			// Read TBSCertList Sequence
+			consumeTagIntro(is);
+
+			// Skip all before mandatory thisUpdate
+			int tag = -1;
+			int tagNo = BERTags.NULL;
+			int length = -1;
+			do {
+				tag = DERUtil.readTag(is);
+				tagNo = DERUtil.readTagNumber(is, tag);
+				length = DERUtil.readLength(is);
+				skip(is, length);
+			} while (!isDate(tagNo));
+
+			tag = DERUtil.readTag(is);
+			tagNo = DERUtil.readTagNumber(is, tag);
+			length = DERUtil.readLength(is);
+
+			// TBSCertList -> nextUpdate (optional)
+			if (isDate(tagNo)) {
+				skip(is, length);
+
+				tag = DERUtil.readTag(is);
+				tagNo = DERUtil.readTagNumber(is, tag);
+				length = DERUtil.readLength(is);
+			}
+
+			// TBSCertList -> revokedCertificates (optional)
+			if (tagNo == BERTags.SEQUENCE) {
+				final int end = getPosition(is, crlBinaries) + length;
+				int position = getPosition(is, crlBinaries);
+				while (position < end) {
+					final int entryOffset = position;
+
+					tag = DERUtil.readTag(is);
+					if (tag < 0) {
+						// EOF
+						break;
+					}
+					tagNo = DERUtil.readTagNumber(is, tag);
+					length = DERUtil.readLength(is);
+					if (length < 0) {
+						throw new IOException("Indefinite length encoding is not supported!");
+					}
+					final int entryEnd = getPosition(is, crlBinaries) + length;
+
+					if (tagNo == BERTags.SEQUENCE) {
+						int entryTag = DERUtil.readTag(is);
+						int entryTagNo = DERUtil.readTagNumber(is, entryTag);
+						int entryLength = DERUtil.readLength(is);
+
+						// SerialNumber
+						if (BERTags.INTEGER == entryTagNo) {
+							BigInteger serialNumber = new BigInteger(readNbBytes(is, entryLength));
+							index.addEntry(serialNumber, entryOffset, entryEnd - entryOffset);
+						}
+					} else {
+						LOG.debug("Should only contain SEQUENCEs : tagNo = {} (ignored)", tagNo);
+					}
+
+					skip(is, entryEnd - getPosition(is, crlBinaries));
+					position = getPosition(is, crlBinaries);
+				}
+			}
+		}
+
+		index.build();
+		LOG.debug("TBSCertList -> revokedCertificates : {} entries indexed", index.size());
+		return index;
+	}
+
+	private int getPosition(ByteArrayInputStream is, byte[] crlBinaries) {
+		return crlBinaries.length - is.available();
+	}
+
 	/**
 	 * This method allows to retrieve common CRL information (thisUpdate, nextUpdate, signatureAlgorithm,
 	 * signatureValue, extensions,...). It voluntary doesn't parse the revokedCertificates sequence.
@@ -58,7 +58,7 @@ public class CRLUtilsStreamImpl extends AbstractCRLUtils implements ICRLUtils {
 	@Override
 	public CRLValidity buildCRLValidity(CRLBinary crlBinary, CertificateToken issuerToken) throws IOException {
 		
-		final CRLValidity crlValidity = new CRLValidity(crlBinary);
+		final CRLValidity crlValidity = new StreamCRLValidity(crlBinary);
 		
 		CRLInfo crlInfos = getCrlInfo(crlValidity);
 		SignatureAlgorithm signatureAlgorithm = SignatureAlgorithm.forOidAndParams(crlInfos.getCertificateListSignatureAlgorithmOid(),
@@ -78,7 +78,11 @@ public class CRLUtilsStreamImpl extends AbstractCRLUtils implements ICRLUtils {
 			crlValidity.setIssuerX509PrincipalMatches(true);
 		}
 
-		checkSignatureValue(crlValidity, crlInfos.getSignatureValue(), signatureAlgorithm, getSignedData(crlValidity), issuerToken);
+		if (isSignatureVerified(crlValidity, issuerToken)) {
+			setSignatureIntact(crlValidity, issuerToken);
+		} else {
+			checkSignatureValue(crlValidity, crlInfos.getSignatureValue(), signatureAlgorithm, getSignedData(crlValidity), issuerToken);
+		}
 		
 		return crlValidity;
 	}
@@ -95,6 +99,9 @@ public class CRLUtilsStreamImpl extends AbstractCRLUtils implements ICRLUtils {
 
 	@Override
 	public X509CRLEntry getRevocationInfo(CRLValidity crlValidity, BigInteger serialNumber) {
+		if (crlValidity instanceof StreamCRLValidity) {
+			return getRevocationInfoFromIndex((StreamCRLValidity) crlValidity, serialNumber);
+		}
 		CRLParser parser = new CRLParser();
 		X509CRLEntry crlEntry = null;
 		try (InputStream is = crlValidity.toCRLInputStream()) {
@@ -105,6 +112,32 @@ public class CRLUtilsStreamImpl extends AbstractCRLUtils implements ICRLUtils {
 		return crlEntry;
 	}
 
+	private X509CRLEntry getRevocationInfoFromIndex(StreamCRLValidity crlValidity, BigInteger serialNumber) {
+		X509CRLEntry crlEntry = null;
+		try {
+			CRLEntriesIndex index = getRevokedCertificatesIndex(crlValidity);
+			crlEntry = index.getRevocationInfo(crlValidity.getDerEncoded(), serialNumber);
+		} catch (IOException e) {
+			LOG.error("Unable to retrieve the revocation status", e);
+		}
+		return crlEntry;
+	}
+
+	private CRLEntriesIndex getRevokedCertificatesIndex(StreamCRLValidity crlValidity) throws IOException {
+		CRLEntriesIndex index = crlValidity.getRevokedCertificatesIndex();
+		if (index == null) {
+			synchronized (crlValidity) {
+				index = crlValidity.getRevokedCertificatesIndex();
+				if (index == null) {
+					CRLParser parser = new CRLParser();
+					index = parser.buildRevokedCertificatesIndex(crlValidity.getDerEncoded());
+					crlValidity.setRevokedCertificatesIndex(index);
+				}
+			}
+		}
+		return index;
+	}
+
 	private void checkSignatureValue(CRLValidity crlValidity, byte[] signatureValue, SignatureAlgorithm signatureAlgorithm,
 									 byte[] signedData, CertificateToken signer) {
 		try {
@@ -112,9 +145,8 @@ public class CRLUtilsStreamImpl extends AbstractCRLUtils implements ICRLUtils {
 			signature.initVerify(signer.getPublicKey());
 			signature.update(signedData);
 			if (signature.verify(signatureValue)) {
-				crlValidity.setSignatureIntact(true);
-				crlValidity.setIssuerToken(signer);
-				crlValidity.setCrlSignKeyUsage(signer.checkKeyUsage(KeyUsageBit.CRL_SIGN));
+				setSignatureIntact(crlValidity, signer);
+				addVerifiedSignature(crlValidity, signer);
 			} else {
 				crlValidity.setSignatureInvalidityReason("Signature value not correct");
 			}
@@ -130,6 +162,12 @@ public class CRLUtilsStreamImpl extends AbstractCRLUtils implements ICRLUtils {
 		}
 	}
 
+	private void setSignatureIntact(CRLValidity crlValidity, CertificateToken signer) {
+		crlValidity.setSignatureIntact(true);
+		crlValidity.setIssuerToken(signer);
+		crlValidity.setCrlSignKeyUsage(signer.checkKeyUsage(KeyUsageBit.CRL_SIGN));
+	}
+
 	private CRLInfo getCrlInfo(CRLValidity crlValidity) throws IOException {
 		try (InputStream is = crlValidity.toCRLInputStream(); BufferedInputStream bis = new BufferedInputStream(is)) {
 			CRLParser parser = new CRLParser();
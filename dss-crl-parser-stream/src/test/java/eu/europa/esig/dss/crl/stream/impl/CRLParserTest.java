@@ -29,11 +29,15 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.math.BigInteger;
+import java.security.cert.CertificateFactory;
+import java.security.cert.X509CRL;
 import java.security.cert.X509CRLEntry;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
@@ -216,6 +220,56 @@ public class CRLParserTest {
 		}
 	}
 	
+	@Test
+	public void buildRevokedCertificatesIndex() throws Exception {
+		byte[] crlBinaries = Utils.toByteArray(CRLParserTest.class.getResourceAsStream("/http___crl.globalsign.com_gs_gspersonalsign2sha2g2.crl"));
+		CRLEntriesIndex index = parser.buildRevokedCertificatesIndex(crlBinaries);
+
+		X509CRL x509CRL = (X509CRL) CertificateFactory.getInstance("X.509").generateCRL(new ByteArrayInputStream(crlBinaries));
+		Set<? extends X509CRLEntry> revokedCertificates = x509CRL.getRevokedCertificates();
+		assertTrue(revokedCertificates.size() <= index.size());
+		for (X509CRLEntry revokedCertificate : revokedCertificates) {
+			X509CRLEntry entry = index.getRevocationInfo(crlBinaries, revokedCertificate.getSerialNumber());
+			assertNotNull(entry);
+			assertEquals(revokedCertificate.getSerialNumber(), entry.getSerialNumber());
+
+			// the first entry is returned for duplicate serial numbers, as for the sequential parsing
+			X509CRLEntry expectedEntry = parser.retrieveRevocationInfo(new ByteArrayInputStream(crlBinaries), revokedCertificate.getSerialNumber());
+			assertEquals(expectedEntry.getRevocationDate(), entry.getRevocationDate());
+			assertEquals(expectedEntry.getRevocationReason(), entry.getRevocationReason());
+		}
+
+		BigInteger serialNumber = new BigInteger("288350169419475868349393264025423631520");
+		X509CRLEntry entry = index.getRevocationInfo(crlBinaries, serialNumber);
+		assertNotNull(entry);
+		assertEquals(serialNumber, entry.getSerialNumber());
+
+		assertNull(index.getRevocationInfo(crlBinaries, new BigInteger("52030000000")));
+	}
+
+	@Test
+	public void buildRevokedCertificatesIndexWithReason() throws IOException {
+		byte[] crlBinaries = Utils.toByteArray(CRLParserTest.class.getResourceAsStream("/LTGRCA.crl"));
+		CRLEntriesIndex index = parser.buildRevokedCertificatesIndex(crlBinaries);
+
+		BigInteger serialNumber = new BigInteger("5203");
+		X509CRLEntry entry = index.getRevocationInfo(crlBinaries, serialNumber);
+		assertNotNull(entry);
+		assertNotNull(entry.getRevocationDate());
+		assertNotNull(entry.getRevocationReason());
+		assertEquals(serialNumber, entry.getSerialNumber());
+
+		assertNull(index.getRevocationInfo(crlBinaries, new BigInteger("52030000000")));
+	}
+
+	@Test
+	public void buildRevokedCertificatesIndexWithoutRevokedCertificates() throws IOException {
+		byte[] crlBinaries = Utils.toByteArray(CRLParserTest.class.getResourceAsStream("/DS_NA2_CA-B1.crl"));
+		CRLEntriesIndex index = parser.buildRevokedCertificatesIndex(crlBinaries);
+		assertEquals(0, index.size());
+		assertNull(index.getRevocationInfo(crlBinaries, new BigInteger("5203")));
+	}
+
 	@Test
 	public void parseCRLWithoutRevokedCertificates() throws IOException {
 		try (InputStream fis = CRLParserTest.class.getResourceAsStream("/DS_NA2_CA-B1.crl");
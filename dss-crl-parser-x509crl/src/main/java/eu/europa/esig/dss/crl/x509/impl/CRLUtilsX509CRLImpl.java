@@ -110,10 +110,16 @@ public class CRLUtilsX509CRLImpl extends AbstractCRLUtils implements ICRLUtils {
 	}
 
 	private void checkSignatureValue(final X509CRL x509CRL, final CertificateToken issuerToken, final CRLValidity crlValidity) {
+		if (isSignatureVerified(crlValidity, issuerToken)) {
+			crlValidity.setSignatureIntact(true);
+			crlValidity.setIssuerToken(issuerToken);
+			return;
+		}
 		try {
 			x509CRL.verify(issuerToken.getPublicKey());
 			crlValidity.setSignatureIntact(true);
 			crlValidity.setIssuerToken(issuerToken);
+			addVerifiedSignature(crlValidity, issuerToken);
 		} catch (GeneralSecurityException e) {
 			String msg = String.format("CRL Signature cannot be validated : %s", e.getMessage());
 			if (LOG.isTraceEnabled()) {
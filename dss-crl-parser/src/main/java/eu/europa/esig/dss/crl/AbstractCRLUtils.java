@@ -21,6 +21,8 @@
 package eu.europa.esig.dss.crl;
 
 import eu.europa.esig.dss.model.DSSException;
+import eu.europa.esig.dss.model.x509.CertificateToken;
+import eu.europa.esig.dss.model.x509.TokenSignatureVerificationCache;
 import org.bouncycastle.asn1.ASN1GeneralizedTime;
 import org.bouncycastle.asn1.ASN1OctetString;
 import org.bouncycastle.asn1.ASN1Primitive;
@@ -81,6 +83,30 @@ public abstract class AbstractCRLUtils {
 		return '-' == first;
 	}
 
+	/**
+	 * Checks whether the signature of the CRL has already been successfully verified with the public key
+	 * of the {@code issuerToken} (see {@code TokenSignatureVerificationCache})
+	 *
+	 * @param crlValidity {@link CRLValidity} of the CRL
+	 * @param issuerToken {@link CertificateToken} the issuer candidate
+	 * @return TRUE if the signature verification has been cached, FALSE otherwise
+	 */
+	protected boolean isSignatureVerified(CRLValidity crlValidity, CertificateToken issuerToken) {
+		return TokenSignatureVerificationCache.getInstance().isSignatureVerified(
+				crlValidity.getCrlBinary(), issuerToken.getPublicKey());
+	}
+
+	/**
+	 * Caches the successful verification of the CRL signature with the public key of the {@code issuerToken}
+	 *
+	 * @param crlValidity {@link CRLValidity} of the CRL
+	 * @param issuerToken {@link CertificateToken} the issuer
+	 */
+	protected void addVerifiedSignature(CRLValidity crlValidity, CertificateToken issuerToken) {
+		TokenSignatureVerificationCache.getInstance().addVerifiedSignature(
+				crlValidity.getCrlBinary(), issuerToken.getPublicKey());
+	}
+
 	/**
 	 * Parses and sets the 'expiredCertsOnCRL' value
 	 *
@@ -24,6 +24,7 @@ import eu.europa.esig.dss.enumerations.KeyUsageBit;
 import eu.europa.esig.dss.enumerations.SignatureAlgorithm;
 import eu.europa.esig.dss.model.DSSException;
 import eu.europa.esig.dss.model.x509.CertificateToken;
+import eu.europa.esig.dss.model.x509.TokenSignatureVerificationCache;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.condition.DisabledForJreRange;
 import org.junit.jupiter.api.condition.JRE;
@@ -145,6 +146,43 @@ public abstract class AbstractTestCRLUtils extends AbstractCRLParserTestUtils {
 		}
 	}
 
+	@Test
+	public void signatureVerificationCacheTest() throws Exception {
+		TokenSignatureVerificationCache defaultCache = TokenSignatureVerificationCache.getInstance();
+		TokenSignatureVerificationCache cache = new TokenSignatureVerificationCache(10);
+		TokenSignatureVerificationCache.setInstance(cache);
+		try (InputStream is = AbstractTestCRLUtils.class.getResourceAsStream("/belgium2.crl");
+				InputStream isCer = AbstractTestCRLUtils.class.getResourceAsStream("/belgiumrs2.crt");
+				InputStream isWrongCer = AbstractTestCRLUtils.class.getResourceAsStream("/citizen_ca.cer")) {
+			CertificateToken certificateToken = loadCert(isCer);
+			CertificateToken wrongCertificateToken = loadCert(isWrongCer);
+			CRLBinary crlBinary = CRLUtils.buildCRLBinary(toByteArray(is));
+
+			CRLValidity invalidCRL = CRLUtils.buildCRLValidity(crlBinary, wrongCertificateToken);
+			assertFalse(invalidCRL.isSignatureIntact());
+			assertFalse(cache.isSignatureVerified(crlBinary, wrongCertificateToken.getPublicKey()));
+
+			CRLValidity validCRL = CRLUtils.buildCRLValidity(crlBinary, certificateToken);
+			assertTrue(validCRL.isSignatureIntact());
+			assertTrue(cache.isSignatureVerified(crlBinary, certificateToken.getPublicKey()));
+
+			// the signature is not verified again
+			CRLValidity cachedCRL = CRLUtils.buildCRLValidity(crlBinary, certificateToken);
+			assertTrue(cachedCRL.isSignatureIntact());
+			assertTrue(cachedCRL.isValid());
+			assertTrue(cachedCRL.isCrlSignKeyUsage());
+			assertEquals(certificateToken, cachedCRL.getIssuerToken());
+			assertNull(cachedCRL.getSignatureInvalidityReason());
+
+			invalidCRL = CRLUtils.buildCRLValidity(crlBinary, wrongCertificateToken);
+			assertFalse(invalidCRL.isSignatureIntact());
+			assertNull(invalidCRL.getIssuerToken());
+
+		} finally {
+			TokenSignatureVerificationCache.setInstance(defaultCache);
+		}
+	}
+
 	@Test
 	public void testLTGRCA() throws Exception {
 		try (InputStream is = AbstractTestCRLUtils.class.getResourceAsStream("/LTGRCA.crl");
@@ -0,0 +1,198 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss;
+
+import eu.europa.esig.dss.enumerations.DigestAlgorithm;
+import eu.europa.esig.dss.model.BLevelParameters;
+import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.model.Digest;
+import eu.europa.esig.dss.model.DigestDocument;
+import eu.europa.esig.dss.model.x509.Token;
+import eu.europa.esig.dss.utils.Utils;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * This class is used as a DTO containing data prepared on the {@code getDataToSign} call,
+ * to be reused on the {@code signDocument} call within the same signature parameters.
+ * The cached data is considered only when neither the signature parameters (signing time, certificates, algorithms,
+ * policy, commitment types, claimed roles, content type, etc.) nor the documents to be signed
+ * have been changed between the two calls.
+ *
+ * NOTE: the cache is held by the parameters instance (see {@code AbstractSignatureParameters.getContext()}).
+ * A two-step flow recreating the parameters between the calls (e.g. a remote signature) does not benefit from it.
+ *
+ */
+public class PreparedSignatureCache implements Serializable {
+
+    private static final long serialVersionUID = -2516403245981227413L;
+
+    /**
+     * The DigestAlgorithm used to compute the documents fingerprint, when not defined within the parameters
+     */
+    private static final DigestAlgorithm DEFAULT_DIGEST_ALGORITHM = DigestAlgorithm.SHA256;
+
+    /**
+     * The values of the signature parameters used to prepare the cached data
+     * (not serialized, the cache is considered as invalid after deserialization)
+     */
+    private transient List<Object> parametersState;
+
+    /**
+     * The fingerprints of the documents used to prepare the cached data
+     */
+    private List<String> documentFingerprints;
+
+    /**
+     * Default constructor instantiating object with null values
+     */
+    public PreparedSignatureCache() {
+        // empty
+    }
+
+    /**
+     * Initializes the cache state for the given {@code parameters} and {@code documents}
+     *
+     * @param parameters {@link AbstractSignatureParameters} used to prepare the cached data
+     * @param documents a list of {@link DSSDocument}s used to prepare the cached data
+     */
+    public void init(AbstractSignatureParameters<?> parameters, List<DSSDocument> documents) {
+        Objects.requireNonNull(parameters, "SignatureParameters shall be defined!");
+        this.parametersState = getParametersState(parameters);
+        this.documentFingerprints = getDocumentFingerprints(documents, getDocumentDigestAlgorithm(parameters));
+    }
+
+    /**
+     * Checks whether the cached data has been prepared for the given {@code parameters} and {@code documents},
+     * i.e. the signature parameters and the documents to be signed are unchanged
+     *
+     * @param parameters {@link AbstractSignatureParameters} to be used for the signature creation
+     * @param documents a list of {@link DSSDocument}s to be signed
+     * @return TRUE if the cached data may be used, FALSE otherwise
+     */
+    public boolean isValid(AbstractSignatureParameters<?> parameters, List<DSSDocument> documents) {
+        if (parametersState == null) {
+            return false;
+        }
+        return parametersState.equals(getParametersState(parameters))
+                && Objects.equals(documentFingerprints, getDocumentFingerprints(documents, getDocumentDigestAlgorithm(parameters)));
+    }
+
+    /**
+     * Returns the values of the signature parameters having an impact on the prepared data.
+     * The mutable values are copied, so a later modification of the parameters is detected.
+     * NOTE: the method shall be extended in order to take into account the format-specific parameters
+     *
+     * @param parameters {@link AbstractSignatureParameters}
+     * @return a list of values to be compared
+     */
+    protected List<Object> getParametersState(AbstractSignatureParameters<?> parameters) {
+        final List<Object> state = new ArrayList<>();
+        state.add(parameters.getSignatureLevel());
+        state.add(parameters.getSignaturePackaging());
+        state.add(parameters.getSignatureAlgorithm());
+        state.add(parameters.getReferenceDigestAlgorithm());
+        state.add(parameters.isGenerateTBSWithoutCertificate());
+        state.add(getTokenIds(parameters.getCertificateChain()));
+        state.add(parameters.getSigningCertificate() != null ? parameters.getSigningCertificate().getDSSIdAsString() : null);
+        state.add(getTokenIds(parameters.getContentTimestamps()));
+        state.add(getDocumentFingerprints(parameters.getDetachedContents(), getDocumentDigestAlgorithm(parameters)));
+
+        final BLevelParameters bLevelParameters = parameters.bLevel();
+        state.add(bLevelParameters.getSigningDate() != null ? bLevelParameters.getSigningDate().getTime() : null);
+        state.add(bLevelParameters.isTrustAnchorBPPolicy());
+        state.add(copyOf(bLevelParameters.getClaimedSignerRoles()));
+        state.add(copyOf(bLevelParameters.getSignedAssertions()));
+        state.add(copyOf(bLevelParameters.getCommitmentTypeIndications()));
+        // Policy and SignerLocation are mutable, their string representations contain all the defined values
+        state.add(Objects.toString(bLevelParameters.getSignaturePolicy(), null));
+        state.add(Objects.toString(bLevelParameters.getSignerLocation(), null));
+        return state;
+    }
+
+    /**
+     * Returns a copy of the given collection, or null if the collection is not defined
+     *
+     * @param collection to be copied
+     * @return a list copy
+     */
+    protected static List<Object> copyOf(Collection<?> collection) {
+        return collection != null ? new ArrayList<>(collection) : null;
+    }
+
+    private static List<String> getTokenIds(List<? extends Token> tokens) {
+        if (tokens == null) {
+            return null;
+        }
+        final List<String> tokenIds = new ArrayList<>();
+        for (Token token : tokens) {
+            tokenIds.add(token != null ? token.getDSSIdAsString() : null);
+        }
+        return tokenIds;
+    }
+
+    private static DigestAlgorithm getDocumentDigestAlgorithm(AbstractSignatureParameters<?> parameters) {
+        // the digest is cached by the document and is likely reused on the signature creation
+        if (parameters.getReferenceDigestAlgorithm() != null) {
+            return parameters.getReferenceDigestAlgorithm();
+        }
+        return parameters.getDigestAlgorithm() != null ? parameters.getDigestAlgorithm() : DEFAULT_DIGEST_ALGORITHM;
+    }
+
+    private List<String> getDocumentFingerprints(List<DSSDocument> documents, DigestAlgorithm digestAlgorithm) {
+        if (documents == null) {
+            return null;
+        }
+        final List<String> fingerprints = new ArrayList<>();
+        for (DSSDocument document : documents) {
+            fingerprints.add(getDocumentFingerprint(document, digestAlgorithm));
+        }
+        return fingerprints;
+    }
+
+    /**
+     * Returns a string representing the name, the MimeType and the content digest of the document
+     * NOTE: the method shall be extended for the documents not supporting the digest computation
+     *
+     * @param document {@link DSSDocument}
+     * @param digestAlgorithm {@link DigestAlgorithm} to compute the document's digest with
+     * @return {@link String} fingerprint
+     */
+    protected String getDocumentFingerprint(DSSDocument document, DigestAlgorithm digestAlgorithm) {
+        if (document == null) {
+            return null;
+        }
+        final StringBuilder sb = new StringBuilder();
+        sb.append(document.getName()).append(';').append(document.getMimeType()).append(';');
+        if (document instanceof DigestDocument) {
+            Digest digest = ((DigestDocument) document).getExistingDigest();
+            sb.append(digest.getAlgorithm()).append(':').append(Utils.toBase64(digest.getValue()));
+        } else {
+            sb.append(digestAlgorithm).append(':').append(document.getDigest(digestAlgorithm));
+        }
+        return sb.toString();
+    }
+
+}
@@ -31,6 +31,8 @@ import eu.europa.esig.dss.spi.x509.ListCertificateSource;
 import eu.europa.esig.dss.spi.x509.aia.AIASource;
 import eu.europa.esig.dss.spi.x509.revocation.RevocationSource;
 
+import java.util.concurrent.ExecutorService;
+
 /**
  * Provides information on the sources to be used in the validation process in
  * the context of a signature.
@@ -211,6 +213,25 @@ public interface CertificateVerifier {
 	 */
 	void setAIASource(final AIASource aiaSource);
 
+	/**
+	 * Gets the ExecutorService used to retrieve the revocation data and AIA issuer certificates
+	 * from online sources concurrently
+	 *
+	 * @return {@link ExecutorService}, null when the tokens are processed sequentially
+	 */
+	ExecutorService getExecutorService();
+
+	/**
+	 * Sets the ExecutorService used to retrieve the revocation data (OCSP / CRL) and AIA issuer certificates
+	 * from online sources concurrently, during the validation of the certificate chains.
+	 * The validation result does not depend on whether the executor is defined.
+	 * NOTE: the executor is not shut down by the validation process. Its lifecycle shall be managed by the caller.
+	 * Default : null (the tokens are processed sequentially)
+	 *
+	 * @param executorService {@link ExecutorService}
+	 */
+	void setExecutorService(final ExecutorService executorService);
+
 	/**
 	 * This method allows to change the Digest Algorithm that will be used for tokens' digest calculation
 	 * Default : {@code DigestAlgorithm.SHA256}
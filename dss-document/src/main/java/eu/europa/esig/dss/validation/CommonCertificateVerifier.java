@@ -36,6 +36,7 @@ import org.slf4j.LoggerFactory;
 import org.slf4j.event.Level;
 
 import java.util.Objects;
+import java.util.concurrent.ExecutorService;
 
 /**
  * This class provides the different sources used to verify the status of a certificate using the trust model. There are
@@ -97,6 +98,13 @@ public class CommonCertificateVerifier implements CertificateVerifier {
 	 */
 	private AIASource aiaSource;
 
+	/**
+	 * The ExecutorService used to retrieve revocation data and AIA issuer certificates concurrently.
+	 *
+	 * Default : null (the tokens are processed sequentially)
+	 */
+	private ExecutorService executorService;
+
 	/**
 	 * This variable set the default Digest Algorithm what will be used for calculation
 	 * of digests for validation tokens and signed data
@@ -323,6 +331,16 @@ public class CommonCertificateVerifier implements CertificateVerifier {
 		this.aiaSource = aiaSource;
 	}
 
+	@Override
+	public ExecutorService getExecutorService() {
+		return executorService;
+	}
+
+	@Override
+	public void setExecutorService(final ExecutorService executorService) {
+		this.executorService = executorService;
+	}
+
 	@Override
 	public StatusAlert getAlertOnInvalidTimestamp() {
 		return alertOnInvalidTimestamp;
@@ -22,6 +22,7 @@ package eu.europa.esig.dss.validation;
 
 import eu.europa.esig.dss.spi.x509.CertificateReorderer;
 import eu.europa.esig.dss.enumerations.RevocationReason;
+import eu.europa.esig.dss.model.DSSException;
 import eu.europa.esig.dss.model.x509.CertificateToken;
 import eu.europa.esig.dss.model.x509.Token;
 import eu.europa.esig.dss.model.x509.X500PrincipalHelper;
@@ -62,12 +63,16 @@ import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 /**
  * During the validation of a signature, the software retrieves different X509 artifacts like Certificate, CRL and OCSP
@@ -104,8 +109,19 @@ public class SignatureValidationContext implements ValidationContext {
 	 */
 	private AIASource aiaSource;
 
-	/** Map of tokens defining if they have been processed yet */
-	private final Map<Token, Boolean> tokensToProcess = new HashMap<>();
+	/**
+	 * Used to retrieve revocation data and AIA issuer certificates concurrently, when defined
+	 */
+	private ExecutorService executorService;
+
+	/** Map of certificate tokens and their issuers retrieved in advance by AIA */
+	private final Map<CertificateToken, Future<AIAIssuer>> prefetchedAIAIssuers = new HashMap<>();
+
+	/** Map of tokens and their (not null) issuers found within the certificate sources before the AIA requests submission */
+	private final Map<Token, CertificateToken> prefetchedSourceIssuers = new HashMap<>();
+
+	/** Map of tokens defining if they have been processed yet (keeps the registration order) */
+	private final Map<Token, Boolean> tokensToProcess = new LinkedHashMap<>();
 
 	/** The best-signature-time for b-level certificate chain */
 	private final Map<CertificateToken, Date> bestSignatureTimeCertChainDates = new HashMap<>();
@@ -191,6 +207,7 @@ public class SignatureValidationContext implements ValidationContext {
 		this.remoteCRLSource = certificateVerifier.getCrlSource();
 		this.remoteOCSPSource = certificateVerifier.getOcspSource();
 		this.aiaSource = certificateVerifier.getAIASource();
+		this.executorService = certificateVerifier.getExecutorService();
 		this.adjunctCertSources = certificateVerifier.getAdjunctCertSources();
 		this.trustedCertSources = certificateVerifier.getTrustedCertSources();
 		this.checkRevocationForUntrustedChains = certificateVerifier.isCheckRevocationForUntrustedChains();
@@ -359,6 +376,25 @@ public class SignatureValidationContext implements ValidationContext {
 		}
 	}
 
+	/**
+	 * This method returns all tokens to verify, in the order they have been registered.
+	 * If there is no more tokens to verify an empty list is returned.
+	 *
+	 * @return a list of tokens to verify
+	 */
+	private List<Token> getNotYetVerifiedTokens() {
+		synchronized (tokensToProcess) {
+			final List<Token> tokens = new ArrayList<>();
+			for (final Entry<Token, Boolean> entry : tokensToProcess.entrySet()) {
+				if (entry.getValue() == null) {
+					entry.setValue(true);
+					tokens.add(entry.getKey());
+				}
+			}
+			return tokens;
+		}
+	}
+
 	/**
 	 * This method returns a timestamp token to verify. If there is no more tokens to verify null is returned.
 	 *
@@ -405,6 +441,45 @@ public class SignatureValidationContext implements ValidationContext {
 			return issuerCertificateToken;
 		}
 
+		// the certificate sources may have been looked up on the AIA requests submission
+		issuerCertificateToken = prefetchedSourceIssuers.remove(token);
+		if (issuerCertificateToken == null) {
+			issuerCertificateToken = getIssuerFromCertificateSources(token);
+		}
+
+		// Request AIA only when no issuer has been found yet
+		if (issuerCertificateToken == null && token instanceof CertificateToken && aiaSource != null &&
+				!tokenIssuerMap.containsKey(token)) {
+			final AIAIssuer aiaIssuer = getAIAIssuer((CertificateToken) token);
+			issuerCertificateToken = aiaIssuer.getIssuer();
+			addCertificateSource(aiaCertificateSources, aiaIssuer.getCertificateSource());
+		}
+		
+		if (issuerCertificateToken == null && token instanceof OCSPToken) {
+			issuerCertificateToken = getOCSPIssuer((OCSPToken) token, getAllCertificateSources());
+		}
+
+		if (issuerCertificateToken == null && token instanceof TimestampToken) {
+			issuerCertificateToken = getTSACertificate((TimestampToken) token, getAllCertificateSources());
+		}
+
+		if (issuerCertificateToken != null) {
+			addCertificateTokenForVerification(issuerCertificateToken);
+		}
+
+		// Cache the result (successful or unsuccessful)
+		tokenIssuerMap.put(token, issuerCertificateToken);
+
+		return issuerCertificateToken;
+	}
+
+	/**
+	 * Returns the issuer of the {@code token} found within the already available certificate sources
+	 *
+	 * @param token {@link Token} to get issuer for
+	 * @return {@link CertificateToken} issuer if found, null otherwise
+	 */
+	private CertificateToken getIssuerFromCertificateSources(final Token token) {
 		// Find issuer candidates from a particular certificate source
 		Set<CertificateToken> candidates = Collections.emptySet();
 
@@ -437,32 +512,31 @@ public class SignatureValidationContext implements ValidationContext {
 			candidates = processedCertificates;
 		}
 
-		issuerCertificateToken = new TokenIssuerSelector(token, candidates).getIssuer();
-
-		// Request AIA only when no issuer has been found yet
-		if (issuerCertificateToken == null && token instanceof CertificateToken && aiaSource != null &&
-				!tokenIssuerMap.containsKey(token)) {
-			final AIACertificateSource aiaCertificateSource = new AIACertificateSource((CertificateToken) token, aiaSource);
-			issuerCertificateToken = aiaCertificateSource.getIssuerFromAIA();
-			addCertificateSource(aiaCertificateSources, aiaCertificateSource);
-		}
-		
-		if (issuerCertificateToken == null && token instanceof OCSPToken) {
-			issuerCertificateToken = getOCSPIssuer((OCSPToken) token, allCertificateSources);
-		}
-
-		if (issuerCertificateToken == null && token instanceof TimestampToken) {
-			issuerCertificateToken = getTSACertificate((TimestampToken) token, allCertificateSources);
-		}
+		return new TokenIssuerSelector(token, candidates).getIssuer();
+	}
 
-		if (issuerCertificateToken != null) {
-			addCertificateTokenForVerification(issuerCertificateToken);
+	/**
+	 * Returns the issuer of the {@code certificateToken} obtained by AIA.
+	 * Uses the result of the request submitted in advance, when available.
+	 *
+	 * @param certificateToken {@link CertificateToken} to get issuer for
+	 * @return {@link AIAIssuer}
+	 */
+	private AIAIssuer getAIAIssuer(final CertificateToken certificateToken) {
+		final Future<AIAIssuer> future = prefetchedAIAIssuers.remove(certificateToken);
+		if (future != null) {
+			try {
+				return future.get();
+			} catch (InterruptedException e) {
+				LOG.warn("Interrupted while retrieving the issuer by AIA for certificate '{}'.",
+						certificateToken.getDSSIdAsString());
+				Thread.currentThread().interrupt();
+			} catch (ExecutionException e) {
+				LOG.warn("Unable to retrieve the issuer by AIA for certificate '{}' : {}",
+						certificateToken.getDSSIdAsString(), e.getMessage(), e);
+			}
 		}
-
-		// Cache the result (successful or unsuccessful)
-		tokenIssuerMap.put(token, issuerCertificateToken);
-
-		return issuerCertificateToken;
+		return new AIAIssuer(new AIACertificateSource(certificateToken, aiaSource));
 	}
 
 	private CertificateToken getIssuerFromProcessedCertificates(Token token) {
@@ -758,6 +832,15 @@ public class SignatureValidationContext implements ValidationContext {
 			getCertChain(timestampToken);
 			timestampToken = getNotYetVerifiedTimestamp();
 		}
+
+		if (executorService != null) {
+			try {
+				validateConcurrently();
+			} finally {
+				clearPrefetchedAIAIssuers();
+			}
+			return;
+		}
 		
 		Token token = getNotYetVerifiedToken();
 		while (token != null) {
@@ -770,6 +853,102 @@ public class SignatureValidationContext implements ValidationContext {
 		}
 	}
 
+	/**
+	 * Processes the tokens by batches. For each batch, the AIA issuer certificates are requested concurrently,
+	 * then the token graph is built and the required online revocation data is fetched concurrently.
+	 * The obtained results are merged in the order of the requests, in order to keep the validation deterministic.
+	 */
+	private void validateConcurrently() {
+		List<Token> tokens = getNotYetVerifiedTokens();
+		while (Utils.isCollectionNotEmpty(tokens)) {
+			prefetchAIAIssuers(tokens);
+
+			final List<RevocationRequest> revocationRequests = new ArrayList<>();
+			for (Token token : tokens) {
+				// extract the certificate chain and add missing tokens for verification
+				List<Token> certChain = getCertChain(token);
+				if (token instanceof CertificateToken) {
+					RevocationRequest revocationRequest = collectRevocationData((CertificateToken) token, certChain);
+					if (revocationRequest != null) {
+						revocationRequests.add(revocationRequest);
+					}
+				}
+			}
+
+			final List<Future<RevocationToken<?>>> futures = new ArrayList<>();
+			for (RevocationRequest revocationRequest : revocationRequests) {
+				if (revocationRequest.isOnlineRequestRequired()) {
+					futures.add(executorService.submit(() -> getRevocationToken(revocationRequest.getCertificateToken(),
+							revocationRequest.getIssuerToken(), revocationRequest.getTrustAnchor())));
+				} else {
+					futures.add(null);
+				}
+			}
+
+			for (int i = 0; i < revocationRequests.size(); i++) {
+				final RevocationRequest revocationRequest = revocationRequests.get(i);
+				final Future<RevocationToken<?>> future = futures.get(i);
+				if (future != null) {
+					addOnlineRevocationToken(revocationRequest, getOnlineRevocationToken(future));
+				}
+				logIfNoRevocationFound(revocationRequest);
+			}
+
+			tokens = getNotYetVerifiedTokens();
+		}
+	}
+
+	/**
+	 * Submits the AIA requests for the certificates without an issuer available within the known certificate sources
+	 *
+	 * @param tokens a list of {@link Token}s to be processed
+	 */
+	private void prefetchAIAIssuers(List<Token> tokens) {
+		if (aiaSource == null) {
+			return;
+		}
+		for (Token token : tokens) {
+			if (token instanceof CertificateToken && !tokenIssuerMap.containsKey(token) &&
+					!prefetchedAIAIssuers.containsKey(token)) {
+				final CertificateToken issuer = getIssuerFromCertificateSources(token);
+				if (issuer != null) {
+					// the result is reused on the certificate chain building
+					prefetchedSourceIssuers.put(token, issuer);
+				} else {
+					// the sources are looked up again on the chain building, as they may be enriched in the meantime
+					final CertificateToken certificateToken = (CertificateToken) token;
+					prefetchedAIAIssuers.put(certificateToken, executorService.submit(
+							() -> new AIAIssuer(new AIACertificateSource(certificateToken, aiaSource))));
+				}
+			}
+		}
+	}
+
+	/**
+	 * Cancels the AIA requests submitted in advance and not consumed by the validation
+	 */
+	private void clearPrefetchedAIAIssuers() {
+		for (Future<AIAIssuer> future : prefetchedAIAIssuers.values()) {
+			future.cancel(true);
+		}
+		prefetchedAIAIssuers.clear();
+		prefetchedSourceIssuers.clear();
+	}
+
+	private RevocationToken<?> getOnlineRevocationToken(Future<RevocationToken<?>> future) {
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new DSSException("Interrupted while retrieving the revocation data", e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
+			}
+			throw new DSSException(String.format("Unable to retrieve the revocation data : %s", e.getMessage()), e);
+		}
+	}
+
 	/**
 	 * Retrieves the revocation data from signature (if exists) or from the online
 	 * sources. The issuer certificate must be provided, the underlining library
@@ -780,6 +959,31 @@ public class SignatureValidationContext implements ValidationContext {
 	 * @return a set of found {@link RevocationToken}s
 	 */
 	private Set<RevocationToken<?>> getRevocationData(final CertificateToken certToken, List<Token> certChain) {
+		final RevocationRequest revocationRequest = collectRevocationData(certToken, certChain);
+		if (revocationRequest == null) {
+			return Collections.emptySet();
+		}
+
+		if (revocationRequest.isOnlineRequestRequired()) {
+			// Fetch OCSP or CRL from online sources
+			final RevocationToken<?> onlineRevocationToken = getRevocationToken(certToken,
+					revocationRequest.getIssuerToken(), revocationRequest.getTrustAnchor());
+			addOnlineRevocationToken(revocationRequest, onlineRevocationToken);
+		}
+
+		logIfNoRevocationFound(revocationRequest);
+		return revocationRequest.getRevocations();
+	}
+
+	/**
+	 * Collects the revocation data available for the {@code certToken} and
+	 * defines whether the revocation data shall be requested from the online sources
+	 *
+	 * @param certToken the current token
+	 * @param certChain the complete chain
+	 * @return {@link RevocationRequest}, null if the revocation data is not required or cannot be obtained
+	 */
+	private RevocationRequest collectRevocationData(final CertificateToken certToken, List<Token> certChain) {
 
 		if (LOG.isTraceEnabled()) {
 			LOG.trace("Checking revocation data for : {}", certToken.getDSSIdAsString());
@@ -787,16 +991,17 @@ public class SignatureValidationContext implements ValidationContext {
 
 		if (isRevocationDataNotRequired(certToken)) {
 			LOG.debug("Revocation data is not required for certificate : {}", certToken.getDSSIdAsString());
-			return Collections.emptySet();
+			return null;
 		}
 
 		CertificateToken issuerToken = getIssuer(certToken);
 		if (issuerToken == null) {
 			LOG.warn("Issuer not found for certificate {}", certToken.getDSSIdAsString());
-			return Collections.emptySet();
+			return null;
 		}
 
-		Set<RevocationToken<?>> revocations = new HashSet<>();
+		final RevocationRequest revocationRequest = new RevocationRequest(certToken, issuerToken);
+		final Set<RevocationToken<?>> revocations = revocationRequest.getRevocations();
 
 		// ALL Embedded revocation data
 		List<RevocationToken<CRL>> crlTokens = documentCRLSource.getRevocationTokens(certToken, issuerToken);
@@ -820,29 +1025,31 @@ public class SignatureValidationContext implements ValidationContext {
 			LOG.debug("The signature does not contain relative revocation data.");
 			if (checkRevocationForUntrustedChains || containsTrustAnchor(certChain)) {
 				LOG.trace("Revocation update is in progress for certificate : {}", certToken.getDSSIdAsString());
-				CertificateToken trustAnchor = (CertificateToken) getFirstTrustAnchor(certChain);
-
-				// Fetch OCSP or CRL from online sources
-				final RevocationToken<?> onlineRevocationToken = getRevocationToken(certToken, issuerToken, trustAnchor);
-
-				// Check if the obtained revocation is not yet present
-				if (onlineRevocationToken != null && !revocations.contains(onlineRevocationToken)) {
-					LOG.debug("Obtained a new revocation data : {}, for certificate : {}",
-							onlineRevocationToken.getDSSIdAsString(), certToken.getDSSIdAsString());
-					revocations.add(onlineRevocationToken);
-					addRevocationTokenForVerification(onlineRevocationToken);
-				}
+				revocationRequest.setOnlineRequestRequired((CertificateToken) getFirstTrustAnchor(certChain));
 				
 			} else {
 				LOG.warn("External revocation check is skipped for untrusted certificate : {}", certToken.getDSSIdAsString());
 			}
 		}
-		
-		if (revocations.isEmpty()) {
-			LOG.warn("No revocation found for the certificate {}", certToken.getDSSIdAsString());
+
+		return revocationRequest;
+	}
+
+	private void addOnlineRevocationToken(RevocationRequest revocationRequest, RevocationToken<?> onlineRevocationToken) {
+		// Check if the obtained revocation is not yet present
+		final Set<RevocationToken<?>> revocations = revocationRequest.getRevocations();
+		if (onlineRevocationToken != null && !revocations.contains(onlineRevocationToken)) {
+			LOG.debug("Obtained a new revocation data : {}, for certificate : {}",
+					onlineRevocationToken.getDSSIdAsString(), revocationRequest.getCertificateToken().getDSSIdAsString());
+			revocations.add(onlineRevocationToken);
+			addRevocationTokenForVerification(onlineRevocationToken);
 		}
+	}
 
-		return revocations;
+	private void logIfNoRevocationFound(RevocationRequest revocationRequest) {
+		if (revocationRequest.getRevocations().isEmpty()) {
+			LOG.warn("No revocation found for the certificate {}", revocationRequest.getCertificateToken().getDSSIdAsString());
+		}
 	}
 
 	private <T extends Token> boolean containsTrustAnchor(List<T> certChain) {
@@ -1416,4 +1623,134 @@ public class SignatureValidationContext implements ValidationContext {
 
 	}
 
+	/**
+	 * This class contains the revocation data collected for a certificate token
+	 * and the information required to request a revocation data from the online sources
+	 */
+	private static class RevocationRequest {
+
+		/** The certificate token to get revocation data for */
+		private final CertificateToken certificateToken;
+
+		/** The issuer of the certificate token */
+		private final CertificateToken issuerToken;
+
+		/** The revocation data obtained for the certificate token */
+		private final Set<RevocationToken<?>> revocations = new HashSet<>();
+
+		/** Defines whether the revocation data shall be requested from the online sources */
+		private boolean onlineRequestRequired;
+
+		/** The first trust anchor of the certificate chain, when present */
+		private CertificateToken trustAnchor;
+
+		/**
+		 * Default constructor
+		 *
+		 * @param certificateToken {@link CertificateToken} to get revocation data for
+		 * @param issuerToken {@link CertificateToken} issuer of the certificate token
+		 */
+		public RevocationRequest(final CertificateToken certificateToken, final CertificateToken issuerToken) {
+			this.certificateToken = certificateToken;
+			this.issuerToken = issuerToken;
+		}
+
+		/**
+		 * Gets the certificate token to get revocation data for
+		 *
+		 * @return {@link CertificateToken}
+		 */
+		public CertificateToken getCertificateToken() {
+			return certificateToken;
+		}
+
+		/**
+		 * Gets the issuer of the certificate token
+		 *
+		 * @return {@link CertificateToken}
+		 */
+		public CertificateToken getIssuerToken() {
+			return issuerToken;
+		}
+
+		/**
+		 * Gets the revocation data collected for the certificate token
+		 *
+		 * @return a set of {@link RevocationToken}s
+		 */
+		public Set<RevocationToken<?>> getRevocations() {
+			return revocations;
+		}
+
+		/**
+		 * Gets whether the revocation data shall be requested from the online sources
+		 *
+		 * @return TRUE if the online request is required, FALSE otherwise
+		 */
+		public boolean isOnlineRequestRequired() {
+			return onlineRequestRequired;
+		}
+
+		/**
+		 * Gets the first trust anchor of the certificate chain
+		 *
+		 * @return {@link CertificateToken} if present, null otherwise
+		 */
+		public CertificateToken getTrustAnchor() {
+			return trustAnchor;
+		}
+
+		/**
+		 * Sets the revocation data to be requested from the online sources
+		 *
+		 * @param trustAnchor {@link CertificateToken} the first trust anchor of the certificate chain, when present
+		 */
+		public void setOnlineRequestRequired(CertificateToken trustAnchor) {
+			this.onlineRequestRequired = true;
+			this.trustAnchor = trustAnchor;
+		}
+
+	}
+
+	/**
+	 * This class contains the issuer of a certificate token retrieved by AIA
+	 */
+	private static class AIAIssuer {
+
+		/** The certificate source containing the certificates retrieved by AIA */
+		private final AIACertificateSource certificateSource;
+
+		/** The issuer certificate token, when found */
+		private final CertificateToken issuer;
+
+		/**
+		 * Default constructor requesting the issuer certificate by AIA
+		 *
+		 * @param certificateSource {@link AIACertificateSource}
+		 */
+		public AIAIssuer(final AIACertificateSource certificateSource) {
+			this.certificateSource = certificateSource;
+			this.issuer = certificateSource.getIssuerFromAIA();
+		}
+
+		/**
+		 * Gets the certificate source containing the certificates retrieved by AIA
+		 *
+		 * @return {@link AIACertificateSource}
+		 */
+		public AIACertificateSource getCertificateSource() {
+			return certificateSource;
+		}
+
+		/**
+		 * Gets the issuer certificate token
+		 *
+		 * @return {@link CertificateToken} if found, null otherwise
+		 */
+		public CertificateToken getIssuer() {
+			return issuer;
+		}
+
+	}
+
 }
@@ -35,6 +35,7 @@ import eu.europa.esig.dss.spi.x509.revocation.ocsp.OfflineOCSPSource;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
+import java.util.concurrent.Executors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -50,6 +51,7 @@ public class CertificateVerifierBuilderTest {
         CertificateVerifier copy = new CertificateVerifierBuilder(certificateVerifier).buildCompleteCopy();
         assertEquals(certificateVerifier.getDefaultDigestAlgorithm(), copy.getDefaultDigestAlgorithm());
         assertEquals(certificateVerifier.getAIASource(), copy.getAIASource());
+        assertEquals(certificateVerifier.getExecutorService(), copy.getExecutorService());
         assertEquals(certificateVerifier.getCrlSource(), copy.getCrlSource());
         assertEquals(certificateVerifier.getOcspSource(), copy.getOcspSource());
         assertEquals(certificateVerifier.getRevocationDataLoadingStrategyFactory(), copy.getRevocationDataLoadingStrategyFactory());
@@ -85,6 +87,7 @@ public class CertificateVerifierBuilderTest {
         assertEquals(certificateVerifier.getAdjunctCertSources(), copy.getAdjunctCertSources());
         assertEquals(certificateVerifier.getTrustedCertSources(), copy.getTrustedCertSources());
         assertNull(copy.getAIASource());
+        assertNull(copy.getExecutorService());
         assertNull(copy.getCrlSource());
         assertNull(copy.getOcspSource());
         assertNotNull(copy.getRevocationDataLoadingStrategyFactory()); // not relevant for offline validation
@@ -106,6 +109,7 @@ public class CertificateVerifierBuilderTest {
         CertificateVerifier copy = new CertificateVerifierBuilder(certificateVerifier).buildCompleteCopyForValidation();
         assertEquals(certificateVerifier.getDefaultDigestAlgorithm(), copy.getDefaultDigestAlgorithm());
         assertEquals(certificateVerifier.getAIASource(), copy.getAIASource());
+        assertEquals(certificateVerifier.getExecutorService(), copy.getExecutorService());
         assertEquals(certificateVerifier.getCrlSource(), copy.getCrlSource());
         assertEquals(certificateVerifier.getOcspSource(), copy.getOcspSource());
         assertEquals(certificateVerifier.getRevocationDataLoadingStrategyFactory(), copy.getRevocationDataLoadingStrategyFactory());
@@ -127,6 +131,7 @@ public class CertificateVerifierBuilderTest {
         CertificateVerifier certificateVerifier = new CommonCertificateVerifier();
         certificateVerifier.setDefaultDigestAlgorithm(DigestAlgorithm.SHA512);
         certificateVerifier.setAIASource(new DefaultAIASource());
+        certificateVerifier.setExecutorService(Executors.newSingleThreadExecutor());
         certificateVerifier.setCrlSource(new OfflineCRLSource() {
             private static final long serialVersionUID = 2488777601664014631L;
             @Override
@@ -39,6 +39,8 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -249,6 +251,74 @@ public class SignatureValidationContextTest {
 		assertNull(certToken.getPublicKeyOfTheSigner());
 	}
 
+	@Test
+	public void successfulAiaRequestWithExecutorServiceTest() {
+		CertificateToken certToken = DSSUtils.loadCertificate(new File("src/test/resources/certificates/CZ.cer"));
+
+		Map<String, byte[]> dataMap = new HashMap<>();
+		dataMap.put("http://q.ica.cz/ca_nbusr09.p7c", DSSUtils.toByteArray(new File("src/test/resources/certificates/CZ_CA.cer")));
+
+		DataLoader dataLoader = new MemoryDataLoader(dataMap);
+		MockAIASource aiaSource = new MockAIASource(dataLoader);
+
+		ExecutorService executorService = Executors.newFixedThreadPool(2);
+		try {
+			CommonCertificateVerifier certificateVerifier = new CommonCertificateVerifier();
+			certificateVerifier.setAIASource(aiaSource);
+			certificateVerifier.setExecutorService(executorService);
+
+			SignatureValidationContext svc = new SignatureValidationContext();
+			svc.initialize(certificateVerifier);
+			svc.addCertificateTokenForVerification(certToken);
+
+			assertEquals(0, aiaSource.requestCounter);
+
+			svc.validate();
+			assertEquals(1, aiaSource.requestCounter);
+			assertNotNull(certToken.getPublicKeyOfTheSigner());
+			assertEquals(2, svc.getProcessedCertificates().size());
+
+			svc.validate();
+			assertEquals(1, aiaSource.requestCounter);
+			assertNotNull(certToken.getPublicKeyOfTheSigner());
+
+		} finally {
+			executorService.shutdown();
+		}
+	}
+
+	@Test
+	public void unsuccessfulAiaRequestWithExecutorServiceTest() {
+		CertificateToken certToken = DSSUtils.loadCertificate(new File("src/test/resources/certificates/CZ.cer"));
+
+		DataLoader dataLoader = new IgnoreDataLoader();
+		MockAIASource aiaSource = new MockAIASource(dataLoader);
+
+		ExecutorService executorService = Executors.newFixedThreadPool(2);
+		try {
+			CommonCertificateVerifier certificateVerifier = new CommonCertificateVerifier();
+			certificateVerifier.setAIASource(aiaSource);
+			certificateVerifier.setExecutorService(executorService);
+
+			SignatureValidationContext svc = new SignatureValidationContext();
+			svc.initialize(certificateVerifier);
+			svc.addCertificateTokenForVerification(certToken);
+
+			assertEquals(0, aiaSource.requestCounter);
+
+			svc.validate();
+			assertEquals(1, aiaSource.requestCounter);
+			assertNull(certToken.getPublicKeyOfTheSigner());
+
+			svc.validate();
+			assertEquals(1, aiaSource.requestCounter);
+			assertNull(certToken.getPublicKeyOfTheSigner());
+
+		} finally {
+			executorService.shutdown();
+		}
+	}
+
 	private static class MockAIASource extends DefaultAIASource {
 
 		private static final long serialVersionUID = -5890796098843749473L;
@@ -55,6 +55,7 @@ import eu.europa.esig.dss.model.DigestDocument;
 import eu.europa.esig.dss.model.FileDocument;
 import eu.europa.esig.dss.model.InMemoryDocument;
 import eu.europa.esig.dss.model.x509.CertificateToken;
+import eu.europa.esig.dss.model.x509.TokenSignatureVerificationCache;
 import eu.europa.esig.dss.spi.DSSUtils;
 import eu.europa.esig.dss.spi.x509.CandidatesForSigningCertificate;
 import eu.europa.esig.dss.spi.x509.CertificateRef;
@@ -234,6 +235,42 @@ public class TimestampTokenTest {
 		}
 	}
 
+	@Test
+	public void signatureVerificationCacheTest() throws Exception {
+		CertificateToken wrongToken = DSSUtils.loadCertificate(new File("src/test/resources/certificates/ec.europa.eu.crt"));
+		byte[] byteArray = DSSUtils.toByteArray(new FileDocument("src/test/resources/archive_timestamp.tst"));
+
+		TimestampToken token = new TimestampToken(byteArray, TimestampType.ARCHIVE_TIMESTAMP);
+		CertificateToken signingCertificate = null;
+		for (CertificateToken certificateToken : token.getCertificates()) {
+			if (token.isSignedBy(certificateToken)) {
+				signingCertificate = certificateToken;
+				break;
+			}
+		}
+		assertNotNull(signingCertificate);
+
+		TokenSignatureVerificationCache cache = new TokenSignatureVerificationCache(10);
+		TimestampToken tokenBis = new TimestampToken(byteArray, TimestampType.ARCHIVE_TIMESTAMP);
+		assertFalse(tokenBis.isSignedBy(wrongToken, cache));
+		assertFalse(cache.isSignatureVerified(tokenBis.getDSSId(), wrongToken));
+		assertTrue(tokenBis.isSignedBy(signingCertificate, cache));
+		assertTrue(cache.isSignatureVerified(tokenBis.getDSSId(), signingCertificate));
+
+		// a new instance of the same timestamp obtains the result from the cache
+		TimestampToken tokenTer = new TimestampToken(byteArray, TimestampType.ARCHIVE_TIMESTAMP);
+		assertEquals(SignatureValidity.NOT_EVALUATED, tokenTer.getSignatureValidity());
+		assertTrue(tokenTer.isSignedBy(signingCertificate, cache));
+		assertEquals(SignatureValidity.VALID, tokenTer.getSignatureValidity());
+		assertEquals(signingCertificate.getPublicKey(), tokenTer.getPublicKeyOfTheSigner());
+		assertEquals(signingCertificate.getSubject().getPrincipal(), tokenTer.getIssuerX500Principal());
+		assertEquals(token.getSignatureAlgorithm(), tokenTer.getSignatureAlgorithm());
+
+		// a failed verification does not overwrite the result
+		assertFalse(tokenTer.isSignedBy(wrongToken, cache));
+		assertEquals(SignatureValidity.VALID, tokenTer.getSignatureValidity());
+	}
+
 	@Test
 	public void eeTSTwithCerts() throws Exception {
 		// request has been done with certReq = true
@@ -55,8 +55,10 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.ByteBuffer;
 import java.nio.charset.CharsetDecoder;
 import java.nio.charset.StandardCharsets;
@@ -64,6 +66,7 @@ import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Base64;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
@@ -480,9 +483,7 @@ public class DSSJsonUtils {
 		}
 
 		try (ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
-			for (DSSDocument document : documents) {
-				baos.write(getDocumentOctets(document, isBase64UrlEncoded));
-			}
+			writeDocumentsOctets(documents, isBase64UrlEncoded, baos);
 			return baos.toByteArray();
 
 		} catch (IOException e) {
@@ -490,6 +491,54 @@ public class DSSJsonUtils {
 		}
 	}
 
+	/**
+	 * Writes the concatenated octets of the provided {@code documents} to the given {@code outputStream}.
+	 * The documents are streamed and are not loaded into memory.
+	 *
+	 * @param documents a list of {@link DSSDocument}s to concatenate
+	 * @param isBase64UrlEncoded defines whether the document octets shall be base64url-encoded
+	 * @param outputStream {@link OutputStream} to write the octets into
+	 */
+	public static void writeDocumentsOctets(List<DSSDocument> documents, boolean isBase64UrlEncoded,
+											OutputStream outputStream) {
+		if (Utils.isCollectionEmpty(documents)) {
+			throw new IllegalArgumentException("Unable to build a JWS Payload. Reason : the detached content is not provided!");
+		}
+		try {
+			for (DSSDocument document : documents) {
+				writeDocumentOctets(document, isBase64UrlEncoded, outputStream);
+			}
+		} catch (IOException e) {
+			throw new DSSException(String.format("Unable to write a JWS Payload. Reason : %s", e.getMessage()), e);
+		}
+	}
+
+	private static void writeDocumentOctets(DSSDocument document, boolean isBase64UrlEncoded,
+											OutputStream outputStream) throws IOException {
+		try (InputStream is = document.openStream()) {
+			if (isBase64UrlEncoded) {
+				// the encoder shall be closed in order to flush the last octets, but the target stream remains open
+				try (OutputStream base64UrlOS = Base64.getUrlEncoder().withoutPadding().wrap(new FilterOutputStream(outputStream) {
+
+					@Override
+					public void write(byte[] b, int off, int len) throws IOException {
+						out.write(b, off, len);
+					}
+
+					@Override
+					public void close() throws IOException {
+						flush();
+					}
+
+				})) {
+					Utils.copy(is, base64UrlOS);
+				}
+			} else {
+				Utils.copy(is, outputStream);
+			}
+		}
+	}
+
 	/**
 	 * Writes digest on a concatenated binaries of provided {@code documents}
 	 *
@@ -503,17 +552,7 @@ public class DSSJsonUtils {
 			throw new IllegalArgumentException("Unable to build a message-digest. Reason : the detached content is not provided!");
 		}
 
-		byte[] octets = null;
-		if (documents.size() == 1) {
-			octets = getDocumentOctets(documents.get(0), isBase64UrlEncoded);
-			digestCalculator.update(octets);
-
-		} else {
-			for (DSSDocument document : documents) {
-				octets = getDocumentOctets(document, isBase64UrlEncoded);
-				digestCalculator.update(octets);
-			}
-		}
+		writeDocumentsOctets(documents, isBase64UrlEncoded, digestCalculator.getOutputStream());
 	}
 
 	/**
@@ -963,6 +1002,27 @@ public class DSSJsonUtils {
 		return dataToSign;
 	}
 
+	/**
+	 * This method writes the signing input of a JWS signature with a detached payload represented
+	 * by the concatenation of the {@code detachedPayloadDocuments} to the given {@code outputStream}.
+	 * The payload is streamed and is not loaded into memory.
+	 *
+	 * @param jws {@link JWS} containing the protected header
+	 * @param detachedPayloadDocuments a list of {@link DSSDocument}s representing the detached payload
+	 * @param outputStream {@link OutputStream} to write the signing input into
+	 */
+	public static void writeSigningInput(JWS jws, List<DSSDocument> detachedPayloadDocuments, OutputStream outputStream) {
+		try {
+			// see RFC 7797 : the header is always base64url-encoded, the payload only when 'b64' is not false
+			outputStream.write(DSSJsonUtils.getAsciiBytes(jws.getEncodedHeader()));
+			outputStream.write(0x2e); // ascii for "."
+		} catch (IOException e) {
+			throw new DSSException(String.format(
+					"Unable to compute the JWS Signature Input! Reason : %s", e.getMessage()), e);
+		}
+		writeDocumentsOctets(detachedPayloadDocuments, !jws.isRfc7797UnencodedPayload(), outputStream);
+	}
+
 	/**
 	 * This method extracts a key set used within a JOSE Header (protected + unprotected)
 	 *
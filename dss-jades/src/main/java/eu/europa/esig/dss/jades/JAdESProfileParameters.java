@@ -0,0 +1,68 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.jades;
+
+import eu.europa.esig.dss.ProfileParameters;
+
+/**
+ * This class is used to accelerate signature creation process for JAdES.
+ * The cache is set within {@code JAdESService.getDataToSign(...)} method and
+ * used in {@code JAdESService.signDocument(...)} method.
+ *
+ */
+public class JAdESProfileParameters extends ProfileParameters {
+
+    private static final long serialVersionUID = 2187342675498031536L;
+
+    /**
+     * Internal cache used to accelerate the signature creation process
+     */
+    private JAdESSignatureCache jadesSignatureCache;
+
+    /**
+     * Default constructor
+     */
+    public JAdESProfileParameters() {
+        // empty
+    }
+
+    /**
+     * Gets the JAdES signature cache
+     *
+     * @return {@link JAdESSignatureCache}
+     */
+    public JAdESSignatureCache getJAdESSignatureCache() {
+        if (jadesSignatureCache == null) {
+            jadesSignatureCache = new JAdESSignatureCache();
+        }
+        return jadesSignatureCache;
+    }
+
+    /**
+     * Sets the JAdES signature cache
+     *
+     * @param jadesSignatureCache {@link JAdESSignatureCache}
+     */
+    public void setJAdESSignatureCache(JAdESSignatureCache jadesSignatureCache) {
+        this.jadesSignatureCache = jadesSignatureCache;
+    }
+
+}
@@ -0,0 +1,120 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.jades;
+
+import eu.europa.esig.dss.AbstractSignatureParameters;
+import eu.europa.esig.dss.PreparedSignatureCache;
+import eu.europa.esig.dss.enumerations.DigestAlgorithm;
+import eu.europa.esig.dss.model.DSSDocument;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This class is used as a DTO containing cached data to be used to accelerate the JAdES signature creation process
+ *
+ */
+public class JAdESSignatureCache extends PreparedSignatureCache {
+
+    private static final long serialVersionUID = -6723490512384719254L;
+
+    /**
+     * Cached signed header properties (not serialized, re-computed when missing)
+     */
+    private transient Map<String, Object> signedProperties;
+
+    /**
+     * Cached JWS payload
+     */
+    private byte[] payloadBytes;
+
+    /**
+     * Default constructor instantiating object with null values
+     */
+    public JAdESSignatureCache() {
+        // empty
+    }
+
+    /**
+     * Gets the signed header properties
+     *
+     * @return a map representing the signed header
+     */
+    public Map<String, Object> getSignedProperties() {
+        return signedProperties;
+    }
+
+    /**
+     * Sets the signed header properties
+     *
+     * @param signedProperties a map representing the signed header
+     */
+    public void setSignedProperties(Map<String, Object> signedProperties) {
+        this.signedProperties = signedProperties;
+    }
+
+    /**
+     * Gets the JWS payload
+     *
+     * @return payload byte array
+     */
+    public byte[] getPayloadBytes() {
+        return payloadBytes;
+    }
+
+    /**
+     * Sets the JWS payload
+     *
+     * @param payloadBytes payload byte array
+     */
+    public void setPayloadBytes(byte[] payloadBytes) {
+        this.payloadBytes = payloadBytes;
+    }
+
+    @Override
+    protected List<Object> getParametersState(AbstractSignatureParameters<?> parameters) {
+        final List<Object> state = super.getParametersState(parameters);
+        if (parameters instanceof JAdESSignatureParameters) {
+            JAdESSignatureParameters jadesParameters = (JAdESSignatureParameters) parameters;
+            state.add(jadesParameters.isIncludeCertificateChain());
+            state.add(jadesParameters.isIncludeSignatureType());
+            state.add(jadesParameters.isIncludeKeyIdentifier());
+            state.add(jadesParameters.getX509Url());
+            state.add(jadesParameters.isBase64UrlEncodedPayload());
+            state.add(jadesParameters.isBase64UrlEncodedEtsiUComponents());
+            state.add(jadesParameters.getSigningCertificateDigestMethod());
+            state.add(jadesParameters.getJwsSerializationType());
+            state.add(jadesParameters.getSigDMechanism());
+        }
+        return state;
+    }
+
+    @Override
+    protected String getDocumentFingerprint(DSSDocument document, DigestAlgorithm digestAlgorithm) {
+        if (document instanceof HTTPHeader) {
+            // the digest cannot be computed, the header value is signed
+            HTTPHeader httpHeader = (HTTPHeader) document;
+            return httpHeader.getName() + ':' + httpHeader.getValue();
+        }
+        return super.getDocumentFingerprint(document, digestAlgorithm);
+    }
+
+}
@@ -357,4 +357,12 @@ public class JAdESSignatureParameters extends AbstractSignatureParameters<JAdEST
 		this.base64UrlEncodedEtsiUComponents = base64UrlEncodedEtsiUComponents;
 	}
 
+	@Override
+	public JAdESProfileParameters getContext() {
+		if (context == null) {
+			context = new JAdESProfileParameters();
+		}
+		return (JAdESProfileParameters) context;
+	}
+
 }
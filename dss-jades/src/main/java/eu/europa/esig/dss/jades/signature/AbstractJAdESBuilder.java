@@ -20,16 +20,24 @@
  */
 package eu.europa.esig.dss.jades.signature;
 
+import eu.europa.esig.dss.enumerations.DigestAlgorithm;
 import eu.europa.esig.dss.jades.DSSJsonUtils;
+import eu.europa.esig.dss.jades.JAdESSignatureCache;
 import eu.europa.esig.dss.jades.JAdESSignatureParameters;
 import eu.europa.esig.dss.jades.validation.JWS;
 import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.model.DSSException;
+import eu.europa.esig.dss.model.DSSMessageDigest;
 import eu.europa.esig.dss.model.ToBeSigned;
+import eu.europa.esig.dss.spi.DSSMessageDigestCalculator;
+import eu.europa.esig.dss.spi.DSSUtils;
 import eu.europa.esig.dss.utils.Utils;
 import eu.europa.esig.dss.validation.CertificateVerifier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -47,6 +55,9 @@ public abstract class AbstractJAdESBuilder implements JAdESBuilder {
 	/** The instance of a B-level generator class */
 	protected final JAdESLevelBaselineB jadesLevelBaselineB;
 
+	/** The documents to be signed */
+	private final List<DSSDocument> documentsToSign;
+
 	/**
 	 * Default constructor
 	 *
@@ -62,19 +73,65 @@ public abstract class AbstractJAdESBuilder implements JAdESBuilder {
 			throw new IllegalArgumentException("Documents to sign must be provided!");
 		}
 		this.parameters = parameters;
+		this.documentsToSign = documentsToSign;
 		this.jadesLevelBaselineB = new JAdESLevelBaselineB(certificateVerifier, parameters, documentsToSign);
 	}
 	
 	@Override
 	public ToBeSigned buildDataToBeSigned() {
+		JWS jws = buildJWSToBeSigned();
+
+		byte[] dataToSign;
+		List<DSSDocument> detachedPayloadDocuments = jadesLevelBaselineB.getDetachedPayloadDocuments();
+		if (detachedPayloadDocuments != null) {
+			try (ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
+				DSSJsonUtils.writeSigningInput(jws, detachedPayloadDocuments, baos);
+				dataToSign = baos.toByteArray();
+			} catch (IOException e) {
+				throw new DSSException(String.format("Unable to build the data to be signed. Reason : %s", e.getMessage()), e);
+			}
+		} else {
+			dataToSign = DSSJsonUtils.getSigningInputBytes(jws);
+		}
+		return new ToBeSigned(dataToSign);
+	}
+
+	@Override
+	public DSSMessageDigest buildDataToBeSignedDigest(DigestAlgorithm digestAlgorithm) {
+		Objects.requireNonNull(digestAlgorithm, "DigestAlgorithm must be defined!");
+		JWS jws = buildJWSToBeSigned();
+
+		List<DSSDocument> detachedPayloadDocuments = jadesLevelBaselineB.getDetachedPayloadDocuments();
+		if (detachedPayloadDocuments != null) {
+			// the detached payload is streamed and never loaded into memory
+			DSSMessageDigestCalculator digestCalculator = new DSSMessageDigestCalculator(digestAlgorithm);
+			DSSJsonUtils.writeSigningInput(jws, detachedPayloadDocuments, digestCalculator.getOutputStream());
+			return digestCalculator.getMessageDigest();
+		}
+		return new DSSMessageDigest(digestAlgorithm, DSSUtils.digest(digestAlgorithm, DSSJsonUtils.getSigningInputBytes(jws)));
+	}
+
+	/**
+	 * Builds a JWS with the signed header and, when required, the payload to be signed.
+	 * NOTE: the payload of a detached signature is not incorporated, when it may be streamed
+	 *
+	 * @return {@link JWS}
+	 */
+	private JWS buildJWSToBeSigned() {
 		assertConfigurationValidity(parameters);
-		
+
+		// the signed header and payload are computed again and cached for the signDocument(...) call
+		final JAdESSignatureCache signatureCache = parameters.getContext().getJAdESSignatureCache();
+		signatureCache.setSignedProperties(null);
+		signatureCache.setPayloadBytes(null);
+
 		JWS jws = new JWS();
 		incorporateHeader(jws);
-		incorporatePayload(jws);
-		
-		byte[] dataToSign = DSSJsonUtils.getSigningInputBytes(jws);
-		return new ToBeSigned(dataToSign);
+		if (jadesLevelBaselineB.getDetachedPayloadDocuments() == null) {
+			incorporatePayload(jws);
+		}
+		signatureCache.init(parameters, documentsToSign);
+		return jws;
 	}
 	
 	/**
@@ -83,7 +140,14 @@ public abstract class AbstractJAdESBuilder implements JAdESBuilder {
 	 * @param jws {@link JWS} to populate
 	 */
 	protected void incorporateHeader(final JWS jws) {
-		Map<String, Object> signedProperties = jadesLevelBaselineB.getSignedProperties();
+		final JAdESSignatureCache signatureCache = parameters.getContext().getJAdESSignatureCache();
+		Map<String, Object> signedProperties = signatureCache.getSignedProperties();
+		if (signedProperties != null && signatureCache.isValid(parameters, documentsToSign)) {
+			LOG.debug("The signed header computed on the data to be signed preparation is reused.");
+		} else {
+			signedProperties = jadesLevelBaselineB.getSignedProperties();
+			signatureCache.setSignedProperties(signedProperties);
+		}
 		for (Map.Entry<String, Object> signedHeader : signedProperties.entrySet()) {
 			jws.setHeader(signedHeader.getKey(), signedHeader.getValue());
 		}
@@ -95,7 +159,14 @@ public abstract class AbstractJAdESBuilder implements JAdESBuilder {
 	 * @param jws {@link JWS} to populate
 	 */
 	protected void incorporatePayload(final JWS jws) {
-		byte[] payloadBytes = jadesLevelBaselineB.getPayloadBytes();
+		final JAdESSignatureCache signatureCache = parameters.getContext().getJAdESSignatureCache();
+		byte[] payloadBytes = signatureCache.getPayloadBytes();
+		if (payloadBytes != null && signatureCache.isValid(parameters, documentsToSign)) {
+			LOG.debug("The payload computed on the data to be signed preparation is reused.");
+		} else {
+			payloadBytes = jadesLevelBaselineB.getPayloadBytes();
+			signatureCache.setPayloadBytes(payloadBytes);
+		}
 		if (Utils.isArrayNotEmpty(payloadBytes)) {
 			if (LOG.isTraceEnabled()) {
 				LOG.trace("The payload of created signature -> {}", new String(payloadBytes));
@@ -20,10 +20,15 @@
  */
 package eu.europa.esig.dss.jades.signature;
 
+import eu.europa.esig.dss.enumerations.DigestAlgorithm;
 import eu.europa.esig.dss.model.DSSDocument;
 import eu.europa.esig.dss.enumerations.MimeType;
+import eu.europa.esig.dss.model.DSSMessageDigest;
 import eu.europa.esig.dss.model.SignatureValue;
 import eu.europa.esig.dss.model.ToBeSigned;
+import eu.europa.esig.dss.spi.DSSUtils;
+
+import java.util.Objects;
 
 /**
  * Builds a JAdES signature
@@ -44,6 +49,19 @@ public interface JAdESBuilder {
 	 * @return {@link String} representing the signature data to be signed result
 	 */
 	ToBeSigned buildDataToBeSigned();
+
+	/**
+	 * Computes digest of the data to be signed using the given {@code digestAlgorithm}.
+	 * The default implementation digests the result of {@code #buildDataToBeSigned}, the implementations
+	 * may override the method in order to stream a detached payload without loading it into memory.
+	 *
+	 * @param digestAlgorithm {@link DigestAlgorithm} to compute the digest with
+	 * @return {@link DSSMessageDigest} of the data to be signed
+	 */
+	default DSSMessageDigest buildDataToBeSignedDigest(DigestAlgorithm digestAlgorithm) {
+		Objects.requireNonNull(digestAlgorithm, "DigestAlgorithm must be defined!");
+		return new DSSMessageDigest(digestAlgorithm, DSSUtils.digest(digestAlgorithm, buildDataToBeSigned().getBytes()));
+	}
 	
 	/**
 	 * Returns MimeType of the produce signature by the builder
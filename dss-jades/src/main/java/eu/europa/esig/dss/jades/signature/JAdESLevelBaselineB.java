@@ -321,10 +321,12 @@ public class JAdESLevelBaselineB {
 	}
 
 	private void assertPayloadEncodingValid() {
-		byte[] payloadBytes = getPayloadBytes();
 		// see RFC 7797 (only for compact format not detached payload shall be uri-safe)
-		if (!parameters.isBase64UrlEncodedPayload() && !SignaturePackaging.DETACHED.equals(parameters.getSignaturePackaging())
-				&& Utils.isArrayNotEmpty(payloadBytes)) {
+		if (parameters.isBase64UrlEncodedPayload() || SignaturePackaging.DETACHED.equals(parameters.getSignaturePackaging())) {
+			return;
+		}
+		byte[] payloadBytes = getPayloadBytes();
+		if (Utils.isArrayNotEmpty(payloadBytes)) {
 
 			switch (parameters.getJwsSerializationType()) {
 				/*
@@ -941,6 +943,24 @@ public class JAdESLevelBaselineB {
 		throw new IllegalArgumentException("The configured signature format is not supported!");
 	}
 
+	/**
+	 * Returns a list of documents, which concatenated octets represent the JWS payload of a detached signature.
+	 * The signing input of such a signature can be computed without loading the payload into memory.
+	 *
+	 * @return a list of {@link DSSDocument}s, or NULL when the payload is not a concatenation of the detached documents
+	 */
+	public List<DSSDocument> getDetachedPayloadDocuments() {
+		if (SignaturePackaging.DETACHED.equals(parameters.getSignaturePackaging())) {
+			if (SigDMechanism.NO_SIG_D.equals(parameters.getSigDMechanism())) {
+				return Collections.singletonList(documentsToSign.get(0));
+
+			} else if (SigDMechanism.OBJECT_ID_BY_URI.equals(parameters.getSigDMechanism())) {
+				return documentsToSign;
+			}
+		}
+		return null;
+	}
+
 	private byte[] getIncorporatedPayload() {
 		return DSSJsonUtils.getDocumentOctets(documentsToSign.get(0), parameters.isBase64UrlEncodedPayload());
 	}
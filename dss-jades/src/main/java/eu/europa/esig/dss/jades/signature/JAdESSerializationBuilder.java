@@ -141,7 +141,10 @@ public class JAdESSerializationBuilder extends AbstractJAdESBuilder {
 	private JWS getJWS() {
 		JWS jws = new JWS();
 		incorporateHeader(jws);
-		incorporatePayload(jws);
+		if (!SignaturePackaging.DETACHED.equals(parameters.getSignaturePackaging())) {
+			// the payload is not included for a detached signature
+			incorporatePayload(jws);
+		}
 		return jws;
 	}
 
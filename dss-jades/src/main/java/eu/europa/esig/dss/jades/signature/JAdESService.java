@@ -38,6 +38,7 @@ import eu.europa.esig.dss.jades.validation.AbstractJWSDocumentValidator;
 import eu.europa.esig.dss.jades.validation.JAdESDocumentValidatorFactory;
 import eu.europa.esig.dss.model.DSSDocument;
 import eu.europa.esig.dss.model.DSSException;
+import eu.europa.esig.dss.model.DSSMessageDigest;
 import eu.europa.esig.dss.model.DigestDocument;
 import eu.europa.esig.dss.model.SignaturePolicyStore;
 import eu.europa.esig.dss.model.SignatureValue;
@@ -49,7 +50,7 @@ import eu.europa.esig.dss.signature.CounterSignatureService;
 import eu.europa.esig.dss.signature.MultipleDocumentsSignatureService;
 import eu.europa.esig.dss.signature.SigningOperation;
 import eu.europa.esig.dss.spi.DSSASN1Utils;
-import eu.europa.esig.dss.spi.DSSUtils;
+import eu.europa.esig.dss.spi.DSSMessageDigestCalculator;
 import eu.europa.esig.dss.utils.Utils;
 import eu.europa.esig.dss.validation.CertificateVerifier;
 import eu.europa.esig.dss.validation.DSSPKUtils;
@@ -107,17 +108,17 @@ public class JAdESService extends AbstractSignatureService<JAdESSignatureParamet
 		Objects.requireNonNull(tspSource, "A TSPSource is required!");
 		assertContentTimestampCreationPossible(toSignDocuments);
 		
-		byte[] messageImprint;
+		DigestAlgorithm digestAlgorithm = parameters.getContentTimestampParameters().getDigestAlgorithm();
+		DSSMessageDigestCalculator digestCalculator = new DSSMessageDigestCalculator(digestAlgorithm);
 		if (SigDMechanism.HTTP_HEADERS.equals(parameters.getSigDMechanism())) {
 			HttpHeadersPayloadBuilder httpHeadersPayloadBuilder = new HttpHeadersPayloadBuilder(toSignDocuments, true);
-			messageImprint = httpHeadersPayloadBuilder.build();
+			digestCalculator.update(httpHeadersPayloadBuilder.build());
 		} else {
-			messageImprint = DSSJsonUtils.concatenateDSSDocuments(toSignDocuments, parameters.isBase64UrlEncodedPayload());
+			DSSJsonUtils.writeDocumentsDigest(toSignDocuments, parameters.isBase64UrlEncodedPayload(), digestCalculator);
 		}
 
-		DigestAlgorithm digestAlgorithm = parameters.getContentTimestampParameters().getDigestAlgorithm();
 		TimestampBinary timeStampResponse = tspSource.getTimeStampResponse(digestAlgorithm,
-				DSSUtils.digest(digestAlgorithm, messageImprint));
+				digestCalculator.getMessageDigest().getValue());
 		try {
 			return new TimestampToken(timeStampResponse.getBytes(), TimestampType.CONTENT_TIMESTAMP);
 		} catch (TSPException | IOException | CMSException e) {
@@ -159,6 +160,30 @@ public class JAdESService extends AbstractSignatureService<JAdESSignatureParamet
 		return jadesBuilder.buildDataToBeSigned();
 	}
 
+	/**
+	 * Computes digest of the data to be signed, using the DigestAlgorithm defined within the {@code parameters}.
+	 * The returned value may be signed with {@code SignatureTokenConnection.signDigest(...)} method.
+	 * For a DETACHED signature (with NO_SIG_D or OBJECT_ID_BY_URI mechanism) the documents are streamed
+	 * and are not loaded into memory, which allows signing of large documents.
+	 * NOTE: not applicable for signature algorithms not supporting signing of a pre-computed digest (e.g. EdDSA).
+	 *       For RSA (without PSS), the digest shall be encoded as a DigestInfo before signing
+	 *       (see {@code DSSUtils.encodeRSADigest(...)})
+	 *
+	 * @param toSignDocuments a list of {@link DSSDocument}s to be signed
+	 * @param parameters {@link JAdESSignatureParameters}
+	 * @return {@link DSSMessageDigest} of the data to be signed
+	 */
+	public DSSMessageDigest getDataToSignDigest(List<DSSDocument> toSignDocuments, JAdESSignatureParameters parameters) {
+		Objects.requireNonNull(toSignDocuments, "toSignDocuments cannot be null!");
+		Objects.requireNonNull(parameters, "SignatureParameters cannot be null!");
+
+		assertMultiDocumentsAllowed(toSignDocuments, parameters);
+		assertSigningCertificateValid(parameters);
+
+		JAdESBuilder jadesBuilder = getJAdESBuilder(parameters, toSignDocuments);
+		return jadesBuilder.buildDataToBeSignedDigest(parameters.getDigestAlgorithm());
+	}
+
 	/**
 	 * Only DETACHED signatures are allowed
 	 *
@@ -29,10 +29,10 @@ import eu.europa.esig.dss.jades.JAdESHeaderParameterNames;
 import eu.europa.esig.dss.model.Digest;
 import eu.europa.esig.dss.model.x509.CertificateToken;
 import eu.europa.esig.dss.spi.DSSASN1Utils;
-import eu.europa.esig.dss.spi.DSSUtils;
 import eu.europa.esig.dss.spi.x509.CandidatesForSigningCertificate;
 import eu.europa.esig.dss.spi.x509.CertificateRef;
 import eu.europa.esig.dss.spi.x509.CertificateSource;
+import eu.europa.esig.dss.spi.x509.CertificateTokenFactory;
 import eu.europa.esig.dss.spi.x509.CertificateValidity;
 import eu.europa.esig.dss.utils.Utils;
 import eu.europa.esig.dss.spi.SignatureCertificateSource;
@@ -185,7 +185,8 @@ public class JAdESCertificateSource extends SignatureCertificateSource {
 				String certificateBase64 = DSSJsonUtils.toString(item);
 				if (Utils.isStringNotEmpty(certificateBase64)) {
 					try {
-						CertificateToken certificate = DSSUtils.loadCertificateFromBase64EncodedString(certificateBase64);
+						CertificateToken certificate = CertificateTokenFactory.getInstance()
+								.loadCertificateFromBase64EncodedString(certificateBase64);
 						addCertificate(certificate, CertificateOrigin.KEY_INFO);
 					} catch (Exception e) {
 						LOG.warn("Unable to decode a certificate from '{}'! Reason : {}", certificateBase64, e.getMessage(), e);
@@ -277,7 +278,7 @@ public class JAdESCertificateSource extends SignatureCertificateSource {
 			String val = DSSJsonUtils.getAsString(x509Cert, JAdESHeaderParameterNames.VAL);
 			if (Utils.isStringNotEmpty(val)) {
 				try {
-					addCertificate(DSSUtils.loadCertificateFromBase64EncodedString(val), origin);
+					addCertificate(CertificateTokenFactory.getInstance().loadCertificateFromBase64EncodedString(val), origin);
 				} catch (Exception e) {
 					LOG.warn("Unable to decode a certificate from '{}'! Reason : {}", val, e.getMessage(), e);
 				}
@@ -43,6 +43,7 @@ import eu.europa.esig.dss.model.SignaturePolicyStore;
 import eu.europa.esig.dss.model.SpDocSpecification;
 import eu.europa.esig.dss.model.UserNotice;
 import eu.europa.esig.dss.model.scope.SignatureScope;
+import eu.europa.esig.dss.spi.DSSMessageDigestCalculator;
 import eu.europa.esig.dss.spi.DSSUtils;
 import eu.europa.esig.dss.spi.x509.CandidatesForSigningCertificate;
 import eu.europa.esig.dss.spi.x509.CertificateValidity;
@@ -668,6 +669,9 @@ public class JAdESSignature extends DefaultAdvancedSignature {
 		try {
 			String encodedHeader = jws.getEncodedHeader();
 			if (Utils.isStringNotEmpty(encodedHeader)) {
+				// a detached unencoded payload is streamed on validation and is not loaded into memory
+				List<DSSDocument> detachedPayloadDocuments = null;
+
 				// get payload for a detached signature
 				try {
 					SigDMechanism sigDMechanism = getSigDMechanism();
@@ -678,8 +682,12 @@ public class JAdESSignature extends DefaultAdvancedSignature {
 
 					} else if (sigDMechanism == null && detachedContentPresent) {
 						// simple detached signature
-						byte[] payload = getIncorporatedPayload();
-						jws.setPayloadOctets(payload);
+						if (isStreamableDetachedPayload()) {
+							detachedPayloadDocuments = Collections.singletonList(detachedContents.get(0));
+						} else {
+							byte[] payload = getIncorporatedPayload();
+							jws.setPayloadOctets(payload);
+						}
 						signatureValueReferenceValidation.setFound(detachedContents.size() == 1);
 
 					} else if (SigDMechanism.HTTP_HEADERS.equals(sigDMechanism)) {
@@ -690,9 +698,14 @@ public class JAdESSignature extends DefaultAdvancedSignature {
 
 					} else if (SigDMechanism.OBJECT_ID_BY_URI.equals(sigDMechanism)) {
 						// detached with OBJECT_ID_BY_URI mechanism
-						byte[] payload = getPayloadForObjectIdByUriMechanism();
-						jws.setPayloadOctets(payload);
-						signatureValueReferenceValidation.setFound(payload != null);
+						if (isStreamableDetachedPayload()) {
+							detachedPayloadDocuments = getPayloadDocumentsForObjectIdByUriMechanism();
+							signatureValueReferenceValidation.setFound(true);
+						} else {
+							byte[] payload = getPayloadForObjectIdByUriMechanism();
+							jws.setPayloadOctets(payload);
+							signatureValueReferenceValidation.setFound(payload != null);
+						}
 
 					} else if (SigDMechanism.OBJECT_ID_BY_URI_HASH.equals(sigDMechanism)) {
 						// the sigD itself is signed with OBJECT_ID_BY_URI_HASH mechanism
@@ -714,16 +727,17 @@ public class JAdESSignature extends DefaultAdvancedSignature {
 
 				SignatureAlgorithm signatureAlgorithm = getSignatureAlgorithm();
 				if (signatureAlgorithm != null) {
-					byte[] dataToSign = DSSJsonUtils.getSigningInputBytes(jws);
 					DigestAlgorithm digestAlgorithm = signatureAlgorithm.getDigestAlgorithm();
-					Digest digest = new Digest(digestAlgorithm, DSSUtils.digest(digestAlgorithm, dataToSign));
+					Digest digest = getSigningInputDigest(digestAlgorithm, detachedPayloadDocuments);
 					signatureValueReferenceValidation.setDigest(digest);
 
 					jws.setDoKeyValidation(false); // restrict on key size,...
 	
 					CandidatesForSigningCertificate candidatesForSigningCertificate = getCandidatesForSigningCertificate();
 					
-					SignatureIntegrityValidator signingCertificateValidator = new JAdESSignatureIntegrityValidator(jws);
+					SignatureIntegrityValidator signingCertificateValidator = detachedPayloadDocuments != null ?
+							new JAdESSignatureIntegrityValidator(jws, signatureAlgorithm, detachedPayloadDocuments) :
+							new JAdESSignatureIntegrityValidator(jws);
 					CertificateValidity certificateValidity = signingCertificateValidator.validate(candidatesForSigningCertificate);
 					if (certificateValidity != null) {
 						candidatesForSigningCertificate.setTheCertificateValidity(certificateValidity);
@@ -742,6 +756,26 @@ public class JAdESSignature extends DefaultAdvancedSignature {
 		return signatureValueReferenceValidation;
 	}
 
+	/**
+	 * Checks whether the detached payload may be streamed on validation (RFC 7797 unencoded payload).
+	 * Counter signatures are excluded, as their payload is compared against the master signature value.
+	 *
+	 * @return TRUE if the detached payload may be streamed, FALSE otherwise
+	 */
+	private boolean isStreamableDetachedPayload() {
+		return jws.isRfc7797UnencodedPayload() && !isCounterSignature();
+	}
+
+	private Digest getSigningInputDigest(DigestAlgorithm digestAlgorithm, List<DSSDocument> detachedPayloadDocuments) {
+		if (detachedPayloadDocuments != null) {
+			DSSMessageDigestCalculator digestCalculator = new DSSMessageDigestCalculator(digestAlgorithm);
+			DSSJsonUtils.writeSigningInput(jws, detachedPayloadDocuments, digestCalculator.getOutputStream());
+			return digestCalculator.getMessageDigest();
+		}
+		byte[] dataToSign = DSSJsonUtils.getSigningInputBytes(jws);
+		return new Digest(digestAlgorithm, DSSUtils.digest(digestAlgorithm, dataToSign));
+	}
+
 	/**
 	 * Gets Kid value when present
 	 *
@@ -849,12 +883,20 @@ public class JAdESSignature extends DefaultAdvancedSignature {
 	}
 	
 	private byte[] getPayloadForObjectIdByUriMechanism() {
+		List<DSSDocument> signedDocumentsByUri = getPayloadDocumentsForObjectIdByUriMechanism();
+		return DSSJsonUtils.concatenateDSSDocuments(signedDocumentsByUri, !jws.isRfc7797UnencodedPayload());
+	}
+
+	private List<DSSDocument> getPayloadDocumentsForObjectIdByUriMechanism() {
 		if (Utils.isCollectionEmpty(detachedContents)) {
 			throw new IllegalArgumentException("The detached contents shall be provided for validating a detached signature!");
 		}
 
 		List<DSSDocument> signedDocumentsByUri = getSignedDocumentsForObjectIdByUriMechanism();
-		return DSSJsonUtils.concatenateDSSDocuments(signedDocumentsByUri, !jws.isRfc7797UnencodedPayload());
+		if (Utils.isCollectionEmpty(signedDocumentsByUri)) {
+			throw new IllegalArgumentException("Unable to build a JWS Payload. Reason : the detached content is not provided!");
+		}
+		return signedDocumentsByUri;
 	}
 
 	/**
@@ -20,11 +20,24 @@
  */
 package eu.europa.esig.dss.jades.validation;
 
+import eu.europa.esig.dss.enumerations.EncryptionAlgorithm;
+import eu.europa.esig.dss.enumerations.SignatureAlgorithm;
+import eu.europa.esig.dss.jades.DSSJsonUtils;
+import eu.europa.esig.dss.model.DSSDocument;
 import eu.europa.esig.dss.model.DSSException;
+import eu.europa.esig.dss.spi.DSSASN1Utils;
+import eu.europa.esig.dss.spi.DSSSecurityProvider;
 import eu.europa.esig.dss.spi.x509.SignatureIntegrityValidator;
+import org.bouncycastle.jcajce.io.OutputStreamFactory;
 import org.jose4j.lang.JoseException;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.security.GeneralSecurityException;
 import java.security.PublicKey;
+import java.security.Signature;
+import java.util.List;
+import java.util.Objects;
 
 /**
  * Checks the integrity of a JAdES SignatureValue
@@ -34,6 +47,12 @@ public class JAdESSignatureIntegrityValidator extends SignatureIntegrityValidato
 	/** The JWS signature to validate */
 	private final JWS jws;
 
+	/** The signature algorithm used to create the signature (used for a detached payload validation) */
+	private final SignatureAlgorithm signatureAlgorithm;
+
+	/** The list of documents representing the detached payload */
+	private final List<DSSDocument> detachedPayloadDocuments;
+
 	/**
 	 * Default constructor
 	 *
@@ -41,10 +60,32 @@ public class JAdESSignatureIntegrityValidator extends SignatureIntegrityValidato
 	 */
 	public JAdESSignatureIntegrityValidator(final JWS jws) {
 		this.jws = jws;
+		this.signatureAlgorithm = null;
+		this.detachedPayloadDocuments = null;
+	}
+
+	/**
+	 * Constructor to validate a signature with a detached payload, represented by the concatenation
+	 * of the given {@code detachedPayloadDocuments}. The payload is streamed and is not loaded into memory.
+	 *
+	 * @param jws {@link JWS}
+	 * @param signatureAlgorithm {@link SignatureAlgorithm} used to create the signature
+	 * @param detachedPayloadDocuments a list of {@link DSSDocument}s representing the detached payload
+	 */
+	public JAdESSignatureIntegrityValidator(final JWS jws, final SignatureAlgorithm signatureAlgorithm,
+											final List<DSSDocument> detachedPayloadDocuments) {
+		Objects.requireNonNull(signatureAlgorithm, "SignatureAlgorithm shall be defined!");
+		Objects.requireNonNull(detachedPayloadDocuments, "Detached payload documents shall be defined!");
+		this.jws = jws;
+		this.signatureAlgorithm = signatureAlgorithm;
+		this.detachedPayloadDocuments = detachedPayloadDocuments;
 	}
 
 	@Override
 	protected boolean verify(PublicKey publicKey) throws DSSException {
+		if (detachedPayloadDocuments != null) {
+			return verifyDetachedPayload(publicKey);
+		}
 		try {
 			jws.setKey(publicKey);
 			return jws.verifySignature();
@@ -53,4 +94,28 @@ public class JAdESSignatureIntegrityValidator extends SignatureIntegrityValidato
 		}
 	}
 
+	private boolean verifyDetachedPayload(PublicKey publicKey) {
+		try {
+			Signature signature = Signature.getInstance(signatureAlgorithm.getJCEId(), DSSSecurityProvider.getSecurityProviderName());
+			signature.initVerify(publicKey);
+			try (OutputStream os = OutputStreamFactory.createStream(signature)) {
+				DSSJsonUtils.writeSigningInput(jws, detachedPayloadDocuments, os);
+			}
+			return signature.verify(getSignatureValue());
+
+		} catch (GeneralSecurityException | IOException e) {
+			throw new DSSException(String.format("Unable to verify the signature value. Reason : %s", e.getMessage()), e);
+		}
+	}
+
+	private byte[] getSignatureValue() {
+		byte[] signatureValue = jws.getSignatureValue();
+		EncryptionAlgorithm encryptionAlgorithm = signatureAlgorithm.getEncryptionAlgorithm();
+		if (EncryptionAlgorithm.ECDSA == encryptionAlgorithm || EncryptionAlgorithm.DSA == encryptionAlgorithm) {
+			// JWS contains a concatenated R || S value, while JCA expects an ASN.1 structure
+			return DSSASN1Utils.toStandardDSASignatureValue(signatureValue);
+		}
+		return signatureValue;
+	}
+
 }
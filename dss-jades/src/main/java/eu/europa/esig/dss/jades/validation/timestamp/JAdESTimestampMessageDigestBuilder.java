@@ -43,6 +43,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 
@@ -168,6 +169,13 @@ public class JAdESTimestampMessageDigestBuilder implements TimestampMessageDiges
 		byte[] payload;
 		if (signature.getJws().isRfc7797UnencodedPayload()) {
 			payload = signature.getJws().getUnverifiedPayloadBytes();
+			if (Utils.isArrayEmpty(payload) && signature.isDetachedSignature()
+					&& Utils.isCollectionNotEmpty(signature.getDetachedContents())) {
+				// the detached unencoded payload is not loaded into memory
+				DSSJsonUtils.writeDocumentsDigest(Collections.singletonList(signature.getDetachedContents().get(0)),
+						false, digestCalculator);
+				return;
+			}
 		} else {
 			payload = signature.getJws().getEncodedPayload().getBytes();
 		}
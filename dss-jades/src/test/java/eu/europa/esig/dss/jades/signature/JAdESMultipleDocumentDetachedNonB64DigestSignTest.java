@@ -0,0 +1,108 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.jades.signature;
+
+import eu.europa.esig.dss.enumerations.SigDMechanism;
+import eu.europa.esig.dss.enumerations.SignatureLevel;
+import eu.europa.esig.dss.enumerations.SignaturePackaging;
+import eu.europa.esig.dss.jades.JAdESSignatureParameters;
+import eu.europa.esig.dss.jades.JAdESTimestampParameters;
+import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.model.DSSMessageDigest;
+import eu.europa.esig.dss.model.Digest;
+import eu.europa.esig.dss.model.FileDocument;
+import eu.europa.esig.dss.model.InMemoryDocument;
+import eu.europa.esig.dss.model.SignatureValue;
+import eu.europa.esig.dss.model.ToBeSigned;
+import eu.europa.esig.dss.signature.MultipleDocumentsSignatureService;
+import eu.europa.esig.dss.spi.DSSUtils;
+import org.junit.jupiter.api.BeforeEach;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class JAdESMultipleDocumentDetachedNonB64DigestSignTest extends AbstractJAdESMultipleDocumentSignatureTest {
+
+	private JAdESSignatureParameters signatureParameters;
+	private List<DSSDocument> documentToSigns;
+	private JAdESService jadesService;
+
+	@BeforeEach
+	public void init() throws Exception {
+		documentToSigns = Arrays.asList(new FileDocument("src/test/resources/sample.json"),
+				new FileDocument("src/test/resources/sample.png"),
+				new InMemoryDocument("Hello World!".getBytes(), "helloWorld"));
+
+		jadesService = new JAdESService(getOfflineCertificateVerifier());
+
+		signatureParameters = new JAdESSignatureParameters();
+		signatureParameters.setSigningCertificate(getSigningCert());
+		signatureParameters.setCertificateChain(getCertificateChain());
+		signatureParameters.setSignaturePackaging(SignaturePackaging.DETACHED);
+		signatureParameters.setSignatureLevel(SignatureLevel.JAdES_BASELINE_B);
+		signatureParameters.setSigDMechanism(SigDMechanism.OBJECT_ID_BY_URI);
+		signatureParameters.setBase64UrlEncodedPayload(false);
+	}
+
+	@Override
+	protected DSSDocument sign() {
+		List<DSSDocument> toBeSigned = getDocumentsToSign();
+		JAdESSignatureParameters params = getSignatureParameters();
+
+		DSSMessageDigest messageDigest = jadesService.getDataToSignDigest(toBeSigned, params);
+		assertEquals(params.getDigestAlgorithm(), messageDigest.getAlgorithm());
+
+		ToBeSigned dataToSign = jadesService.getDataToSign(toBeSigned, params);
+		assertArrayEquals(DSSUtils.digest(params.getDigestAlgorithm(), dataToSign.getBytes()), messageDigest.getValue());
+
+		// encode the digest before the signature (specific RSA without PSS)
+		Digest digest = new Digest(messageDigest.getAlgorithm(),
+				DSSUtils.encodeRSADigest(messageDigest.getAlgorithm(), messageDigest.getValue()));
+		SignatureValue signatureValue = getToken().signDigest(digest, getPrivateKeyEntry());
+		assertTrue(jadesService.isValidSignatureValue(dataToSign, signatureValue, getSigningCert()));
+		return jadesService.signDocument(toBeSigned, params, signatureValue);
+	}
+
+	@Override
+	protected List<DSSDocument> getDetachedContents() {
+		return documentToSigns;
+	}
+
+	@Override
+	protected MultipleDocumentsSignatureService<JAdESSignatureParameters, JAdESTimestampParameters> getService() {
+		return jadesService;
+	}
+
+	@Override
+	protected JAdESSignatureParameters getSignatureParameters() {
+		return signatureParameters;
+	}
+
+	@Override
+	protected List<DSSDocument> getDocumentsToSign() {
+		return documentToSigns;
+	}
+
+}
@@ -20,6 +20,7 @@
  */
 package eu.europa.esig.dss.jaxb.common;
 
+import org.w3c.dom.Node;
 import org.xml.sax.SAXException;
 
 import javax.xml.bind.JAXBContext;
@@ -328,6 +329,60 @@ public abstract class AbstractJaxbFacade<T> {
 		return unmarshall(new StreamSource(new StringReader(xmlObject)), validate);
 	}
 
+	/**
+	 * This method unmarshalls the DOM {@link Node} and returns an instance of the
+	 * JAXB Object.
+	 * 
+	 * The validation of the {@link Node} against its related XSD is enabled.
+	 * 
+	 * NOTE: the DOM is expected to be built with a secure namespace aware parser
+	 * 
+	 * @param node
+	 *             the {@link Node} which contains a DOM representation of JAXB
+	 *             Object.
+	 * @return an instance of JAXB Object
+	 * @throws JAXBException
+	 *                            if an exception occurred with the
+	 *                            {@link JAXBContext}
+	 * @throws IOException
+	 *                            if an exception occurred with the I/O.
+	 * @throws SAXException
+	 *                            if an exception occurred with the {@link Schema}
+	 */
+	public T unmarshall(Node node) throws JAXBException, IOException, SAXException {
+		return unmarshall(node, true);
+	}
+
+	/**
+	 * This method unmarshalls the DOM {@link Node} and returns an instance of the
+	 * JAXB Object with an optional validation.
+	 * 
+	 * NOTE: the DOM is expected to be built with a secure namespace aware parser
+	 * 
+	 * @param node
+	 *                 the {@link Node} which contains a DOM representation of JAXB
+	 *                 Object.
+	 * @param validate
+	 *                 enable/disable the validation against the related XSD
+	 * @return an instance of JAXB Object
+	 * @throws JAXBException
+	 *                            if an exception occurred with the
+	 *                            {@link JAXBContext}
+	 * @throws IOException
+	 *                            if an exception occurred with the I/O.
+	 * @throws SAXException
+	 *                            if an exception occurred with the {@link Schema}
+	 */
+	@SuppressWarnings("unchecked")
+	public T unmarshall(Node node, boolean validate) throws JAXBException, IOException, SAXException {
+		Objects.requireNonNull(node, "Node is null");
+		Unmarshaller unmarshaller = getUnmarshaller(validate);
+
+		// the DOM is already parsed, no external entity can be resolved
+		JAXBElement<T> unmarshal = (JAXBElement<T>) unmarshaller.unmarshal(node);
+		return unmarshal.getValue();
+	}
+
 	@SuppressWarnings("unchecked")
 	private T unmarshall(Source source, boolean validate) throws JAXBException, XMLStreamException, IOException, SAXException {
 		Unmarshaller unmarshaller = getUnmarshaller(validate);
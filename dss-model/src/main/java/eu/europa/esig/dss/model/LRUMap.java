@@ -0,0 +1,81 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.model;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A {@code LinkedHashMap} in access order, which removes the least recently used entry
+ * when the defined maximum size is exceeded.
+ * The map is not thread-safe, use {@code synchronizedLRUMap(int)} for a concurrent access.
+ *
+ * @param <K> the type of keys
+ * @param <V> the type of values
+ */
+public class LRUMap<K, V> extends LinkedHashMap<K, V> {
+
+	private static final long serialVersionUID = -3261581913432587318L;
+
+	/** The maximum number of entries to be kept */
+	private final int maxSize;
+
+	/**
+	 * Default constructor
+	 *
+	 * @param maxSize the maximum number of entries to be kept
+	 */
+	public LRUMap(int maxSize) {
+		super(16, 0.75f, true);
+		if (maxSize < 0) {
+			throw new IllegalArgumentException("The maximum size cannot be negative!");
+		}
+		this.maxSize = maxSize;
+	}
+
+	/**
+	 * Returns a thread-safe LRU map with the given maximum size
+	 *
+	 * @param maxSize the maximum number of entries to be kept
+	 * @param <K> the type of keys
+	 * @param <V> the type of values
+	 * @return a synchronized {@link Map}
+	 */
+	public static <K, V> Map<K, V> synchronizedLRUMap(int maxSize) {
+		return Collections.synchronizedMap(new LRUMap<>(maxSize));
+	}
+
+	/**
+	 * Gets the maximum number of entries to be kept
+	 *
+	 * @return the maximum size
+	 */
+	public int getMaxSize() {
+		return maxSize;
+	}
+
+	@Override
+	protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+		return size() > maxSize;
+	}
+
+}
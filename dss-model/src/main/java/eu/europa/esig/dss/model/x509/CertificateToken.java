@@ -197,12 +197,9 @@ public class CertificateToken extends Token {
         if (selfSigned == null) {
             selfSigned = isSelfIssued();
             if (selfSigned) {
-                try {
-                    x509Certificate.verify(x509Certificate.getPublicKey());
-                    selfSigned = true;
+                selfSigned = isSignedByOwnPublicKey();
+                if (selfSigned) {
                     signatureValidity = SignatureValidity.VALID;
-                } catch (Exception e) {
-                    selfSigned = false;
                 }
             }
         } else if (selfSigned) {
@@ -211,6 +208,23 @@ public class CertificateToken extends Token {
         return selfSigned;
     }
 
+    private boolean isSignedByOwnPublicKey() {
+        final PublicKey publicKey = x509Certificate.getPublicKey();
+        final TokenSignatureVerificationCache cache = TokenSignatureVerificationCache.getInstance();
+        if (cache.isSignatureVerified(getDSSId(), publicKey)) {
+            return true;
+        }
+        try {
+            x509Certificate.verify(publicKey);
+            cache.addVerifiedSignature(getDSSId(), publicKey);
+            return true;
+        } catch (NoSuchProviderException e) { // if there's no default provider.
+            throw new DSSException(String.format("No provider has been found for signature validation : %s", e.getMessage()), e);
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
     /**
      * This method returns true if the certificate is self-issued.
      * <p>
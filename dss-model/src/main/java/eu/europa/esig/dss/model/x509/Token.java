@@ -46,19 +46,19 @@ public abstract class Token implements IdentifierBasedObject, Serializable {
 	/**
 	 * The publicKey of the signed certificate(s)
 	 */
-	protected PublicKey publicKeyOfTheSigner;
+	protected volatile PublicKey publicKeyOfTheSigner;
 
 	/**
 	 * Indicates a status of token's signature
 	 * Method isSignedBy(CertificateToken) must be called in order to obtain a signature validity
 	 * Default: NOT_EVALUATED
 	 */
-	protected SignatureValidity signatureValidity = SignatureValidity.NOT_EVALUATED;
+	protected volatile SignatureValidity signatureValidity = SignatureValidity.NOT_EVALUATED;
 
 	/**
 	 * Indicates the token signature invalidity reason.
 	 */
-	protected String signatureInvalidityReason = "";
+	protected volatile String signatureInvalidityReason = "";
 
 	/**
 	 * The algorithm that was used to sign the token.
@@ -149,27 +149,75 @@ public abstract class Token implements IdentifierBasedObject, Serializable {
 	 *              the candidate to be tested
 	 * @return true if this token is signed by the given certificate token
 	 */
-	public synchronized boolean isSignedBy(CertificateToken token) {
+	public boolean isSignedBy(CertificateToken token) {
 		return isSignedBy(token.getPublicKey());
 	}
 
 	/**
 	 * Checks if the OCSP token is signed by the given publicKey
 	 * 
+	 * NOTE: a successful signature verification is cached within {@code TokenSignatureVerificationCache.getInstance()}
+	 * (disabled by default)
+	 * 
 	 * @param publicKey
 	 *              the candidate to be tested
 	 * @return true if this token is signed by the given public key
 	 */
-	public synchronized boolean isSignedBy(final PublicKey publicKey) {
-		if (publicKeyOfTheSigner != null) {
-			return publicKeyOfTheSigner.equals(publicKey);
-		} else if (SignatureValidity.VALID == checkIsSignedBy(publicKey)) {
-			if (!isSelfSigned()) {
-				this.publicKeyOfTheSigner = publicKey;
-			}
+	public boolean isSignedBy(final PublicKey publicKey) {
+		return isSignedBy(publicKey, TokenSignatureVerificationCache.getInstance());
+	}
+
+	/**
+	 * Checks if the token is signed by the given publicKey, using the provided cache of signature verifications
+	 *
+	 * @param publicKey
+	 *              the candidate to be tested
+	 * @param cache
+	 *              {@link TokenSignatureVerificationCache} to load and store the successful verification
+	 * @return true if this token is signed by the given public key
+	 */
+	public boolean isSignedBy(final PublicKey publicKey, final TokenSignatureVerificationCache cache) {
+		final PublicKey signerPublicKey = publicKeyOfTheSigner;
+		if (signerPublicKey != null) {
+			return signerPublicKey.equals(publicKey);
+		}
+
+		if (cache.isSignatureVerified(getDSSId(), publicKey)) {
+			setSignedBy(publicKey);
 			return true;
 		}
-		return false;
+
+		// the lock only protects the token's signature state during the cryptographic verification
+		synchronized (this) {
+			if (publicKeyOfTheSigner != null) {
+				return publicKeyOfTheSigner.equals(publicKey);
+			}
+			if (SignatureValidity.VALID == checkIsSignedBy(publicKey)) {
+				cache.addVerifiedSignature(getDSSId(), publicKey);
+				setSignedBy(publicKey);
+				return true;
+			}
+			if (publicKeyOfTheSigner != null) {
+				// the signer has been identified concurrently from the cache
+				setSignedBy(publicKeyOfTheSigner);
+			}
+			return false;
+		}
+	}
+
+	/**
+	 * Sets the signature state of a token signed by the given public key.
+	 * The signer is set before the VALID state, thus a concurrent failed verification
+	 * observing the signer restores the VALID state.
+	 *
+	 * @param publicKey {@link PublicKey} of the signer
+	 */
+	private void setSignedBy(final PublicKey publicKey) {
+		if (!isSelfSigned()) {
+			this.publicKeyOfTheSigner = publicKey;
+		}
+		this.signatureInvalidityReason = "";
+		this.signatureValidity = SignatureValidity.VALID;
 	}
 
 	/**
@@ -0,0 +1,182 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.model.x509;
+
+import eu.europa.esig.dss.enumerations.DigestAlgorithm;
+import eu.europa.esig.dss.model.DSSException;
+import eu.europa.esig.dss.model.Digest;
+import eu.europa.esig.dss.model.LRUMap;
+import eu.europa.esig.dss.model.identifier.Identifier;
+
+import java.security.NoSuchAlgorithmException;
+import java.security.PublicKey;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * This class contains a bounded cache of the successful token signature verifications.
+ * A verification is identified by the digest of the signed object (certificate, CRL, OCSP response or timestamp)
+ * and the digest of the public key (or of the certificate) used for the verification, thus the signature
+ * of a token parsed again (e.g. a CA certificate or an OCSP response within another validation) is not
+ * cryptographically verified again. The least recently used entries are evicted when the limit is reached.
+ *
+ * Only the positive results are cached: a token keeps its signer once identified, while the state obtained
+ * from a failed verification is replaced by the next verification.
+ *
+ * The instance returned by {@code getInstance()} is used by the tokens on validation.
+ * NOTE: the default instance is disabled. Use {@code setInstance(new TokenSignatureVerificationCache(size))}
+ * to enable the cache.
+ *
+ */
+public class TokenSignatureVerificationCache {
+
+	/** The digest algorithm used to identify the public keys */
+	private static final DigestAlgorithm DIGEST_ALGO = DigestAlgorithm.SHA256;
+
+	/** The cache used by the tokens on validation (disabled by default) */
+	private static volatile TokenSignatureVerificationCache instance = new TokenSignatureVerificationCache(0);
+
+	/** The maximal amount of signature verifications to be kept in the cache */
+	private final int cacheSize;
+
+	/** The cache of the successful signature verifications */
+	private final Map<String, Boolean> cache;
+
+	/**
+	 * Default constructor
+	 *
+	 * @param cacheSize the maximal amount of signature verifications to be cached. 0 (zero) disables the cache.
+	 */
+	public TokenSignatureVerificationCache(int cacheSize) {
+		if (cacheSize < 0) {
+			throw new IllegalArgumentException("The cache size cannot be negative!");
+		}
+		this.cacheSize = cacheSize;
+		this.cache = LRUMap.synchronizedLRUMap(cacheSize);
+	}
+
+	/**
+	 * Gets the cache used by the tokens on validation
+	 *
+	 * @return {@link TokenSignatureVerificationCache}
+	 */
+	public static TokenSignatureVerificationCache getInstance() {
+		return instance;
+	}
+
+	/**
+	 * Sets the cache to be used by the tokens on validation
+	 *
+	 * Default : disabled cache (size 0)
+	 *
+	 * @param cache {@link TokenSignatureVerificationCache}
+	 */
+	public static void setInstance(TokenSignatureVerificationCache cache) {
+		Objects.requireNonNull(cache, "The cache cannot be null!");
+		instance = cache;
+	}
+
+	/**
+	 * Gets the maximal amount of signature verifications to be cached
+	 *
+	 * @return the cache size
+	 */
+	public int getCacheSize() {
+		return cacheSize;
+	}
+
+	/**
+	 * Removes all the entries from the cache
+	 */
+	public void clear() {
+		cache.clear();
+	}
+
+	/**
+	 * Checks whether the signature of the {@code signedObject} has been successfully verified with the {@code publicKey}
+	 *
+	 * @param signedObject {@link Identifier} of the signed object
+	 * @param publicKey {@link PublicKey} used to verify the signature
+	 * @return TRUE if the verification is present in the cache, FALSE otherwise
+	 */
+	public boolean isSignatureVerified(Identifier signedObject, PublicKey publicKey) {
+		if (cacheSize == 0) {
+			return false;
+		}
+		return cache.get(getKey(signedObject, publicKey)) != null;
+	}
+
+	/**
+	 * Caches the successful verification of the {@code signedObject}'s signature with the {@code publicKey}
+	 *
+	 * @param signedObject {@link Identifier} of the signed object
+	 * @param publicKey {@link PublicKey} used to verify the signature
+	 */
+	public void addVerifiedSignature(Identifier signedObject, PublicKey publicKey) {
+		if (cacheSize == 0) {
+			return;
+		}
+		cache.put(getKey(signedObject, publicKey), Boolean.TRUE);
+	}
+
+	/**
+	 * Checks whether the signature of the {@code signedObject} has been successfully verified with
+	 * the {@code signingCertificate}. To be used when the verification depends on the certificate and
+	 * not only on its public key (e.g. for a timestamp).
+	 *
+	 * @param signedObject {@link Identifier} of the signed object
+	 * @param signingCertificate {@link CertificateToken} used to verify the signature
+	 * @return TRUE if the verification is present in the cache, FALSE otherwise
+	 */
+	public boolean isSignatureVerified(Identifier signedObject, CertificateToken signingCertificate) {
+		if (cacheSize == 0) {
+			return false;
+		}
+		return cache.get(getKey(signedObject, signingCertificate)) != null;
+	}
+
+	/**
+	 * Caches the successful verification of the {@code signedObject}'s signature with the {@code signingCertificate}
+	 *
+	 * @param signedObject {@link Identifier} of the signed object
+	 * @param signingCertificate {@link CertificateToken} used to verify the signature
+	 */
+	public void addVerifiedSignature(Identifier signedObject, CertificateToken signingCertificate) {
+		if (cacheSize == 0) {
+			return;
+		}
+		cache.put(getKey(signedObject, signingCertificate), Boolean.TRUE);
+	}
+
+	private String getKey(Identifier signedObject, PublicKey publicKey) {
+		try {
+			Digest publicKeyDigest = new Digest(DIGEST_ALGO, DIGEST_ALGO.getMessageDigest().digest(publicKey.getEncoded()));
+			return signedObject.asXmlId() + "-" + publicKeyDigest.getHexValue();
+		} catch (NoSuchAlgorithmException e) {
+			throw new DSSException(String.format("Unable to compute the public key digest : %s", e.getMessage()), e);
+		}
+	}
+
+	private String getKey(Identifier signedObject, CertificateToken signingCertificate) {
+		return signedObject.asXmlId() + "-" + signingCertificate.getDSSIdAsString();
+	}
+
+}
@@ -0,0 +1,153 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.model.x509;
+
+import eu.europa.esig.dss.enumerations.SignatureValidity;
+import eu.europa.esig.dss.model.DSSException;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.security.cert.CertificateFactory;
+import java.security.cert.X509Certificate;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TokenSignatureVerificationCacheTest {
+
+	private static final String GOOD_CA = "MIID6jCCAtKgAwIBAgIBBDANBgkqhkiG9w0BAQsFADBNMRAwDgYDVQQDDAdyb290LWNhMRkwFwYDVQQKDBBOb3dpbmEgU29sdXRpb25zMREwDwYDVQQLDAhQS0ktVEVTVDELMAkGA1UEBhMCTFUwHhcNMTkwMzE4MDkzMTU1WhcNMjEwMTE4MDkzMTU1WjBNMRAwDgYDVQQDDAdnb29kLWNhMRkwFwYDVQQKDBBOb3dpbmEgU29sdXRpb25zMREwDwYDVQQLDAhQS0ktVEVTVDELMAkGA1UEBhMCTFUwggEiMA0GCSqGSIb3DQEBAQUAA4IBDwAwggEKAoIBAQCfUvDNM8lvv9P5pILP98HhhM0iiGMdw/MjJOqSKdA3Ss0xXT0UeYlr0blGBFt4yKHxfIAwR8BqLviT1CA0a6+PS8EDEC29txIRCPO+BscKlz4ZFlU9g2dGwA4Dl5ynEq0AP/TYjKl5RY+rGZT/Qx8Ea5OAr9MgQWWKuONFyo7dv4tM7FMTcHUL+hUqdQEpKXXsCOT5WYjtr3oYeu34Cal8m8YN/UmK70fGDwlRHLKgDIvcfZT3dkNOehabuez2Sj6kFkWNseQWeXSjzM1f2OH9idW9UmSQ7RvxDIAgKBYD/D9gGannG2SPZWQo+w5O9UhcE1N8Nc89CLCdJguVNF9hAgMBAAGjgdQwgdEwDgYDVR0PAQH/BAQDAgEGMEEGA1UdHwQ6MDgwNqA0oDKGMGh0dHA6Ly9kc3Mubm93aW5hLmx1L3BraS1mYWN0b3J5L2NybC9yb290LWNhLmNybDBMBggrBgEFBQcBAQRAMD4wPAYIKwYBBQUHMAKGMGh0dHA6Ly9kc3Mubm93aW5hLmx1L3BraS1mYWN0b3J5L2NydC9yb290LWNhLmNydDAdBgNVHQ4EFgQU4tC4xPvJxRJqFXnjSqGn5Rzj5jYwDwYDVR0TAQH/BAUwAwEB/zANBgkqhkiG9w0BAQsFAAOCAQEAFJbVMStk22yRI6dczyzj6zyIh2noFa7STDW3oWg5UdXrjvWpCrw3OSqbF1UEF6X6FtDJfrXhmgyhVwVgHzH1n6+SXG3I/lOeAOKiCNjUA7uhenZuOgoVmWdfs+c9lIx8q7/f8L/kEePoDMLOYqhsSwfDhjELuq+2OOkMOqstuRyKPLQbK7nvf985W7qdjoggm4BHNm+RxkRkrLn1DxYqxnU+2ByZbZEWsqlPTgfRobBLbgPT7PMwVdwuZ6MzdVUsmBj82kGL2duAnzE117cTLmiEluUVXy/RskcHDcbhtOyOBzmQCKmXzafSiHTHtTUPC2XgpRwfwqad4jB+iMSL9A==";
+
+	private static final String ROOT_CA = "MIIDVzCCAj+gAwIBAgIBATANBgkqhkiG9w0BAQ0FADBNMRAwDgYDVQQDDAdyb290LWNhMRkwFwYDVQQKDBBOb3dpbmEgU29sdXRpb25zMREwDwYDVQQLDAhQS0ktVEVTVDELMAkGA1UEBhMCTFUwHhcNMTkwMjE4MDkzMTU0WhcNMjEwMjE4MDkzMTU0WjBNMRAwDgYDVQQDDAdyb290LWNhMRkwFwYDVQQKDBBOb3dpbmEgU29sdXRpb25zMREwDwYDVQQLDAhQS0ktVEVTVDELMAkGA1UEBhMCTFUwggEiMA0GCSqGSIb3DQEBAQUAA4IBDwAwggEKAoIBAQCr35vEZwV4ynpmxadO6nuJTqhdPSDN0JIO3CFMU4CT/QQ2ZquuPxt4ImFW3mxXzsXkozrUV99Mwt8yRuYt6uJf761DkSjdPB/HVWNyLXVTq1hyiLsrfRlsklnZ08HSLcDK9gmuiHYyOlIl6V9dZkgscdH68mBQHzaS5Ve9P7p0QXBu1PaY/Mc65eSYUGTi75W6vBeX59mEGYAkUlr0LFdUf+Nr3kFlZ14Okh7w0y1NY8v8EUPQvMGnyrcAs+LBm5i65LoGdSQaIE9LiyYZvoFiC0CutY/aYWoLIhvjiLhMEmk+odU/6XOpvI7cUMrBVcLsvWrSmD/ju/mtaiPXfVV5AgMBAAGjQjBAMA4GA1UdDwEB/wQEAwIBBjAdBgNVHQ4EFgQUMAns58WjMfSq9Xqlt1OwKEY8ze4wDwYDVR0TAQH/BAUwAwEB/zANBgkqhkiG9w0BAQ0FAAOCAQEAYTtRueasFMQOuhKeJqI8QTonjxptdXpcOEx5lr7Hmo1+GDTuyKnGQIGWDl2WZoQuan9XITQsJSZWURY4yxsGhIxrM680M+FgZX/PQcgNOJDX00vAytnvZjssp45LDHMKbo9R9T5sjyjkxmMiQgWaQmKgt8biarZpzgTtlIG2U4aH6weuCNX8RW1nZHGMHjoR6lwV93jn8b8oZFqY7q0ISCR4gcIJ/Evqmshoau8vS8tIVD6FqECFWLKku+h9sO4LrYdDKLSZ4VAcZSv3jjGDbOmr4/L1XGF4WOWlrPNk3vVUH8ZbazNELzFPY24mrdZPDR9rNTE+rUZ4Nd1hhCKISg==";
+
+	private static final String OCSP_RESPONDER = "MIIDdjCCAl6gAwIBAgIBAjANBgkqhkiG9w0BAQsFADBNMRAwDgYDVQQDDAdyb290LWNhMRkwFwYDVQQKDBBOb3dpbmEgU29sdXRpb25zMREwDwYDVQQLDAhQS0ktVEVTVDELMAkGA1UEBhMCTFUwHhcNMTkwMjE4MDkzMTU0WhcNMjEwMjE4MDkzMTU0WjBUMRcwFQYDVQQDDA5vY3NwLXJlc3BvbmRlcjEZMBcGA1UECgwQTm93aW5hIFNvbHV0aW9uczERMA8GA1UECwwIUEtJLVRFU1QxCzAJBgNVBAYTAkxVMIIBIjANBgkqhkiG9w0BAQEFAAOCAQ8AMIIBCgKCAQEAtf7DwPE1lW3Vr0tTXzwN27S/ku3ZjyxAn7hFnNSR4ZuXmYISqxgKzruQVuHla1y/rtKQnh047Hel0sNnZwWY8sgVF9demBTGQdrUldCKL9bUFjZoHCwc31V0MMLHKfJq6G8eCxXGksA3C+2Gs0cmg7W2JNLVDzP+MWoS+iUT29HXn0m72REPz0ebWhCtaTT8PO+BFHqVKLMeFKcCKrqYdj8l1eLFXv/r6TZTrsdFChA3JFOjzhM4y1y4oASwaj1pLY/Kp7BRPJ/Gp+uYHuOzuKobKVInuBmWto+qxrcFsatPask4eRryaOak3D3ve4+7iVvP8+jUC8/hSnfbvblX1QIDAQABo1owWDAOBgNVHQ8BAf8EBAMCB4AwFgYDVR0lAQH/BAwwCgYIKwYBBQUHAwkwHQYDVR0OBBYEFIwSKE1EIoKLkseZq31hTssa9UFmMA8GCSsGAQUFBzABBQQCBQAwDQYJKoZIhvcNAQELBQADggEBADGT8ZOTuWaNvvIR5EGjwgCMoOlmgeCFQByQT2Gtwf0dkbq8oV1NrJu0Sz9t1I8HNv8CfE1Nnlf0UszcyGSl3zeOYkF+OpgAkaM3vUZX9k4cBuZldtkcTySo6yiS3KlJz6sHxiaRiSljDXvCoH12A9kBvteF0GL8vFuzSR8FHC1Ayz3hwewl0V+SEN7+r1tQLKbLhrzTLvherALDd6SABQR13U0E0rbsoDOuo3dxI/BGa+MY8l+LLl3XT9/g4W5I1nuMCZYAdYsRnq4o2m+0EVT6RRMpQOeDKBTP17mgpQsyuy0MeFxpKs3UYjpftYM04gmOicrh20Zq5b4P30b5b8A=";
+
+	@Test
+	public void test() {
+		TokenSignatureVerificationCache cache = new TokenSignatureVerificationCache(10000);
+
+		CertificateToken rootCa = getCertificate(ROOT_CA);
+		CertificateToken goodCa = getCertificate(GOOD_CA);
+		CertificateToken ocspResponder = getCertificate(OCSP_RESPONDER);
+
+		assertFalse(cache.isSignatureVerified(goodCa.getDSSId(), rootCa.getPublicKey()));
+		assertTrue(goodCa.isSignedBy(rootCa.getPublicKey(), cache));
+		assertEquals(SignatureValidity.VALID, goodCa.getSignatureValidity());
+		assertTrue(cache.isSignatureVerified(goodCa.getDSSId(), rootCa.getPublicKey()));
+
+		assertFalse(ocspResponder.isSignedBy(goodCa.getPublicKey(), cache));
+		assertEquals(SignatureValidity.INVALID, ocspResponder.getSignatureValidity());
+		String invalidityReason = ocspResponder.getInvalidityReason();
+		assertTrue(invalidityReason.length() > 0);
+		// failed verifications are not cached
+		assertFalse(cache.isSignatureVerified(ocspResponder.getDSSId(), goodCa.getPublicKey()));
+
+		// a new token instance of the same certificate obtains the result from the cache
+		CertificateToken goodCaBis = getCertificate(GOOD_CA);
+		assertEquals(SignatureValidity.NOT_EVALUATED, goodCaBis.getSignatureValidity());
+		assertTrue(goodCaBis.isSignedBy(rootCa.getPublicKey(), cache));
+		assertEquals(SignatureValidity.VALID, goodCaBis.getSignatureValidity());
+		assertEquals("", goodCaBis.getInvalidityReason());
+		assertEquals(rootCa.getPublicKey(), goodCaBis.getPublicKeyOfTheSigner());
+
+		CertificateToken ocspResponderBis = getCertificate(OCSP_RESPONDER);
+		assertFalse(ocspResponderBis.isSignedBy(goodCa.getPublicKey(), cache));
+		assertEquals(SignatureValidity.INVALID, ocspResponderBis.getSignatureValidity());
+		assertEquals(invalidityReason, ocspResponderBis.getInvalidityReason());
+		assertTrue(ocspResponderBis.isSignedBy(rootCa.getPublicKey(), cache));
+		assertEquals(SignatureValidity.VALID, ocspResponderBis.getSignatureValidity());
+	}
+
+	@Test
+	public void selfSignedTest() {
+		TokenSignatureVerificationCache cache = new TokenSignatureVerificationCache(10000);
+
+		CertificateToken rootCa = getCertificate(ROOT_CA);
+		CertificateToken goodCa = getCertificate(GOOD_CA);
+		assertTrue(rootCa.isSignedBy(rootCa.getPublicKey(), cache));
+		assertTrue(cache.isSignatureVerified(rootCa.getDSSId(), rootCa.getPublicKey()));
+		assertNull(rootCa.getPublicKeyOfTheSigner());
+
+		// a failed verification of the self-signed token is not cached
+		CertificateToken rootCaBis = getCertificate(ROOT_CA);
+		assertFalse(rootCaBis.isSignedBy(goodCa.getPublicKey(), cache));
+		assertFalse(cache.isSignatureVerified(rootCaBis.getDSSId(), goodCa.getPublicKey()));
+
+		// thus it cannot overwrite the VALID state obtained from the cache
+		CertificateToken rootCaTer = getCertificate(ROOT_CA);
+		assertTrue(rootCaTer.isSignedBy(rootCaTer.getPublicKey(), cache));
+		assertEquals(SignatureValidity.VALID, rootCaTer.getSignatureValidity());
+		assertTrue(rootCaTer.isSelfSigned());
+		assertNull(rootCaTer.getPublicKeyOfTheSigner());
+		assertEquals(SignatureValidity.VALID, rootCaTer.getSignatureValidity());
+	}
+
+	@Test
+	public void disabledCacheTest() {
+		TokenSignatureVerificationCache cache = new TokenSignatureVerificationCache(0);
+
+		CertificateToken rootCa = getCertificate(ROOT_CA);
+		CertificateToken goodCa = getCertificate(GOOD_CA);
+		assertTrue(goodCa.isSignedBy(rootCa.getPublicKey(), cache));
+		assertEquals(SignatureValidity.VALID, goodCa.getSignatureValidity());
+		assertFalse(cache.isSignatureVerified(goodCa.getDSSId(), rootCa.getPublicKey()));
+
+		assertThrows(IllegalArgumentException.class, () -> new TokenSignatureVerificationCache(-1));
+	}
+
+	@Test
+	public void defaultInstanceTest() {
+		// the cache used on validation is disabled by default
+		assertEquals(0, TokenSignatureVerificationCache.getInstance().getCacheSize());
+		assertThrows(NullPointerException.class, () -> TokenSignatureVerificationCache.setInstance(null));
+	}
+
+	@Test
+	public void evictionTest() {
+		TokenSignatureVerificationCache cache = new TokenSignatureVerificationCache(1);
+
+		CertificateToken rootCa = getCertificate(ROOT_CA);
+		CertificateToken goodCa = getCertificate(GOOD_CA);
+		CertificateToken ocspResponder = getCertificate(OCSP_RESPONDER);
+		assertTrue(goodCa.isSignedBy(rootCa.getPublicKey(), cache));
+		assertTrue(ocspResponder.isSignedBy(rootCa.getPublicKey(), cache));
+
+		assertFalse(cache.isSignatureVerified(goodCa.getDSSId(), rootCa.getPublicKey()));
+		assertTrue(cache.isSignatureVerified(ocspResponder.getDSSId(), rootCa.getPublicKey()));
+
+		cache.clear();
+		assertFalse(cache.isSignatureVerified(ocspResponder.getDSSId(), rootCa.getPublicKey()));
+	}
+
+	private CertificateToken getCertificate(String base64) {
+		try (InputStream is = new ByteArrayInputStream(Base64.getDecoder().decode(base64))) {
+			CertificateFactory factory = CertificateFactory.getInstance("X.509");
+			return new CertificateToken((X509Certificate) factory.generateCertificate(is));
+		} catch (Exception e) {
+			throw new DSSException("Unable to read certificate", e);
+		}
+	}
+
+}
@@ -56,6 +56,7 @@ import eu.europa.esig.dss.pdf.PAdESConstants;
 import eu.europa.esig.dss.pdf.PDFServiceMode;
 import eu.europa.esig.dss.pdf.PdfDict;
 import eu.europa.esig.dss.pdf.PdfDocumentReader;
+import eu.europa.esig.dss.pdf.PdfDocumentReaderLoader;
 import eu.europa.esig.dss.pdf.PdfSigDictWrapper;
 import eu.europa.esig.dss.pdf.modifications.PdfModification;
 import eu.europa.esig.dss.pdf.openpdf.visible.ITextSignatureDrawer;
@@ -591,6 +592,15 @@ public class ITextPDFSignatureService extends AbstractPDFSignatureService {
 		return Collections.emptyList();
 	}
 
+	@Override
+	protected List<PdfModification> getVisualDifferences(final PdfDocumentReader signedRevisionReader,
+														 final PdfDocumentReader finalRevisionReader,
+														 final PdfDocumentReaderLoader signedRevisionLoader,
+														 final PdfDocumentReaderLoader finalRevisionLoader) {
+		// not supported
+		return Collections.emptyList();
+	}
+
 	private byte[] getPasswordBytes(char[] passwordProtection) {
 		if (Utils.isArrayNotEmpty(passwordProtection)) {
 			// OpenPdf uses byte[] implementation of a password.
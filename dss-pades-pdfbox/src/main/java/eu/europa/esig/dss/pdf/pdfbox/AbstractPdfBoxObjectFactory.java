@@ -0,0 +1,67 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.pdf.pdfbox;
+
+import eu.europa.esig.dss.pdf.AbstractPdfObjFactory;
+import eu.europa.esig.dss.pdf.PDFSignatureService;
+import org.apache.pdfbox.io.MemoryUsageSetting;
+
+/**
+ * An abstract implementation of a PDFBox {@code IPdfObjFactory} allowing to set the PDFBox specific configuration
+ *
+ */
+public abstract class AbstractPdfBoxObjectFactory extends AbstractPdfObjFactory {
+
+	/**
+	 * Defines the memory usage strategy for loading PDF documents
+	 */
+	private MemoryUsageSetting memoryUsageSetting;
+
+	/**
+	 * Default constructor instantiating object with null values
+	 */
+	protected AbstractPdfBoxObjectFactory() {
+		// empty
+	}
+
+	/**
+	 * Sets the {@code MemoryUsageSetting} to be used on loading of PDF documents and their revisions.
+	 * When defined, a {@code eu.europa.esig.dss.model.FileDocument} is opened with a random-access file I/O,
+	 * and other documents are spooled to a scratch file according to the setting.
+	 *
+	 * Default : null (the documents are loaded into main memory)
+	 *
+	 * @param memoryUsageSetting {@link MemoryUsageSetting}
+	 */
+	public void setMemoryUsageSetting(MemoryUsageSetting memoryUsageSetting) {
+		this.memoryUsageSetting = memoryUsageSetting;
+	}
+
+	@Override
+	protected PDFSignatureService configure(PDFSignatureService pdfSignatureService) {
+		pdfSignatureService = super.configure(pdfSignatureService);
+		if (memoryUsageSetting != null && pdfSignatureService instanceof PdfBoxSignatureService) {
+			((PdfBoxSignatureService) pdfSignatureService).setMemoryUsageSetting(memoryUsageSetting);
+		}
+		return pdfSignatureService;
+	}
+
+}
@@ -20,7 +20,6 @@
  */
 package eu.europa.esig.dss.pdf.pdfbox;
 
-import eu.europa.esig.dss.pdf.AbstractPdfObjFactory;
 import eu.europa.esig.dss.pdf.PDFServiceMode;
 import eu.europa.esig.dss.pdf.PDFSignatureService;
 import eu.europa.esig.dss.pdf.pdfbox.visible.defaultdrawer.PdfBoxDefaultSignatureDrawerFactory;
@@ -29,7 +28,7 @@ import eu.europa.esig.dss.pdf.pdfbox.visible.defaultdrawer.PdfBoxDefaultSignatur
  * The PDFBox default implementation of {@code IPdfObjFactory}
  * Creates an image for a text signature content
  */
-public class PdfBoxDefaultObjectFactory extends AbstractPdfObjFactory {
+public class PdfBoxDefaultObjectFactory extends AbstractPdfBoxObjectFactory {
 
 	/**
 	 * Default constructor
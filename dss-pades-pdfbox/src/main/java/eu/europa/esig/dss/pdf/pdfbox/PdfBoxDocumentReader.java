@@ -44,6 +44,8 @@ import org.apache.pdfbox.cos.COSBase;
 import org.apache.pdfbox.cos.COSDictionary;
 import org.apache.pdfbox.cos.COSName;
 import org.apache.pdfbox.cos.COSObject;
+import org.apache.pdfbox.cos.COSObjectKey;
+import org.apache.pdfbox.io.MemoryUsageSetting;
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.apache.pdfbox.pdmodel.PDDocumentCatalog;
 import org.apache.pdfbox.pdmodel.PDPage;
@@ -60,6 +62,7 @@ import java.awt.image.BufferedImage;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -106,10 +109,29 @@ public class PdfBoxDocumentReader implements PdfDocumentReader {
 	 */
 	public PdfBoxDocumentReader(DSSDocument dssDocument, String passwordProtection)
 			throws IOException, eu.europa.esig.dss.pades.exception.InvalidPasswordException {
+		this(dssDocument, passwordProtection, null);
+	}
+
+	/**
+	 * The PDFBox implementation of the Reader with a defined memory usage strategy.
+	 * When {@code memoryUsageSetting} is provided, a {@code FileDocument} is opened with a random-access file I/O
+	 * instead of being read into memory, and any other document is spooled to a PDFBox scratch file
+	 * according to the given setting.
+	 *
+	 * @param dssDocument        {@link DSSDocument} to read
+	 * @param passwordProtection {@link String} a password to open a protected document
+	 * @param memoryUsageSetting {@link MemoryUsageSetting} defining the memory and scratch file usage.
+	 *                           When null, the whole document is loaded into main memory.
+	 * @throws IOException       if an exception occurs
+	 * @throws eu.europa.esig.dss.pades.exception.InvalidPasswordException if the password is not provided or
+	 *                           invalid for a protected document
+	 */
+	public PdfBoxDocumentReader(DSSDocument dssDocument, String passwordProtection, MemoryUsageSetting memoryUsageSetting)
+			throws IOException, eu.europa.esig.dss.pades.exception.InvalidPasswordException {
 		Objects.requireNonNull(dssDocument, "The document must be defined!");
 		this.dssDocument = dssDocument;
-		try (InputStream is = dssDocument.openStream()) {
-			this.pdDocument = PDDocument.load(is, passwordProtection);
+		try {
+			this.pdDocument = PdfBoxUtils.loadPDDocument(dssDocument, passwordProtection, memoryUsageSetting);
 		} catch (InvalidPasswordException e) {
 			throw new eu.europa.esig.dss.pades.exception.InvalidPasswordException(
 					String.format("Encrypted document : %s", e.getMessage()));
@@ -452,6 +474,35 @@ public class PdfBoxDocumentReader implements PdfDocumentReader {
 		return new PdfBoxDict(pdDocument.getDocumentCatalog().getCOSObject(), pdDocument);
 	}
 
+	@Override
+	public Map<Long, Long> getObjectOffsets() {
+		final Map<COSObjectKey, Long> xrefTable = pdDocument.getDocument().getXrefTable();
+		if (Utils.isMapEmpty(xrefTable)) {
+			return null;
+		}
+		final Map<Long, Long> objectOffsets = new HashMap<>();
+		for (Map.Entry<COSObjectKey, Long> entry : xrefTable.entrySet()) {
+			Long offset = entry.getValue();
+			if (offset == null) {
+				continue;
+			}
+			if (offset < 0) {
+				// the object is compressed within an object stream with number -offset
+				offset = xrefTable.get(new COSObjectKey(-offset, 0));
+				if (offset == null) {
+					LOG.debug("Unable to find an object stream for an object with number '{}'.",
+							entry.getKey().getNumber());
+					return null;
+				}
+			}
+			Long existingOffset = objectOffsets.get(entry.getKey().getNumber());
+			if (existingOffset == null || existingOffset < offset) {
+				objectOffsets.put(entry.getKey().getNumber(), offset);
+			}
+		}
+		return objectOffsets;
+	}
+
 	/**
 	 * Computes a DocumentId in a deterministic way based on the given {@code parameters} and the document
 	 *
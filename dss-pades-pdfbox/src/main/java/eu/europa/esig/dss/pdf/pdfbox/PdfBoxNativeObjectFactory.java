@@ -20,7 +20,6 @@
  */
 package eu.europa.esig.dss.pdf.pdfbox;
 
-import eu.europa.esig.dss.pdf.AbstractPdfObjFactory;
 import eu.europa.esig.dss.pdf.PDFServiceMode;
 import eu.europa.esig.dss.pdf.PDFSignatureService;
 import eu.europa.esig.dss.pdf.pdfbox.visible.nativedrawer.PdfBoxNativeSignatureDrawerFactory;
@@ -29,7 +28,7 @@ import eu.europa.esig.dss.pdf.pdfbox.visible.nativedrawer.PdfBoxNativeSignatureD
  * The PDFBox native implementation of {@code IPdfObjFactory}
  * Creates text content in its native representation
  */
-public class PdfBoxNativeObjectFactory extends AbstractPdfObjFactory {
+public class PdfBoxNativeObjectFactory extends AbstractPdfBoxObjectFactory {
 
 	/**
 	 * Default constructor
@@ -25,6 +25,7 @@ import eu.europa.esig.dss.enumerations.DigestAlgorithm;
 import eu.europa.esig.dss.enumerations.MimeTypeEnum;
 import eu.europa.esig.dss.model.DSSDocument;
 import eu.europa.esig.dss.model.DSSException;
+import eu.europa.esig.dss.model.FileDocument;
 import eu.europa.esig.dss.model.x509.CertificateToken;
 import eu.europa.esig.dss.model.x509.Token;
 import eu.europa.esig.dss.pades.PAdESCommonParameters;
@@ -32,6 +33,7 @@ import eu.europa.esig.dss.pades.PAdESSignatureParameters;
 import eu.europa.esig.dss.pades.SignatureFieldParameters;
 import eu.europa.esig.dss.pades.SignatureImageParameters;
 import eu.europa.esig.dss.pades.validation.PAdESSignature;
+import eu.europa.esig.dss.pades.validation.PdfByteRangeDocument;
 import eu.europa.esig.dss.pades.validation.PdfValidationDataContainer;
 import eu.europa.esig.dss.pdf.AbstractPDFSignatureService;
 import eu.europa.esig.dss.pdf.AnnotationBox;
@@ -47,6 +49,7 @@ import eu.europa.esig.dss.pdf.pdfbox.visible.PdfBoxSignatureDrawerFactory;
 import eu.europa.esig.dss.pdf.pdfbox.visible.nativedrawer.NativePdfBoxVisibleSignatureDrawer;
 import eu.europa.esig.dss.pdf.visible.ImageUtils;
 import eu.europa.esig.dss.signature.resources.DSSResourcesHandler;
+import eu.europa.esig.dss.signature.resources.InMemoryResourcesHandlerBuilder;
 import eu.europa.esig.dss.spi.DSSUtils;
 import eu.europa.esig.dss.spi.x509.revocation.crl.CRLToken;
 import eu.europa.esig.dss.spi.x509.revocation.ocsp.OCSPToken;
@@ -60,6 +63,7 @@ import org.apache.pdfbox.cos.COSDictionary;
 import org.apache.pdfbox.cos.COSName;
 import org.apache.pdfbox.cos.COSObject;
 import org.apache.pdfbox.cos.COSStream;
+import org.apache.pdfbox.io.MemoryUsageSetting;
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.apache.pdfbox.pdmodel.PDDocumentCatalog;
 import org.apache.pdfbox.pdmodel.PDPage;
@@ -79,6 +83,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.awt.image.BufferedImage;
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
@@ -104,6 +109,12 @@ public class PdfBoxSignatureService extends AbstractPDFSignatureService {
 	/** Used to generate encrypted content for protected documents */
 	private SecureRandomProvider secureRandomProvider;
 
+	/**
+	 * Defines the memory usage strategy for loading PDF documents and their revisions.
+	 * When null (default), the documents are loaded into main memory.
+	 */
+	private MemoryUsageSetting memoryUsageSetting;
+
 	/**
 	 * Set the {@code SecureRandomProvider}. Allows modifying a custom behavior for signing of encrypted documents.
 	 * 
@@ -114,6 +125,24 @@ public class PdfBoxSignatureService extends AbstractPDFSignatureService {
 		this.secureRandomProvider = secureRandomProvider;
 	}
 
+	/**
+	 * Sets the {@code MemoryUsageSetting} to be used on loading of PDF documents and their revisions.
+	 * When defined, a {@code eu.europa.esig.dss.model.FileDocument} is opened with a random-access file I/O
+	 * instead of being fully read into memory, and other documents (e.g. extracted PDF revisions) are spooled
+	 * to a scratch file according to the setting (e.g. {@code MemoryUsageSetting.setupMixed(maxMainMemoryBytes)}).
+	 * When a {@code DSSResourcesHandlerBuilder} other than the in-memory one is defined
+	 * (e.g. {@code eu.europa.esig.dss.signature.resources.TempFileResourcesHandlerBuilder}), the intermediate
+	 * PDF revisions extracted on validation are first spooled through a created {@code DSSResourcesHandler}
+	 * and removed once read. The produced documents are created using the same {@code DSSResourcesHandlerBuilder}.
+	 *
+	 * Default : null (the documents are loaded into main memory)
+	 *
+	 * @param memoryUsageSetting {@link MemoryUsageSetting}
+	 */
+	public void setMemoryUsageSetting(MemoryUsageSetting memoryUsageSetting) {
+		this.memoryUsageSetting = memoryUsageSetting;
+	}
+
 	/**
 	 * Constructor for the PdfBoxSignatureService
 	 * 
@@ -132,7 +161,7 @@ public class PdfBoxSignatureService extends AbstractPDFSignatureService {
 		try (DSSResourcesHandler resourcesHandler = instantiateResourcesHandler();
 			 OutputStream os = resourcesHandler.createOutputStream();
 			 PdfBoxDocumentReader documentReader = new PdfBoxDocumentReader(toSignDocument,
-					 getPasswordString(parameters.getPasswordProtection()))) {
+					 getPasswordString(parameters.getPasswordProtection()), memoryUsageSetting)) {
 
 			final SignatureFieldParameters fieldParameters = parameters.getImageParameters().getFieldParameters();
 			checkPdfPermissions(documentReader, fieldParameters);
@@ -159,7 +188,7 @@ public class PdfBoxSignatureService extends AbstractPDFSignatureService {
 		try (DSSResourcesHandler resourcesHandler = instantiateResourcesHandler();
 			 OutputStream os = resourcesHandler.createOutputStream();
 			 PdfBoxDocumentReader documentReader = new PdfBoxDocumentReader(toSignDocument,
-					 getPasswordString(parameters.getPasswordProtection()))) {
+					 getPasswordString(parameters.getPasswordProtection()), memoryUsageSetting)) {
 
 			final SignatureFieldParameters fieldParameters = parameters.getImageParameters().getFieldParameters();
 			checkPdfPermissions(documentReader, fieldParameters);
@@ -439,8 +468,7 @@ public class PdfBoxSignatureService extends AbstractPDFSignatureService {
 										char[] pwd, boolean includeVRIDict) {
 		try (DSSResourcesHandler resourcesHandler = instantiateResourcesHandler();
 			 OutputStream os = resourcesHandler.createOutputStream();
-			 InputStream is = document.openStream();
-			 PDDocument pdDocument = PDDocument.load(is, getPasswordString(pwd))) {
+			 PDDocument pdDocument = PdfBoxUtils.loadPDDocument(document, getPasswordString(pwd), memoryUsageSetting)) {
 
 			if (!validationDataForInclusion.isEmpty()) {
 				final COSDictionary cosDictionary = pdDocument.getDocumentCatalog().getCOSObject();
@@ -633,7 +661,7 @@ public class PdfBoxSignatureService extends AbstractPDFSignatureService {
 	@Override
 	public List<String> getAvailableSignatureFields(final DSSDocument document, final char[] pwd) {
 		List<String> result = new ArrayList<>();
-		try (InputStream is = document.openStream(); PDDocument pdfDoc = PDDocument.load(is, getPasswordString(pwd))) {
+		try (PDDocument pdfDoc = PdfBoxUtils.loadPDDocument(document, getPasswordString(pwd), memoryUsageSetting)) {
 			List<PDSignatureField> signatureFields = pdfDoc.getSignatureFields();
 			for (PDSignatureField pdSignatureField : signatureFields) {
 				PDSignature signature = pdSignatureField.getSignature();
@@ -654,7 +682,8 @@ public class PdfBoxSignatureService extends AbstractPDFSignatureService {
 											final char[] pwd) {
 		try (DSSResourcesHandler resourcesHandler = instantiateResourcesHandler();
 			 OutputStream os = resourcesHandler.createOutputStream();
-			 PdfBoxDocumentReader documentReader = new PdfBoxDocumentReader(document, getPasswordString(pwd))) {
+			 PdfBoxDocumentReader documentReader = new PdfBoxDocumentReader(document, getPasswordString(pwd),
+					 memoryUsageSetting)) {
 			checkPdfPermissions(documentReader, parameters);
 
 			final PDDocument pdfDoc = documentReader.getPDDocument();
@@ -721,7 +750,7 @@ public class PdfBoxSignatureService extends AbstractPDFSignatureService {
 		try (DSSResourcesHandler resourcesHandler = instantiateResourcesHandler();
 			 OutputStream os = resourcesHandler.createOutputStream();
 			 PdfBoxDocumentReader documentReader = new PdfBoxDocumentReader(toSignDocument,
-					 getPasswordString(parameters.getPasswordProtection()))) {
+					 getPasswordString(parameters.getPasswordProtection()), memoryUsageSetting)) {
 
 			final SignatureFieldParameters fieldParameters = parameters.getImageParameters().getFieldParameters();
 			checkPdfPermissions(documentReader, fieldParameters);
@@ -743,7 +772,7 @@ public class PdfBoxSignatureService extends AbstractPDFSignatureService {
 		try (DSSResourcesHandler resourcesHandler = instantiateResourcesHandler();
 			 OutputStream os = resourcesHandler.createOutputStream();
 			 PdfBoxDocumentReader documentReader = new PdfBoxDocumentReader(toSignDocument,
-					 getPasswordString(parameters.getPasswordProtection()))) {
+					 getPasswordString(parameters.getPasswordProtection()), memoryUsageSetting)) {
 
 			final SignatureFieldParameters fieldParameters = parameters.getImageParameters().getFieldParameters();
 			checkPdfPermissions(documentReader, fieldParameters);
@@ -765,7 +794,7 @@ public class PdfBoxSignatureService extends AbstractPDFSignatureService {
 
 	private DSSDocument getNewSignatureFieldScreenshot(DSSDocument doc, PAdESCommonParameters parameters, List<PdfAnnotation> originalAnnotations) throws IOException {
 		try (PdfBoxDocumentReader reader = new PdfBoxDocumentReader(doc,
-				getPasswordString(parameters.getPasswordProtection()))) {
+				getPasswordString(parameters.getPasswordProtection()), memoryUsageSetting)) {
 			List<PdfAnnotation> newAnnotations = reader.getPdfAnnotations(parameters.getImageParameters().getFieldParameters().getPage());
 			AnnotationBox pageBox = reader.getPageBox(parameters.getImageParameters().getFieldParameters().getPage());
 
@@ -804,7 +833,84 @@ public class PdfBoxSignatureService extends AbstractPDFSignatureService {
 	@Override
 	protected PdfDocumentReader loadPdfDocumentReader(DSSDocument dssDocument, char[] passwordProtection)
 			throws IOException, eu.europa.esig.dss.pades.exception.InvalidPasswordException {
-		return new PdfBoxDocumentReader(dssDocument, getPasswordString(passwordProtection));
+		if (isSpoolingRequired(dssDocument)) {
+			return loadSpooledPdfDocumentReader((PdfByteRangeDocument) dssDocument, passwordProtection);
+		}
+		return new PdfBoxDocumentReader(dssDocument, getPasswordString(passwordProtection), memoryUsageSetting);
+	}
+
+	/**
+	 * Checks whether the given intermediate revision should be spooled through a {@code DSSResourcesHandler}
+	 * before being loaded. This is the case when a {@code MemoryUsageSetting} is defined and the configured
+	 * {@code DSSResourcesHandlerBuilder} does not keep the data in memory.
+	 *
+	 * @param dssDocument {@link DSSDocument} to be loaded
+	 * @return TRUE if the document shall be spooled, FALSE otherwise
+	 */
+	private boolean isSpoolingRequired(DSSDocument dssDocument) {
+		return memoryUsageSetting != null && dssDocument instanceof PdfByteRangeDocument
+				&& !(resourcesHandlerBuilder instanceof InMemoryResourcesHandlerBuilder);
+	}
+
+	private PdfDocumentReader loadSpooledPdfDocumentReader(PdfByteRangeDocument revisionDocument, char[] passwordProtection)
+			throws IOException, eu.europa.esig.dss.pades.exception.InvalidPasswordException {
+		final DSSDocument spooledDocument;
+		try (DSSResourcesHandler resourcesHandler = instantiateResourcesHandler()) {
+			try (InputStream is = revisionDocument.openStream();
+				 OutputStream os = resourcesHandler.createOutputStream()) {
+				Utils.copy(is, os);
+			}
+			spooledDocument = resourcesHandler.writeToDSSDocument();
+		}
+		try {
+			return new SpooledPdfBoxDocumentReader(spooledDocument, getPasswordString(passwordProtection), memoryUsageSetting);
+		} catch (IOException | RuntimeException e) {
+			deleteSpooledDocument(spooledDocument);
+			throw e;
+		}
+	}
+
+	private static void deleteSpooledDocument(DSSDocument spooledDocument) {
+		if (spooledDocument instanceof FileDocument) {
+			File file = ((FileDocument) spooledDocument).getFile();
+			if (file.exists() && !file.delete()) {
+				LOG.warn("Unable to remove a spooled revision file '{}'", file.getName());
+			}
+		}
+	}
+
+	/**
+	 * A {@code PdfBoxDocumentReader} loaded from an intermediate revision spooled through a {@code DSSResourcesHandler},
+	 * removing the spooled file on close
+	 */
+	private static class SpooledPdfBoxDocumentReader extends PdfBoxDocumentReader {
+
+		/** The spooled revision document */
+		private final DSSDocument spooledDocument;
+
+		/**
+		 * Default constructor
+		 *
+		 * @param spooledDocument    {@link DSSDocument} spooled revision
+		 * @param passwordProtection {@link String} a password to open a protected document
+		 * @param memoryUsageSetting {@link MemoryUsageSetting}
+		 * @throws IOException if an exception occurs
+		 */
+		SpooledPdfBoxDocumentReader(DSSDocument spooledDocument, String passwordProtection,
+									MemoryUsageSetting memoryUsageSetting) throws IOException {
+			super(spooledDocument, passwordProtection, memoryUsageSetting);
+			this.spooledDocument = spooledDocument;
+		}
+
+		@Override
+		public void close() throws IOException {
+			try {
+				super.close();
+			} finally {
+				deleteSpooledDocument(spooledDocument);
+			}
+		}
+
 	}
 
 	/**
@@ -22,9 +22,11 @@ package eu.europa.esig.dss.pdf.pdfbox;
 
 import eu.europa.esig.dss.model.DSSDocument;
 import eu.europa.esig.dss.model.DSSException;
+import eu.europa.esig.dss.model.FileDocument;
 import eu.europa.esig.dss.pades.PAdESUtils;
 import eu.europa.esig.dss.pdf.visible.ImageUtils;
 import eu.europa.esig.dss.signature.resources.DSSResourcesHandler;
+import org.apache.pdfbox.io.MemoryUsageSetting;
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.apache.pdfbox.pdmodel.PDResources;
 import org.apache.pdfbox.pdmodel.common.PDRectangle;
@@ -37,6 +39,7 @@ import java.awt.Color;
 import java.awt.Graphics2D;
 import java.awt.image.BufferedImage;
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.Objects;
 
 /**
@@ -48,6 +51,34 @@ public class PdfBoxUtils {
 	private PdfBoxUtils() {
 	}
 
+	/**
+	 * Loads a {@code PDDocument} from the given {@code dssDocument} using the defined {@code memoryUsageSetting}.
+	 * When {@code memoryUsageSetting} is provided, a {@code FileDocument} is opened with a buffered random-access
+	 * file reader, and the content of any other document is spooled to a scratch buffer according to the setting.
+	 * When {@code memoryUsageSetting} is null, the whole document is read into main memory.
+	 *
+	 * @param dssDocument        {@link DSSDocument} to load
+	 * @param passwordProtection {@link String} a password to open a protected document (can be null)
+	 * @param memoryUsageSetting {@link MemoryUsageSetting} (can be null)
+	 * @return {@link PDDocument}
+	 * @throws IOException if an error occurs on the document loading
+	 */
+	public static PDDocument loadPDDocument(DSSDocument dssDocument, String passwordProtection,
+											MemoryUsageSetting memoryUsageSetting) throws IOException {
+		Objects.requireNonNull(dssDocument, "The document must be defined!");
+		if (memoryUsageSetting == null) {
+			try (InputStream is = dssDocument.openStream()) {
+				return PDDocument.load(is, passwordProtection);
+			}
+		}
+		if (dssDocument instanceof FileDocument) {
+			return PDDocument.load(((FileDocument) dssDocument).getFile(), passwordProtection, memoryUsageSetting);
+		}
+		try (InputStream is = dssDocument.openStream()) {
+			return PDDocument.load(is, passwordProtection, memoryUsageSetting);
+		}
+	}
+
 	/**
 	 * Generates a screenshot image of the specified page for the given PDF document
 	 * 
@@ -0,0 +1,123 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.pades.signature;
+
+import eu.europa.esig.dss.enumerations.SignatureLevel;
+import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.model.FileDocument;
+import eu.europa.esig.dss.pades.PAdESSignatureParameters;
+import eu.europa.esig.dss.pades.signature.suite.AbstractPAdESTestSignature;
+import eu.europa.esig.dss.pades.validation.PDFDocumentValidator;
+import eu.europa.esig.dss.pdf.pdfbox.PdfBoxNativeObjectFactory;
+import eu.europa.esig.dss.signature.resources.TempFileResourcesHandlerBuilder;
+import eu.europa.esig.dss.validation.SignedDocumentValidator;
+import eu.europa.esig.dss.validation.reports.Reports;
+import org.apache.pdfbox.io.MemoryUsageSetting;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PdfBoxPAdESLevelBWithMemoryUsageSettingTest extends AbstractPAdESTestSignature {
+
+	@TempDir
+	static Path temporaryFolder;
+
+	private PAdESService service;
+	private PAdESSignatureParameters signatureParameters;
+	private DSSDocument documentToSign;
+	private PdfBoxNativeObjectFactory pdfObjFactory;
+
+	@BeforeEach
+	public void init() throws Exception {
+		File file = temporaryFolder.resolve("sample.pdf").toFile();
+		try (InputStream is = PdfBoxPAdESLevelBWithMemoryUsageSettingTest.class.getResourceAsStream("/sample.pdf")) {
+			Files.copy(is, file.toPath());
+		}
+		documentToSign = new FileDocument(file);
+
+		signatureParameters = new PAdESSignatureParameters();
+		signatureParameters.setSigningCertificate(getSigningCert());
+		signatureParameters.setCertificateChain(getCertificateChain());
+		signatureParameters.setSignatureLevel(SignatureLevel.PAdES_BASELINE_B);
+
+		TempFileResourcesHandlerBuilder tempFileResourcesHandlerBuilder = new TempFileResourcesHandlerBuilder();
+		tempFileResourcesHandlerBuilder.setTempFileDirectory(temporaryFolder.toFile());
+
+		pdfObjFactory = new PdfBoxNativeObjectFactory();
+		pdfObjFactory.setResourcesHandlerBuilder(tempFileResourcesHandlerBuilder);
+		pdfObjFactory.setMemoryUsageSetting(MemoryUsageSetting.setupTempFileOnly().setTempDir(temporaryFolder.toFile()));
+
+		service = new PAdESService(getOfflineCertificateVerifier());
+		service.setPdfObjFactory(pdfObjFactory);
+	}
+
+	@Override
+	protected DSSDocument sign() {
+		DSSDocument signedDocument = super.sign();
+		assertTrue(signedDocument instanceof FileDocument);
+		return signedDocument;
+	}
+
+	@Override
+	protected Reports verify(DSSDocument signedDocument) {
+		File[] filesBefore = temporaryFolder.toFile().listFiles();
+		Reports reports = super.verify(signedDocument);
+		// spooled intermediate revisions are removed once read
+		File[] filesAfter = temporaryFolder.toFile().listFiles();
+		assertEquals(filesBefore.length, filesAfter.length);
+		return reports;
+	}
+
+	@Override
+	protected SignedDocumentValidator getValidator(DSSDocument signedDocument) {
+		SignedDocumentValidator validator = super.getValidator(signedDocument);
+		((PDFDocumentValidator) validator).setPdfObjFactory(pdfObjFactory);
+		return validator;
+	}
+
+	@Override
+	protected PAdESService getService() {
+		return service;
+	}
+
+	@Override
+	protected PAdESSignatureParameters getSignatureParameters() {
+		return signatureParameters;
+	}
+
+	@Override
+	protected DSSDocument getDocumentToSign() {
+		return documentToSign;
+	}
+
+	@Override
+	protected String getSigningAlias() {
+		return GOOD_USER;
+	}
+
+}
@@ -0,0 +1,130 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.pdf;
+
+import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.model.InMemoryDocument;
+import eu.europa.esig.dss.pades.PAdESUtils;
+import eu.europa.esig.dss.pades.validation.PdfByteRangeDocument;
+import eu.europa.esig.dss.pades.validation.PdfRevision;
+import eu.europa.esig.dss.pdf.pdfbox.PdfBoxDocumentReader;
+import eu.europa.esig.dss.pdf.pdfbox.PdfBoxSignatureService;
+import eu.europa.esig.dss.pdf.pdfbox.visible.defaultdrawer.PdfBoxDefaultSignatureDrawerFactory;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PdfBoxRevisionReaderCacheTest {
+
+	private static final DSSDocument DOCUMENT = new InMemoryDocument(
+			PdfBoxRevisionReaderCacheTest.class.getResourceAsStream("/validation/PAdES-LT.pdf"));
+
+	@Test
+	public void reuseRevisionReaderTest() throws Exception {
+		List<PdfByteRangeDocument> revisions = PAdESUtils.extractRevisions(DOCUMENT);
+		assertTrue(revisions.size() > 3);
+
+		List<ClosingAwareReader> loaded = new ArrayList<>();
+		PdfRevisionReaderCache cache = new PdfRevisionReaderCache(revision -> {
+			ClosingAwareReader reader = new ClosingAwareReader(revision);
+			loaded.add(reader);
+			return reader;
+		});
+
+		PdfByteRangeDocument lastRevision = revisions.get(0);
+		PdfDocumentReader lastRevisionReader = cache.getReader(lastRevision);
+		assertTrue(lastRevisionReader.getNumberOfPages() > 0);
+		assertEquals(1, loaded.size());
+
+		// the same revision is not parsed again
+		assertSame(lastRevisionReader, cache.getReader(new PdfByteRangeDocument(DOCUMENT, lastRevision.getByteRange())));
+		assertEquals(1, loaded.size());
+
+		PdfDocumentReader previousRevisionReader = cache.getReader(revisions.get(1));
+		assertNotSame(lastRevisionReader, previousRevisionReader);
+		assertSame(previousRevisionReader, cache.getReader(revisions.get(1)));
+		assertEquals(2, loaded.size());
+		assertFalse(loaded.get(0).closed);
+
+		// the least recently used reader is released
+		PdfDocumentReader firstRevisionReader = cache.getReader(revisions.get(2));
+		assertEquals(3, loaded.size());
+		assertTrue(loaded.get(0).closed);
+		assertTrue(loaded.get(0).getPDDocument().getDocument().isClosed());
+		assertFalse(loaded.get(1).closed);
+		assertTrue(firstRevisionReader.getNumberOfPages() > 0);
+
+		cache.close();
+		for (ClosingAwareReader reader : loaded) {
+			assertTrue(reader.closed);
+			assertTrue(reader.getPDDocument().getDocument().isClosed());
+		}
+	}
+
+	@Test
+	public void revisionReadersReleasedTest() {
+		List<ClosingAwareReader> loaded = new ArrayList<>();
+		PdfBoxSignatureService signatureService = new PdfBoxSignatureService(PDFServiceMode.SIGNATURE,
+				new PdfBoxDefaultSignatureDrawerFactory()) {
+
+			@Override
+			protected PdfDocumentReader loadPdfDocumentReader(DSSDocument dssDocument, char[] passwordProtection) throws IOException {
+				ClosingAwareReader reader = new ClosingAwareReader(dssDocument);
+				loaded.add(reader);
+				return reader;
+			}
+
+		};
+
+		List<PdfRevision> revisions = signatureService.getRevisions(DOCUMENT, null);
+		assertFalse(revisions.isEmpty());
+		// the whole document and the signed revisions
+		assertTrue(loaded.size() > 1);
+		for (ClosingAwareReader reader : loaded) {
+			assertTrue(reader.closed);
+		}
+	}
+
+	private static class ClosingAwareReader extends PdfBoxDocumentReader {
+
+		private boolean closed;
+
+		ClosingAwareReader(DSSDocument document) throws IOException {
+			super(document);
+		}
+
+		@Override
+		public void close() throws IOException {
+			closed = true;
+			super.close();
+		}
+
+	}
+
+}
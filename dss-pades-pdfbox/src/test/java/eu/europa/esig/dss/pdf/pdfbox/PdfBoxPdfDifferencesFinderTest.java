@@ -0,0 +1,187 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.pdf.pdfbox;
+
+import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.model.InMemoryDocument;
+import eu.europa.esig.dss.pades.PAdESUtils;
+import eu.europa.esig.dss.pades.validation.PdfSignatureDictionary;
+import eu.europa.esig.dss.pdf.modifications.DefaultPdfDifferencesFinder;
+import eu.europa.esig.dss.pdf.modifications.PdfModification;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PdfBoxPdfDifferencesFinderTest {
+
+	private static ExecutorService executorService;
+
+	@BeforeAll
+	public static void init() {
+		executorService = Executors.newFixedThreadPool(4);
+	}
+
+	@AfterAll
+	public static void shutdown() {
+		executorService.shutdownNow();
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {
+			"/validation/dss-2236/hide.pdf",
+			"/validation/dss-2236/replace.pdf",
+			"/validation/dss-2236/annotation-and-visible-change.pdf",
+			"/validation/pades-5-signatures-and-1-document-timestamp.pdf",
+			"/validation/modified_after_signature.pdf"
+	})
+	public void concurrentVisualDifferencesTest(String fileName) throws Exception {
+		DSSDocument document = new InMemoryDocument(getClass().getResourceAsStream(fileName));
+
+		DefaultPdfDifferencesFinder sequentialFinder = new DefaultPdfDifferencesFinder();
+
+		DefaultPdfDifferencesFinder concurrentFinder = new DefaultPdfDifferencesFinder();
+		concurrentFinder.setExecutorService(executorService);
+		concurrentFinder.setMaximalParallelPagesAmountForVisualComparison(2);
+
+		try (PdfBoxDocumentReader finalRevisionReader = new PdfBoxDocumentReader(document)) {
+			for (PdfSignatureDictionary signatureDictionary : finalRevisionReader.extractSigDictionaries().keySet()) {
+				DSSDocument revision = PAdESUtils.getRevisionContent(document, signatureDictionary.getByteRange());
+
+				try (PdfBoxDocumentReader signedRevisionReader = new PdfBoxDocumentReader(revision)) {
+					AtomicInteger loadedReaders = new AtomicInteger();
+					List<PdfModification> expected = sequentialFinder.getVisualDifferences(signedRevisionReader, finalRevisionReader);
+					List<PdfModification> result = concurrentFinder.getVisualDifferences(signedRevisionReader, finalRevisionReader,
+							() -> {
+								loadedReaders.incrementAndGet();
+								return new PdfBoxDocumentReader(revision);
+							},
+							() -> {
+								loadedReaders.incrementAndGet();
+								return new PdfBoxDocumentReader(document);
+							});
+
+					assertEquals(expected.size(), result.size());
+					for (int i = 0; i < expected.size(); i++) {
+						assertEquals(expected.get(i).getPage(), result.get(i).getPage());
+					}
+					// the provided readers are reused, at most one additional pair is loaded for two parallel pages
+					assertTrue(loadedReaders.get() <= 2);
+
+					// without loaders the pages are processed sequentially with the provided readers
+					result = concurrentFinder.getVisualDifferences(signedRevisionReader, finalRevisionReader);
+					assertEquals(expected.size(), result.size());
+
+					assertEquals(!expected.isEmpty(), sequentialFinder.hasVisualDifferences(signedRevisionReader, finalRevisionReader));
+					assertEquals(!expected.isEmpty(), concurrentFinder.hasVisualDifferences(signedRevisionReader, finalRevisionReader,
+							() -> new PdfBoxDocumentReader(revision), () -> new PdfBoxDocumentReader(document)));
+				}
+			}
+		}
+	}
+
+	@Test
+	public void saturatedExecutorTest() throws Exception {
+		DSSDocument document = new InMemoryDocument(getClass().getResourceAsStream("/validation/dss-2236/replace.pdf"));
+
+		ExecutorService singleThreadExecutor = Executors.newSingleThreadExecutor();
+		try {
+			DefaultPdfDifferencesFinder concurrentFinder = new DefaultPdfDifferencesFinder();
+			concurrentFinder.setExecutorService(singleThreadExecutor);
+			concurrentFinder.setMaximalParallelPagesAmountForVisualComparison(4);
+
+			// the only thread of the pool is busy, the pages comparison shall wait for it without blocking it
+			singleThreadExecutor.submit(() -> {
+				Thread.sleep(200);
+				return null;
+			});
+
+			try (PdfBoxDocumentReader finalRevisionReader = new PdfBoxDocumentReader(document)) {
+				PdfSignatureDictionary signatureDictionary = finalRevisionReader.extractSigDictionaries().keySet().iterator().next();
+				DSSDocument revision = PAdESUtils.getRevisionContent(document, signatureDictionary.getByteRange());
+				try (PdfBoxDocumentReader signedRevisionReader = new PdfBoxDocumentReader(revision)) {
+					List<PdfModification> expected = new DefaultPdfDifferencesFinder().getVisualDifferences(signedRevisionReader, finalRevisionReader);
+					List<PdfModification> result = concurrentFinder.getVisualDifferences(signedRevisionReader, finalRevisionReader,
+							() -> new PdfBoxDocumentReader(revision), () -> new PdfBoxDocumentReader(document));
+					assertEquals(expected.size(), result.size());
+				}
+			}
+		} finally {
+			singleThreadExecutor.shutdownNow();
+		}
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {
+			"/validation/dss-2236/hide.pdf",
+			"/validation/dss-2236/replace.pdf",
+			"/validation/modified_after_signature.pdf"
+	})
+	public void hasVisualDifferencesStopsOnFirstDifferenceTest(String fileName) throws Exception {
+		DSSDocument document = new InMemoryDocument(getClass().getResourceAsStream(fileName));
+
+		DefaultPdfDifferencesFinder pdfDifferencesFinder = new DefaultPdfDifferencesFinder();
+
+		try (PdfBoxDocumentReader finalRevisionReader = new PdfBoxDocumentReader(document)) {
+			for (PdfSignatureDictionary signatureDictionary : finalRevisionReader.extractSigDictionaries().keySet()) {
+				DSSDocument revision = PAdESUtils.getRevisionContent(document, signatureDictionary.getByteRange());
+
+				AtomicInteger screenshots = new AtomicInteger();
+				try (PdfBoxDocumentReader signedRevisionReader = new PdfBoxDocumentReader(revision) {
+					@Override
+					public BufferedImage generateImageScreenshot(int page) throws IOException {
+						screenshots.incrementAndGet();
+						return super.generateImageScreenshot(page);
+					}
+				}) {
+					List<PdfModification> visualDifferences = pdfDifferencesFinder.getVisualDifferences(signedRevisionReader, finalRevisionReader);
+					int pagesAmount = Math.min(signedRevisionReader.getNumberOfPages(), finalRevisionReader.getNumberOfPages());
+					assertEquals(pagesAmount, screenshots.get());
+
+					screenshots.set(0);
+					boolean hasVisualDifferences = pdfDifferencesFinder.hasVisualDifferences(signedRevisionReader, finalRevisionReader);
+					assertEquals(!visualDifferences.isEmpty(), hasVisualDifferences);
+					// the pages following the first difference are not rendered
+					assertEquals(hasVisualDifferences ? visualDifferences.get(0).getPage() : pagesAmount, screenshots.get());
+				}
+			}
+		}
+	}
+
+	@Test
+	public void invalidParallelPagesAmountTest() {
+		DefaultPdfDifferencesFinder pdfDifferencesFinder = new DefaultPdfDifferencesFinder();
+		assertThrows(IllegalArgumentException.class, () -> pdfDifferencesFinder.setMaximalParallelPagesAmountForVisualComparison(0));
+	}
+
+}
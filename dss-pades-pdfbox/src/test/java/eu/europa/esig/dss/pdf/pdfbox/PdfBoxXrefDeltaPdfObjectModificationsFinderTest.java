@@ -0,0 +1,122 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.pdf.pdfbox;
+
+import eu.europa.esig.dss.diagnostic.DiagnosticData;
+import eu.europa.esig.dss.diagnostic.PDFRevisionWrapper;
+import eu.europa.esig.dss.diagnostic.SignatureWrapper;
+import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.model.InMemoryDocument;
+import eu.europa.esig.dss.pades.PAdESUtils;
+import eu.europa.esig.dss.pades.validation.ByteRange;
+import eu.europa.esig.dss.pades.validation.PDFDocumentValidator;
+import eu.europa.esig.dss.pades.validation.PdfSignatureDictionary;
+import eu.europa.esig.dss.pdf.IPdfObjFactory;
+import eu.europa.esig.dss.pdf.modifications.DefaultPdfObjectModificationsFinder;
+import eu.europa.esig.dss.pdf.modifications.PdfObjectModifications;
+import eu.europa.esig.dss.pdf.modifications.PdfObjectModificationsFinder;
+import eu.europa.esig.dss.pdf.modifications.XrefDeltaPdfObjectModificationsFinder;
+import eu.europa.esig.dss.validation.CommonCertificateVerifier;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PdfBoxXrefDeltaPdfObjectModificationsFinderTest {
+
+	@ParameterizedTest
+	@ValueSource(strings = {
+			"/validation/dss-2236/hide.pdf",
+			"/validation/dss-2236/replace.pdf",
+			"/validation/dss-2236/annotation-and-visible-change.pdf",
+			"/validation/doc-firmado-LT.pdf",
+			"/validation/pades-5-signatures-and-1-document-timestamp.pdf",
+			"/validation/hello_signed_INCSAVE_signed_EDITED.pdf",
+			"/validation/modified_after_signature.pdf",
+			"/validation/pades-spoofing-replaced-reason.pdf"
+	})
+	public void sameModificationsAsFullComparisonTest(String fileName) throws Exception {
+		DSSDocument document = new InMemoryDocument(getClass().getResourceAsStream(fileName));
+
+		DefaultPdfObjectModificationsFinder defaultFinder = new DefaultPdfObjectModificationsFinder();
+		XrefDeltaPdfObjectModificationsFinder xrefDeltaFinder = new XrefDeltaPdfObjectModificationsFinder();
+
+		try (PdfBoxDocumentReader finalRevisionReader = new PdfBoxDocumentReader(document)) {
+			assertNotNull(finalRevisionReader.getObjectOffsets());
+
+			for (PdfSignatureDictionary signatureDictionary : finalRevisionReader.extractSigDictionaries().keySet()) {
+				ByteRange byteRange = signatureDictionary.getByteRange();
+				DSSDocument revision = PAdESUtils.getRevisionContent(document, byteRange);
+
+				try (PdfBoxDocumentReader signedRevisionReader = new PdfBoxDocumentReader(revision)) {
+					PdfObjectModifications expected = defaultFinder.find(signedRevisionReader, finalRevisionReader);
+					PdfObjectModifications result = xrefDeltaFinder.find(signedRevisionReader, finalRevisionReader);
+
+					assertEquals(expected.getSecureChanges(), result.getSecureChanges());
+					assertEquals(expected.getFormFillInAndSignatureCreationChanges(),
+							result.getFormFillInAndSignatureCreationChanges());
+					assertEquals(expected.getAnnotCreationChanges(), result.getAnnotCreationChanges());
+					assertEquals(expected.getUndefinedChanges(), result.getUndefinedChanges());
+				}
+			}
+		}
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {
+			"/validation/dss-2236/hide.pdf",
+			"/validation/dss-2236/replace.pdf",
+			"/validation/pades-5-signatures-and-1-document-timestamp.pdf",
+			"/validation/modified_after_signature.pdf"
+	})
+	public void validationWithXrefDeltaFinderTest(String fileName) {
+		DSSDocument document = new InMemoryDocument(getClass().getResourceAsStream(fileName));
+
+		DiagnosticData expected = validate(document, new DefaultPdfObjectModificationsFinder());
+		DiagnosticData result = validate(document, new XrefDeltaPdfObjectModificationsFinder());
+
+		assertEquals(expected.getSignatures().size(), result.getSignatures().size());
+		assertTrue(expected.getSignatures().size() > 0);
+		for (SignatureWrapper expectedSignature : expected.getSignatures()) {
+			PDFRevisionWrapper expectedRevision = expectedSignature.getPDFRevision();
+			PDFRevisionWrapper resultRevision = result.getSignatureById(expectedSignature.getId()).getPDFRevision();
+			assertEquals(expectedRevision.arePdfObjectModificationsDetected(), resultRevision.arePdfObjectModificationsDetected());
+			assertEquals(expectedRevision.getPdfExtensionChanges().size(), resultRevision.getPdfExtensionChanges().size());
+			assertEquals(expectedRevision.getPdfSignatureOrFormFillChanges().size(),
+					resultRevision.getPdfSignatureOrFormFillChanges().size());
+			assertEquals(expectedRevision.getPdfAnnotationChanges().size(), resultRevision.getPdfAnnotationChanges().size());
+			assertEquals(expectedRevision.getPdfUndefinedChanges().size(), resultRevision.getPdfUndefinedChanges().size());
+		}
+	}
+
+	private DiagnosticData validate(DSSDocument document, PdfObjectModificationsFinder pdfObjectModificationsFinder) {
+		IPdfObjFactory pdfObjFactory = new PdfBoxDefaultObjectFactory();
+		pdfObjFactory.setPdfObjectModificationsFinder(pdfObjectModificationsFinder);
+
+		PDFDocumentValidator validator = new PDFDocumentValidator(document);
+		validator.setCertificateVerifier(new CommonCertificateVerifier());
+		validator.setPdfObjFactory(pdfObjFactory);
+		return validator.validateDocument().getDiagnosticData();
+	}
+
+}
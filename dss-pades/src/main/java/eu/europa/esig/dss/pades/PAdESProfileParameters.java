@@ -20,7 +20,7 @@
  */
 package eu.europa.esig.dss.pades;
 
-import eu.europa.esig.dss.ProfileParameters;
+import eu.europa.esig.dss.cades.CAdESProfileParameters;
 import eu.europa.esig.dss.pdf.PdfSignatureCache;
 
 /**
@@ -29,7 +29,7 @@ import eu.europa.esig.dss.pdf.PdfSignatureCache;
  * used in {@code PAdESService.signDocument(...)} method.
  *
  */
-public class PAdESProfileParameters extends ProfileParameters {
+public class PAdESProfileParameters extends CAdESProfileParameters {
 
     private static final long serialVersionUID = 852030281057208148L;
 
@@ -110,6 +110,18 @@ public final class PAdESUtils {
 	 * @return revision binaries
 	 */
 	public static DSSDocument getRevisionContent(DSSDocument dssDocument, ByteRange byteRange) {
+		return getRevisionByteRangeDocument(dssDocument, byteRange);
+	}
+
+	/**
+	 * Returns the complete revision according to the provided byteRange ([0]-[3]),
+	 * as a {@code PdfByteRangeDocument} defining the revision boundaries within the {@code dssDocument}
+	 *
+	 * @param dssDocument {@link DSSDocument} to extract the content from
+	 * @param byteRange {@link ByteRange} indicating the revision boundaries
+	 * @return {@link PdfByteRangeDocument}
+	 */
+	public static PdfByteRangeDocument getRevisionByteRangeDocument(DSSDocument dssDocument, ByteRange byteRange) {
 		int beginning = byteRange.getFirstPartStart();
 		int endSigValueContent = byteRange.getSecondPartStart();
 		int endValue = byteRange.getSecondPartEnd();
@@ -268,7 +268,8 @@ public abstract class AbstractPDFSignatureService implements PDFSignatureService
 		final List<PdfRevision> revisions = new ArrayList<>();
 		final List<PdfByteRangeDocument> revisionDocuments = PAdESUtils.extractRevisions(document);
 
-		try (PdfDocumentReader reader = loadPdfDocumentReader(document, pwd)) {
+		try (PdfDocumentReader reader = loadPdfDocumentReader(document, pwd);
+			 PdfRevisionReaderCache revisionReaders = new PdfRevisionReaderCache(r -> loadPdfDocumentReader(r, pwd))) {
 
 			final PdfCompositeDssDictionary compositeDssDictionary = new PdfCompositeDssDictionary();
 
@@ -303,8 +304,10 @@ public abstract class AbstractPDFSignatureService implements PDFSignatureService
 
 					final boolean signatureCoversWholeDocument = reader.isSignatureCoversWholeDocument(signatureDictionary);
 
-					final DSSDocument revisionContent = PAdESUtils.getRevisionContent(document, byteRange);
-					try (PdfDocumentReader revisionReader = loadPdfDocumentReader(revisionContent, pwd)) {
+					try {
+						// the whole document is already loaded
+						final PdfDocumentReader revisionReader = signatureCoversWholeDocument && byteRange.getFirstPartStart() == 0 ? reader :
+								revisionReaders.getReader(PAdESUtils.getRevisionByteRangeDocument(document, byteRange));
 
 						// Method is used to detect modification within the signature dictionary itself (spoofing attack)
 						verifyPdfSignatureDictionary(signatureDictionary, fieldNames, revisionReader);
@@ -343,11 +346,15 @@ public abstract class AbstractPDFSignatureService implements PDFSignatureService
 						revisions.add(newRevision);
 					}
 
-					try (PdfDocumentReader revisionReader = loadPdfDocumentReader(previousRevision, pwd)) {
+					try {
+						// the previous revision is reused as a signed revision of the next signature (if applicable)
+						if (previousRevision instanceof PdfByteRangeDocument) {
+							final PdfDocumentReader revisionReader = revisionReaders.getReader((PdfByteRangeDocument) previousRevision);
 
-						// checks if there is a previous update of the DSS dictionary and creates a new revision if needed
-						lastDSSDictionary = getPreviousDssDictAndUpdateIfNeeded(revisions, compositeDssDictionary,
-								lastDSSDictionary, revisionReader.getDSSDictionary());
+							// checks if there is a previous update of the DSS dictionary and creates a new revision if needed
+							lastDSSDictionary = getPreviousDssDictAndUpdateIfNeeded(revisions, compositeDssDictionary,
+									lastDSSDictionary, revisionReader.getDSSDictionary());
+						}
 
 					} catch (Exception e) {
 						// do nothing
@@ -714,10 +721,10 @@ public abstract class AbstractPDFSignatureService implements PDFSignatureService
 	protected void analyzePdfModifications(DSSDocument document, PdfCMSRevision pdfRevision,
 										   PdfDocumentReader finalRevisionReader, char[] pwd) throws IOException {
 		DSSDocument revisionContent = PAdESUtils.getRevisionContent(document, pdfRevision.getByteRange());
-		pdfRevision.setModificationDetection(getModificationDetection(finalRevisionReader, revisionContent, pwd));
+		pdfRevision.setModificationDetection(getModificationDetection(document, finalRevisionReader, revisionContent, pwd));
 	}
 
-	private PdfModificationDetection getModificationDetection(PdfDocumentReader finalRevisionReader,
+	private PdfModificationDetection getModificationDetection(DSSDocument document, PdfDocumentReader finalRevisionReader,
 															  DSSDocument originalDocument, char[] pwd) throws IOException {
 		try (PdfDocumentReader signedRevisionReader = loadPdfDocumentReader(originalDocument , pwd)) {
 			PdfModificationDetection pdfModificationDetection = new PdfModificationDetection();
@@ -726,7 +733,8 @@ public abstract class AbstractPDFSignatureService implements PDFSignatureService
 			pdfModificationDetection.setPageDifferences(
 					pdfDifferencesFinder.getPagesDifferences(signedRevisionReader, finalRevisionReader));
 			pdfModificationDetection.setVisualDifferences(
-					getVisualDifferences(signedRevisionReader, finalRevisionReader));
+					getVisualDifferences(signedRevisionReader, finalRevisionReader,
+							() -> loadPdfDocumentReader(originalDocument, pwd), () -> loadPdfDocumentReader(document, pwd)));
 			pdfModificationDetection.setObjectModifications(
 					pdfObjectModificationsFinder.find(signedRevisionReader, finalRevisionReader));
 			return pdfModificationDetection;
@@ -748,6 +756,27 @@ public abstract class AbstractPDFSignatureService implements PDFSignatureService
 		return pdfDifferencesFinder.getVisualDifferences(signedRevisionReader, finalRevisionReader);
 	}
 
+	/**
+	 * Returns a list of visual differences between the provided PDF and the signed
+	 * content, allowing the {@code PdfDifferencesFinder} to load additional readers
+	 * for a concurrent processing of the pages
+	 *
+	 * @param signedRevisionReader {@link PdfDocumentReader} for the signed revision
+	 *                             content
+	 * @param finalRevisionReader  {@link PdfDocumentReader} for the input PDF
+	 *                             document
+	 * @param signedRevisionLoader {@link PdfDocumentReaderLoader} to load a new reader for the signed revision
+	 * @param finalRevisionLoader  {@link PdfDocumentReaderLoader} to load a new reader for the input PDF document
+	 * @return a list of {@link PdfModification}s
+	 */
+	protected List<PdfModification> getVisualDifferences(final PdfDocumentReader signedRevisionReader,
+														 final PdfDocumentReader finalRevisionReader,
+														 final PdfDocumentReaderLoader signedRevisionLoader,
+														 final PdfDocumentReaderLoader finalRevisionLoader) {
+		return pdfDifferencesFinder.getVisualDifferences(signedRevisionReader, finalRevisionReader,
+				signedRevisionLoader, finalRevisionLoader);
+	}
+
 	/**
 	 * This method verifies the PDF permissions dictionaries
 	 *
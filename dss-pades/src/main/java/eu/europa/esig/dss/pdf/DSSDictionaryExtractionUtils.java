@@ -23,7 +23,7 @@ package eu.europa.esig.dss.pdf;
 import eu.europa.esig.dss.crl.CRLBinary;
 import eu.europa.esig.dss.crl.CRLUtils;
 import eu.europa.esig.dss.model.x509.CertificateToken;
-import eu.europa.esig.dss.spi.DSSUtils;
+import eu.europa.esig.dss.spi.x509.CertificateTokenFactory;
 import eu.europa.esig.dss.spi.x509.revocation.ocsp.OCSPResponseBinary;
 import org.bouncycastle.cert.ocsp.BasicOCSPResp;
 import org.bouncycastle.cert.ocsp.OCSPResp;
@@ -66,7 +66,7 @@ public class DSSDictionaryExtractionUtils {
 				try {
 					final long objectNumber = certsArray.getObjectNumber(ii);
 					if (!certMap.containsKey(objectNumber)) {
-						certMap.put(objectNumber, DSSUtils.loadCertificate(certsArray.getStreamBytes(ii)));
+						certMap.put(objectNumber, CertificateTokenFactory.getInstance().loadCertificate(certsArray.getStreamBytes(ii)));
 					}
 				} catch (Exception e) {
 					LOG.debug("Unable to read Cert '{}' from the '{}' dictionary : {}", ii, dictionaryName, e.getMessage(), e);
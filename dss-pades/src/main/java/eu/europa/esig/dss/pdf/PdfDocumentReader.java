@@ -160,4 +160,18 @@ public interface PdfDocumentReader extends Closeable {
 	 */
 	PdfDict getCatalogDictionary();
 
+	/**
+	 * Returns a map between object numbers and byte offsets of their latest definitions within the document,
+	 * as defined by the cross-reference table(s). For an object compressed within an object stream,
+	 * the byte offset of the object stream is returned.
+	 * Since an incremental update does not change the preceding bytes, an object keeping the same offset
+	 * within two revisions of the same document has not been redefined.
+	 *
+	 * @return a map of object numbers and their offsets, NULL if the information is not available
+	 */
+	default Map<Long, Long> getObjectOffsets() {
+		// not supported by default
+		return null;
+	}
+
 }
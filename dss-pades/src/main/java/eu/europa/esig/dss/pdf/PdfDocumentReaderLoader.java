@@ -0,0 +1,41 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.pdf;
+
+import java.io.IOException;
+
+/**
+ * Loads a new independent {@code PdfDocumentReader} for a given document (revision).
+ * Used to process a document concurrently, as a {@code PdfDocumentReader} is not thread-safe.
+ *
+ */
+@FunctionalInterface
+public interface PdfDocumentReaderLoader {
+
+	/**
+	 * Loads a new reader. The returned reader shall be closed by the caller.
+	 *
+	 * @return {@link PdfDocumentReader}
+	 * @throws IOException if an error occurs on the document loading
+	 */
+	PdfDocumentReader load() throws IOException;
+
+}
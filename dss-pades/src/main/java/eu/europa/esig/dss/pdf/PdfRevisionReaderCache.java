@@ -0,0 +1,130 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.pdf;
+
+import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.pades.validation.ByteRange;
+import eu.europa.esig.dss.pades.validation.PdfByteRangeDocument;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * This class keeps the last loaded {@code PdfDocumentReader}s of incremental revisions of a PDF document.
+ * The revisions are extracted from the latest to the first one, and the same revision is commonly requested
+ * as a previous revision of a signature and as a signed revision of the preceding signature.
+ * Reusing the opened reader allows parsing of each revision only once.
+ *
+ * NOTE: the returned readers are owned by the cache and are closed on eviction or on {@code #close()} call
+ */
+final class PdfRevisionReaderCache implements Closeable {
+
+	private static final Logger LOG = LoggerFactory.getLogger(PdfRevisionReaderCache.class);
+
+	/** The maximum number of opened revision readers (a signed revision and its previous revision) */
+	private static final int MAX_SIZE = 2;
+
+	/** Loads a reader for a revision document */
+	private final PdfRevisionLoader revisionLoader;
+
+	/** The opened revision readers by their /ByteRange, in order of access */
+	private final Map<ByteRange, PdfDocumentReader> readers = new LinkedHashMap<>(4, 0.75f, true);
+
+	/**
+	 * Default constructor
+	 *
+	 * @param revisionLoader {@link PdfRevisionLoader} to load a new revision reader
+	 */
+	PdfRevisionReaderCache(final PdfRevisionLoader revisionLoader) {
+		Objects.requireNonNull(revisionLoader, "PdfRevisionLoader shall be defined!");
+		this.revisionLoader = revisionLoader;
+	}
+
+	/**
+	 * Returns a reader for the given {@code revision}, reusing an already opened one when possible.
+	 * The returned reader shall not be closed by the caller.
+	 *
+	 * @param revision {@link PdfByteRangeDocument} revision content
+	 * @return {@link PdfDocumentReader}
+	 * @throws IOException if an error occurs on the revision loading
+	 */
+	PdfDocumentReader getReader(final PdfByteRangeDocument revision) throws IOException {
+		final ByteRange byteRange = revision.getByteRange();
+		PdfDocumentReader reader = readers.get(byteRange);
+		if (reader == null) {
+			reader = revisionLoader.load(revision);
+			readers.put(byteRange, reader);
+			evict();
+		} else {
+			LOG.trace("The already loaded revision reader is reused for ByteRange {}", byteRange);
+		}
+		return reader;
+	}
+
+	private void evict() {
+		Iterator<PdfDocumentReader> iterator = readers.values().iterator();
+		while (readers.size() > MAX_SIZE && iterator.hasNext()) {
+			PdfDocumentReader eldest = iterator.next();
+			iterator.remove();
+			closeQuietly(eldest);
+		}
+	}
+
+	@Override
+	public void close() {
+		for (PdfDocumentReader reader : readers.values()) {
+			closeQuietly(reader);
+		}
+		readers.clear();
+	}
+
+	private void closeQuietly(PdfDocumentReader reader) {
+		try {
+			reader.close();
+		} catch (IOException e) {
+			LOG.debug("Unable to close a revision reader : {}", e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * Loads a {@code PdfDocumentReader} for a revision content
+	 */
+	@FunctionalInterface
+	interface PdfRevisionLoader {
+
+		/**
+		 * Loads a new reader for the {@code revision}
+		 *
+		 * @param revision {@link DSSDocument} revision content
+		 * @return {@link PdfDocumentReader}
+		 * @throws IOException if an error occurs on the revision loading
+		 */
+		PdfDocumentReader load(DSSDocument revision) throws IOException;
+
+	}
+
+}
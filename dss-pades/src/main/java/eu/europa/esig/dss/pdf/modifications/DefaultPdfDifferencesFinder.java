@@ -20,9 +20,11 @@
  */
 package eu.europa.esig.dss.pdf.modifications;
 
+import eu.europa.esig.dss.model.DSSException;
 import eu.europa.esig.dss.pdf.AnnotationBox;
 import eu.europa.esig.dss.pdf.PdfAnnotation;
 import eu.europa.esig.dss.pdf.PdfDocumentReader;
+import eu.europa.esig.dss.pdf.PdfDocumentReaderLoader;
 import eu.europa.esig.dss.pdf.visible.ImageUtils;
 import eu.europa.esig.dss.utils.Utils;
 import org.slf4j.Logger;
@@ -32,8 +34,18 @@ import java.awt.image.BufferedImage;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeSet;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 /**
  * Default implementation used to find differences in pages between two PDF revisions.
@@ -52,6 +64,23 @@ public class DefaultPdfDifferencesFinder implements PdfDifferencesFinder {
      */
     private int maximalPagesAmountForVisualComparison = 10;
 
+    /**
+     * The ExecutorService used to render and compare the pages concurrently.
+     *
+     * Default : null (the pages are processed sequentially)
+     */
+    private ExecutorService executorService;
+
+    /**
+     * The maximal amount of pages being compared at the same time, when {@code executorService} is defined.
+     * Limits the amount of page screenshots ({@code BufferedImage}s) and of opened revision readers kept in memory.
+     * NOTE: up to {@code maximalParallelPagesAmountForVisualComparison - 1} additional pairs of revision readers
+     *       are loaded with the provided {@code PdfDocumentReaderLoader}s, each of them parsing both revisions.
+     *
+     * Default : 4 pages
+     */
+    private int maximalParallelPagesAmountForVisualComparison = 4;
+
     /**
      * Sets a maximal pages amount in a PDF to process a visual screenshot
      * comparison Example: for value 10, the visual comparison will be executed for
@@ -68,6 +97,46 @@ public class DefaultPdfDifferencesFinder implements PdfDifferencesFinder {
         this.maximalPagesAmountForVisualComparison = pagesAmount;
     }
 
+    /**
+     * Sets the ExecutorService to be used to render and compare the pages of the PDF revisions concurrently.
+     * Each page is processed within a separate task, using its own pair of revision readers
+     * (loaded with the {@code PdfDocumentReaderLoader}s provided on the visual differences computation).
+     * When no loaders are provided, the pages are processed sequentially.
+     *
+     * NOTE: the calling thread waits for the completion of the submitted tasks. Therefore, the ExecutorService
+     *       shall be dedicated to the pages comparison and shall not execute the validation itself, otherwise
+     *       the processing may stall when all the threads of the pool are waiting for the queued tasks.
+     *
+     * Default : null (the pages are processed sequentially)
+     *
+     * @param executorService {@link ExecutorService}
+     */
+    public void setExecutorService(ExecutorService executorService) {
+        this.executorService = executorService;
+    }
+
+    /**
+     * Sets the maximal amount of pages to be compared at the same time, when an {@code ExecutorService} is defined.
+     * As two screenshots and a pair of revision readers are kept in memory for every page in process,
+     * the value limits the memory consumption.
+     *
+     * NOTE: the provided revision readers are reused by one of the tasks, while every other task in process
+     *       loads its own pair of revision readers (i.e. up to {@code pagesAmount - 1} additional pairs).
+     *       Every loaded reader keeps a parsed copy of its revision in memory until the comparison is finished,
+     *       thus the memory used for the readers grows linearly with the value. For big documents,
+     *       a lower value shall be considered.
+     *
+     * Default : 4 pages
+     *
+     * @param pagesAmount the amount of the pages to be compared at the same time
+     */
+    public void setMaximalParallelPagesAmountForVisualComparison(int pagesAmount) {
+        if (pagesAmount < 1) {
+            throw new IllegalArgumentException("The maximal parallel pages amount shall be a positive number!");
+        }
+        this.maximalParallelPagesAmountForVisualComparison = pagesAmount;
+    }
+
     /**
      * Default constructor instantiating object with default configuration
      */
@@ -144,6 +213,54 @@ public class DefaultPdfDifferencesFinder implements PdfDifferencesFinder {
     @Override
     public List<PdfModification> getVisualDifferences(final PdfDocumentReader signedRevisionReader,
                                                       final PdfDocumentReader finalRevisionReader) {
+        return getVisualDifferences(signedRevisionReader, finalRevisionReader, null, null);
+    }
+
+    @Override
+    public List<PdfModification> getVisualDifferences(final PdfDocumentReader signedRevisionReader,
+                                                      final PdfDocumentReader finalRevisionReader,
+                                                      final PdfDocumentReaderLoader signedRevisionLoader,
+                                                      final PdfDocumentReaderLoader finalRevisionLoader) {
+        return getVisualDifferences(signedRevisionReader, finalRevisionReader, signedRevisionLoader, finalRevisionLoader, false);
+    }
+
+    /**
+     * Checks whether the final revision contains visual differences against the signed revision.
+     * Unlike {@code getVisualDifferences(...)}, the comparison stops on the first page with a difference.
+     *
+     * @param signedRevisionReader {@link PdfDocumentReader} for the signed revision
+     * @param finalRevisionReader {@link PdfDocumentReader} for the final revision
+     * @return TRUE if a visual difference is found, FALSE otherwise
+     */
+    public boolean hasVisualDifferences(final PdfDocumentReader signedRevisionReader,
+                                        final PdfDocumentReader finalRevisionReader) {
+        return hasVisualDifferences(signedRevisionReader, finalRevisionReader, null, null);
+    }
+
+    /**
+     * Checks whether the final revision contains visual differences against the signed revision,
+     * using the loaders to open additional revision readers when an {@code ExecutorService} is defined.
+     * The comparison stops on the first page with a difference, and the remaining pages are not processed.
+     *
+     * @param signedRevisionReader {@link PdfDocumentReader} for the signed revision
+     * @param finalRevisionReader {@link PdfDocumentReader} for the final revision
+     * @param signedRevisionLoader {@link PdfDocumentReaderLoader} to load a new reader for the signed revision
+     * @param finalRevisionLoader {@link PdfDocumentReaderLoader} to load a new reader for the final revision
+     * @return TRUE if a visual difference is found, FALSE otherwise
+     */
+    public boolean hasVisualDifferences(final PdfDocumentReader signedRevisionReader,
+                                        final PdfDocumentReader finalRevisionReader,
+                                        final PdfDocumentReaderLoader signedRevisionLoader,
+                                        final PdfDocumentReaderLoader finalRevisionLoader) {
+        return Utils.isCollectionNotEmpty(getVisualDifferences(signedRevisionReader, finalRevisionReader,
+                signedRevisionLoader, finalRevisionLoader, true));
+    }
+
+    private List<PdfModification> getVisualDifferences(final PdfDocumentReader signedRevisionReader,
+                                                       final PdfDocumentReader finalRevisionReader,
+                                                       final PdfDocumentReaderLoader signedRevisionLoader,
+                                                       final PdfDocumentReaderLoader finalRevisionLoader,
+                                                       final boolean stopOnFirstDifference) {
         int pagesAmount = finalRevisionReader.getNumberOfPages();
         if (maximalPagesAmountForVisualComparison < pagesAmount) {
             LOG.debug("The provided document contains {} pages, while the limit for a visual comparison is set to {}. " +
@@ -151,31 +268,170 @@ public class DefaultPdfDifferencesFinder implements PdfDifferencesFinder {
             return Collections.emptyList();
         }
 
+        int pagesToCompare = Math.min(signedRevisionReader.getNumberOfPages(), pagesAmount);
+        if (executorService != null && signedRevisionLoader != null && finalRevisionLoader != null && pagesToCompare > 1) {
+            return getVisualDifferencesConcurrently(new RevisionReaders(signedRevisionReader, finalRevisionReader),
+                    signedRevisionLoader, finalRevisionLoader, pagesToCompare, stopOnFirstDifference);
+        }
+
         final List<PdfModification> visualDifferences = new ArrayList<>();
-        for (int pageNumber = 1; pageNumber <= signedRevisionReader.getNumberOfPages()
-                && pageNumber <= finalRevisionReader.getNumberOfPages(); pageNumber++) {
-            try {
-                BufferedImage signedScreenshot = signedRevisionReader.generateImageScreenshot(pageNumber);
+        for (int pageNumber = 1; pageNumber <= pagesToCompare; pageNumber++) {
+            if (isPageVisuallyDifferent(signedRevisionReader, finalRevisionReader, pageNumber)) {
+                visualDifferences.add(new CommonPdfModification(pageNumber));
+                if (stopOnFirstDifference) {
+                    break;
+                }
+            }
+        }
+        return visualDifferences;
+    }
 
-                List<PdfAnnotation> signedAnnotations = signedRevisionReader.getPdfAnnotations(pageNumber);
-                List<PdfAnnotation> finalAnnotations = finalRevisionReader.getPdfAnnotations(pageNumber);
+    private List<PdfModification> getVisualDifferencesConcurrently(final RevisionReaders providedReaders,
+                                                                   final PdfDocumentReaderLoader signedRevisionLoader,
+                                                                   final PdfDocumentReaderLoader finalRevisionLoader,
+                                                                   final int pagesToCompare,
+                                                                   final boolean stopOnFirstDifference) {
+        final int parallelPagesAmount = Math.min(maximalParallelPagesAmountForVisualComparison, pagesToCompare);
 
-                List<PdfAnnotation> addedAnnotations = getUpdatedAnnotations(signedAnnotations, finalAnnotations);
-                BufferedImage finalScreenshot = finalRevisionReader.generateImageScreenshotWithoutAnnotations(pageNumber,
-                        addedAnnotations);
+        // a PdfDocumentReader is not thread-safe, every task takes an exclusive pair of readers from the pool
+        final Queue<RevisionReaders> idleReaders = new ConcurrentLinkedQueue<>();
+        idleReaders.add(providedReaders);
 
-                if (!ImageUtils.imagesEqual(signedScreenshot, finalScreenshot)) {
-                    LOG.warn("A visual difference found on page {} between a signed revision and the final document!",
-                            pageNumber);
-                    visualDifferences.add(new CommonPdfModification(pageNumber));
+        final CompletionService<Boolean> completionService = new ExecutorCompletionService<>(executorService);
+        final Map<Future<Boolean>, Integer> pageNumbers = new HashMap<>();
+        int submittedTasks = 0;
+        int completedTasks = 0;
+        try {
+            final TreeSet<Integer> differentPages = new TreeSet<>();
+            int nextPageNumber = 1;
+            while (completedTasks < pagesToCompare) {
+                while (nextPageNumber <= pagesToCompare && submittedTasks - completedTasks < parallelPagesAmount) {
+                    final int pageNumber = nextPageNumber++;
+                    Future<Boolean> future = completionService.submit(() -> isPageVisuallyDifferent(
+                            idleReaders, signedRevisionLoader, finalRevisionLoader, pageNumber));
+                    pageNumbers.put(future, pageNumber);
+                    ++submittedTasks;
+                }
+                Future<Boolean> future = completionService.take();
+                ++completedTasks;
+                if (future.get()) {
+                    differentPages.add(pageNumbers.get(future));
+                    if (stopOnFirstDifference) {
+                        // the remaining tasks are cancelled below
+                        break;
+                    }
                 }
+            }
 
-            } catch (IOException e) {
-                LOG.warn("Unable to get visual differences for a page number : {}. Reason : {}",
-                        pageNumber, e.getMessage(), e);
+            final List<PdfModification> visualDifferences = new ArrayList<>();
+            for (Integer pageNumber : differentPages) {
+                visualDifferences.add(new CommonPdfModification(pageNumber));
             }
+            return visualDifferences;
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DSSException("Interrupted while comparing the PDF revisions visually", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new DSSException(String.format("Unable to compare the PDF revisions visually : %s", e.getMessage()), e);
+        } finally {
+            for (Future<Boolean> future : pageNumbers.keySet()) {
+                future.cancel(false);
+            }
+            awaitCompletion(completionService, submittedTasks - completedTasks);
+            closeLoadedReaders(idleReaders, providedReaders);
+        }
+    }
+
+    private boolean isPageVisuallyDifferent(final Queue<RevisionReaders> idleReaders,
+                                            final PdfDocumentReaderLoader signedRevisionLoader,
+                                            final PdfDocumentReaderLoader finalRevisionLoader,
+                                            final int pageNumber) throws IOException {
+        RevisionReaders readers = idleReaders.poll();
+        if (readers == null) {
+            LOG.trace("Load new revision readers for a visual comparison of page {}", pageNumber);
+            readers = loadRevisionReaders(signedRevisionLoader, finalRevisionLoader);
+        }
+        try {
+            return isPageVisuallyDifferent(readers.signedRevisionReader, readers.finalRevisionReader, pageNumber);
+        } finally {
+            idleReaders.add(readers);
+        }
+    }
+
+    private RevisionReaders loadRevisionReaders(final PdfDocumentReaderLoader signedRevisionLoader,
+                                                final PdfDocumentReaderLoader finalRevisionLoader) throws IOException {
+        final PdfDocumentReader signedRevisionReader = signedRevisionLoader.load();
+        try {
+            return new RevisionReaders(signedRevisionReader, finalRevisionLoader.load());
+        } catch (IOException | RuntimeException e) {
+            closeQuietly(signedRevisionReader);
+            throw e;
         }
-        return visualDifferences;
+    }
+
+    /**
+     * Waits for the completion of the submitted tasks (running tasks cannot be cancelled),
+     * before the revision readers are closed
+     */
+    private void awaitCompletion(final CompletionService<Boolean> completionService, int tasksInProcess) {
+        boolean interrupted = false;
+        while (tasksInProcess > 0) {
+            try {
+                completionService.take();
+                --tasksInProcess;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void closeLoadedReaders(final Queue<RevisionReaders> readersPool, final RevisionReaders providedReaders) {
+        for (RevisionReaders readers : readersPool) {
+            if (readers != providedReaders) {
+                closeQuietly(readers.signedRevisionReader);
+                closeQuietly(readers.finalRevisionReader);
+            }
+        }
+        readersPool.clear();
+    }
+
+    private void closeQuietly(final PdfDocumentReader reader) {
+        try {
+            reader.close();
+        } catch (IOException e) {
+            LOG.debug("Unable to close a revision reader : {}", e.getMessage(), e);
+        }
+    }
+
+    private boolean isPageVisuallyDifferent(final PdfDocumentReader signedRevisionReader,
+                                            final PdfDocumentReader finalRevisionReader, final int pageNumber) {
+        try {
+            final BufferedImage signedScreenshot = signedRevisionReader.generateImageScreenshot(pageNumber);
+            final List<PdfAnnotation> signedAnnotations = signedRevisionReader.getPdfAnnotations(pageNumber);
+
+            final List<PdfAnnotation> finalAnnotations = finalRevisionReader.getPdfAnnotations(pageNumber);
+            final List<PdfAnnotation> addedAnnotations = getUpdatedAnnotations(signedAnnotations, finalAnnotations);
+            final BufferedImage finalScreenshot = finalRevisionReader.generateImageScreenshotWithoutAnnotations(
+                    pageNumber, addedAnnotations);
+
+            if (!ImageUtils.imagesEqual(signedScreenshot, finalScreenshot)) {
+                LOG.warn("A visual difference found on page {} between a signed revision and the final document!",
+                        pageNumber);
+                return true;
+            }
+
+        } catch (IOException e) {
+            LOG.warn("Unable to get visual differences for a page number : {}. Reason : {}",
+                    pageNumber, e.getMessage(), e);
+        }
+        return false;
     }
 
     private List<PdfAnnotation> getUpdatedAnnotations(List<PdfAnnotation> signedAnnotations,
@@ -189,4 +445,22 @@ public class DefaultPdfDifferencesFinder implements PdfDifferencesFinder {
         return updatesAnnotations;
     }
 
+    /**
+     * A pair of readers for the signed and final revisions, used exclusively by one task at a time
+     */
+    private static final class RevisionReaders {
+
+        /** The signed revision reader */
+        private final PdfDocumentReader signedRevisionReader;
+
+        /** The final revision reader */
+        private final PdfDocumentReader finalRevisionReader;
+
+        private RevisionReaders(final PdfDocumentReader signedRevisionReader, final PdfDocumentReader finalRevisionReader) {
+            this.signedRevisionReader = signedRevisionReader;
+            this.finalRevisionReader = finalRevisionReader;
+        }
+
+    }
+
 }
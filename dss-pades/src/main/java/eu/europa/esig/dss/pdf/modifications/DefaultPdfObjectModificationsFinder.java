@@ -32,7 +32,9 @@ import org.slf4j.LoggerFactory;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayDeque;
 import java.util.Arrays;
+import java.util.Deque;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -87,20 +89,41 @@ public class DefaultPdfObjectModificationsFinder implements PdfObjectModificatio
 
     @Override
     public PdfObjectModifications find(PdfDocumentReader originalRevisionReader, PdfDocumentReader finalRevisionReader) {
-        final Set<ObjectModification> objectModifications = findObjectModifications(originalRevisionReader, finalRevisionReader);
+        final Set<ObjectModification> objectModifications = findObjectModifications(
+                originalRevisionReader, finalRevisionReader, null);
         return pdfObjectModificationsFilter.filter(objectModifications);
     }
 
-    private Set<ObjectModification> findObjectModifications(final PdfDocumentReader originalRevisionReader,
-                                                            final PdfDocumentReader finalRevisionReader) {
+    /**
+     * Returns all object modifications found between the two revisions, starting from the document catalog.
+     * When {@code xrefDelta} is defined, the indirect objects known to be unchanged are not compared.
+     *
+     * @param originalRevisionReader {@link PdfDocumentReader} representing original (e.g. signed) PDF revision
+     * @param finalRevisionReader {@link PdfDocumentReader} representing the final PDF document revision
+     * @param xrefDelta {@link XrefDelta} defining the changed objects, NULL to compare all objects
+     * @return a set of {@link ObjectModification}s
+     */
+    Set<ObjectModification> findObjectModifications(final PdfDocumentReader originalRevisionReader,
+                                                    final PdfDocumentReader finalRevisionReader,
+                                                    final XrefDelta xrefDelta) {
         final Set<ObjectModification> modifications = new LinkedHashSet<>(); // use LinkedHashSet in order to have a deterministic order
         final PdfDict signedCatalogDict = originalRevisionReader.getCatalogDictionary();
         final PdfDict finalCatalogDict = finalRevisionReader.getCatalogDictionary();
-        compareObjectsRecursively(modifications, new HashSet<>(), new PdfObjectTree(PAdESConstants.CATALOG_NAME),
-                PAdESConstants.CATALOG_NAME, signedCatalogDict, finalCatalogDict);
+        compareObjectsRecursively(modifications, new HashSet<>(), xrefDelta,
+                new PdfObjectTree(PAdESConstants.CATALOG_NAME), PAdESConstants.CATALOG_NAME, signedCatalogDict, finalCatalogDict);
         return modifications;
     }
 
+    /**
+     * Categorizes the found {@code objectModifications} using the defined {@code PdfObjectModificationsFilter}
+     *
+     * @param objectModifications a set of {@link ObjectModification}s
+     * @return {@link PdfObjectModifications}
+     */
+    PdfObjectModifications filter(Set<ObjectModification> objectModifications) {
+        return pdfObjectModificationsFilter.filter(objectModifications);
+    }
+
     /**
      * Returns found and categorized object differences between two provided {@code PdfDict} objects
      *
@@ -110,22 +133,27 @@ public class DefaultPdfObjectModificationsFinder implements PdfObjectModificatio
      */
     public PdfObjectModifications find(PdfDict originalRevisionDict, PdfDict finalRevisionDict) {
         final Set<ObjectModification> objectModifications = new LinkedHashSet<>();
-        compareDictsRecursively(objectModifications, new HashSet<>(), new PdfObjectTree(),
+        compareDictsRecursively(objectModifications, new HashSet<>(), null, new PdfObjectTree(),
                 originalRevisionDict, finalRevisionDict);
         return pdfObjectModificationsFilter.filter(objectModifications);
     }
 
     private void compareDictsRecursively(Set<ObjectModification> modifications, Set<String> processedObjects,
-                                                PdfObjectTree objectTree, PdfDict signedDict, PdfDict finalDict) {
+                                         XrefDelta xrefDelta, PdfObjectTree objectTree,
+                                         PdfDict signedDict, PdfDict finalDict) {
         final String[] signedRevKeys = signedDict.list();
         final String[] finalRevKeys = finalDict.list();
         for (String key : signedRevKeys) {
             final PdfObjectTree currentObjectTree = objectTree.copy();
             Long objectNumber = signedDict.getObjectNumber(key);
+            if (xrefDelta != null && xrefDelta.isUnchangedReference(objectNumber, finalDict.getObjectNumber(key))) {
+                addUnchangedReferences(processedObjects, xrefDelta, key, objectNumber);
+                continue;
+            }
             if (!isProcessedReference(processedObjects, currentObjectTree, key, objectNumber)) {
                 currentObjectTree.addKey(key);
                 addProcessedReference(processedObjects, currentObjectTree, key, objectNumber);
-                compareObjectsRecursively(modifications, processedObjects, currentObjectTree, key,
+                compareObjectsRecursively(modifications, processedObjects, xrefDelta, currentObjectTree, key,
                         signedDict.getObject(key), finalDict.getObject(key));
             }
         }
@@ -156,7 +184,8 @@ public class DefaultPdfObjectModificationsFinder implements PdfObjectModificatio
     }
 
     private void compareObjectsRecursively(Set<ObjectModification> modifications, Set<String> processedObjects,
-                                                  PdfObjectTree objectTree, String key, Object signedObject, Object finalObject) {
+                                           XrefDelta xrefDelta, PdfObjectTree objectTree, String key,
+                                           Object signedObject, Object finalObject) {
         if (maximumObjectVerificationDeepness < objectTree.getChainDeepness()) {
             LOG.warn("Maximum objects verification deepness has been reached : {}. " +
                     "Chain of objects is skipped.", maximumObjectVerificationDeepness);
@@ -191,15 +220,15 @@ public class DefaultPdfObjectModificationsFinder implements PdfObjectModificatio
 
         } else if (signedObject != null && finalObject != null) {
             if (signedObject instanceof PdfDict && finalObject instanceof PdfDict) {
-                compareDictsRecursively(modifications, processedObjects, objectTree,
+                compareDictsRecursively(modifications, processedObjects, xrefDelta, objectTree,
                         (PdfDict) signedObject, (PdfDict) finalObject);
 
             } else if (signedObject instanceof PdfArray && finalObject instanceof PdfArray) {
                 PdfArray signedArray = (PdfArray) signedObject;
                 PdfArray finalArray = (PdfArray) finalObject;
-                compareArraysRecursively(modifications, processedObjects, objectTree, key,
+                compareArraysRecursively(modifications, processedObjects, xrefDelta, objectTree, key,
                         signedArray, finalArray, true);
-                compareArraysRecursively(modifications, processedObjects, objectTree, key,
+                compareArraysRecursively(modifications, processedObjects, xrefDelta, objectTree, key,
                         finalArray, signedArray, false);
 
             } else if (signedObject instanceof String && finalObject instanceof String) {
@@ -235,7 +264,8 @@ public class DefaultPdfObjectModificationsFinder implements PdfObjectModificatio
     }
 
     private void compareArraysRecursively(Set<ObjectModification> modifications, Set<String> processedObjects,
-                                                 PdfObjectTree objectTree, String key, PdfArray firstArray, PdfArray secondArray, boolean signedFirst) {
+                                          XrefDelta xrefDelta, PdfObjectTree objectTree, String key,
+                                          PdfArray firstArray, PdfArray secondArray, boolean signedFirst) {
         for (int i = 0; i < firstArray.size(); i++) {
             final PdfObjectTree currentObjectTree = objectTree.copy();
 
@@ -243,25 +273,53 @@ public class DefaultPdfObjectModificationsFinder implements PdfObjectModificatio
             Object finalRevObject = null;
 
             Long objectNumber = firstArray.getObjectNumber(i);
+            Long secondObjectNumber = null;
             if (objectNumber != null) {
                 for (int j = 0; j < secondArray.size(); j++) {
                     Long finalObjectNumber = secondArray.getObjectNumber(j);
                     if (objectNumber.equals(finalObjectNumber)) {
                         finalRevObject = secondArray.getObject(j);
+                        secondObjectNumber = finalObjectNumber;
                     }
                 }
             } else if (i < secondArray.size()) {
                 finalRevObject = secondArray.getObject(i);
             }
 
+            if (xrefDelta != null && xrefDelta.isUnchangedReference(objectNumber, secondObjectNumber)) {
+                addUnchangedReferences(processedObjects, xrefDelta, key, objectNumber);
+                continue;
+            }
             if (!isProcessedReference(processedObjects, currentObjectTree, key, objectNumber)) {
                 addProcessedReference(processedObjects, currentObjectTree, key, objectNumber);
-                compareObjectsRecursively(modifications, processedObjects, currentObjectTree, key,
+                compareObjectsRecursively(modifications, processedObjects, xrefDelta, currentObjectTree, key,
                         signedFirst ? signedRevObject : finalRevObject, signedFirst ? finalRevObject : signedRevObject);
             }
         }
     }
 
+    /**
+     * Marks the unchanged object and the references within its subtree as processed, as they would be marked
+     * on a complete comparison of the subtree, in order to keep the same results as the full object tree walk
+     */
+    private void addUnchangedReferences(Set<String> processedObjects, XrefDelta xrefDelta,
+                                        String key, Long objectNumber) {
+        processedObjects.add(key + objectNumber);
+        if (!xrefDelta.addProcessedObject(objectNumber)) {
+            return;
+        }
+        final Deque<Long> objectsToProcess = new ArrayDeque<>();
+        objectsToProcess.push(objectNumber);
+        while (!objectsToProcess.isEmpty()) {
+            for (XrefDelta.ObjectReference reference : xrefDelta.getReferences(objectsToProcess.pop())) {
+                processedObjects.add(reference.getKey() + reference.getObjectNumber());
+                if (xrefDelta.addProcessedObject(reference.getObjectNumber())) {
+                    objectsToProcess.push(reference.getObjectNumber());
+                }
+            }
+        }
+    }
+
     private boolean isProcessedReference(Set<String> processedObjects, PdfObjectTree objectTree,
                                                 String key, Number objectNumber) {
         return processedObjects.contains(key + objectNumber) || objectTree.isProcessedReference(objectNumber);
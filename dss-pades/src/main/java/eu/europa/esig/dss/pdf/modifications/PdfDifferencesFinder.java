@@ -23,6 +23,7 @@ package eu.europa.esig.dss.pdf.modifications;
 import eu.europa.esig.dss.pdf.AnnotationBox;
 import eu.europa.esig.dss.pdf.PdfAnnotation;
 import eu.europa.esig.dss.pdf.PdfDocumentReader;
+import eu.europa.esig.dss.pdf.PdfDocumentReaderLoader;
 
 import java.util.List;
 
@@ -75,4 +76,25 @@ public interface PdfDifferencesFinder {
     List<PdfModification> getVisualDifferences(final PdfDocumentReader signedRevisionReader,
                                                final PdfDocumentReader finalRevisionReader);
 
+    /**
+     * Returns a list of visual differences found between signed and final revisions
+     * excluding newly created annotations.
+     * The loaders allow an implementation to open additional readers of the same revisions,
+     * in order to process the pages concurrently.
+     *
+     * @param signedRevisionReader {@link PdfDocumentReader} for the signed
+     *                             (covered) revision content
+     * @param finalRevisionReader  {@link PdfDocumentReader} for the originally
+     *                             provided document
+     * @param signedRevisionLoader {@link PdfDocumentReaderLoader} to load a new reader for the signed revision
+     * @param finalRevisionLoader  {@link PdfDocumentReaderLoader} to load a new reader for the final revision
+     * @return a list of {@link PdfModification}s
+     */
+    default List<PdfModification> getVisualDifferences(final PdfDocumentReader signedRevisionReader,
+                                                       final PdfDocumentReader finalRevisionReader,
+                                                       final PdfDocumentReaderLoader signedRevisionLoader,
+                                                       final PdfDocumentReaderLoader finalRevisionLoader) {
+        return getVisualDifferences(signedRevisionReader, finalRevisionReader);
+    }
+
 }
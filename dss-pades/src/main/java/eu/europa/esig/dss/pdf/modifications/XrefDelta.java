@@ -0,0 +1,182 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.pdf.modifications;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Contains the information about indirect objects changed between two PDF revisions,
+ * as well as the references between indirect objects of the final revision.
+ * Used by {@code DefaultPdfObjectModificationsFinder} to skip comparison of the unchanged objects.
+ *
+ * NOTE: the class is stateful and shall be created for each revisions comparison.
+ *
+ */
+final class XrefDelta {
+
+    /**
+     * Object numbers of the changed indirect objects, as well as of the objects referencing them
+     */
+    private final Set<Long> objectNumbersToCompare;
+
+    /**
+     * Map between object numbers and the references contained within the corresponding indirect objects
+     */
+    private final Map<Long, List<ObjectReference>> references;
+
+    /**
+     * Object numbers of unchanged objects, which references have been already marked as processed
+     */
+    private final Set<Long> processedObjects = new HashSet<>();
+
+    /**
+     * Default constructor
+     *
+     * @param objectNumbersToCompare a set of object numbers of objects to be compared
+     * @param references a map between object numbers and references contained within the objects
+     */
+    XrefDelta(final Set<Long> objectNumbersToCompare, final Map<Long, List<ObjectReference>> references) {
+        this.objectNumbersToCompare = objectNumbersToCompare;
+        this.references = references;
+    }
+
+    /**
+     * Builds a new {@code XrefDelta} from a map between referenced object numbers and the references to them
+     *
+     * @param updatedObjectNumbers a set of object numbers of the changed indirect objects
+     * @param references a map between object numbers and references contained within the objects
+     * @return {@link XrefDelta}
+     */
+    static XrefDelta build(final Set<Long> updatedObjectNumbers, final Map<Long, List<ObjectReference>> references) {
+        final Map<Long, List<Long>> referencingObjects = new HashMap<>();
+        for (Map.Entry<Long, List<ObjectReference>> entry : references.entrySet()) {
+            for (ObjectReference reference : entry.getValue()) {
+                referencingObjects.computeIfAbsent(reference.getObjectNumber(), k -> new ArrayList<>()).add(entry.getKey());
+            }
+        }
+
+        final Set<Long> objectNumbersToCompare = new HashSet<>(updatedObjectNumbers);
+        final List<Long> objectsToProcess = new ArrayList<>(updatedObjectNumbers);
+        while (!objectsToProcess.isEmpty()) {
+            List<Long> parents = referencingObjects.get(objectsToProcess.remove(objectsToProcess.size() - 1));
+            if (parents != null) {
+                for (Long parent : parents) {
+                    if (objectNumbersToCompare.add(parent)) {
+                        objectsToProcess.add(parent);
+                    }
+                }
+            }
+        }
+        return new XrefDelta(objectNumbersToCompare, references);
+    }
+
+    /**
+     * Returns a number of objects to be compared
+     *
+     * @return number of objects
+     */
+    int getNumberOfObjectsToCompare() {
+        return objectNumbersToCompare.size();
+    }
+
+    /**
+     * Checks whether both revisions reference the same indirect object, which is known to be unchanged,
+     * together with all objects referenced from it
+     *
+     * @param signedObjectNumber object number referenced within the original revision
+     * @param finalObjectNumber object number referenced within the final revision
+     * @return TRUE if the reference is unchanged, FALSE otherwise
+     */
+    boolean isUnchangedReference(Long signedObjectNumber, Long finalObjectNumber) {
+        return signedObjectNumber != null && signedObjectNumber.equals(finalObjectNumber)
+                && !objectNumbersToCompare.contains(signedObjectNumber);
+    }
+
+    /**
+     * Returns a list of references contained within the indirect object with the given number
+     *
+     * @param objectNumber object number
+     * @return a list of {@link ObjectReference}s
+     */
+    List<ObjectReference> getReferences(Long objectNumber) {
+        List<ObjectReference> objectReferences = references.get(objectNumber);
+        return objectReferences != null ? objectReferences : Collections.emptyList();
+    }
+
+    /**
+     * Marks the object as processed
+     *
+     * @param objectNumber object number
+     * @return TRUE if the object has not been processed before, FALSE otherwise
+     */
+    boolean addProcessedObject(Long objectNumber) {
+        return processedObjects.add(objectNumber);
+    }
+
+    /**
+     * Represents a reference to an indirect object, with the key of the dictionary entry containing it
+     */
+    static final class ObjectReference {
+
+        /** The dictionary key */
+        private final String key;
+
+        /** The referenced object number */
+        private final Long objectNumber;
+
+        /**
+         * Default constructor
+         *
+         * @param key the dictionary key
+         * @param objectNumber the referenced object number
+         */
+        ObjectReference(final String key, final Long objectNumber) {
+            this.key = key;
+            this.objectNumber = objectNumber;
+        }
+
+        /**
+         * Gets the dictionary key
+         *
+         * @return {@link String}
+         */
+        String getKey() {
+            return key;
+        }
+
+        /**
+         * Gets the referenced object number
+         *
+         * @return {@link Long}
+         */
+        Long getObjectNumber() {
+            return objectNumber;
+        }
+
+    }
+
+}
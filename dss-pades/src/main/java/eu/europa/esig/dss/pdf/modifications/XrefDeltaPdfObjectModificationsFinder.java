@@ -0,0 +1,189 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.pdf.modifications;
+
+import eu.europa.esig.dss.pdf.PdfArray;
+import eu.europa.esig.dss.pdf.PdfDict;
+import eu.europa.esig.dss.pdf.PdfDocumentReader;
+import eu.europa.esig.dss.utils.Utils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * This implementation restricts the object comparison to the objects redefined within the incremental updates
+ * appended after the original (e.g. signed) revision, as well as to the objects referencing them.
+ * Since an incremental update does not change the preceding bytes, an indirect object keeping the same
+ * cross-reference offset within both revisions is identical, and the pairwise comparison
+ * of {@code DefaultPdfObjectModificationsFinder} is only performed for the changed branches of the document.
+ * The references within the skipped branches are marked as processed, thus the same modifications are returned.
+ *
+ * NOTE: In order to find the objects referencing the redefined ones, the whole object graph of the final revision
+ *       is still walked once (without reading the streams). Only the comparison of the objects against the original
+ *       revision is skipped for the unchanged branches, therefore the gain depends on the size of the incremental
+ *       updates relatively to the document.
+ * When the cross-reference information is not available (see {@code PdfDocumentReader#getObjectOffsets}) or is
+ * inconsistent (e.g. a broken xref table), the full object tree comparison is performed.
+ *
+ * The implementation is not used by default, and may be configured with
+ * {@code IPdfObjFactory#setPdfObjectModificationsFinder}.
+ *
+ */
+public class XrefDeltaPdfObjectModificationsFinder extends DefaultPdfObjectModificationsFinder {
+
+    private static final Logger LOG = LoggerFactory.getLogger(XrefDeltaPdfObjectModificationsFinder.class);
+
+    /**
+     * Default constructor instantiating object with default configuration
+     */
+    public XrefDeltaPdfObjectModificationsFinder() {
+        // empty
+    }
+
+    @Override
+    public PdfObjectModifications find(PdfDocumentReader originalRevisionReader, PdfDocumentReader finalRevisionReader) {
+        final Set<Long> updatedObjectNumbers = getUpdatedObjectNumbers(originalRevisionReader, finalRevisionReader);
+        if (updatedObjectNumbers == null) {
+            LOG.debug("Unable to determine the redefined objects. The full object tree comparison is performed.");
+            return super.find(originalRevisionReader, finalRevisionReader);
+        }
+        final XrefDelta xrefDelta = XrefDelta.build(updatedObjectNumbers,
+                getObjectReferences(finalRevisionReader.getCatalogDictionary()));
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("{} object(s) redefined after the original revision, {} object(s) to be compared.",
+                    updatedObjectNumbers.size(), xrefDelta.getNumberOfObjectsToCompare());
+        }
+        return filter(findObjectModifications(originalRevisionReader, finalRevisionReader, xrefDelta));
+    }
+
+    /**
+     * Returns object numbers of indirect objects having been added or redefined within the final revision
+     *
+     * @param originalRevisionReader {@link PdfDocumentReader} representing original (e.g. signed) PDF revision
+     * @param finalRevisionReader {@link PdfDocumentReader} representing the final PDF document revision
+     * @return a set of object numbers, NULL if the cross-reference information is not available or inconsistent
+     */
+    private Set<Long> getUpdatedObjectNumbers(PdfDocumentReader originalRevisionReader,
+                                              PdfDocumentReader finalRevisionReader) {
+        final Map<Long, Long> originalOffsets = originalRevisionReader.getObjectOffsets();
+        final Map<Long, Long> finalOffsets = finalRevisionReader.getObjectOffsets();
+        if (Utils.isMapEmpty(originalOffsets) || Utils.isMapEmpty(finalOffsets)) {
+            return null;
+        }
+        for (Map.Entry<Long, Long> entry : originalOffsets.entrySet()) {
+            Long finalOffset = finalOffsets.get(entry.getKey());
+            if (finalOffset == null) {
+                LOG.debug("The object with number '{}' is not present within the final revision xref.", entry.getKey());
+                return null;
+            }
+            if (finalOffset < entry.getValue()) {
+                LOG.debug("The object with number '{}' has been redefined at a preceding offset.", entry.getKey());
+                return null;
+            }
+        }
+
+        final Set<Long> updatedObjectNumbers = new HashSet<>();
+        for (Map.Entry<Long, Long> entry : finalOffsets.entrySet()) {
+            if (!Objects.equals(entry.getValue(), originalOffsets.get(entry.getKey()))) {
+                updatedObjectNumbers.add(entry.getKey());
+            }
+        }
+        return updatedObjectNumbers;
+    }
+
+    /**
+     * Walks the object graph reachable from the {@code catalog} once and returns a map between object numbers
+     * of indirect objects and the references they contain (including within their direct dictionaries and arrays).
+     * NOTE: references contained directly within the catalog are linked to an owner with number -1.
+     *
+     * @param catalog {@link PdfDict} document catalog
+     * @return a map of object numbers and lists of references contained within the corresponding objects
+     */
+    private Map<Long, List<XrefDelta.ObjectReference>> getObjectReferences(PdfDict catalog) {
+        final Map<Long, List<XrefDelta.ObjectReference>> references = new HashMap<>();
+        final Set<Long> visitedObjects = new HashSet<>();
+
+        // the container to process, the object number of its enclosing indirect object
+        // and the dictionary key the container is defined with (inherited by array elements)
+        final Deque<Object> containers = new ArrayDeque<>();
+        final Deque<Long> owners = new ArrayDeque<>();
+        final Deque<String> keys = new ArrayDeque<>();
+        containers.push(catalog);
+        owners.push(-1L);
+        keys.push("");
+
+        while (!containers.isEmpty()) {
+            final Object container = containers.pop();
+            final Long owner = owners.pop();
+            final String containerKey = keys.pop();
+            if (container instanceof PdfDict) {
+                PdfDict pdfDict = (PdfDict) container;
+                for (String key : pdfDict.list()) {
+                    Long objectNumber = pdfDict.getObjectNumber(key);
+                    if (objectNumber != null) {
+                        references.computeIfAbsent(owner, k -> new ArrayList<>())
+                                .add(new XrefDelta.ObjectReference(key, objectNumber));
+                        if (!visitedObjects.add(objectNumber)) {
+                            continue;
+                        }
+                    }
+                    pushContainer(containers, owners, keys, pdfDict.getObject(key),
+                            objectNumber != null ? objectNumber : owner, key);
+                }
+
+            } else if (container instanceof PdfArray) {
+                PdfArray pdfArray = (PdfArray) container;
+                for (int i = 0; i < pdfArray.size(); i++) {
+                    Long objectNumber = pdfArray.getObjectNumber(i);
+                    if (objectNumber != null) {
+                        references.computeIfAbsent(owner, k -> new ArrayList<>())
+                                .add(new XrefDelta.ObjectReference(containerKey, objectNumber));
+                        if (!visitedObjects.add(objectNumber)) {
+                            continue;
+                        }
+                    }
+                    pushContainer(containers, owners, keys, pdfArray.getObject(i),
+                            objectNumber != null ? objectNumber : owner, containerKey);
+                }
+            }
+        }
+        return references;
+    }
+
+    private void pushContainer(Deque<Object> containers, Deque<Long> owners, Deque<String> keys,
+                               Object object, Long owner, String key) {
+        if (object instanceof PdfDict || object instanceof PdfArray) {
+            containers.push(object);
+            owners.push(owner);
+            keys.push(key);
+        }
+    }
+
+}
@@ -0,0 +1,85 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.pdf;
+
+import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.model.InMemoryDocument;
+import eu.europa.esig.dss.pades.validation.ByteRange;
+import eu.europa.esig.dss.pades.validation.PdfByteRangeDocument;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+public class PdfRevisionReaderCacheTest {
+
+	private static final DSSDocument DOCUMENT = new InMemoryDocument(new byte[1000]);
+
+	@Test
+	public void reuseReaderTest() throws Exception {
+		List<DSSDocument> loaded = new ArrayList<>();
+		List<PdfDocumentReader> closed = new ArrayList<>();
+
+		PdfRevisionReaderCache cache = new PdfRevisionReaderCache(revision -> {
+			loaded.add(revision);
+			return mockReader(closed);
+		});
+
+		PdfDocumentReader thirdRevision = cache.getReader(revision(900));
+		PdfDocumentReader secondRevision = cache.getReader(revision(600));
+		assertEquals(2, loaded.size());
+
+		// the previous revision of the third signature is the signed revision of the second one
+		assertSame(secondRevision, cache.getReader(revision(600)));
+		assertEquals(2, loaded.size());
+		assertEquals(0, closed.size());
+
+		PdfDocumentReader firstRevision = cache.getReader(revision(300));
+		assertNotSame(secondRevision, firstRevision);
+		assertEquals(3, loaded.size());
+		assertEquals(1, closed.size());
+		assertSame(thirdRevision, closed.get(0));
+
+		assertSame(firstRevision, cache.getReader(revision(300)));
+		assertEquals(3, loaded.size());
+
+		cache.close();
+		assertEquals(3, closed.size());
+	}
+
+	private PdfByteRangeDocument revision(int length) {
+		return new PdfByteRangeDocument(DOCUMENT, new ByteRange(new int[] { 0, length, length, 0 }));
+	}
+
+	private PdfDocumentReader mockReader(List<PdfDocumentReader> closed) throws IOException {
+		PdfDocumentReader reader = mock(PdfDocumentReader.class);
+		doAnswer(invocation -> closed.add(reader)).when(reader).close();
+		return reader;
+	}
+
+}
@@ -24,7 +24,7 @@ import eu.europa.esig.dss.model.DSSDocument;
 import eu.europa.esig.dss.service.http.proxy.ProxyConfig;
 import eu.europa.esig.dss.service.http.proxy.ProxyProperties;
 import eu.europa.esig.dss.spi.DSSUtils;
-import eu.europa.esig.dss.spi.client.http.DataLoader;
+import eu.europa.esig.dss.spi.client.http.ConditionalDataLoader;
 import eu.europa.esig.dss.spi.client.http.Protocol;
 import eu.europa.esig.dss.spi.exception.DSSDataLoaderMultipleException;
 import eu.europa.esig.dss.spi.exception.DSSExternalResourceException;
@@ -53,15 +53,20 @@ import org.apache.hc.client5.http.routing.HttpRoutePlanner;
 import org.apache.hc.client5.http.ssl.DefaultHostnameVerifier;
 import org.apache.hc.client5.http.ssl.SSLConnectionSocketFactory;
 import org.apache.hc.client5.http.ssl.SSLConnectionSocketFactoryBuilder;
+import org.apache.hc.core5.http.ClassicHttpResponse;
 import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.Header;
 import org.apache.hc.core5.http.HttpEntity;
 import org.apache.hc.core5.http.HttpException;
+import org.apache.hc.core5.http.HttpHeaders;
 import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.http.HttpStatus;
 import org.apache.hc.core5.http.io.HttpClientResponseHandler;
 import org.apache.hc.core5.http.io.SocketConfig;
 import org.apache.hc.core5.http.io.entity.BufferedHttpEntity;
 import org.apache.hc.core5.http.io.entity.InputStreamEntity;
 import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.pool.PoolStats;
 import org.apache.hc.core5.ssl.SSLContextBuilder;
 import org.apache.hc.core5.ssl.TrustStrategy;
 import org.apache.hc.core5.util.TimeValue;
@@ -76,6 +81,7 @@ import javax.naming.directory.DirContext;
 import javax.naming.directory.InitialDirContext;
 import javax.net.ssl.HostnameVerifier;
 import java.io.ByteArrayInputStream;
+import java.io.Closeable;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.MalformedURLException;
@@ -88,6 +94,7 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.Hashtable;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.StringTokenizer;
@@ -100,7 +107,7 @@ import java.util.StringTokenizer;
  * proxy management through {@code ProxyPreferenceManager}. The authentication
  * is also supported.
  */
-public class CommonsDataLoader implements DataLoader {
+public class CommonsDataLoader implements ConditionalDataLoader, Closeable {
 
 	private static final long serialVersionUID = -805432648564425522L;
 
@@ -239,6 +246,32 @@ public class CommonsDataLoader implements DataLoader {
 	 */
 	private transient HttpClientResponseHandler<byte[]> httpClientResponseHandler = new CommonsHttpClientResponseHandler();
 
+	/**
+	 * Defines whether the HTTP client and its connection pool shall be reused between the requests
+	 * Default: FALSE (a new HTTP client is created for each request)
+	 */
+	private boolean reuseHttpClient = false;
+
+	/**
+	 * The HTTP clients cached per protocol, when {@code reuseHttpClient} is enabled
+	 */
+	private transient Map<String, CloseableHttpClient> httpClients;
+
+	/**
+	 * The connection manager shared between the cached HTTP clients, when {@code reuseHttpClient} is enabled
+	 */
+	private transient PoolingHttpClientConnectionManager sharedConnectionManager;
+
+	/**
+	 * The number of requests being executed with a cached HTTP client, when {@code reuseHttpClient} is enabled
+	 */
+	private transient int activeRequests;
+
+	/**
+	 * Defines whether the cached HTTP clients are being closed (new requests wait for the closing to be completed)
+	 */
+	private transient boolean closing;
+
 	/**
 	 * The default constructor for CommonsDataLoader.
 	 */
@@ -740,6 +773,84 @@ public class CommonsDataLoader implements DataLoader {
 		this.httpClientResponseHandler = httpClientResponseHandler;
 	}
 
+	/**
+	 * Gets whether the HTTP client and its connection pool are reused between the requests
+	 *
+	 * @return TRUE if the HTTP client is reused, FALSE otherwise
+	 */
+	public boolean isReuseHttpClient() {
+		return reuseHttpClient;
+	}
+
+	/**
+	 * Sets whether the HTTP client and its connection pool shall be reused between the requests.
+	 * When enabled, the opened connections are kept alive (see {@code connectionKeepAlive}) and reused
+	 * for the following requests to the same route, avoiding a new TCP connection and TLS handshake per call.
+	 * The pooled connections are released on {@code close()}.
+	 * <p>
+	 * NOTE: the configuration of the data loader shall be defined before the first request.
+	 *       The configuration changes are applied to the cached HTTP client only after a call of {@code close()}.
+	 * Default : FALSE (a new HTTP client is created and closed for each request)
+	 *
+	 * @param reuseHttpClient whether the HTTP client shall be reused between the requests
+	 */
+	public void setReuseHttpClient(boolean reuseHttpClient) {
+		if (this.reuseHttpClient && !reuseHttpClient) {
+			close();
+		}
+		this.reuseHttpClient = reuseHttpClient;
+	}
+
+	/**
+	 * Returns the statistics of the shared connection pool (leased, pending, available and max connections)
+	 *
+	 * @return {@link PoolStats}, null if the HTTP client is not reused or no request has been executed yet
+	 */
+	public synchronized PoolStats getConnectionPoolStats() {
+		if (sharedConnectionManager != null) {
+			return sharedConnectionManager.getTotalStats();
+		}
+		return null;
+	}
+
+	/**
+	 * Closes the cached HTTP clients and the shared connection pool, when {@code reuseHttpClient} is enabled.
+	 * The method waits for the requests being executed with the cached HTTP clients to be completed,
+	 * the new requests submitted in the meantime wait for the closing to be completed.
+	 * The data loader can still be used after, a new HTTP client is created on the next request.
+	 */
+	@Override
+	public synchronized void close() {
+		closing = true;
+		try {
+			while (activeRequests > 0) {
+				wait();
+			}
+			closeHttpClients();
+
+		} catch (InterruptedException e) {
+			LOG.warn("Interrupted while waiting for the running requests to be completed. The HTTP clients are not closed.");
+			Thread.currentThread().interrupt();
+
+		} finally {
+			closing = false;
+			notifyAll();
+		}
+	}
+
+	private void closeHttpClients() {
+		if (httpClients != null) {
+			for (CloseableHttpClient httpClient : httpClients.values()) {
+				Utils.closeQuietly(httpClient);
+			}
+			httpClients = null;
+		}
+		if (sharedConnectionManager != null) {
+			Utils.closeQuietly(sharedConnectionManager);
+			sharedConnectionManager = null;
+		}
+	}
+
 	@Override
 	public byte[] get(final String urlString) {
 
@@ -887,6 +998,115 @@ public class CommonsDataLoader implements DataLoader {
 		}
 	}
 
+	@Override
+	public ConditionalResponse get(final String url, final CacheValidators cacheValidators) {
+		if (!Protocol.isHttpUrl(url)) {
+			// conditional requests are supported only for HTTP(S)
+			return new ConditionalResponse(false, get(url), null);
+		}
+
+		HttpGet httpRequest = null;
+		CloseableHttpClient client = null;
+
+		try {
+			httpRequest = getHttpRequest(url);
+			addConditionalHeaders(httpRequest, cacheValidators);
+			client = getHttpClient(url);
+			return executeConditional(client, httpRequest, cacheValidators);
+
+		} catch (URISyntaxException | IOException e) {
+			throw new DSSExternalResourceException(String.format("Unable to process conditional GET call for url [%s]. Reason : [%s]", url, DSSUtils.getExceptionMessage(e)), e);
+
+		} finally {
+			closeQuietly(httpRequest, client);
+
+		}
+	}
+
+	private void addConditionalHeaders(HttpGet httpRequest, CacheValidators cacheValidators) {
+		if (cacheValidators != null) {
+			if (cacheValidators.getETag() != null) {
+				httpRequest.setHeader(HttpHeaders.IF_NONE_MATCH, cacheValidators.getETag());
+			}
+			if (cacheValidators.getLastModified() != null) {
+				httpRequest.setHeader(HttpHeaders.IF_MODIFIED_SINCE, cacheValidators.getLastModified());
+			}
+		}
+	}
+
+	/**
+	 * Processes the conditional {@code httpRequest} and returns the obtained response.
+	 * The HTTP 304 (Not Modified) status is accepted in addition to the statuses
+	 * accepted by the configured {@code HttpClientResponseHandler}.
+	 *
+	 * @param client {@link CloseableHttpClient}
+	 * @param httpRequest {@link HttpUriRequest}
+	 * @param cacheValidators {@link CacheValidators} used for the request
+	 * @return {@link ConditionalResponse}
+	 * @throws IOException if an exception occurs
+	 */
+	protected ConditionalResponse executeConditional(final CloseableHttpClient client, final HttpUriRequest httpRequest,
+													 final CacheValidators cacheValidators) throws IOException {
+		final HttpHost targetHost = getHttpHost(httpRequest);
+		final HttpContext localContext = getHttpContext(targetHost);
+		final HttpClientResponseHandler<byte[]> responseHandler = getHttpClientResponseHandler();
+		return client.execute(targetHost, httpRequest, localContext, response -> {
+			final CacheValidators responseValidators = getCacheValidators(response);
+			if (HttpStatus.SC_NOT_MODIFIED == response.getCode()) {
+				LOG.debug("The content of url [{}] has not been modified", httpRequest.getRequestUri());
+				// a 304 response may omit the validators
+				return new ConditionalResponse(true, null, mergeCacheValidators(cacheValidators, responseValidators));
+			}
+			return new ConditionalResponse(false, responseHandler.handleResponse(response), responseValidators);
+		});
+	}
+
+	private CacheValidators getCacheValidators(ClassicHttpResponse response) {
+		final String eTag = getHeaderValue(response, HttpHeaders.ETAG);
+		final String lastModified = getHeaderValue(response, HttpHeaders.LAST_MODIFIED);
+		final Long maxAge = getMaxAge(response);
+		if (eTag == null && lastModified == null && maxAge == null) {
+			return null;
+		}
+		return new CacheValidators(eTag, lastModified, maxAge);
+	}
+
+	private String getHeaderValue(ClassicHttpResponse response, String headerName) {
+		final Header header = response.getFirstHeader(headerName);
+		if (header != null && Utils.isStringNotBlank(header.getValue())) {
+			return header.getValue();
+		}
+		return null;
+	}
+
+	private Long getMaxAge(ClassicHttpResponse response) {
+		for (Header header : response.getHeaders(HttpHeaders.CACHE_CONTROL)) {
+			for (String directive : header.getValue().split(",")) {
+				directive = Utils.trim(directive);
+				if (directive.toLowerCase(Locale.ROOT).startsWith("max-age=")) {
+					try {
+						return Long.parseLong(Utils.trim(directive.substring("max-age=".length())));
+					} catch (NumberFormatException e) {
+						LOG.debug("Unable to parse the Cache-Control directive '{}' : {}", directive, e.getMessage());
+					}
+				}
+			}
+		}
+		return null;
+	}
+
+	private CacheValidators mergeCacheValidators(CacheValidators requestValidators, CacheValidators responseValidators) {
+		if (requestValidators == null) {
+			return responseValidators;
+		} else if (responseValidators == null) {
+			return requestValidators;
+		}
+		return new CacheValidators(
+				responseValidators.getETag() != null ? responseValidators.getETag() : requestValidators.getETag(),
+				responseValidators.getLastModified() != null ? responseValidators.getLastModified() : requestValidators.getLastModified(),
+				responseValidators.getMaxAge() != null ? responseValidators.getMaxAge() : requestValidators.getMaxAge());
+	}
+
 	@Override
 	public byte[] post(final String url, final byte[] content) {
 
@@ -993,11 +1213,34 @@ public class CommonsDataLoader implements DataLoader {
 				httpRequest.cancel();
 			}
 		} finally {
+			releaseHttpClient(client);
+		}
+	}
+
+	private synchronized void releaseHttpClient(CloseableHttpClient client) {
+		if (isCachedHttpClient(client)) {
+			activeRequests--;
+			notifyAll();
+		} else {
 			Utils.closeQuietly(client);
 		}
 	}
 
+	private synchronized boolean isCachedHttpClient(CloseableHttpClient client) {
+		return client != null && httpClients != null && httpClients.containsValue(client);
+	}
+
 	private HttpClientConnectionManager getConnectionManager() {
+		if (reuseHttpClient) {
+			if (sharedConnectionManager == null) {
+				sharedConnectionManager = createConnectionManager();
+			}
+			return sharedConnectionManager;
+		}
+		return createConnectionManager();
+	}
+
+	private PoolingHttpClientConnectionManager createConnectionManager() {
 		final PoolingHttpClientConnectionManagerBuilder builder = PoolingHttpClientConnectionManagerBuilder.create()
 				.setSSLSocketFactory(getConnectionSocketFactoryHttps())
 				.setDefaultSocketConfig(getSocketConfig())
@@ -1132,6 +1375,7 @@ public class CommonsDataLoader implements DataLoader {
 				.setRedirectsEnabled(redirectsEnabled);
 
 		httpClientBuilder.setConnectionManager(getConnectionManager())
+				.setConnectionManagerShared(reuseHttpClient)
 				.setDefaultRequestConfig(requestConfigBuilder.build())
 				.setRetryStrategy(retryStrategy);
 		
@@ -1139,15 +1383,48 @@ public class CommonsDataLoader implements DataLoader {
 	}
 
 	/**
-	 * Gets the HTTP client
+	 * Gets the HTTP client.
+	 * NOTE: the returned client shall be released with {@code closeQuietly(httpRequest, client)}
+	 *       once the request is completed.
 	 *
 	 * @param url {@link String} request url
 	 * @return {@link CloseableHttpClient}
 	 */
 	protected synchronized CloseableHttpClient getHttpClient(final String url) {
+		if (reuseHttpClient) {
+			awaitClosing();
+			final CloseableHttpClient httpClient = getCachedHttpClient(url);
+			activeRequests++;
+			return httpClient;
+		}
 		return getHttpClientBuilder(url).build();
 	}
 
+	private void awaitClosing() {
+		try {
+			while (closing) {
+				wait();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new DSSExternalResourceException("Interrupted while waiting for the HTTP clients to be closed", e);
+		}
+	}
+
+	private CloseableHttpClient getCachedHttpClient(final String url) {
+		if (httpClients == null) {
+			httpClients = new HashMap<>();
+		}
+		// the proxy configuration depends on the protocol
+		final String protocol = getURL(url).getProtocol();
+		CloseableHttpClient httpClient = httpClients.get(protocol);
+		if (httpClient == null) {
+			httpClient = getHttpClientBuilder(url).build();
+			httpClients.put(protocol, httpClient);
+		}
+		return httpClient;
+	}
+
 	/**
 	 * Defines the Credentials
 	 *
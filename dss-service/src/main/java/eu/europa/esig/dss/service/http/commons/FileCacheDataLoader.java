@@ -25,7 +25,10 @@ import eu.europa.esig.dss.model.DSSDocument;
 import eu.europa.esig.dss.model.DSSException;
 import eu.europa.esig.dss.model.FileDocument;
 import eu.europa.esig.dss.spi.DSSUtils;
-import eu.europa.esig.dss.spi.client.http.DSSFileLoader;
+import eu.europa.esig.dss.spi.client.http.ConditionalDataLoader;
+import eu.europa.esig.dss.spi.client.http.ConditionalDataLoader.CacheValidators;
+import eu.europa.esig.dss.spi.client.http.ConditionalDataLoader.ConditionalResponse;
+import eu.europa.esig.dss.spi.client.http.ConditionalFileLoader;
 import eu.europa.esig.dss.spi.client.http.DataLoader;
 import eu.europa.esig.dss.spi.client.http.Protocol;
 import eu.europa.esig.dss.spi.exception.DSSDataLoaderMultipleException;
@@ -35,19 +38,24 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Properties;
 
 /**
  * This class provides some caching features to handle the resources. The default cache folder is set to
  * {@code java.io.tmpdir}. The urls of the resources is transformed to the
  * file name by replacing the special characters by {@code _}
  */
-public class FileCacheDataLoader implements DataLoader, DSSFileLoader {
+public class FileCacheDataLoader implements DataLoader, ConditionalFileLoader {
 
 	private static final long serialVersionUID = 1028849693098211169L;
 
@@ -56,6 +64,18 @@ public class FileCacheDataLoader implements DataLoader, DSSFileLoader {
 	/** The error message if the dataloader is not configured */
 	private static final String DATA_LOADER_NOT_CONFIGURED = "The DataLoader is not configured";
 
+	/** The suffix of the file storing HTTP cache validators of a cached file */
+	private static final String CACHE_VALIDATORS_SUFFIX = ".validators";
+
+	/** The ETag property name within a cache validators file */
+	private static final String ETAG_PROPERTY = "etag";
+
+	/** The Last-Modified property name within a cache validators file */
+	private static final String LAST_MODIFIED_PROPERTY = "last-modified";
+
+	/** The max-age property name within a cache validators file */
+	private static final String MAX_AGE_PROPERTY = "max-age";
+
 	/** The directory to cache files */
 	private File fileCacheDirectory = new File(System.getProperty("java.io.tmpdir"));
 
@@ -74,6 +94,9 @@ public class FileCacheDataLoader implements DataLoader, DSSFileLoader {
 	/** The dataloader to be used for a remote files access */
 	private DataLoader dataLoader;
 
+	/** Defines whether the 'max-age' directive of Cache-Control header returned by the server extends the cache expiration */
+	private boolean useCacheControlMaxAge = false;
+
 	/**
 	 * Empty constructor
 	 */
@@ -142,6 +165,21 @@ public class FileCacheDataLoader implements DataLoader, DSSFileLoader {
 		this.cacheExpirationTime = cacheExpirationTimeInMilliseconds;
 	}
 
+	/**
+	 * Sets whether the 'max-age' directive of Cache-Control header returned by the server shall be used
+	 * to define the expiration of a cached file. When enabled, a cached file is not requested again
+	 * until the time defined by the server is over, even if the {@code cacheExpirationTime} has passed.
+	 *
+	 * NOTE: applicable only when the configured {@code DataLoader} implements {@code ConditionalDataLoader}
+	 *
+	 * Default: FALSE (the 'max-age' directive is ignored)
+	 *
+	 * @param useCacheControlMaxAge whether the 'max-age' directive of Cache-Control header shall be used
+	 */
+	public void setUseCacheControlMaxAge(boolean useCacheControlMaxAge) {
+		this.useCacheControlMaxAge = useCacheControlMaxAge;
+	}
+
 	/**
 	 * Sets the ResourceLoader for an absolute path creation
 	 *
@@ -211,6 +249,18 @@ public class FileCacheDataLoader implements DataLoader, DSSFileLoader {
 	}
 	
 	private DSSDocument getDocument(final String url, final boolean refresh) throws DSSException {
+		return getDocument(url, refresh, false);
+	}
+
+	/**
+	 * Returns the document for the given url
+	 *
+	 * @param url {@link String} to get the document for
+	 * @param refresh if true indicates that the cached data should be refreshed
+	 * @param nullIfNotModified if true, NULL is returned when the server reports the cached content as not modified
+	 * @return {@link DSSDocument}
+	 */
+	private DSSDocument getDocument(final String url, final boolean refresh, final boolean nullIfNotModified) throws DSSException {
 		Objects.requireNonNull(dataLoader, DATA_LOADER_NOT_CONFIGURED);
 
 		// TODO: review
@@ -222,7 +272,7 @@ public class FileCacheDataLoader implements DataLoader, DSSFileLoader {
 		final boolean fileExists = file.exists();
 		final boolean isCacheExpired = isCacheExpired(file);
 		
-		if (fileExists && !refresh && !isCacheExpired) {
+		if (fileExists && !refresh && (!isCacheExpired || isFreshByMaxAge(fileName, file))) {
 			LOG.debug("Cached file was used");
 			return new FileDocument(file);
 			
@@ -240,6 +290,22 @@ public class FileCacheDataLoader implements DataLoader, DSSFileLoader {
 		if (!isNetworkProtocol(url)) {
 			bytes = getLocalFileContent(url);
 			
+		} else if (dataLoader instanceof ConditionalDataLoader) {
+			final CacheValidators cacheValidators = fileExists ? loadCacheValidators(fileName) : null;
+			final ConditionalResponse response = ((ConditionalDataLoader) dataLoader).get(url, cacheValidators);
+			if (fileExists && response.isNotModified()) {
+				LOG.debug("The content has not been modified. Cached file was used");
+				touch(file);
+				saveCacheValidators(fileName, response.getCacheValidators());
+				return nullIfNotModified ? null : new FileDocument(file);
+			}
+			bytes = response.getData();
+			if (Utils.isArrayNotEmpty(bytes)) {
+				final File out = createFile(fileName, bytes);
+				saveCacheValidators(fileName, response.getCacheValidators());
+				return new FileDocument(out);
+			}
+
 		} else {
 			bytes = dataLoader.get(url);
 			
@@ -258,6 +324,30 @@ public class FileCacheDataLoader implements DataLoader, DSSFileLoader {
 	public DSSDocument getDocument(String url) {
 		return getDocument(url, false);
 	}
+
+	@Override
+	public DSSDocument getDocumentIfModified(String url, DSSDocument previousDocument) {
+		if (isCachedDocument(url, previousDocument)) {
+			return getDocument(url, false, true);
+		}
+		return getDocument(url, false);
+	}
+
+	/**
+	 * Checks whether the {@code document} refers to the file cached for the given {@code url}
+	 *
+	 * @param url {@link String}
+	 * @param document {@link DSSDocument} to check
+	 * @return TRUE if the document is the cached file, FALSE otherwise
+	 */
+	private boolean isCachedDocument(String url, DSSDocument document) {
+		if (document instanceof FileDocument) {
+			final File file = ((FileDocument) document).getFile();
+			final File cacheFile = getCacheFile(DSSUtils.getNormalizedString(url));
+			return cacheFile.exists() && cacheFile.getAbsoluteFile().equals(file.getAbsoluteFile());
+		}
+		return false;
+	}
 	
 	@Override
 	public boolean remove(String url) {
@@ -267,6 +357,7 @@ public class FileCacheDataLoader implements DataLoader, DSSFileLoader {
 			if (LOG.isTraceEnabled()) {
 				LOG.trace("Deleting the file corresponding to URL '{}'...", url);
 			}
+			deleteCacheValidators(fileName);
 			return file.delete();
 		}
 		if (LOG.isDebugEnabled()) {
@@ -322,9 +413,81 @@ public class FileCacheDataLoader implements DataLoader, DSSFileLoader {
 		final String fileName = DSSUtils.getNormalizedString(urlString);
 		final File file = getCacheFile(fileName);
 		DSSUtils.saveToFile(bytes, file);
+		// the validators of the previous content are not applicable anymore
+		deleteCacheValidators(fileName);
 		return file;
 	}
 
+	private File getCacheValidatorsFile(final String fileName) {
+		return getCacheFile(fileName + CACHE_VALIDATORS_SUFFIX);
+	}
+
+	private CacheValidators loadCacheValidators(final String fileName) {
+		final File validatorsFile = getCacheValidatorsFile(fileName);
+		if (!validatorsFile.exists()) {
+			return null;
+		}
+		try (InputStream is = Files.newInputStream(validatorsFile.toPath())) {
+			Properties properties = new Properties();
+			properties.load(is);
+			String maxAge = properties.getProperty(MAX_AGE_PROPERTY);
+			return new CacheValidators(properties.getProperty(ETAG_PROPERTY), properties.getProperty(LAST_MODIFIED_PROPERTY),
+					maxAge != null ? Long.valueOf(maxAge) : null);
+		} catch (IOException | NumberFormatException e) {
+			LOG.warn("Unable to load cache validators from file '{}' : {}", validatorsFile.getName(), e.getMessage());
+			return null;
+		}
+	}
+
+	private void saveCacheValidators(final String fileName, final CacheValidators cacheValidators) {
+		if (cacheValidators == null) {
+			deleteCacheValidators(fileName);
+			return;
+		}
+		final Properties properties = new Properties();
+		if (cacheValidators.getETag() != null) {
+			properties.setProperty(ETAG_PROPERTY, cacheValidators.getETag());
+		}
+		if (cacheValidators.getLastModified() != null) {
+			properties.setProperty(LAST_MODIFIED_PROPERTY, cacheValidators.getLastModified());
+		}
+		if (cacheValidators.getMaxAge() != null) {
+			properties.setProperty(MAX_AGE_PROPERTY, String.valueOf(cacheValidators.getMaxAge()));
+		}
+		final File validatorsFile = getCacheValidatorsFile(fileName);
+		try (OutputStream os = Files.newOutputStream(validatorsFile.toPath())) {
+			properties.store(os, null);
+		} catch (IOException e) {
+			LOG.warn("Unable to store cache validators to file '{}' : {}", validatorsFile.getName(), e.getMessage());
+		}
+	}
+
+	private void deleteCacheValidators(final String fileName) {
+		final File validatorsFile = getCacheValidatorsFile(fileName);
+		if (validatorsFile.exists() && !validatorsFile.delete()) {
+			LOG.warn("Unable to delete cache validators file '{}'", validatorsFile.getName());
+		}
+	}
+
+	private boolean isFreshByMaxAge(final String fileName, final File file) {
+		if (!useCacheControlMaxAge || !(dataLoader instanceof ConditionalDataLoader)) {
+			return false;
+		}
+		final CacheValidators cacheValidators = loadCacheValidators(fileName);
+		if (cacheValidators != null && cacheValidators.getMaxAge() != null
+				&& new Date().getTime() - file.lastModified() < cacheValidators.getMaxAge() * 1000) {
+			LOG.debug("Cache is not expired according to the 'max-age' directive of the server");
+			return true;
+		}
+		return false;
+	}
+
+	private void touch(final File file) {
+		if (!file.setLastModified(new Date().getTime())) {
+			LOG.warn("Unable to update the last modification time of file '{}'", file.getName());
+		}
+	}
+
 	/**
 	 * Allows to load the file for a given file name from the cache folder.
 	 *
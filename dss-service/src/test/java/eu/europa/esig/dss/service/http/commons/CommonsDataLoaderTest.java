@@ -20,6 +20,7 @@
  */
 package eu.europa.esig.dss.service.http.commons;
 
+import com.sun.net.httpserver.HttpServer;
 import eu.europa.esig.dss.model.DSSException;
 import eu.europa.esig.dss.model.x509.CertificateToken;
 import eu.europa.esig.dss.service.http.proxy.ProxyConfig;
@@ -31,18 +32,32 @@ import eu.europa.esig.dss.spi.exception.DSSDataLoaderMultipleException;
 import eu.europa.esig.dss.spi.exception.DSSExternalResourceException;
 import eu.europa.esig.dss.utils.Utils;
 import org.apache.hc.core5.http.HttpStatus;
+import org.apache.hc.core5.pool.PoolStats;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -286,4 +301,100 @@ public class CommonsDataLoaderTest {
 				"Reason : [Not acceptable HTTP Status (HTTP status code : 200 / reason : OK)]", exception.getMessage());
 	}
 
+	@Test
+	public void reuseHttpClientTest() throws IOException {
+		final byte[] content = "Hello World!".getBytes();
+		final Set<Integer> clientPorts = new HashSet<>();
+
+		HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+		server.createContext("/test", exchange -> {
+			clientPorts.add(exchange.getRemoteAddress().getPort());
+			exchange.sendResponseHeaders(HttpStatus.SC_OK, content.length);
+			try (OutputStream os = exchange.getResponseBody()) {
+				os.write(content);
+			}
+		});
+		server.start();
+
+		try {
+			String url = "http://localhost:" + server.getAddress().getPort() + "/test";
+
+			dataLoader.setReuseHttpClient(true);
+			assertNull(dataLoader.getConnectionPoolStats());
+
+			assertArrayEquals(content, dataLoader.get(url));
+			assertArrayEquals(content, dataLoader.get(url));
+			assertArrayEquals(content, dataLoader.get(url));
+			assertEquals(1, clientPorts.size());
+
+			PoolStats poolStats = dataLoader.getConnectionPoolStats();
+			assertNotNull(poolStats);
+			assertEquals(0, poolStats.getLeased());
+			assertEquals(1, poolStats.getAvailable());
+
+			dataLoader.close();
+			assertNull(dataLoader.getConnectionPoolStats());
+
+			assertArrayEquals(content, dataLoader.get(url));
+			assertEquals(2, clientPorts.size());
+
+			dataLoader.setReuseHttpClient(false);
+			assertNull(dataLoader.getConnectionPoolStats());
+
+			assertArrayEquals(content, dataLoader.get(url));
+			assertEquals(3, clientPorts.size());
+
+		} finally {
+			dataLoader.close();
+			server.stop(0);
+		}
+	}
+
+	@Test
+	public void closeDuringRequestTest() throws Exception {
+		final byte[] content = "Hello World!".getBytes();
+		final CountDownLatch requestReceived = new CountDownLatch(1);
+		final CountDownLatch responseAllowed = new CountDownLatch(1);
+
+		HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+		server.createContext("/test", exchange -> {
+			requestReceived.countDown();
+			try {
+				responseAllowed.await(10, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			exchange.sendResponseHeaders(HttpStatus.SC_OK, content.length);
+			try (OutputStream os = exchange.getResponseBody()) {
+				os.write(content);
+			}
+		});
+		server.start();
+
+		ExecutorService executorService = Executors.newFixedThreadPool(2);
+		try {
+			String url = "http://localhost:" + server.getAddress().getPort() + "/test";
+			dataLoader.setReuseHttpClient(true);
+
+			Future<byte[]> request = executorService.submit(() -> dataLoader.get(url));
+			assertTrue(requestReceived.await(10, TimeUnit.SECONDS));
+
+			Future<?> close = executorService.submit(() -> dataLoader.close());
+			// the pool is not closed while the request is running
+			assertThrows(TimeoutException.class, () -> close.get(500, TimeUnit.MILLISECONDS));
+			assertNotNull(dataLoader.getConnectionPoolStats());
+
+			responseAllowed.countDown();
+			assertArrayEquals(content, request.get(10, TimeUnit.SECONDS));
+			close.get(10, TimeUnit.SECONDS);
+			assertNull(dataLoader.getConnectionPoolStats());
+
+		} finally {
+			responseAllowed.countDown();
+			executorService.shutdownNow();
+			dataLoader.close();
+			server.stop(0);
+		}
+	}
+
 }
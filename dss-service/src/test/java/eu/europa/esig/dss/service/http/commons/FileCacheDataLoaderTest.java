@@ -20,8 +20,10 @@
  */
 package eu.europa.esig.dss.service.http.commons;
 
+import com.sun.net.httpserver.HttpServer;
 import eu.europa.esig.dss.model.DSSDocument;
 import eu.europa.esig.dss.model.DSSException;
+import eu.europa.esig.dss.model.InMemoryDocument;
 import eu.europa.esig.dss.spi.DSSUtils;
 import eu.europa.esig.dss.spi.client.http.DataLoader.DataAndUrl;
 import eu.europa.esig.dss.spi.client.http.IgnoreDataLoader;
@@ -33,6 +35,9 @@ import org.junit.jupiter.api.io.TempDir;
 
 import java.io.File;
 import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Arrays;
@@ -41,10 +46,13 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -179,6 +187,77 @@ public class FileCacheDataLoaderTest {
 		assertNotNull(dataAndUrl.getData());
 	}
 
+	@Test
+	public void conditionalGetTest() throws IOException {
+		final byte[] content = "Hello world!".getBytes(StandardCharsets.UTF_8);
+		final AtomicInteger fullResponses = new AtomicInteger();
+		final AtomicInteger notModifiedResponses = new AtomicInteger();
+
+		HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+		server.createContext("/resource", exchange -> {
+			exchange.getResponseHeaders().add("ETag", "\"v1\"");
+			exchange.getResponseHeaders().add("Cache-Control", "public, max-age=3600");
+			if ("\"v1\"".equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+				notModifiedResponses.incrementAndGet();
+				exchange.sendResponseHeaders(304, -1);
+			} else {
+				fullResponses.incrementAndGet();
+				exchange.sendResponseHeaders(200, content.length);
+				exchange.getResponseBody().write(content);
+			}
+			exchange.close();
+		});
+		server.start();
+
+		try (CommonsDataLoader commonsDataLoader = new CommonsDataLoader()) {
+			String url = "http://localhost:" + server.getAddress().getPort() + "/resource";
+			dataLoader.setDataLoader(commonsDataLoader);
+			dataLoader.setCacheExpirationTime(0);
+
+			assertArrayEquals(content, dataLoader.get(url));
+			assertEquals(1, fullResponses.get());
+			assertEquals(0, notModifiedResponses.get());
+
+			assertArrayEquals(content, dataLoader.get(url));
+			assertArrayEquals(content, DSSUtils.toByteArray(dataLoader.getDocument(url)));
+			assertEquals(1, fullResponses.get());
+			assertEquals(2, notModifiedResponses.get());
+
+			// the server defines max-age
+			dataLoader.setUseCacheControlMaxAge(true);
+			assertArrayEquals(content, dataLoader.get(url));
+			assertEquals(1, fullResponses.get());
+			assertEquals(2, notModifiedResponses.get());
+
+			// forced refresh
+			assertArrayEquals(content, dataLoader.get(url, true));
+			assertEquals(1, fullResponses.get());
+			assertEquals(3, notModifiedResponses.get());
+
+			// validators are removed with the cached file
+			assertTrue(dataLoader.remove(url));
+			assertArrayEquals(content, dataLoader.get(url));
+			assertEquals(2, fullResponses.get());
+			assertEquals(3, notModifiedResponses.get());
+
+			// not modified since the previously obtained document
+			dataLoader.setUseCacheControlMaxAge(false);
+			DSSDocument previousDocument = dataLoader.getDocument(url);
+			assertEquals(4, notModifiedResponses.get());
+			assertNull(dataLoader.getDocumentIfModified(url, previousDocument));
+			assertEquals(2, fullResponses.get());
+			assertEquals(5, notModifiedResponses.get());
+
+			// the previous document is not the cached file
+			assertArrayEquals(content, DSSUtils.toByteArray(dataLoader.getDocumentIfModified(url, new InMemoryDocument(content))));
+			assertEquals(2, fullResponses.get());
+			assertEquals(6, notModifiedResponses.get());
+
+		} finally {
+			server.stop(0);
+		}
+	}
+
 	private long getUrlAndReturnCacheCreationTime() {
 		byte[] bytesArray = dataLoader.get(URL_TO_LOAD);
 		assertTrue(bytesArray.length > 0);
@@ -195,7 +274,8 @@ public class FileCacheDataLoaderTest {
 	private File getCachedFile(File cacheDirectory) {
 		File cachedFile = null;
 		if (cacheDirectory.exists()) {
-			File[] files = cacheDirectory.listFiles();
+			// skip files with HTTP cache validators
+			File[] files = cacheDirectory.listFiles((dir, name) -> !name.endsWith(".validators"));
 			if (files != null && files.length > 0) {
 				cachedFile = files[0];
 			}
@@ -24,6 +24,7 @@ import eu.europa.esig.dss.enumerations.DigestAlgorithm;
 import eu.europa.esig.dss.model.DSSException;
 import eu.europa.esig.dss.model.DSSMessageDigest;
 
+import java.io.OutputStream;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 
@@ -78,6 +79,39 @@ public class DSSMessageDigestCalculator {
         }
     }
 
+    /**
+     * Updates the digest using the specified array of bytes, starting at the specified offset
+     *
+     * @param bytes array of bytes
+     * @param offset the offset to start from in the array of bytes
+     * @param length the number of bytes to use, starting at {@code offset}
+     */
+    public void update(byte[] bytes, int offset, int length) {
+        messageDigest.update(bytes, offset, length);
+    }
+
+    /**
+     * Returns an {@code OutputStream} updating the digest with all the written bytes.
+     * The stream can be used to compute a message-digest of a content, without its materialization.
+     *
+     * @return {@link OutputStream}
+     */
+    public OutputStream getOutputStream() {
+        return new OutputStream() {
+
+            @Override
+            public void write(int b) {
+                update((byte) b);
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+                update(b, off, len);
+            }
+
+        };
+    }
+
     /**
      * Returns the {@code DSSMessageDigest} accordingly to the current state.
      * This method resets the state of message-digest.
@@ -0,0 +1,181 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.spi.client.http;
+
+import java.io.Serializable;
+
+/**
+ * Component that allows to retrieve the data using conditional HTTP GET requests
+ * ('If-None-Match' / 'If-Modified-Since' headers), avoiding the download of a content
+ * which has not been modified since the previous request.
+ *
+ */
+public interface ConditionalDataLoader extends DataLoader {
+
+	/**
+	 * This class represents the validators returned by the server for a resource (ETag, Last-Modified and
+	 * the 'max-age' directive of Cache-Control header), to be used for a subsequent conditional request.
+	 */
+	class CacheValidators implements Serializable {
+
+		private static final long serialVersionUID = -4185405386397224311L;
+
+		/**
+		 * The value of ETag header
+		 */
+		private final String eTag;
+
+		/**
+		 * The value of Last-Modified header
+		 */
+		private final String lastModified;
+
+		/**
+		 * The 'max-age' directive of Cache-Control header, in seconds (null if not defined)
+		 */
+		private final Long maxAge;
+
+		/**
+		 * Default constructor
+		 *
+		 * @param eTag {@link String} value of ETag header
+		 * @param lastModified {@link String} value of Last-Modified header
+		 * @param maxAge {@link Long} 'max-age' directive of Cache-Control header, in seconds
+		 */
+		public CacheValidators(final String eTag, final String lastModified, final Long maxAge) {
+			this.eTag = eTag;
+			this.lastModified = lastModified;
+			this.maxAge = maxAge;
+		}
+
+		/**
+		 * Gets the value of ETag header
+		 *
+		 * @return {@link String}
+		 */
+		public String getETag() {
+			return eTag;
+		}
+
+		/**
+		 * Gets the value of Last-Modified header
+		 *
+		 * @return {@link String}
+		 */
+		public String getLastModified() {
+			return lastModified;
+		}
+
+		/**
+		 * Gets the 'max-age' directive of Cache-Control header, in seconds
+		 *
+		 * @return {@link Long}, null if not defined
+		 */
+		public Long getMaxAge() {
+			return maxAge;
+		}
+
+		/**
+		 * Checks if the validators allow execution of a conditional request
+		 *
+		 * @return TRUE if ETag or Last-Modified value is defined, FALSE otherwise
+		 */
+		public boolean isConditionalRequestSupported() {
+			return eTag != null || lastModified != null;
+		}
+
+	}
+
+	/**
+	 * This class represents a response of a conditional GET request
+	 */
+	class ConditionalResponse {
+
+		/**
+		 * Defines whether the server reported the content as not modified (HTTP 304)
+		 */
+		private final boolean notModified;
+
+		/**
+		 * Obtained data, null if the content has not been modified
+		 */
+		private final byte[] data;
+
+		/**
+		 * The validators returned by the server, if any
+		 */
+		private final CacheValidators cacheValidators;
+
+		/**
+		 * Default constructor
+		 *
+		 * @param notModified whether the server reported the content as not modified (HTTP 304)
+		 * @param data a byte array, null when the content has not been modified
+		 * @param cacheValidators {@link CacheValidators} returned by the server
+		 */
+		public ConditionalResponse(final boolean notModified, final byte[] data, final CacheValidators cacheValidators) {
+			this.notModified = notModified;
+			this.data = data;
+			this.cacheValidators = cacheValidators;
+		}
+
+		/**
+		 * Checks whether the server reported the content as not modified (HTTP 304)
+		 *
+		 * @return TRUE if the content has not been modified, FALSE otherwise
+		 */
+		public boolean isNotModified() {
+			return notModified;
+		}
+
+		/**
+		 * Gets the downloaded data
+		 *
+		 * @return a byte array, null when the content has not been modified
+		 */
+		public byte[] getData() {
+			return data;
+		}
+
+		/**
+		 * Gets the validators returned by the server
+		 *
+		 * @return {@link CacheValidators}, null if no validators have been returned
+		 */
+		public CacheValidators getCacheValidators() {
+			return cacheValidators;
+		}
+
+	}
+
+	/**
+	 * Executes a conditional HTTP GET operation. When {@code cacheValidators} are provided,
+	 * the request is sent with 'If-None-Match' and/or 'If-Modified-Since' headers.
+	 *
+	 * @param url
+	 *            the url to access
+	 * @param cacheValidators
+	 *            {@link CacheValidators} obtained on the previous request (may be null)
+	 * @return {@link ConditionalResponse}
+	 */
+	ConditionalResponse get(final String url, final CacheValidators cacheValidators);
+
+}
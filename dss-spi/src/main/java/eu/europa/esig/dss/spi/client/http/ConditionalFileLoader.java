@@ -0,0 +1,46 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.spi.client.http;
+
+import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.model.DSSException;
+
+/**
+ * Loads files, allowing to skip the retrieval of a document which has not been modified
+ * since it has been previously obtained from the same loader (e.g. HTTP 304 Not Modified response)
+ */
+public interface ConditionalFileLoader extends DSSFileLoader {
+
+	/**
+	 * Returns DSSDocument from the provided url, or NULL when the remote content has not been modified
+	 * since the {@code previousDocument} has been obtained.
+	 * NOTE: NULL is returned only when the {@code previousDocument} corresponds to the document
+	 * stored by the current loader for the given url. Otherwise, the document is returned as in
+	 * {@code #getDocument(String)}.
+	 *
+	 * @param url {@link String} url of the document to obtain
+	 * @param previousDocument {@link DSSDocument} previously obtained from the current loader for the url
+	 * @return {@link DSSDocument} retrieved document, NULL if the document has not been modified
+	 * @throws DSSException in case of DataLoader error
+	 */
+	DSSDocument getDocumentIfModified(final String url, final DSSDocument previousDocument) throws DSSException;
+
+}
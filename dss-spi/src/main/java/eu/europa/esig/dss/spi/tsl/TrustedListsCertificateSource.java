@@ -45,8 +45,13 @@ public class TrustedListsCertificateSource extends CommonTrustedCertificateSourc
 	/** The TL Validation job summary */
 	private TLValidationJobSummary summary;
 
-	/** The map of trust properties by EntityIdentifier (public keys) */
-	private Map<EntityIdentifier, List<TrustProperties>> trustPropertiesByEntity = new HashMap<>();
+	/**
+	 * The immutable map of trust properties by EntityIdentifier (public keys)
+	 *
+	 * NOTE: the map is replaced as a whole on {@code #setTrustPropertiesByCertificates} call.
+	 * This allows reading the trust properties without locking, while a new data is being loaded.
+	 */
+	private volatile Map<EntityIdentifier, List<TrustProperties>> trustPropertiesByEntity = Collections.emptyMap();
 
 	/**
 	 * The default constructor.
@@ -91,30 +96,53 @@ public class TrustedListsCertificateSource extends CommonTrustedCertificateSourc
 		throw new UnsupportedOperationException("Cannot directly add certificate to a TrustedListsCertificateSource");
 	}
 
+	/**
+	 * This method is not applicable for this kind of certificate source. You should
+	 * use {@link #setTrustPropertiesByCertificates}
+	 *
+	 * @param certificate the certificate to remove
+	 */
+	@Override
+	protected void removeCertificate(CertificateToken certificate) {
+		throw new UnsupportedOperationException("Cannot directly remove certificate from a TrustedListsCertificateSource");
+	}
+
+	@Override
+	protected void reset() {
+		super.reset();
+		this.trustPropertiesByEntity = Collections.emptyMap();
+	}
+
 	/**
 	 * The method allows to fill the CertificateSource
+	 *
+	 * NOTE: the trust properties and the certificates are built aside and published once the whole map is processed
+	 *       (the trust properties first). The concurrent readers are not blocked and use the previous values until then.
+	 *
 	 * @param trustPropertiesByCerts map between {@link CertificateToken}s and a list of {@link TrustProperties}
 	 */
 	public synchronized void setTrustPropertiesByCertificates(final Map<CertificateToken, List<TrustProperties>> trustPropertiesByCerts) {
-		this.trustPropertiesByEntity = new HashMap<>(); // reinit the map
-		super.reset();
-		trustPropertiesByCerts.forEach(this::addCertificate);
+		this.trustPropertiesByEntity = buildTrustPropertiesByEntity(trustPropertiesByCerts);
+		super.replaceCertificates(trustPropertiesByCerts.keySet());
 	}
-	
-	private void addCertificate(CertificateToken certificateToken, List<TrustProperties> trustPropertiesList) {
-		super.addCertificate(certificateToken);
-		
-		EntityIdentifier entityKey = certificateToken.getEntityKey();
-		List<TrustProperties> list = trustPropertiesByEntity.computeIfAbsent(entityKey, k -> new ArrayList<>());
-		for (TrustProperties trustProperties : trustPropertiesList) {
-			if (!list.contains(trustProperties)) {
-				list.add(trustProperties);
+
+	private Map<EntityIdentifier, List<TrustProperties>> buildTrustPropertiesByEntity(
+			final Map<CertificateToken, List<TrustProperties>> trustPropertiesByCerts) {
+		final Map<EntityIdentifier, List<TrustProperties>> result = new HashMap<>();
+		for (Map.Entry<CertificateToken, List<TrustProperties>> entry : trustPropertiesByCerts.entrySet()) {
+			List<TrustProperties> list = result.computeIfAbsent(entry.getKey().getEntityKey(), k -> new ArrayList<>());
+			for (TrustProperties trustProperties : entry.getValue()) {
+				if (!list.contains(trustProperties)) {
+					list.add(trustProperties);
+				}
 			}
 		}
+		result.replaceAll((entityKey, list) -> Collections.unmodifiableList(list));
+		return Collections.unmodifiableMap(result);
 	}
 
 	@Override
-	public synchronized List<TrustProperties> getTrustServices(CertificateToken token) {
+	public List<TrustProperties> getTrustServices(CertificateToken token) {
 		List<TrustProperties> currentTrustProperties = trustPropertiesByEntity.get(token.getEntityKey());
 		if (currentTrustProperties != null) {
 			return currentTrustProperties;
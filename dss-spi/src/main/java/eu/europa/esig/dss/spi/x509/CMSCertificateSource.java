@@ -26,7 +26,6 @@ import eu.europa.esig.dss.enumerations.DigestAlgorithm;
 import eu.europa.esig.dss.model.Digest;
 import eu.europa.esig.dss.model.x509.CertificateToken;
 import eu.europa.esig.dss.spi.DSSASN1Utils;
-import eu.europa.esig.dss.spi.DSSUtils;
 import eu.europa.esig.dss.spi.SignatureCertificateSource;
 import eu.europa.esig.dss.utils.Utils;
 import org.bouncycastle.asn1.ASN1Encodable;
@@ -119,7 +118,7 @@ public abstract class CMSCertificateSource extends SignatureCertificateSource {
 		try {
 			final Collection<X509CertificateHolder> x509CertificateHolders = cmsSignedData.getCertificates().getMatches(null);
 			for (final X509CertificateHolder x509CertificateHolder : x509CertificateHolders) {
-				addCertificate(DSSASN1Utils.getCertificate(x509CertificateHolder), CertificateOrigin.SIGNED_DATA);
+				addCertificate(CertificateTokenFactory.getInstance().getCertificate(x509CertificateHolder), CertificateOrigin.SIGNED_DATA);
 			}
 		} catch (Exception e) {
 			LOG.warn("Cannot extract certificates from CMS Signed Data : {}", e.getMessage());
@@ -213,7 +212,7 @@ public abstract class CMSCertificateSource extends SignatureCertificateSource {
 				for (int ii = 0; ii < seq.size(); ii++) {
 					try {
 						final Certificate cs = Certificate.getInstance(seq.getObjectAt(ii));
-						addCertificate(DSSUtils.loadCertificate(cs.getEncoded()), CertificateOrigin.CERTIFICATE_VALUES);
+						addCertificate(CertificateTokenFactory.getInstance().loadCertificate(cs.getEncoded()), CertificateOrigin.CERTIFICATE_VALUES);
 					} catch (Exception e) {
 						LOG.warn("Unable to parse encapsulated certificate : {}", e.getMessage());
 					}
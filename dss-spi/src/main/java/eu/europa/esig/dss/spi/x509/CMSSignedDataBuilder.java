@@ -26,7 +26,6 @@ import eu.europa.esig.dss.model.DigestDocument;
 import eu.europa.esig.dss.model.FileDocument;
 import eu.europa.esig.dss.model.x509.CertificateToken;
 import eu.europa.esig.dss.spi.DSSASN1Utils;
-import eu.europa.esig.dss.spi.DSSUtils;
 import eu.europa.esig.dss.spi.x509.revocation.crl.CRLToken;
 import eu.europa.esig.dss.spi.x509.revocation.ocsp.OCSPToken;
 import org.bouncycastle.asn1.ASN1Encodable;
@@ -40,10 +39,11 @@ import org.bouncycastle.cert.X509CertificateHolder;
 import org.bouncycastle.cert.jcajce.JcaCertStore;
 import org.bouncycastle.cms.CMSAbsentContent;
 import org.bouncycastle.cms.CMSException;
-import org.bouncycastle.cms.CMSProcessableByteArray;
 import org.bouncycastle.cms.CMSProcessableFile;
 import org.bouncycastle.cms.CMSSignedData;
 import org.bouncycastle.cms.CMSSignedDataGenerator;
+import org.bouncycastle.cms.CMSSignedDataStreamGenerator;
+import org.bouncycastle.cms.CMSSignedGenerator;
 import org.bouncycastle.cms.CMSTypedData;
 import org.bouncycastle.cms.SignerInfoGenerator;
 import org.bouncycastle.util.CollectionStore;
@@ -52,6 +52,7 @@ import org.bouncycastle.util.Store;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.security.cert.CertificateEncodingException;
 import java.security.cert.X509Certificate;
 import java.util.ArrayList;
@@ -211,6 +212,36 @@ public class CMSSignedDataBuilder {
 		return generateCMSSignedData(cmsSignedDataGenerator, contentToBeSigned);
 	}
 
+	/**
+	 * Writes a new {@code CMSSignedData} to the {@code outputStream} using a {@code CMSSignedDataStreamGenerator}.
+	 * The content of {@code toSignDocument} is streamed to the output and is never loaded into memory,
+	 * which allows creating enveloping signatures over large documents.
+	 * NOTE: the produced CMSSignedData is BER-encoded with indefinite lengths.
+	 *       When defined, the signers, certificates and revocation data of the original CMSSignedData
+	 *       (parallel signatures) are copied into the new CMSSignedData.
+	 *
+	 * @param signerInfoGenerator {@link SignerInfoGenerator}
+	 * @param toSignDocument {@link DSSDocument}
+	 * @param outputStream {@link OutputStream} to write the CMSSignedData into (not closed by this method)
+	 */
+	public void writeCMSSignedData(SignerInfoGenerator signerInfoGenerator, DSSDocument toSignDocument, OutputStream outputStream) {
+		Objects.requireNonNull(toSignDocument, "Document to be signed is missing");
+		if (encapsulate && toSignDocument instanceof DigestDocument) {
+			throw new IllegalArgumentException("Unable to encapsulate a DigestDocument!");
+		}
+		try {
+			final CMSSignedDataStreamGenerator generator = new CMSSignedDataStreamGenerator();
+			initGenerator(generator, signerInfoGenerator);
+			try (OutputStream signedContentOS = generator.open(outputStream, encapsulate)) {
+				if (!(toSignDocument instanceof DigestDocument)) {
+					toSignDocument.writeTo(signedContentOS);
+				}
+			}
+		} catch (CMSException | IOException e) {
+			throw new DSSException(String.format("Unable to write the CMSSignedData. Reason : %s", e.getMessage()), e);
+		}
+	}
+
 	/**
 	 * Note:
 	 * Section 5.1 of RFC 3852 [4] requires that, the CMS SignedData version be set to 3 if certificates from
@@ -227,36 +258,39 @@ public class CMSSignedDataBuilder {
 	public CMSSignedDataGenerator createCMSSignedDataGenerator(SignerInfoGenerator signerInfoGenerator) {
 		try {
 			final CMSSignedDataGenerator generator = new CMSSignedDataGenerator();
+			initGenerator(generator, signerInfoGenerator);
+			return generator;
 
-			generator.addSignerInfoGenerator(signerInfoGenerator);
+		} catch (CMSException e) {
+			throw new DSSException(String.format("Unable to create a CMSSignedDataGenerator. Reason : %s", e.getMessage()), e);
+		}
+	}
 
-			final List<CertificateToken> certificates = new LinkedList<>();
-			if (originalCMSSignedData != null) {
+	private void initGenerator(CMSSignedGenerator generator, SignerInfoGenerator signerInfoGenerator) throws CMSException {
+		generator.addSignerInfoGenerator(signerInfoGenerator);
 
-				generator.addSigners(originalCMSSignedData.getSignerInfos());
-				generator.addAttributeCertificates(originalCMSSignedData.getAttributeCertificates());
-				generator.addCRLs(originalCMSSignedData.getCRLs());
-				generator.addOtherRevocationInfo(id_pkix_ocsp_basic, originalCMSSignedData.getOtherRevocationInfo(id_pkix_ocsp_basic));
-				generator.addOtherRevocationInfo(id_ri_ocsp_response, originalCMSSignedData.getOtherRevocationInfo(id_ri_ocsp_response));
+		final List<CertificateToken> certificates = new LinkedList<>();
+		if (originalCMSSignedData != null) {
 
-				final Store<X509CertificateHolder> certificateStore = originalCMSSignedData.getCertificates();
-				final Collection<X509CertificateHolder> certificatesMatches = certificateStore.getMatches(null);
-				for (final X509CertificateHolder certificatesMatch : certificatesMatches) {
-					final CertificateToken token = DSSASN1Utils.getCertificate(certificatesMatch);
-					if (!certificates.contains(token)) {
-						certificates.add(token);
-					}
+			generator.addSigners(originalCMSSignedData.getSignerInfos());
+			generator.addAttributeCertificates(originalCMSSignedData.getAttributeCertificates());
+			generator.addCRLs(originalCMSSignedData.getCRLs());
+			generator.addOtherRevocationInfo(id_pkix_ocsp_basic, originalCMSSignedData.getOtherRevocationInfo(id_pkix_ocsp_basic));
+			generator.addOtherRevocationInfo(id_ri_ocsp_response, originalCMSSignedData.getOtherRevocationInfo(id_ri_ocsp_response));
+
+			final Store<X509CertificateHolder> certificateStore = originalCMSSignedData.getCertificates();
+			final Collection<X509CertificateHolder> certificatesMatches = certificateStore.getMatches(null);
+			for (final X509CertificateHolder certificatesMatch : certificatesMatches) {
+				final CertificateToken token = DSSASN1Utils.getCertificate(certificatesMatch);
+				if (!certificates.contains(token)) {
+					certificates.add(token);
 				}
-
 			}
 
-			final JcaCertStore jcaCertStore = getJcaCertStore(certificates);
-			generator.addCertificates(jcaCertStore);
-			return generator;
-
-		} catch (CMSException e) {
-			throw new DSSException(String.format("Unable to create a CMSSignedDataGenerator. Reason : %s", e.getMessage()), e);
 		}
+
+		final JcaCertStore jcaCertStore = getJcaCertStore(certificates);
+		generator.addCertificates(jcaCertStore);
 	}
 
 	/**
@@ -274,7 +308,7 @@ public class CMSSignedDataBuilder {
 			FileDocument fileDocument = (FileDocument) toSignData;
 			content = new CMSProcessableFile(fileDocument.getFile());
 		} else {
-			content = new CMSProcessableByteArray(DSSUtils.toByteArray(toSignData));
+			content = new CMSProcessableDSSDocument(toSignData);
 		}
 		return content;
 	}
@@ -38,7 +38,7 @@ import java.util.Set;
  * All certificates for a given {@code CertificateSourceEntity} share the same
  * public key.
  */
-class CertificateSourceEntity implements Serializable {
+public class CertificateSourceEntity implements Serializable {
 	
 	private static final long serialVersionUID = -8670353777128605464L;
 
@@ -0,0 +1,170 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.spi.x509;
+
+import eu.europa.esig.dss.enumerations.DigestAlgorithm;
+import eu.europa.esig.dss.model.DSSException;
+import eu.europa.esig.dss.model.LRUMap;
+import eu.europa.esig.dss.model.x509.CertificateToken;
+import eu.europa.esig.dss.spi.DSSASN1Utils;
+import eu.europa.esig.dss.spi.DSSUtils;
+import eu.europa.esig.dss.utils.Utils;
+import org.bouncycastle.cert.X509CertificateHolder;
+
+import java.io.IOException;
+import java.security.cert.X509Certificate;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * This class creates {@code CertificateToken}s sharing the parsed certificates between validations.
+ * A certificate is identified by the digest of its binaries. When the same binaries are loaded again
+ * (e.g. a CA or a TSA certificate embedded within many signatures), the previously parsed immutable
+ * {@code X509Certificate} is reused and wrapped into a new {@code CertificateToken}.
+ * The least recently used certificates are evicted when the limit is reached.
+ *
+ * NOTE: only the parsing of the certificate is saved. A new {@code CertificateToken} is still created on every call,
+ * as it keeps the signature verification state of a validation (signature validity, public key of the signer, etc.).
+ *
+ * The instance returned by {@code getInstance()} is used by the certificate sources on signature parsing.
+ * The default instance is disabled. Use {@code setInstance(new CertificateTokenFactory(size))} to enable the cache.
+ *
+ */
+public class CertificateTokenFactory {
+
+	/** The digest algorithm used to identify the certificate binaries */
+	private static final DigestAlgorithm DIGEST_ALGO = DigestAlgorithm.SHA256;
+
+	/** The factory used by the certificate sources (disabled by default) */
+	private static volatile CertificateTokenFactory instance = new CertificateTokenFactory(0);
+
+	/** The maximal amount of certificates to be kept in the cache */
+	private final int cacheSize;
+
+	/** The cache of parsed certificates */
+	private final Map<String, X509Certificate> cache;
+
+	/**
+	 * Default constructor
+	 *
+	 * @param cacheSize the maximal amount of parsed certificates to be cached. 0 (zero) disables the cache.
+	 */
+	public CertificateTokenFactory(int cacheSize) {
+		if (cacheSize < 0) {
+			throw new IllegalArgumentException("The cache size cannot be negative!");
+		}
+		this.cacheSize = cacheSize;
+		this.cache = LRUMap.synchronizedLRUMap(cacheSize);
+	}
+
+	/**
+	 * Gets the factory used by the certificate sources
+	 *
+	 * @return {@link CertificateTokenFactory}
+	 */
+	public static CertificateTokenFactory getInstance() {
+		return instance;
+	}
+
+	/**
+	 * Sets the factory to be used by the certificate sources
+	 *
+	 * Default : disabled cache (size 0)
+	 *
+	 * @param certificateTokenFactory {@link CertificateTokenFactory}
+	 */
+	public static void setInstance(CertificateTokenFactory certificateTokenFactory) {
+		Objects.requireNonNull(certificateTokenFactory, "The CertificateTokenFactory cannot be null!");
+		instance = certificateTokenFactory;
+	}
+
+	/**
+	 * Gets the maximal amount of parsed certificates to be cached
+	 *
+	 * @return the cache size
+	 */
+	public int getCacheSize() {
+		return cacheSize;
+	}
+
+	/**
+	 * Removes all the entries from the cache
+	 */
+	public void clear() {
+		cache.clear();
+	}
+
+	/**
+	 * Returns a new {@code CertificateToken} for the given DER or PEM encoded binaries.
+	 * If the cache is enabled, the parsed certificate is reused when available.
+	 *
+	 * @param binaries the certificate binaries
+	 * @return {@link CertificateToken}
+	 */
+	public CertificateToken loadCertificate(final byte[] binaries) {
+		Objects.requireNonNull(binaries, "Input binary cannot be null");
+		if (cacheSize == 0) {
+			return DSSUtils.loadCertificate(binaries);
+		}
+
+		final String key = Utils.toHex(DSSUtils.digest(DIGEST_ALGO, binaries));
+		final X509Certificate x509Certificate = cache.get(key);
+		if (x509Certificate != null) {
+			return new CertificateToken(x509Certificate);
+		}
+
+		// the parsing is performed outside the lock, a concurrent parsing of the same binaries is harmless
+		final CertificateToken certificateToken = DSSUtils.loadCertificate(binaries);
+		cache.putIfAbsent(key, certificateToken.getCertificate());
+		return certificateToken;
+	}
+
+	/**
+	 * Returns a new {@code CertificateToken} for the given base64 encoded certificate.
+	 * If the cache is enabled, the parsed certificate is reused when available.
+	 *
+	 * @param base64Encoded the base64 encoded certificate
+	 * @return {@link CertificateToken}
+	 */
+	public CertificateToken loadCertificateFromBase64EncodedString(final String base64Encoded) {
+		return loadCertificate(Utils.fromBase64(base64Encoded));
+	}
+
+	/**
+	 * Returns a new {@code CertificateToken} for the given {@code X509CertificateHolder}.
+	 * If the cache is enabled, the parsed certificate is reused when available.
+	 *
+	 * @param x509CertificateHolder {@link X509CertificateHolder}
+	 * @return {@link CertificateToken}
+	 */
+	public CertificateToken getCertificate(final X509CertificateHolder x509CertificateHolder) {
+		if (cacheSize == 0) {
+			return DSSASN1Utils.getCertificate(x509CertificateHolder);
+		}
+		try {
+			return loadCertificate(x509CertificateHolder.getEncoded());
+		} catch (IOException e) {
+			throw new DSSException(String.format(
+					"Unable to get a CertificateToken from X509CertificateHolder : %s", e.getMessage()), e);
+		}
+	}
+
+}
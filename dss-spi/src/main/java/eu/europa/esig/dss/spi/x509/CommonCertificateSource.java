@@ -21,19 +21,25 @@
 package eu.europa.esig.dss.spi.x509;
 
 import eu.europa.esig.dss.enumerations.CertificateSourceType;
+import eu.europa.esig.dss.enumerations.DigestAlgorithm;
 import eu.europa.esig.dss.model.Digest;
 import eu.europa.esig.dss.model.identifier.EntityIdentifier;
 import eu.europa.esig.dss.model.x509.CertificateToken;
 import eu.europa.esig.dss.model.x509.X500PrincipalHelper;
+import eu.europa.esig.dss.model.x509.extension.SubjectKeyIdentifier;
+import eu.europa.esig.dss.spi.CertificateExtensionsUtils;
 import eu.europa.esig.dss.spi.DSSASN1Utils;
 import eu.europa.esig.dss.utils.Utils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.Serializable;
+import java.math.BigInteger;
 import java.security.PublicKey;
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -57,18 +63,11 @@ public class CommonCertificateSource implements CertificateSource {
 	protected final transient CertificateTokenRefMatcher certificateMatcher = new CertificateTokenRefMatcher();
 
 	/**
-	 * Map of entries, the key is a hash of the public key.
-	 * 
-	 * All entries share the same key pair
-	 */
-	private Map<EntityIdentifier, CertificateSourceEntity> entriesByPublicKeyHash = new HashMap<>();
-
-	/**
-	 * Map of tokens, the key is the properties map of SubjectX500Principal
-	 * 
-	 * For a same SubjectX500Principal, different key pairs (and certificates) are possible
+	 * The stored certificates and their indexes
+	 *
+	 * NOTE: the instance is replaced as a whole on {@code #reset} and {@code #replaceCertificates} calls
 	 */
-	private Map<Map<String, String>, Set<CertificateToken>> tokensBySubject = new HashMap<>();
+	private volatile CertificateIndexes certificateIndexes = new CertificateIndexes();
 
 	/**
 	 * The default constructor
@@ -93,24 +92,7 @@ public class CommonCertificateSource implements CertificateSource {
 			LOG.trace("Certificate to add: {} | {}", certificateToAdd.getIssuerX500Principal(), certificateToAdd.getSerialNumber());
 		}
 
-		synchronized (entriesByPublicKeyHash) {
-			final EntityIdentifier entityKey = certificateToAdd.getEntityKey();
-			CertificateSourceEntity poolEntity = entriesByPublicKeyHash.get(entityKey);
-			if (poolEntity == null) {
-				LOG.trace("Public key {} is not in the pool", entityKey);
-				poolEntity = new CertificateSourceEntity(certificateToAdd);
-				entriesByPublicKeyHash.put(entityKey, poolEntity);
-			} else {
-				LOG.trace("Public key {} is already in the pool", entityKey);
-				poolEntity.addEquivalentCertificate(certificateToAdd);
-			}
-		}
-
-		synchronized (tokensBySubject) {
-			Map<String, String> propertiesMap = DSSASN1Utils.get(certificateToAdd.getSubject().getPrincipal());
-			tokensBySubject.computeIfAbsent(propertiesMap, k -> new HashSet<>()).add(certificateToAdd);
-		}
-
+		certificateIndexes.add(certificateToAdd);
 		return certificateToAdd;
 	}
 
@@ -126,49 +108,35 @@ public class CommonCertificateSource implements CertificateSource {
 			LOG.trace("Certificate to remove: {} | {}", certificateToRemove.getIssuerX500Principal(), certificateToRemove.getSerialNumber());
 		}
 
-		synchronized (entriesByPublicKeyHash) {
-			final EntityIdentifier entityKey = certificateToRemove.getEntityKey();
-			CertificateSourceEntity poolEntity = entriesByPublicKeyHash.get(entityKey);
-			if (poolEntity == null) {
-				LOG.trace("Public key {} is not in the pool", entityKey);
-			} else {
-				LOG.trace("Public key {} is in the pool", entityKey);
-				if (poolEntity.getEquivalentCertificates().size() == 1) {
-					LOG.trace("Remove the public key {} from the pool", entityKey);
-					entriesByPublicKeyHash.remove(entityKey);
-				} else {
-					LOG.trace("Remove the token {} from the pool", certificateToRemove.getAbbreviation());
-					poolEntity.removeEquivalentCertificate(certificateToRemove);
-				}
-			}
-		}
-
-		synchronized (tokensBySubject) {
-			final Map<String, String> propertiesMap = DSSASN1Utils.get(certificateToRemove.getSubject().getPrincipal());
-			Set<CertificateToken> certificateTokens = tokensBySubject.get(propertiesMap);
-			if (Utils.isCollectionEmpty(certificateTokens)) {
-				LOG.trace("Property map {} is not in the pool", propertiesMap);
-			} else {
-				if (certificateTokens.size() == 1) {
-					tokensBySubject.remove(propertiesMap);
-				} else {
-					certificateTokens.remove(certificateToRemove);
-				}
-			}
-		}
+		certificateIndexes.remove(certificateToRemove);
 	}
 
 	/**
 	 * This method removes all certificates from the source
 	 */
 	protected void reset() {
-		entriesByPublicKeyHash = new HashMap<>();
-		tokensBySubject = new HashMap<>();
+		certificateIndexes = new CertificateIndexes();
+	}
+
+	/**
+	 * This method replaces all certificates of the source with the given {@code certificates}.
+	 * The new certificates are indexed aside and published at once, thus the concurrent readers
+	 * use the previous certificates until the replacement is complete.
+	 *
+	 * @param certificates a collection of {@link CertificateToken}s to be stored
+	 */
+	protected void replaceCertificates(final Collection<CertificateToken> certificates) {
+		final CertificateIndexes newCertificateIndexes = new CertificateIndexes();
+		for (CertificateToken certificateToken : certificates) {
+			Objects.requireNonNull(certificateToken, "The certificate must be filled");
+			newCertificateIndexes.add(certificateToken);
+		}
+		certificateIndexes = newCertificateIndexes;
 	}
 
 	@Override
 	public boolean isKnown(CertificateToken token) {
-		final CertificateSourceEntity poolEntity = entriesByPublicKeyHash.get(token.getEntityKey());
+		final CertificateSourceEntity poolEntity = certificateIndexes.entriesByPublicKeyHash.get(token.getEntityKey());
 		if (poolEntity != null) {
 			Set<CertificateToken> certsByPublicKey = poolEntity.getEquivalentCertificates();
 			Set<CertificateToken> certsBySubject = getBySubject(token.getSubject());
@@ -184,16 +152,12 @@ public class CommonCertificateSource implements CertificateSource {
 	 */
 	@Override
 	public List<CertificateToken> getCertificates() {
-		List<CertificateToken> allCertificates = new ArrayList<>();
-		for (CertificateSourceEntity entity : entriesByPublicKeyHash.values()) {
-			allCertificates.addAll(entity.getEquivalentCertificates());
-		}
-		return Collections.unmodifiableList(allCertificates);
+		return certificateIndexes.getCertificates();
 	}
 
 	@Override
 	public List<CertificateSourceEntity> getEntities() {
-		return new ArrayList<>(entriesByPublicKeyHash.values());
+		return new ArrayList<>(certificateIndexes.entriesByPublicKeyHash.values());
 	}
 
 	/**
@@ -205,7 +169,7 @@ public class CommonCertificateSource implements CertificateSource {
 	 */
 	@Override
 	public Set<CertificateToken> getByPublicKey(PublicKey publicKey) {
-		CertificateSourceEntity entity = entriesByPublicKeyHash.get(new EntityIdentifier(publicKey));
+		CertificateSourceEntity entity = certificateIndexes.entriesByPublicKeyHash.get(new EntityIdentifier(publicKey));
 		if (entity != null) {
 			return entity.getEquivalentCertificates();
 		} else {
@@ -222,9 +186,10 @@ public class CommonCertificateSource implements CertificateSource {
 	 */
 	@Override
 	public Set<CertificateToken> getBySki(byte[] ski) {
-		for (CertificateSourceEntity entry : entriesByPublicKeyHash.values()) {
-			if (Arrays.equals(entry.getSki(), ski)) {
-				return entry.getEquivalentCertificates();
+		if (ski != null) {
+			final CertificateSourceEntity entity = certificateIndexes.entriesBySki.get(Utils.toHex(ski));
+			if (entity != null) {
+				return entity.getEquivalentCertificates();
 			}
 		}
 		return Collections.emptySet();
@@ -238,22 +203,16 @@ public class CommonCertificateSource implements CertificateSource {
 	 */
 	@Override
 	public Set<CertificateToken> getBySubject(X500PrincipalHelper subject) {
-		final Set<CertificateToken> tokensSet = tokensBySubject.get(DSSASN1Utils.get(subject.getPrincipal()));
-		if (tokensSet != null) {
-			return tokensSet;
-		}
-		return Collections.emptySet();
+		return certificateIndexes.getBySubject(subject);
 	}
 
 	@Override
 	public Set<CertificateToken> getBySignerIdentifier(SignerIdentifier signerIdentifier) {
 		Set<CertificateToken> result = new HashSet<>();
-		for (CertificateSourceEntity entry : entriesByPublicKeyHash.values()) {
-			for (CertificateToken certificateToken : entry.getEquivalentCertificates()) {
-				// run over all entries to compare with the SN too
-				if (signerIdentifier.isRelatedToCertificate(certificateToken)) {
-					result.add(certificateToken);
-				}
+		for (CertificateToken certificateToken : certificateIndexes.getCandidatesBySignerIdentifier(signerIdentifier)) {
+			// compare with the issuer name and SN too
+			if (signerIdentifier.isRelatedToCertificate(certificateToken)) {
+				result.add(certificateToken);
 			}
 		}
 		return result;
@@ -261,25 +220,34 @@ public class CommonCertificateSource implements CertificateSource {
 
 	@Override
 	public Set<CertificateToken> getByCertificateDigest(Digest digest) {
-		Set<CertificateToken> result = new HashSet<>();
-		for (CertificateSourceEntity entry : entriesByPublicKeyHash.values()) {
-			for (CertificateToken certificateToken : entry.getEquivalentCertificates()) {
-				if (Arrays.equals(digest.getValue(), certificateToken.getDigest(digest.getAlgorithm()))) {
-					result.add(certificateToken);
-				}
-			}
+		if (digest.getAlgorithm() == null || digest.getValue() == null) {
+			return new HashSet<>();
 		}
-		return result;
+		return certificateIndexes.getByCertificateDigest(digest);
 	}
 	
 	@Override
 	public Set<CertificateToken> findTokensFromCertRef(CertificateRef certificateRef) {
+		Set<CertificateToken> candidates = new HashSet<>();
+		if (certificateRef.getCertDigest() != null) {
+			candidates.addAll(getByCertificateDigest(certificateRef.getCertDigest()));
+		}
+		if (certificateRef.getCertificateIdentifier() != null) {
+			candidates.addAll(certificateIndexes.getCandidatesBySignerIdentifier(certificateRef.getCertificateIdentifier()));
+		}
+		ResponderId responderId = certificateRef.getResponderId();
+		if (responderId != null) {
+			if (responderId.getX500Principal() != null) {
+				candidates.addAll(getBySubject(new X500PrincipalHelper(responderId.getX500Principal())));
+			} else {
+				candidates.addAll(getBySki(responderId.getSki()));
+			}
+		}
+
 		Set<CertificateToken> result = new HashSet<>();
-		for (CertificateSourceEntity entry : entriesByPublicKeyHash.values()) {
-			for (CertificateToken certificateToken : entry.getEquivalentCertificates()) {
-				if (doesCertificateReferenceMatch(certificateToken, certificateRef)) {
-					result.add(certificateToken);
-				}
+		for (CertificateToken certificateToken : candidates) {
+			if (doesCertificateReferenceMatch(certificateToken, certificateRef)) {
+				result.add(certificateToken);
 			}
 		}
 		return result;
@@ -312,7 +280,7 @@ public class CommonCertificateSource implements CertificateSource {
 	 * @return number of entities in this instance
 	 */
 	public int getNumberOfEntities() {
-		return entriesByPublicKeyHash.size();
+		return certificateIndexes.entriesByPublicKeyHash.size();
 	}
 
 	@Override
@@ -345,4 +313,246 @@ public class CommonCertificateSource implements CertificateSource {
 		return new HashSet<>(getEntities()).equals(new HashSet<>(certificateSource.getEntities()));
 	}
 
-}
\ No newline at end of file
+	/**
+	 * Contains the certificates of a source indexed by public key, subject, SKI, serial number,
+	 * SubjectKeyIdentifier extension and digests
+	 */
+	private static final class CertificateIndexes implements Serializable {
+
+		private static final long serialVersionUID = 5326180523410431571L;
+
+		/**
+		 * Map of entries, the key is a hash of the public key.
+		 *
+		 * All entries share the same key pair
+		 */
+		private final Map<EntityIdentifier, CertificateSourceEntity> entriesByPublicKeyHash = new HashMap<>();
+
+		/**
+		 * Map of tokens, the key is the properties map of SubjectX500Principal
+		 *
+		 * For a same SubjectX500Principal, different key pairs (and certificates) are possible
+		 */
+		private final Map<Map<String, String>, Set<CertificateToken>> tokensBySubject = new HashMap<>();
+
+		/**
+		 * Map of entries, the key is the hex-encoded SHA-1 of the public key (see {@code CertificateSourceEntity#getSki})
+		 */
+		private final Map<String, CertificateSourceEntity> entriesBySki = new HashMap<>();
+
+		/**
+		 * Map of tokens, the key is the certificate's serial number
+		 *
+		 * Used to find certificates by issuer and serial number (the issuer name is verified on the returned tokens)
+		 */
+		private final Map<BigInteger, Set<CertificateToken>> tokensBySerialNumber = new HashMap<>();
+
+		/**
+		 * Map of tokens, the key is the hex-encoded value of the SubjectKeyIdentifier extension
+		 */
+		private final Map<String, Set<CertificateToken>> tokensBySkiExtension = new HashMap<>();
+
+		/**
+		 * Map of tokens, the key is the certificate digest
+		 *
+		 * The digests are computed only for algorithms present in {@code indexedDigestAlgorithms}
+		 */
+		private final Map<Digest, Set<CertificateToken>> tokensByDigest = new HashMap<>();
+
+		/**
+		 * Set of digest algorithms the {@code tokensByDigest} is built for.
+		 * A digest algorithm is added on the first request of a certificate by a digest computed with it.
+		 */
+		private final Set<DigestAlgorithm> indexedDigestAlgorithms = EnumSet.noneOf(DigestAlgorithm.class);
+
+		private void add(final CertificateToken certificateToAdd) {
+			synchronized (entriesByPublicKeyHash) {
+				final EntityIdentifier entityKey = certificateToAdd.getEntityKey();
+				CertificateSourceEntity poolEntity = entriesByPublicKeyHash.get(entityKey);
+				if (poolEntity == null) {
+					LOG.trace("Public key {} is not in the pool", entityKey);
+					poolEntity = new CertificateSourceEntity(certificateToAdd);
+					entriesByPublicKeyHash.put(entityKey, poolEntity);
+					entriesBySki.put(Utils.toHex(poolEntity.getSki()), poolEntity);
+					addToIndexes(certificateToAdd);
+				} else if (!poolEntity.getEquivalentCertificates().contains(certificateToAdd)) {
+					LOG.trace("Public key {} is already in the pool", entityKey);
+					poolEntity.addEquivalentCertificate(certificateToAdd);
+					if (poolEntity.getEquivalentCertificates().contains(certificateToAdd)) {
+						addToIndexes(certificateToAdd);
+					}
+				}
+			}
+
+			synchronized (tokensBySubject) {
+				Map<String, String> propertiesMap = DSSASN1Utils.get(certificateToAdd.getSubject().getPrincipal());
+				tokensBySubject.computeIfAbsent(propertiesMap, k -> new HashSet<>()).add(certificateToAdd);
+			}
+		}
+
+		private void remove(final CertificateToken certificateToRemove) {
+			synchronized (entriesByPublicKeyHash) {
+				final EntityIdentifier entityKey = certificateToRemove.getEntityKey();
+				CertificateSourceEntity poolEntity = entriesByPublicKeyHash.get(entityKey);
+				if (poolEntity == null) {
+					LOG.trace("Public key {} is not in the pool", entityKey);
+				} else {
+					LOG.trace("Public key {} is in the pool", entityKey);
+					if (poolEntity.getEquivalentCertificates().size() == 1) {
+						LOG.trace("Remove the public key {} from the pool", entityKey);
+						entriesByPublicKeyHash.remove(entityKey);
+						entriesBySki.remove(Utils.toHex(poolEntity.getSki()));
+						for (CertificateToken certificateToken : poolEntity.getEquivalentCertificates()) {
+							removeFromIndexes(certificateToken);
+						}
+					} else if (poolEntity.getEquivalentCertificates().contains(certificateToRemove)) {
+						LOG.trace("Remove the token {} from the pool", certificateToRemove.getAbbreviation());
+						poolEntity.removeEquivalentCertificate(certificateToRemove);
+						removeFromIndexes(certificateToRemove);
+					}
+				}
+			}
+
+			synchronized (tokensBySubject) {
+				final Map<String, String> propertiesMap = DSSASN1Utils.get(certificateToRemove.getSubject().getPrincipal());
+				Set<CertificateToken> certificateTokens = tokensBySubject.get(propertiesMap);
+				if (Utils.isCollectionEmpty(certificateTokens)) {
+					LOG.trace("Property map {} is not in the pool", propertiesMap);
+				} else {
+					if (certificateTokens.size() == 1) {
+						tokensBySubject.remove(propertiesMap);
+					} else {
+						certificateTokens.remove(certificateToRemove);
+					}
+				}
+			}
+		}
+
+		/**
+		 * Adds the certificate token to the secondary indexes (serial number, SKI extension and computed digests)
+		 *
+		 * NOTE: shall be called within a block synchronized on {@code entriesByPublicKeyHash}
+		 *
+		 * @param certificateToken {@link CertificateToken} to add
+		 */
+		private void addToIndexes(CertificateToken certificateToken) {
+			addToIndex(tokensBySerialNumber, certificateToken.getSerialNumber(), certificateToken);
+			String skiExtension = getSkiExtension(certificateToken);
+			if (skiExtension != null) {
+				addToIndex(tokensBySkiExtension, skiExtension, certificateToken);
+			}
+			synchronized (tokensByDigest) {
+				for (DigestAlgorithm digestAlgorithm : indexedDigestAlgorithms) {
+					addToIndex(tokensByDigest, getDigest(certificateToken, digestAlgorithm), certificateToken);
+				}
+			}
+		}
+
+		/**
+		 * Removes the certificate token from the secondary indexes (serial number, SKI extension and computed digests)
+		 *
+		 * NOTE: shall be called within a block synchronized on {@code entriesByPublicKeyHash}
+		 *
+		 * @param certificateToken {@link CertificateToken} to remove
+		 */
+		private void removeFromIndexes(CertificateToken certificateToken) {
+			removeFromIndex(tokensBySerialNumber, certificateToken.getSerialNumber(), certificateToken);
+			String skiExtension = getSkiExtension(certificateToken);
+			if (skiExtension != null) {
+				removeFromIndex(tokensBySkiExtension, skiExtension, certificateToken);
+			}
+			synchronized (tokensByDigest) {
+				for (DigestAlgorithm digestAlgorithm : indexedDigestAlgorithms) {
+					removeFromIndex(tokensByDigest, getDigest(certificateToken, digestAlgorithm), certificateToken);
+				}
+			}
+		}
+
+		private List<CertificateToken> getCertificates() {
+			List<CertificateToken> allCertificates = new ArrayList<>();
+			for (CertificateSourceEntity entity : entriesByPublicKeyHash.values()) {
+				allCertificates.addAll(entity.getEquivalentCertificates());
+			}
+			return Collections.unmodifiableList(allCertificates);
+		}
+
+		private Set<CertificateToken> getBySubject(X500PrincipalHelper subject) {
+			final Set<CertificateToken> tokensSet = tokensBySubject.get(DSSASN1Utils.get(subject.getPrincipal()));
+			if (tokensSet != null) {
+				return tokensSet;
+			}
+			return Collections.emptySet();
+		}
+
+		/**
+		 * Returns a collection of certificate tokens which may match the given {@code signerIdentifier}
+		 *
+		 * @param signerIdentifier {@link SignerIdentifier}
+		 * @return a collection of {@link CertificateToken}s to be verified against the {@code signerIdentifier}
+		 */
+		private Collection<CertificateToken> getCandidatesBySignerIdentifier(SignerIdentifier signerIdentifier) {
+			if (signerIdentifier.getIssuerName() != null && signerIdentifier.getSerialNumber() != null) {
+				return getFromIndex(tokensBySerialNumber, signerIdentifier.getSerialNumber());
+			} else if (signerIdentifier.getSki() != null) {
+				return getFromIndex(tokensBySkiExtension, Utils.toHex(signerIdentifier.getSki()));
+			}
+			// incomplete identifier, all certificates have to be verified
+			return getCertificates();
+		}
+
+		private <K> Collection<CertificateToken> getFromIndex(Map<K, Set<CertificateToken>> index, K key) {
+			synchronized (entriesByPublicKeyHash) {
+				Set<CertificateToken> certificateTokens = index.get(key);
+				if (certificateTokens != null) {
+					return new ArrayList<>(certificateTokens);
+				}
+				return Collections.emptyList();
+			}
+		}
+
+		private Set<CertificateToken> getByCertificateDigest(Digest digest) {
+			synchronized (tokensByDigest) {
+				if (!indexedDigestAlgorithms.contains(digest.getAlgorithm())) {
+					LOG.trace("Index certificates by {} digest", digest.getAlgorithm());
+					for (CertificateToken certificateToken : getCertificates()) {
+						addToIndex(tokensByDigest, getDigest(certificateToken, digest.getAlgorithm()), certificateToken);
+					}
+					indexedDigestAlgorithms.add(digest.getAlgorithm());
+				}
+				Set<CertificateToken> certificateTokens = tokensByDigest.get(digest);
+				if (certificateTokens != null) {
+					return new HashSet<>(certificateTokens);
+				}
+				return new HashSet<>();
+			}
+		}
+
+		private static <K> void addToIndex(Map<K, Set<CertificateToken>> index, K key, CertificateToken certificateToken) {
+			index.computeIfAbsent(key, k -> new HashSet<>()).add(certificateToken);
+		}
+
+		private static <K> void removeFromIndex(Map<K, Set<CertificateToken>> index, K key, CertificateToken certificateToken) {
+			Set<CertificateToken> certificateTokens = index.get(key);
+			if (certificateTokens != null) {
+				certificateTokens.remove(certificateToken);
+				if (certificateTokens.isEmpty()) {
+					index.remove(key);
+				}
+			}
+		}
+
+		private static String getSkiExtension(CertificateToken certificateToken) {
+			SubjectKeyIdentifier subjectKeyIdentifier = CertificateExtensionsUtils.getSubjectKeyIdentifier(certificateToken);
+			if (subjectKeyIdentifier != null && subjectKeyIdentifier.getSki() != null) {
+				return Utils.toHex(subjectKeyIdentifier.getSki());
+			}
+			return null;
+		}
+
+		private static Digest getDigest(CertificateToken certificateToken, DigestAlgorithm digestAlgorithm) {
+			return new Digest(digestAlgorithm, certificateToken.getDigest(digestAlgorithm));
+		}
+
+	}
+
+}
@@ -0,0 +1,194 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.spi.x509.revocation;
+
+import eu.europa.esig.dss.model.x509.revocation.Revocation;
+
+import java.util.Date;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Bounded in-memory cache of revocation tokens, used as a first tier in front of a {@code RepositoryRevocationSource}.
+ * <p>
+ * The entries expire at the (delay-adjusted) nextUpdate time of the revocation data. When the maximum size is reached,
+ * the expired entries are evicted first, then the least recently used ones.
+ * <p>
+ * The class also keeps track of the loads in flight, in order to let only one thread at a time fetch
+ * the revocation data for the same revocation keys (single-flight loading).
+ *
+ * @param <R> {@code CRL} or {@code OCSP}
+ */
+public class InMemoryRevocationCache<R extends Revocation> {
+
+    /** The maximum number of entries */
+    private final int maxSize;
+
+    /** The cached entries, in the access order */
+    private final LinkedHashMap<String, Entry<R>> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    /** The loads currently in flight */
+    private final ConcurrentMap<String, CompletableFuture<Boolean>> loadsInFlight = new ConcurrentHashMap<>();
+
+    /**
+     * Default constructor
+     *
+     * @param maxSize the maximum number of entries to be kept in memory
+     */
+    public InMemoryRevocationCache(int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("The maximum size of the in-memory cache shall be positive!");
+        }
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Returns the cached revocation tokens for the given {@code key}, when present and not expired
+     *
+     * @param key {@link String}
+     * @return a list of {@link RevocationToken}s, null if not present or expired
+     */
+    public synchronized List<RevocationToken<R>> get(String key) {
+        final Entry<R> entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.isExpired(new Date())) {
+            entries.remove(key);
+            return null;
+        }
+        return entry.revocationTokens;
+    }
+
+    /**
+     * Caches the revocation tokens for the given {@code key} until the {@code expirationTime}
+     *
+     * @param key {@link String}
+     * @param revocationTokens a list of {@link RevocationToken}s to cache
+     * @param expirationTime {@link Date} when the entry expires
+     */
+    public synchronized void put(String key, List<RevocationToken<R>> revocationTokens, Date expirationTime) {
+        final Date currentTime = new Date();
+        if (expirationTime == null || !expirationTime.after(currentTime)) {
+            entries.remove(key);
+            return;
+        }
+        entries.put(key, new Entry<>(revocationTokens, expirationTime));
+        if (entries.size() > maxSize) {
+            entries.values().removeIf(e -> e.isExpired(currentTime));
+            final Iterator<Map.Entry<String, Entry<R>>> iterator = entries.entrySet().iterator();
+            while (entries.size() > maxSize && iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Removes the entry with the given {@code key}
+     *
+     * @param key {@link String}
+     */
+    public synchronized void remove(String key) {
+        entries.remove(key);
+    }
+
+    /**
+     * Removes all the entries
+     */
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    /**
+     * Returns the number of cached entries (including the expired entries not evicted yet)
+     *
+     * @return number of entries
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Registers the start of a load for the given {@code loadKey}.
+     * When no load is in flight for the key, the current thread becomes responsible for the load
+     * and shall call {@code endLoad(loadKey, found)} (or {@code failLoad(loadKey, failure)}) when done.
+     *
+     * @param loadKey {@link String} identifying the loaded revocation data
+     * @return null if the current thread shall execute the load, the running load otherwise
+     */
+    CompletableFuture<Boolean> startLoad(String loadKey) {
+        return loadsInFlight.putIfAbsent(loadKey, new CompletableFuture<>());
+    }
+
+    /**
+     * Registers the end of a load started with {@code startLoad(loadKey)} and releases the waiting threads.
+     * The method has no effect when the load has already been ended or failed.
+     *
+     * @param loadKey {@link String} identifying the loaded revocation data
+     * @param found defines whether the load has returned revocation data
+     */
+    void endLoad(String loadKey, boolean found) {
+        final CompletableFuture<Boolean> load = loadsInFlight.remove(loadKey);
+        if (load != null) {
+            load.complete(found);
+        }
+    }
+
+    /**
+     * Registers the failure of a load started with {@code startLoad(loadKey)} and propagates
+     * the {@code failure} to the waiting threads
+     *
+     * @param loadKey {@link String} identifying the loaded revocation data
+     * @param failure {@link Throwable} the cause of the failure
+     */
+    void failLoad(String loadKey, Throwable failure) {
+        final CompletableFuture<Boolean> load = loadsInFlight.remove(loadKey);
+        if (load != null) {
+            load.completeExceptionally(failure);
+        }
+    }
+
+    private static final class Entry<R extends Revocation> {
+
+        /** The cached revocation tokens */
+        private final List<RevocationToken<R>> revocationTokens;
+
+        /** The time after which the entry is not valid */
+        private final Date expirationTime;
+
+        private Entry(List<RevocationToken<R>> revocationTokens, Date expirationTime) {
+            this.revocationTokens = revocationTokens;
+            this.expirationTime = expirationTime;
+        }
+
+        private boolean isExpired(Date currentTime) {
+            return !expirationTime.after(currentTime);
+        }
+
+    }
+
+}
@@ -20,18 +20,25 @@
  */
 package eu.europa.esig.dss.spi.x509.revocation;
 
+import eu.europa.esig.dss.enumerations.RevocationOrigin;
+import eu.europa.esig.dss.model.DSSException;
 import eu.europa.esig.dss.model.x509.CertificateToken;
 import eu.europa.esig.dss.model.x509.revocation.Revocation;
+import eu.europa.esig.dss.spi.x509.revocation.crl.CRLToken;
+import eu.europa.esig.dss.spi.x509.revocation.ocsp.OCSPToken;
 import eu.europa.esig.dss.utils.Utils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.stream.Collectors;
 
 /**
@@ -66,6 +73,11 @@ public abstract class RepositoryRevocationSource<R extends Revocation> implement
      */
     private boolean removeExpired = true;
 
+    /**
+     * The optional in-memory tier, caching the revocation data in front of the repository
+     */
+    private transient InMemoryRevocationCache<R> inMemoryCache;
+
     /**
      * Default constructor instantiating object with null values
      */
@@ -168,6 +180,20 @@ public abstract class RepositoryRevocationSource<R extends Revocation> implement
         this.removeExpired = removeExpired;
     }
 
+    /**
+     * Enables an in-memory tier in front of the repository, keeping at most {@code maxSize} entries.
+     * The entries expire at the nextUpdate time of the revocation data (adjusted with the configured
+     * nextUpdate delays). Concurrent requests for the same revocation data are coalesced,
+     * so that only one repository lookup / proxied source request per revocation key is in flight.
+     * <p>
+     * Default : 0 (no in-memory tier is used)
+     *
+     * @param maxSize the maximum number of entries kept in memory, 0 to disable the in-memory tier
+     */
+    public void setInMemoryCacheSize(int maxSize) {
+        this.inMemoryCache = maxSize > 0 ? new InMemoryRevocationCache<>(maxSize) : null;
+    }
+
     @Override
     public RevocationToken<R> getRevocationToken(final CertificateToken certificateToken, final CertificateToken issuerCertificateToken) {
         return getRevocationToken(certificateToken, issuerCertificateToken, false);
@@ -218,6 +244,186 @@ public abstract class RepositoryRevocationSource<R extends Revocation> implement
             return null;
         }
 
+        if (inMemoryCache != null) {
+            return getRevocationTokensWithInMemoryCache(certificateToken, issuerCertificateToken, forceRefresh);
+        }
+        return getRevocationTokensFromRepository(certificateToken, issuerCertificateToken, forceRefresh);
+    }
+
+    /**
+     * Retrieves the revocation tokens from the in-memory tier, and loads them from the repository or
+     * the proxied source on a miss. Only one load per revocation keys is executed at a time, the concurrent
+     * threads wait for its completion and then retrieve the loaded data from the in-memory tier or the repository.
+     * When the load fails or does not return any revocation data, the waiting threads obtain the same outcome
+     * instead of repeating the request.
+     *
+     * @param certificateToken       {@link CertificateToken}
+     * @param issuerCertificateToken {@link CertificateToken} of the issuer of certificateToken
+     * @param forceRefresh           if true, explicitly skips the cache
+     * @return a list of {@link RevocationToken}s
+     */
+    private List<RevocationToken<R>> getRevocationTokensWithInMemoryCache(final CertificateToken certificateToken,
+            final CertificateToken issuerCertificateToken, boolean forceRefresh) {
+        // revocation tokens are bound to the certificate (e.g. CRL entry), therefore they are cached per certificate
+        final String cacheKey = certificateToken.getDSSIdAsString() + "-" + issuerCertificateToken.getDSSIdAsString();
+        if (forceRefresh) {
+            return loadInMemoryCache(cacheKey, certificateToken, issuerCertificateToken, true);
+        }
+
+        List<RevocationToken<R>> revocationTokens = getFromInMemoryCache(cacheKey, certificateToken, issuerCertificateToken);
+        if (revocationTokens != null) {
+            LOG.debug("Revocation token for certificate with Id '{}' has been loaded from the in-memory cache",
+                    certificateToken.getDSSIdAsString());
+            return revocationTokens;
+        }
+
+        // the same revocation keys are shared by all certificates of a CA with a CRL
+        final List<String> revocationTokenKeys = initRevocationTokenKeys(certificateToken);
+        final String loadKey = Utils.isCollectionNotEmpty(revocationTokenKeys) ?
+                Utils.joinStrings(revocationTokenKeys, ";") : cacheKey;
+        final CompletableFuture<Boolean> loadInFlight = inMemoryCache.startLoad(loadKey);
+        if (loadInFlight == null) {
+            boolean found = false;
+            try {
+                revocationTokens = loadInMemoryCache(cacheKey, certificateToken, issuerCertificateToken, false);
+                found = Utils.isCollectionNotEmpty(revocationTokens);
+                return revocationTokens;
+            } catch (RuntimeException e) {
+                inMemoryCache.failLoad(loadKey, e);
+                throw e;
+            } finally {
+                inMemoryCache.endLoad(loadKey, found);
+            }
+        }
+
+        LOG.debug("Waiting for the revocation data with keys '{}' being loaded by another thread", loadKey);
+        if (!awaitLoad(loadInFlight, loadKey)) {
+            LOG.debug("No revocation data has been found with keys '{}' by the concurrent load", loadKey);
+            return Collections.emptyList();
+        }
+        revocationTokens = getFromInMemoryCache(cacheKey, certificateToken, issuerCertificateToken);
+        if (revocationTokens != null) {
+            return revocationTokens;
+        }
+        // the data has been loaded for another certificate and is now expected to be available in the repository
+        return loadInMemoryCache(cacheKey, certificateToken, issuerCertificateToken, false);
+    }
+
+    /**
+     * Waits for the completion of the load executed by another thread
+     *
+     * @param loadInFlight {@link CompletableFuture} the load in flight
+     * @param loadKey {@link String} identifying the loaded revocation data
+     * @return TRUE if the load has returned revocation data, FALSE otherwise
+     */
+    private boolean awaitLoad(final CompletableFuture<Boolean> loadInFlight, final String loadKey) {
+        try {
+            return loadInFlight.join();
+        } catch (CompletionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                // the same failure is reported, instead of repeating the request failed for the other thread
+                throw (RuntimeException) cause;
+            }
+            throw new DSSException(String.format("Unable to load the revocation data with keys '%s'. Reason : %s",
+                    loadKey, cause.getMessage()), cause);
+        }
+    }
+
+    private List<RevocationToken<R>> loadInMemoryCache(final String cacheKey, final CertificateToken certificateToken,
+            final CertificateToken issuerCertificateToken, boolean forceRefresh) {
+        final List<RevocationToken<R>> revocationTokens = getRevocationTokensFromRepository(
+                certificateToken, issuerCertificateToken, forceRefresh);
+        inMemoryCache.put(cacheKey, new ArrayList<>(revocationTokens),
+                getExpirationTime(revocationTokens, issuerCertificateToken));
+        return revocationTokens;
+    }
+
+    /**
+     * Returns the revocation tokens from the in-memory cache, when they are still fresh
+     * according to the same rule as the tokens extracted from the repository
+     *
+     * @param cacheKey {@link String} in-memory cache key
+     * @param certificateToken {@link CertificateToken} the revocation data is requested for
+     * @param issuerCertificateToken {@link CertificateToken} of the issuer
+     * @return a list of new {@link RevocationToken} instances, null if not present or not fresh
+     */
+    private List<RevocationToken<R>> getFromInMemoryCache(final String cacheKey,
+            final CertificateToken certificateToken, final CertificateToken issuerCertificateToken) {
+        final List<RevocationToken<R>> revocationTokens = inMemoryCache.get(cacheKey);
+        if (revocationTokens == null) {
+            return null;
+        }
+        for (RevocationToken<R> revocationToken : revocationTokens) {
+            if (!isNotExpired(revocationToken, issuerCertificateToken)) {
+                inMemoryCache.remove(cacheKey);
+                return null;
+            }
+        }
+        final List<RevocationToken<R>> result = new ArrayList<>();
+        for (RevocationToken<R> revocationToken : revocationTokens) {
+            result.add(createCachedRevocationToken(revocationToken, certificateToken, issuerCertificateToken));
+        }
+        return result;
+    }
+
+    /**
+     * Creates a new instance of the {@code revocationToken} kept in the in-memory tier,
+     * with the {@code RevocationOrigin.CACHED} origin (the same as for a token extracted from the repository).
+     * The instances stored in the in-memory tier are never returned, as the returned tokens may be
+     * altered during a validation process.
+     *
+     * @param revocationToken {@link RevocationToken} kept in the in-memory tier
+     * @param certificateToken {@link CertificateToken} the revocation data is requested for
+     * @param issuerCertificateToken {@link CertificateToken} of the issuer
+     * @return {@link RevocationToken}
+     */
+    @SuppressWarnings("unchecked")
+    protected RevocationToken<R> createCachedRevocationToken(final RevocationToken<R> revocationToken,
+            final CertificateToken certificateToken, final CertificateToken issuerCertificateToken) {
+        final RevocationToken<?> cachedToken;
+        if (revocationToken instanceof CRLToken) {
+            cachedToken = new CRLToken(certificateToken, ((CRLToken) revocationToken).getCrlValidity());
+        } else if (revocationToken instanceof OCSPToken) {
+            final OCSPToken ocspToken = (OCSPToken) revocationToken;
+            cachedToken = new OCSPToken(ocspToken.getBasicOCSPResp(), ocspToken.getLatestSingleResp(),
+                    certificateToken, issuerCertificateToken);
+        } else {
+            throw new DSSException(String.format("The revocation token of type '%s' cannot be copied from the " +
+                    "in-memory cache! Override the method #createCachedRevocationToken.", revocationToken.getClass().getSimpleName()));
+        }
+        cachedToken.setSourceURL(revocationToken.getSourceURL());
+        cachedToken.setExternalOrigin(RevocationOrigin.CACHED);
+        return (RevocationToken<R>) cachedToken;
+    }
+
+    /**
+     * Returns the time until the {@code revocationTokens} can be kept in the in-memory cache
+     *
+     * @param revocationTokens a list of {@link RevocationToken}s
+     * @param issuerCertificateToken {@link CertificateToken} of the issuer
+     * @return {@link Date}, null if the tokens cannot be cached
+     */
+    private Date getExpirationTime(List<RevocationToken<R>> revocationTokens, CertificateToken issuerCertificateToken) {
+        if (Utils.isCollectionEmpty(revocationTokens)) {
+            return null;
+        }
+        Date expirationTime = null;
+        for (RevocationToken<R> revocationToken : revocationTokens) {
+            if (!revocationToken.isValid() || !isNotExpired(revocationToken, issuerCertificateToken)) {
+                return null;
+            }
+            // not null for a fresh revocation token
+            final Date nextUpdate = getNextUpdate(revocationToken);
+            if (expirationTime == null || nextUpdate.before(expirationTime)) {
+                expirationTime = nextUpdate;
+            }
+        }
+        return expirationTime;
+    }
+
+    private List<RevocationToken<R>> getRevocationTokensFromRepository(final CertificateToken certificateToken,
+            final CertificateToken issuerCertificateToken, boolean forceRefresh) {
         Collection<String> keys = initRevocationTokenKeys(certificateToken);
         if (forceRefresh) {
             LOG.info("Cache is skipped to retrieve the revocation token for certificate with Id '{}'",
@@ -375,21 +581,34 @@ public abstract class RepositoryRevocationSource<R extends Revocation> implement
         }
 
         // check the validity of the revocation token itself
+        nextUpdate = getNextUpdate(revocationToken);
+        if (nextUpdate != null) {
+            return nextUpdate.after(validationDate);
+        }
+
+        return false;
+    }
+
+    /**
+     * Returns the nextUpdate date of the revocation token, adjusted with respect of
+     * nextUpdateDelay and maxNexUpdateDelay parameters
+     *
+     * @param revocationToken {@code CRLToken} or {@code OCSPToken}
+     * @return {@link Date}, null if not defined
+     */
+    private Date getNextUpdate(RevocationToken<R> revocationToken) {
+        Date nextUpdate = revocationToken.getNextUpdate();
         final Date thisUpdate = revocationToken.getThisUpdate();
         if (nextUpdate == null && defaultNextUpdateDelay != null && thisUpdate != null) {
             nextUpdate = new Date(thisUpdate.getTime() + defaultNextUpdateDelay);
         }
-        if (nextUpdate != null) {
-            if (maxNextUpdateDelay != null && thisUpdate != null) {
-                Date maxNextUpdate = new Date(thisUpdate.getTime() + maxNextUpdateDelay);
-                if (nextUpdate.after(maxNextUpdate)) {
-                    nextUpdate = maxNextUpdate;
-                }
+        if (nextUpdate != null && maxNextUpdateDelay != null && thisUpdate != null) {
+            Date maxNextUpdate = new Date(thisUpdate.getTime() + maxNextUpdateDelay);
+            if (nextUpdate.after(maxNextUpdate)) {
+                nextUpdate = maxNextUpdate;
             }
-            return nextUpdate.after(validationDate);
         }
-
-        return false;
+        return nextUpdate;
     }
 
 }
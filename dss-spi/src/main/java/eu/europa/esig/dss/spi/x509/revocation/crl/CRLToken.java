@@ -30,9 +30,13 @@ import eu.europa.esig.dss.model.DSSException;
 import eu.europa.esig.dss.model.x509.CertificateToken;
 import eu.europa.esig.dss.model.x509.revocation.crl.CRL;
 import eu.europa.esig.dss.spi.DSSASN1Utils;
+import eu.europa.esig.dss.spi.DSSSecurityProvider;
 import eu.europa.esig.dss.spi.DSSUtils;
 import eu.europa.esig.dss.spi.x509.revocation.RevocationCertificateSource;
 import eu.europa.esig.dss.spi.x509.revocation.RevocationToken;
+import org.bouncycastle.cert.X509CRLHolder;
+import org.bouncycastle.operator.ContentVerifierProvider;
+import org.bouncycastle.operator.jcajce.JcaContentVerifierProviderBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -129,9 +133,33 @@ public class CRLToken extends RevocationToken<CRL> {
 		}
 	}
 
+	/**
+	 * Verifies if the current CRL token has been signed by the specified publicKey
+	 *
+	 * NOTE: the signature of a CRL is verified against its issuer on the creation of the token,
+	 *       this method is only used for a CRL without an identified issuer
+	 *
+	 * @param publicKey {@link PublicKey} of a signing candidate
+	 * @return {@link SignatureValidity}
+	 */
 	@Override
 	protected SignatureValidity checkIsSignedBy(final PublicKey publicKey) {
-		throw new UnsupportedOperationException(this.getClass().getName());
+		try {
+			signatureInvalidityReason = "";
+			JcaContentVerifierProviderBuilder jcaContentVerifierProviderBuilder = new JcaContentVerifierProviderBuilder();
+			jcaContentVerifierProviderBuilder.setProvider(DSSSecurityProvider.getSecurityProvider());
+			ContentVerifierProvider contentVerifierProvider = jcaContentVerifierProviderBuilder.build(publicKey);
+			X509CRLHolder x509CRLHolder = new X509CRLHolder(getEncoded());
+			signatureValidity = SignatureValidity.get(x509CRLHolder.isSignatureValid(contentVerifierProvider));
+			if (SignatureValidity.INVALID == signatureValidity) {
+				signatureInvalidityReason = "Signature value not correct";
+			}
+		} catch (Exception e) {
+			LOG.warn("An error occurred during in attempt to check signature owner : {}", e.getMessage());
+			signatureInvalidityReason = e.getClass().getSimpleName() + " - " + e.getMessage();
+			signatureValidity = SignatureValidity.INVALID;
+		}
+		return signatureValidity;
 	}
 
 	@Override
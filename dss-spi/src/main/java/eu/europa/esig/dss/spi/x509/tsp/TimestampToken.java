@@ -36,6 +36,7 @@ import eu.europa.esig.dss.model.identifier.TokenIdentifier;
 import eu.europa.esig.dss.model.scope.SignatureScope;
 import eu.europa.esig.dss.model.x509.CertificateToken;
 import eu.europa.esig.dss.model.x509.Token;
+import eu.europa.esig.dss.model.x509.TokenSignatureVerificationCache;
 import eu.europa.esig.dss.spi.DSSASN1Utils;
 import eu.europa.esig.dss.spi.DSSSecurityProvider;
 import eu.europa.esig.dss.spi.DSSUtils;
@@ -173,7 +174,7 @@ public class TimestampToken extends Token {
 	 *
 	 * NOTE: Takes a value only for a successfully validated token
 	 */
-	private X500Principal tsaX500Principal;
+	private volatile X500Principal tsaX500Principal;
 
 	/**
 	 * Cached list of signing certificate candidates
@@ -294,25 +295,75 @@ public class TimestampToken extends Token {
 	/**
 	 * Checks if the timestamp token is signed by the given publicKey
 	 * 
+	 * NOTE: a successful signature verification is cached within {@code TokenSignatureVerificationCache.getInstance()}
+	 * (disabled by default)
+	 * 
 	 * @param certificateToken
 	 *              the candidate to be tested
 	 * @return true if this token is signed by the given public key
 	 */
 	@Override
-	public synchronized boolean isSignedBy(final CertificateToken certificateToken) {
-		if (publicKeyOfTheSigner != null) {
-			return publicKeyOfTheSigner.equals(certificateToken.getPublicKey());
-		} else if (SignatureValidity.VALID == checkIsSignedBy(certificateToken)) {
-			if (!isSelfSigned()) {
-				this.publicKeyOfTheSigner = certificateToken.getPublicKey();
-			}
+	public boolean isSignedBy(final CertificateToken certificateToken) {
+		return isSignedBy(certificateToken, TokenSignatureVerificationCache.getInstance());
+	}
+
+	/**
+	 * Checks if the timestamp token is signed by the given certificate, using the provided cache of signature verifications
+	 *
+	 * @param certificateToken
+	 *              the candidate to be tested
+	 * @param cache
+	 *              {@link TokenSignatureVerificationCache} to load and store the successful verification
+	 * @return true if this token is signed by the given certificate
+	 */
+	public boolean isSignedBy(final CertificateToken certificateToken, final TokenSignatureVerificationCache cache) {
+		final PublicKey signerPublicKey = publicKeyOfTheSigner;
+		if (signerPublicKey != null) {
+			return signerPublicKey.equals(certificateToken.getPublicKey());
+		}
+
+		// the verification depends on the signing certificate (SID, signing-certificate attribute), not only its key
+		if (cache.isSignatureVerified(getDSSId(), certificateToken)) {
+			setSignedBy(certificateToken);
 			return true;
 		}
-		return false;
+
+		// the lock only protects the token's signature state during the cryptographic verification
+		synchronized (this) {
+			if (publicKeyOfTheSigner != null) {
+				return publicKeyOfTheSigner.equals(certificateToken.getPublicKey());
+			}
+			if (SignatureValidity.VALID == checkIsSignedBy(certificateToken)) {
+				cache.addVerifiedSignature(getDSSId(), certificateToken);
+				setSignedBy(certificateToken);
+				return true;
+			}
+			if (publicKeyOfTheSigner != null) {
+				// the signer has been identified concurrently from the cache
+				signatureInvalidityReason = "";
+				signatureValidity = SignatureValidity.VALID;
+			}
+			return false;
+		}
+	}
+
+	/**
+	 * Sets the signature state of a timestamp signed by the given certificate.
+	 * The signer is set before the VALID state, thus a concurrent failed verification
+	 * observing the signer restores the VALID state.
+	 *
+	 * @param candidate {@link CertificateToken} the signer
+	 */
+	private void setSignedBy(final CertificateToken candidate) {
+		this.tsaX500Principal = candidate.getSubject().getPrincipal();
+		this.signatureAlgorithm = computeSignatureAlgorithm(candidate);
+		this.publicKeyOfTheSigner = candidate.getPublicKey();
+		this.signatureInvalidityReason = "";
+		this.signatureValidity = SignatureValidity.VALID;
 	}
 	
 	@Override
-	public synchronized boolean isSignedBy(final PublicKey publicKey) {
+	public boolean isSignedBy(final PublicKey publicKey) {
 		throw new UnsupportedOperationException("Use method isSignedBy(certificateToken) for a TimestampToken validation!");
 	}
 
@@ -333,17 +384,7 @@ public class TimestampToken extends Token {
 			if (isValidTimestamp(signerInformationVerifier) || isValidCMSSignedData(signerInformationVerifier)) {
 				signatureValidity = SignatureValidity.VALID;
 				this.tsaX500Principal = candidate.getSubject().getPrincipal();
-				SignerInformation signerInformation = timeStamp.toCMSSignedData().getSignerInfos().get(timeStamp.getSID());
-
-				if (SignatureAlgorithm.RSA_SSA_PSS_SHA1_MGF1.getOid().equals(signerInformation.getEncryptionAlgOID())) {
-					signatureAlgorithm = SignatureAlgorithm.forOidAndParams(signerInformation.getEncryptionAlgOID(),
-							signerInformation.getEncryptionAlgParams());
-				} else {
-					EncryptionAlgorithm encryptionAlgorithm = EncryptionAlgorithm.forName(candidate.getPublicKey().getAlgorithm());
-					final AlgorithmIdentifier hashAlgorithm = signerInformation.getDigestAlgorithmID();
-					final DigestAlgorithm digestAlgorithm = DigestAlgorithm.forOID(hashAlgorithm.getAlgorithm().getId());
-					signatureAlgorithm = SignatureAlgorithm.getAlgorithm(encryptionAlgorithm, digestAlgorithm);
-				}
+				signatureAlgorithm = computeSignatureAlgorithm(candidate);
 			} else {
 				signatureValidity = SignatureValidity.INVALID;
 			}
@@ -353,6 +394,19 @@ public class TimestampToken extends Token {
 		return SignatureValidity.INVALID;
 	}
 
+	private SignatureAlgorithm computeSignatureAlgorithm(final CertificateToken candidate) {
+		SignerInformation signerInformation = timeStamp.toCMSSignedData().getSignerInfos().get(timeStamp.getSID());
+		if (SignatureAlgorithm.RSA_SSA_PSS_SHA1_MGF1.getOid().equals(signerInformation.getEncryptionAlgOID())) {
+			return SignatureAlgorithm.forOidAndParams(signerInformation.getEncryptionAlgOID(),
+					signerInformation.getEncryptionAlgParams());
+		} else {
+			EncryptionAlgorithm encryptionAlgorithm = EncryptionAlgorithm.forName(candidate.getPublicKey().getAlgorithm());
+			final AlgorithmIdentifier hashAlgorithm = signerInformation.getDigestAlgorithmID();
+			final DigestAlgorithm digestAlgorithm = DigestAlgorithm.forOID(hashAlgorithm.getAlgorithm().getId());
+			return SignatureAlgorithm.getAlgorithm(encryptionAlgorithm, digestAlgorithm);
+		}
+	}
+
 	private boolean isValidTimestamp(SignerInformationVerifier signerInformationVerifier) {
 		try {
 			// Validate the timestamp, the signing certificate,...
@@ -21,13 +21,31 @@
 package eu.europa.esig.dss.spi.tls;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.junit.jupiter.api.Test;
 
 import eu.europa.esig.dss.model.x509.CertificateToken;
 import eu.europa.esig.dss.spi.DSSUtils;
+import eu.europa.esig.dss.spi.tsl.TLInfo;
+import eu.europa.esig.dss.spi.tsl.TrustProperties;
+import eu.europa.esig.dss.spi.tsl.TrustServiceStatusAndInformationExtensions;
 import eu.europa.esig.dss.spi.tsl.TrustedListsCertificateSource;
+import eu.europa.esig.dss.spi.tsl.builder.TrustServiceProviderBuilder;
+import eu.europa.esig.dss.spi.util.TimeDependentValues;
 
 public class TrustedListsCertificateSourceTest {
 
@@ -42,4 +60,77 @@ public class TrustedListsCertificateSourceTest {
 		assertEquals("Cannot directly add certificate to a TrustedListsCertificateSource", exception.getMessage());
 	}
 
+	@Test
+	public void getTrustServicesTest() throws Exception {
+		CertificateToken cert = DSSUtils.loadCertificate(new File("src/test/resources/belgiumrca2-self-sign.crt"));
+
+		TrustedListsCertificateSource trustedCertSource = new TrustedListsCertificateSource();
+		assertTrue(trustedCertSource.getTrustServices(cert).isEmpty());
+
+		TrustProperties trustProperties = new TrustProperties(new TLInfo(null, null, null, "tl"),
+				new TrustServiceProviderBuilder().build(), new TimeDependentValues<TrustServiceStatusAndInformationExtensions>());
+		Map<CertificateToken, List<TrustProperties>> trustPropertiesByCerts = new HashMap<>();
+		trustPropertiesByCerts.put(cert, Collections.singletonList(trustProperties));
+		trustedCertSource.setTrustPropertiesByCertificates(trustPropertiesByCerts);
+
+		assertEquals(1, trustedCertSource.getNumberOfTrustedPublicKeys());
+		assertTrue(trustedCertSource.isTrusted(cert));
+		List<TrustProperties> trustServices = trustedCertSource.getTrustServices(cert);
+		assertEquals(Collections.singletonList(trustProperties), trustServices);
+		assertThrows(UnsupportedOperationException.class, () -> trustServices.add(trustProperties));
+
+		ExecutorService executorService = Executors.newSingleThreadExecutor();
+		try {
+			// the reading shall not wait for a concurrent update
+			synchronized (trustedCertSource) {
+				Future<List<TrustProperties>> future = executorService.submit(() -> trustedCertSource.getTrustServices(cert));
+				assertEquals(trustServices, future.get(10, TimeUnit.SECONDS));
+			}
+		} finally {
+			executorService.shutdown();
+		}
+
+		trustedCertSource.setTrustPropertiesByCertificates(Collections.emptyMap());
+		assertEquals(0, trustedCertSource.getNumberOfTrustedPublicKeys());
+		assertTrue(trustedCertSource.getTrustServices(cert).isEmpty());
+	}
+
+	@Test
+	public void refreshTest() throws Exception {
+		CertificateToken cert = DSSUtils.loadCertificate(new File("src/test/resources/belgiumrca2-self-sign.crt"));
+
+		TrustedListsCertificateSource trustedCertSource = new TrustedListsCertificateSource();
+		TrustProperties trustProperties = new TrustProperties(new TLInfo(null, null, null, "tl"),
+				new TrustServiceProviderBuilder().build(), new TimeDependentValues<TrustServiceStatusAndInformationExtensions>());
+		Map<CertificateToken, List<TrustProperties>> trustPropertiesByCerts = new HashMap<>();
+		trustPropertiesByCerts.put(cert, Collections.singletonList(trustProperties));
+		trustedCertSource.setTrustPropertiesByCertificates(trustPropertiesByCerts);
+
+		AtomicBoolean refreshed = new AtomicBoolean(false);
+		ExecutorService executorService = Executors.newSingleThreadExecutor();
+		try {
+			// the readers shall never observe an empty or a partially filled certificate pool
+			Future<Boolean> future = executorService.submit(() -> {
+				boolean alwaysTrusted = true;
+				while (!refreshed.get()) {
+					alwaysTrusted &= trustedCertSource.isTrusted(cert);
+					alwaysTrusted &= trustedCertSource.getNumberOfCertificates() == 1;
+					alwaysTrusted &= !trustedCertSource.getBySubject(cert.getSubject()).isEmpty();
+				}
+				return alwaysTrusted;
+			});
+			for (int i = 0; i < 1000; i++) {
+				trustedCertSource.setTrustPropertiesByCertificates(trustPropertiesByCerts);
+			}
+			refreshed.set(true);
+			assertTrue(future.get(10, TimeUnit.SECONDS));
+		} finally {
+			executorService.shutdown();
+		}
+
+		assertThrows(UnsupportedOperationException.class, () -> trustedCertSource.importAsTrusted(trustedCertSource));
+		assertEquals(1, trustedCertSource.getNumberOfEntities());
+		assertFalse(trustedCertSource.getCertificates().isEmpty());
+	}
+
 }
@@ -0,0 +1,133 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.spi.x509;
+
+import eu.europa.esig.dss.enumerations.SignatureValidity;
+import eu.europa.esig.dss.model.x509.CertificateToken;
+import eu.europa.esig.dss.spi.DSSASN1Utils;
+import eu.europa.esig.dss.spi.DSSUtils;
+import eu.europa.esig.dss.utils.Utils;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class CertificateTokenFactoryTest {
+
+	private static final byte[] CITIZEN_CA = DSSUtils.loadCertificate(new File("src/test/resources/citizen_ca.cer")).getEncoded();
+
+	private static final byte[] TSA_BE = DSSUtils.loadCertificate(new File("src/test/resources/TSA_BE.cer")).getEncoded();
+
+	private static final byte[] TSP_CERT = DSSUtils.loadCertificate(new File("src/test/resources/TSP_Certificate_2014.crt")).getEncoded();
+
+	@Test
+	public void test() {
+		CertificateTokenFactory certificateTokenFactory = new CertificateTokenFactory(100);
+		CertificateToken certificateToken = certificateTokenFactory.loadCertificate(CITIZEN_CA);
+		assertEquals(DSSUtils.loadCertificate(CITIZEN_CA), certificateToken);
+
+		CertificateToken secondCertificateToken = certificateTokenFactory.loadCertificate(CITIZEN_CA);
+		assertNotSame(certificateToken, secondCertificateToken);
+		assertEquals(certificateToken, secondCertificateToken);
+		assertSame(certificateToken.getCertificate(), secondCertificateToken.getCertificate());
+		assertSame(certificateToken.getCertificate(), certificateTokenFactory.loadCertificateFromBase64EncodedString(
+				Utils.toBase64(CITIZEN_CA)).getCertificate());
+		assertSame(certificateToken.getCertificate(), certificateTokenFactory.getCertificate(
+				DSSASN1Utils.getX509CertificateHolder(certificateToken)).getCertificate());
+
+		CertificateToken tsaCertificate = certificateTokenFactory.loadCertificate(TSA_BE);
+		assertNotSame(certificateToken.getCertificate(), tsaCertificate.getCertificate());
+		assertSame(tsaCertificate.getCertificate(), certificateTokenFactory.loadCertificate(TSA_BE).getCertificate());
+
+		certificateTokenFactory.clear();
+		CertificateToken newCertificateToken = certificateTokenFactory.loadCertificate(CITIZEN_CA);
+		assertNotSame(certificateToken.getCertificate(), newCertificateToken.getCertificate());
+		assertEquals(certificateToken, newCertificateToken);
+	}
+
+	@Test
+	public void signatureStateIsNotSharedTest() {
+		CertificateTokenFactory certificateTokenFactory = new CertificateTokenFactory(100);
+		CertificateToken certificateToken = certificateTokenFactory.loadCertificate(CITIZEN_CA);
+		CertificateToken tsaCertificate = certificateTokenFactory.loadCertificate(TSA_BE);
+		assertFalse(certificateToken.isSignedBy(tsaCertificate));
+		assertEquals(SignatureValidity.INVALID, certificateToken.getSignatureValidity());
+
+		// a token loaded within another validation does not inherit the verification state
+		CertificateToken secondCertificateToken = certificateTokenFactory.loadCertificate(CITIZEN_CA);
+		assertSame(certificateToken.getCertificate(), secondCertificateToken.getCertificate());
+		assertEquals(SignatureValidity.NOT_EVALUATED, secondCertificateToken.getSignatureValidity());
+		assertEquals("", secondCertificateToken.getInvalidityReason());
+		assertNull(secondCertificateToken.getPublicKeyOfTheSigner());
+	}
+
+	@Test
+	public void disabledTest() {
+		CertificateTokenFactory certificateTokenFactory = new CertificateTokenFactory(0);
+
+		CertificateToken certificateToken = certificateTokenFactory.loadCertificate(CITIZEN_CA);
+		CertificateToken secondCertificateToken = certificateTokenFactory.loadCertificate(CITIZEN_CA);
+		assertNotSame(certificateToken, secondCertificateToken);
+		assertNotSame(certificateToken.getCertificate(), secondCertificateToken.getCertificate());
+		assertEquals(certificateToken, secondCertificateToken);
+	}
+
+	@Test
+	public void evictionTest() {
+		CertificateTokenFactory certificateTokenFactory = new CertificateTokenFactory(2);
+
+		CertificateToken citizenCa = certificateTokenFactory.loadCertificate(CITIZEN_CA);
+		CertificateToken tsaBe = certificateTokenFactory.loadCertificate(TSA_BE);
+		// access to make the TSA_BE certificate the eldest entry
+		assertSame(citizenCa.getCertificate(), certificateTokenFactory.loadCertificate(CITIZEN_CA).getCertificate());
+		certificateTokenFactory.loadCertificate(TSP_CERT);
+
+		assertSame(citizenCa.getCertificate(), certificateTokenFactory.loadCertificate(CITIZEN_CA).getCertificate());
+		assertNotSame(tsaBe.getCertificate(), certificateTokenFactory.loadCertificate(TSA_BE).getCertificate());
+	}
+
+	@Test
+	public void defaultInstanceTest() {
+		CertificateTokenFactory defaultInstance = CertificateTokenFactory.getInstance();
+		assertEquals(0, defaultInstance.getCacheSize());
+		CertificateTokenFactory certificateTokenFactory = new CertificateTokenFactory(10);
+		try {
+			CertificateTokenFactory.setInstance(certificateTokenFactory);
+			assertSame(certificateTokenFactory, CertificateTokenFactory.getInstance());
+		} finally {
+			CertificateTokenFactory.setInstance(defaultInstance);
+		}
+		assertThrows(NullPointerException.class, () -> CertificateTokenFactory.setInstance(null));
+	}
+
+	@Test
+	public void negativeSizeTest() {
+		Exception exception = assertThrows(IllegalArgumentException.class, () -> new CertificateTokenFactory(-1));
+		assertEquals("The cache size cannot be negative!", exception.getMessage());
+	}
+
+}
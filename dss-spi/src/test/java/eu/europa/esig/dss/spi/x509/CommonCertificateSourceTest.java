@@ -30,7 +30,10 @@ import java.io.File;
 import org.junit.jupiter.api.Test;
 
 import eu.europa.esig.dss.enumerations.CertificateSourceType;
+import eu.europa.esig.dss.enumerations.DigestAlgorithm;
+import eu.europa.esig.dss.model.Digest;
 import eu.europa.esig.dss.model.x509.CertificateToken;
+import eu.europa.esig.dss.spi.DSSASN1Utils;
 import eu.europa.esig.dss.spi.DSSUtils;
 
 public class CommonCertificateSourceTest {
@@ -144,4 +147,54 @@ public class CommonCertificateSourceTest {
 		assertTrue(ccTwo.isCertificateSourceEquivalent(ccOne));
 	}
 
+	@Test
+	public void lookupTest() {
+		CommonCertificateSource ccc = new CommonCertificateSource();
+		ccc.addCertificate(CERT);
+		ccc.addCertificate(SAME_PK_CERT_1);
+
+		Digest sha256Digest = new Digest(DigestAlgorithm.SHA256, SAME_PK_CERT_2.getDigest(DigestAlgorithm.SHA256));
+		assertTrue(ccc.getByCertificateDigest(sha256Digest).isEmpty());
+		assertEquals(1, ccc.getByCertificateDigest(new Digest(DigestAlgorithm.SHA256, CERT.getDigest(DigestAlgorithm.SHA256))).size());
+
+		SignerIdentifier signerIdentifier = new SignerIdentifier();
+		signerIdentifier.setIssuerName(SAME_PK_CERT_2.getIssuerX500Principal());
+		signerIdentifier.setSerialNumber(SAME_PK_CERT_2.getSerialNumber());
+		assertTrue(ccc.getBySignerIdentifier(signerIdentifier).isEmpty());
+
+		CertificateRef certificateRef = new CertificateRef();
+		certificateRef.setCertificateIdentifier(signerIdentifier);
+		assertTrue(ccc.findTokensFromCertRef(certificateRef).isEmpty());
+
+		ccc.addCertificate(SAME_PK_CERT_2);
+		assertEquals(1, ccc.getByCertificateDigest(sha256Digest).size());
+		assertTrue(ccc.getByCertificateDigest(sha256Digest).contains(SAME_PK_CERT_2));
+		assertEquals(1, ccc.getBySignerIdentifier(signerIdentifier).size());
+		assertTrue(ccc.getBySignerIdentifier(signerIdentifier).contains(SAME_PK_CERT_2));
+		assertEquals(1, ccc.findTokensFromCertRef(certificateRef).size());
+		assertTrue(ccc.findTokensFromCertRef(certificateRef).contains(SAME_PK_CERT_2));
+
+		byte[] ski = DSSASN1Utils.computeSkiFromCert(SAME_PK_CERT_1);
+		assertEquals(2, ccc.getBySki(ski).size());
+
+		certificateRef = new CertificateRef();
+		certificateRef.setResponderId(new ResponderId(null, ski));
+		assertEquals(2, ccc.findTokensFromCertRef(certificateRef).size());
+
+		ccc.removeCertificate(SAME_PK_CERT_2);
+		assertTrue(ccc.getByCertificateDigest(sha256Digest).isEmpty());
+		assertTrue(ccc.getBySignerIdentifier(signerIdentifier).isEmpty());
+		assertEquals(1, ccc.getBySki(ski).size());
+		assertEquals(1, ccc.findTokensFromCertRef(certificateRef).size());
+
+		ccc.removeCertificate(SAME_PK_CERT_1);
+		assertTrue(ccc.getBySki(ski).isEmpty());
+		assertTrue(ccc.findTokensFromCertRef(certificateRef).isEmpty());
+		assertEquals(1, ccc.getBySki(DSSASN1Utils.computeSkiFromCert(CERT)).size());
+
+		ccc.reset();
+		assertTrue(ccc.getBySki(DSSASN1Utils.computeSkiFromCert(CERT)).isEmpty());
+		assertTrue(ccc.getByCertificateDigest(new Digest(DigestAlgorithm.SHA256, CERT.getDigest(DigestAlgorithm.SHA256))).isEmpty());
+	}
+
 }
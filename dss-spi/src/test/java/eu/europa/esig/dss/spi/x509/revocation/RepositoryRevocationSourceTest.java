@@ -0,0 +1,372 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.spi.x509.revocation;
+
+import eu.europa.esig.dss.crl.CRLBinary;
+import eu.europa.esig.dss.crl.CRLUtils;
+import eu.europa.esig.dss.crl.CRLValidity;
+import eu.europa.esig.dss.enumerations.RevocationOrigin;
+import eu.europa.esig.dss.model.FileDocument;
+import eu.europa.esig.dss.model.x509.CertificateToken;
+import eu.europa.esig.dss.model.x509.revocation.crl.CRL;
+import eu.europa.esig.dss.spi.DSSUtils;
+import eu.europa.esig.dss.spi.exception.DSSExternalResourceException;
+import eu.europa.esig.dss.spi.x509.revocation.crl.CRLToken;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RepositoryRevocationSourceTest {
+
+	private static CertificateToken certificateToken;
+	private static CertificateToken caToken;
+	private static CRLValidity crlValidity;
+
+	@BeforeAll
+	public static void init() throws IOException {
+		certificateToken = DSSUtils.loadCertificate(new FileDocument("src/test/resources/TSA_BE.cer").openStream());
+		caToken = DSSUtils.loadCertificate(new FileDocument("src/test/resources/belgiumrs2.crt").openStream());
+		CRLBinary crlBinary = CRLUtils.buildCRLBinary(DSSUtils.toByteArray(new FileDocument("src/test/resources/crl/belgium2.crl")));
+		crlValidity = CRLUtils.buildCRLValidity(crlBinary, caToken);
+	}
+
+	@Test
+	public void withoutInMemoryCacheTest() {
+		MockRepositoryRevocationSource repositorySource = new MockRepositoryRevocationSource();
+		MockProxiedSource proxiedSource = new MockProxiedSource(0);
+		repositorySource.setProxySource(proxiedSource);
+
+		assertNotNull(repositorySource.getRevocationToken(certificateToken, caToken));
+		assertNotNull(repositorySource.getRevocationToken(certificateToken, caToken));
+		assertEquals(1, proxiedSource.counter.get());
+		assertEquals(2, repositorySource.findCounter.get());
+	}
+
+	@Test
+	public void inMemoryCacheTest() {
+		MockRepositoryRevocationSource repositorySource = new MockRepositoryRevocationSource();
+		MockProxiedSource proxiedSource = new MockProxiedSource(0);
+		repositorySource.setProxySource(proxiedSource);
+		repositorySource.setInMemoryCacheSize(10);
+
+		assertNotNull(repositorySource.getRevocationToken(certificateToken, caToken));
+		assertNotNull(repositorySource.getRevocationToken(certificateToken, caToken));
+		assertNotNull(repositorySource.getRevocationToken(certificateToken, caToken));
+		assertEquals(1, proxiedSource.counter.get());
+		assertEquals(1, repositorySource.findCounter.get());
+
+		// force refresh skips the in-memory tier
+		assertNotNull(repositorySource.getRevocationToken(certificateToken, caToken, true));
+		assertEquals(2, proxiedSource.counter.get());
+		assertEquals(1, repositorySource.findCounter.get());
+	}
+
+	@Test
+	public void expiredTokenNotCachedInMemoryTest() {
+		MockRepositoryRevocationSource repositorySource = new MockRepositoryRevocationSource();
+		// the nextUpdate of the CRL is in the past
+		repositorySource.setProxySource((certificate, issuer) -> new CRLToken(certificate, crlValidity));
+		repositorySource.setInMemoryCacheSize(10);
+		repositorySource.setRemoveExpired(false);
+
+		assertNotNull(repositorySource.getRevocationToken(certificateToken, caToken));
+		assertNotNull(repositorySource.getRevocationToken(certificateToken, caToken));
+		assertEquals(2, repositorySource.findCounter.get());
+	}
+
+	@Test
+	public void expiredIssuerNotCachedInMemoryTest() {
+		MockRepositoryRevocationSource repositorySource = new MockRepositoryRevocationSource();
+		// no nextUpdate : the token is fresh only while its issuer is valid, the CA certificate is expired
+		repositorySource.setProxySource((certificate, issuer) -> new NoNextUpdateCRLToken(certificate, crlValidity));
+		repositorySource.setDefaultNextUpdateDelay(3600L);
+		repositorySource.setInMemoryCacheSize(10);
+		repositorySource.setRemoveExpired(false);
+
+		assertNotNull(repositorySource.getRevocationToken(certificateToken, caToken));
+		assertNotNull(repositorySource.getRevocationToken(certificateToken, caToken));
+		assertEquals(2, repositorySource.findCounter.get());
+	}
+
+	@Test
+	public void concurrentLoadsTest() throws Exception {
+		MockRepositoryRevocationSource repositorySource = new MockRepositoryRevocationSource();
+		MockProxiedSource proxiedSource = new MockProxiedSource(200);
+		repositorySource.setProxySource(proxiedSource);
+		repositorySource.setInMemoryCacheSize(10);
+
+		int nbThreads = 10;
+		ExecutorService executorService = Executors.newFixedThreadPool(nbThreads);
+		CountDownLatch latch = new CountDownLatch(1);
+		List<Future<RevocationToken<CRL>>> futures = new ArrayList<>();
+		for (int i = 0; i < nbThreads; i++) {
+			futures.add(executorService.submit(() -> {
+				latch.await();
+				return repositorySource.getRevocationToken(certificateToken, caToken);
+			}));
+		}
+		latch.countDown();
+		for (Future<RevocationToken<CRL>> future : futures) {
+			assertNotNull(future.get(10, TimeUnit.SECONDS));
+		}
+		executorService.shutdown();
+
+		assertEquals(1, proxiedSource.counter.get());
+	}
+
+	@Test
+	public void inMemoryCacheOriginTest() {
+		MockRepositoryRevocationSource repositorySource = new MockRepositoryRevocationSource();
+		repositorySource.setProxySource(new MockProxiedSource(0));
+		repositorySource.setInMemoryCacheSize(10);
+
+		RevocationToken<CRL> loadedToken = repositorySource.getRevocationToken(certificateToken, caToken);
+		assertNotNull(loadedToken);
+		assertNull(loadedToken.getExternalOrigin());
+
+		RevocationToken<CRL> cachedToken = repositorySource.getRevocationToken(certificateToken, caToken);
+		assertNotNull(cachedToken);
+		assertNotSame(loadedToken, cachedToken);
+		assertEquals(RevocationOrigin.CACHED, cachedToken.getExternalOrigin());
+		assertEquals(loadedToken.getDSSId(), cachedToken.getDSSId());
+		assertNotSame(cachedToken, repositorySource.getRevocationToken(certificateToken, caToken));
+		assertEquals(1, repositorySource.findCounter.get());
+	}
+
+	@Test
+	public void concurrentLoadsFailureTest() throws Exception {
+		MockRepositoryRevocationSource repositorySource = new MockRepositoryRevocationSource();
+		AtomicInteger counter = new AtomicInteger();
+		repositorySource.setProxySource((certificate, issuer) -> {
+			counter.incrementAndGet();
+			try {
+				Thread.sleep(200);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			throw new DSSExternalResourceException("Unable to download the CRL");
+		});
+		repositorySource.setInMemoryCacheSize(10);
+
+		List<Future<RevocationToken<CRL>>> futures = getRevocationTokensConcurrently(repositorySource, 10);
+		for (Future<RevocationToken<CRL>> future : futures) {
+			ExecutionException exception = assertThrows(ExecutionException.class, () -> future.get(10, TimeUnit.SECONDS));
+			assertInstanceOf(DSSExternalResourceException.class, exception.getCause());
+			assertEquals("Unable to download the CRL", exception.getCause().getMessage());
+		}
+		assertEquals(1, counter.get());
+	}
+
+	@Test
+	public void concurrentLoadsNoResultTest() throws Exception {
+		MockRepositoryRevocationSource repositorySource = new MockRepositoryRevocationSource();
+		AtomicInteger counter = new AtomicInteger();
+		repositorySource.setProxySource((certificate, issuer) -> {
+			counter.incrementAndGet();
+			try {
+				Thread.sleep(200);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return null;
+		});
+		repositorySource.setInMemoryCacheSize(10);
+
+		List<Future<RevocationToken<CRL>>> futures = getRevocationTokensConcurrently(repositorySource, 10);
+		for (Future<RevocationToken<CRL>> future : futures) {
+			assertNull(future.get(10, TimeUnit.SECONDS));
+		}
+		assertEquals(1, counter.get());
+		assertEquals(1, repositorySource.findCounter.get());
+	}
+
+	private List<Future<RevocationToken<CRL>>> getRevocationTokensConcurrently(
+			MockRepositoryRevocationSource repositorySource, int nbThreads) throws InterruptedException {
+		ExecutorService executorService = Executors.newFixedThreadPool(nbThreads);
+		CountDownLatch latch = new CountDownLatch(1);
+		List<Future<RevocationToken<CRL>>> futures = new ArrayList<>();
+		for (int i = 0; i < nbThreads; i++) {
+			futures.add(executorService.submit(() -> {
+				latch.await();
+				return repositorySource.getRevocationToken(certificateToken, caToken);
+			}));
+		}
+		latch.countDown();
+		executorService.shutdown();
+		assertTrue(executorService.awaitTermination(10, TimeUnit.SECONDS));
+		return futures;
+	}
+
+	@Test
+	public void boundedSizeTest() {
+		InMemoryRevocationCache<CRL> cache = new InMemoryRevocationCache<>(2);
+		List<RevocationToken<CRL>> tokens = Collections.singletonList(new FreshCRLToken(certificateToken, crlValidity));
+		Date nextUpdate = new Date(System.currentTimeMillis() + 60000);
+
+		cache.put("1", tokens, nextUpdate);
+		cache.put("2", tokens, nextUpdate);
+		assertNotNull(cache.get("1"));
+		cache.put("3", tokens, nextUpdate);
+		assertEquals(2, cache.size());
+		assertNotNull(cache.get("1"));
+		assertNull(cache.get("2"));
+		assertNotNull(cache.get("3"));
+
+		cache.put("4", tokens, new Date(System.currentTimeMillis() - 1000));
+		assertNull(cache.get("4"));
+		assertEquals(2, cache.size());
+
+		cache.clear();
+		assertEquals(0, cache.size());
+
+		assertThrows(IllegalArgumentException.class, () -> new InMemoryRevocationCache<CRL>(0));
+	}
+
+	@SuppressWarnings("serial")
+	private static class FreshCRLToken extends CRLToken {
+
+		private final Date nextUpdate = new Date(System.currentTimeMillis() + 60000);
+
+		FreshCRLToken(CertificateToken certificateToken, CRLValidity crlValidity) {
+			super(certificateToken, crlValidity);
+		}
+
+		@Override
+		public Date getNextUpdate() {
+			return nextUpdate;
+		}
+
+	}
+
+	@SuppressWarnings("serial")
+	private static class NoNextUpdateCRLToken extends CRLToken {
+
+		private final Date thisUpdate = new Date();
+
+		NoNextUpdateCRLToken(CertificateToken certificateToken, CRLValidity crlValidity) {
+			super(certificateToken, crlValidity);
+		}
+
+		@Override
+		public Date getThisUpdate() {
+			return thisUpdate;
+		}
+
+		@Override
+		public Date getNextUpdate() {
+			return null;
+		}
+
+	}
+
+	@SuppressWarnings("serial")
+	private static class MockProxiedSource implements RevocationSource<CRL> {
+
+		private final AtomicInteger counter = new AtomicInteger();
+
+		private final long delay;
+
+		MockProxiedSource(long delay) {
+			this.delay = delay;
+		}
+
+		@Override
+		public RevocationToken<CRL> getRevocationToken(CertificateToken certificateToken, CertificateToken issuerCertificateToken) {
+			counter.incrementAndGet();
+			try {
+				Thread.sleep(delay);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return new FreshCRLToken(certificateToken, crlValidity);
+		}
+
+	}
+
+	@SuppressWarnings("serial")
+	private static class MockRepositoryRevocationSource extends RepositoryRevocationSource<CRL> {
+
+		private final Map<String, RevocationToken<CRL>> repository = new ConcurrentHashMap<>();
+
+		private final AtomicInteger findCounter = new AtomicInteger();
+
+		@Override
+		protected List<String> initRevocationTokenKeys(CertificateToken certificateToken) {
+			return Collections.singletonList("crl-key");
+		}
+
+		@Override
+		protected List<RevocationToken<CRL>> findRevocations(String key, CertificateToken certificateToken, CertificateToken issuerCertToken) {
+			findCounter.incrementAndGet();
+			RevocationToken<CRL> revocationToken = repository.get(key);
+			return revocationToken != null ? Collections.singletonList(revocationToken) : Collections.emptyList();
+		}
+
+		@Override
+		protected void insertRevocation(String revocationKey, RevocationToken<CRL> token) {
+			repository.put(revocationKey, token);
+		}
+
+		@Override
+		protected void updateRevocation(String revocationKey, RevocationToken<CRL> token) {
+			repository.put(revocationKey, token);
+		}
+
+		@Override
+		protected void removeRevocation(String revocationKey) {
+			repository.remove(revocationKey);
+		}
+
+		@Override
+		protected String getRevocationSourceUrl(CertificateToken certificateToken, RevocationToken<CRL> revocationToken) {
+			return "http://crl";
+		}
+
+		@Override
+		protected String getRevocationTokenKey(CertificateToken certificateToken, String urlString) {
+			return "crl-key";
+		}
+
+	}
+
+}
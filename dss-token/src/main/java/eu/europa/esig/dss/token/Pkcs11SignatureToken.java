@@ -30,15 +30,22 @@ import javax.security.auth.callback.PasswordCallback;
 import javax.security.auth.callback.UnsupportedCallbackException;
 import javax.security.auth.login.LoginException;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
 import java.security.AuthProvider;
 import java.security.KeyStore;
 import java.security.KeyStore.PasswordProtection;
 import java.security.KeyStore.ProtectionParameter;
+import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.security.Provider;
 import java.security.Security;
 import java.security.Signature;
+import java.util.Arrays;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * PKCS11 token with callback
@@ -74,6 +81,18 @@ public class Pkcs11SignatureToken extends AbstractKeyStoreTokenConnection {
 	/** Additional PKCS11 config */
 	private final String extraPkcs11Config;
 
+	/**
+	 * Defines whether the logged-in KeyStore and the retrieved keys shall be cached between calls
+	 * Default : false (the KeyStore is loaded on every call)
+	 */
+	private boolean cacheKeyStore = false;
+
+	/** The cached logged-in KeyStore (used only when {@code cacheKeyStore} is enabled) */
+	private volatile KeyStore keyStore;
+
+	/** The cached key entries by alias (used only when {@code cacheKeyStore} is enabled) */
+	private final Map<String, CachedKeyEntry> keysByAlias = new ConcurrentHashMap<>();
+
 	/**
 	 * Create the SignatureTokenConnection, using the provided path for the library.
 	 *
@@ -241,12 +260,30 @@ public class Pkcs11SignatureToken extends AbstractKeyStoreTokenConnection {
         this.extraPkcs11Config = extraPkcs11Config;
     }
 
+	/**
+	 * Sets whether the logged-in KeyStore and the key entries retrieved by alias shall be cached
+	 * and reused between calls, instead of loading the KeyStore (incl. login) on every call.
+	 *
+	 * Enabling of the feature is recommended for long-living connections signing concurrently
+	 * (e.g. a remote signing service), as the PKCS#11 provider maintains its own pool of sessions
+	 * for the signature operations. The cached data is released on {@code #close()}.
+	 *
+	 * NOTE: when enabled, keys added to or removed from the token after the first access will not be reflected.
+	 *
+	 * Default : false (the KeyStore is loaded on every call)
+	 *
+	 * @param cacheKeyStore whether the KeyStore and the key entries shall be cached
+	 */
+	public void setCacheKeyStore(boolean cacheKeyStore) {
+		this.cacheKeyStore = cacheKeyStore;
+	}
+
 	/**
 	 * Gets the Provider to use
 	 *
 	 * @return {@link Provider}
 	 */
-	protected Provider getProvider() {
+	protected synchronized Provider getProvider() {
 		if (provider == null) {
 			String configString = buildConfig();
 			LOG.debug("PKCS11 Config : \n{}", configString);
@@ -311,6 +348,29 @@ public class Pkcs11SignatureToken extends AbstractKeyStoreTokenConnection {
 
 	@Override
 	protected KeyStore getKeyStore() throws DSSException {
+		if (!cacheKeyStore) {
+			return loadKeyStore();
+		}
+		KeyStore result = keyStore;
+		if (result == null) {
+			synchronized (this) {
+				result = keyStore;
+				if (result == null) {
+					result = loadKeyStore();
+					keyStore = result;
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Instantiates and loads the PKCS11 KeyStore, performing the login to the token
+	 *
+	 * @return {@link KeyStore}
+	 * @throws DSSException if an error occurs on KeyStore loading
+	 */
+	protected KeyStore loadKeyStore() throws DSSException {
 		try {
 			KeyStore keyStore = KeyStore.getInstance(SUN_PKCS11_KEYSTORE_TYPE, getProvider());
 			keyStore.load(new KeyStore.LoadStoreParameter() {
@@ -355,13 +415,72 @@ public class Pkcs11SignatureToken extends AbstractKeyStoreTokenConnection {
 		return null;
 	}
 
+	@Override
+	public DSSPrivateKeyEntry getKey(String alias, PasswordProtection passwordProtection) {
+		if (!cacheKeyStore || alias == null) {
+			return super.getKey(alias, passwordProtection);
+		}
+		// the cached entry is returned only for the same key protection it has been retrieved with
+		final byte[] protectionDigest = getProtectionDigest(passwordProtection);
+		final CachedKeyEntry cachedKey = keysByAlias.get(alias);
+		if (cachedKey != null && MessageDigest.isEqual(cachedKey.protectionDigest, protectionDigest)) {
+			return cachedKey.key;
+		}
+		final DSSPrivateKeyEntry key = super.getKey(alias, passwordProtection);
+		if (key != null) {
+			keysByAlias.put(alias, new CachedKeyEntry(key, protectionDigest));
+		}
+		return key;
+	}
+
+	private static byte[] getProtectionDigest(PasswordProtection passwordProtection) {
+		try {
+			final MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+			final char[] password = passwordProtection != null ? passwordProtection.getPassword() : null;
+			if (password != null) {
+				final ByteBuffer byteBuffer = StandardCharsets.UTF_8.encode(CharBuffer.wrap(password));
+				final byte[] passwordBytes = new byte[byteBuffer.remaining()];
+				byteBuffer.get(passwordBytes);
+				messageDigest.update((byte) 1);
+				messageDigest.update(passwordBytes);
+				Arrays.fill(passwordBytes, (byte) 0);
+				Arrays.fill(byteBuffer.array(), (byte) 0);
+			} else {
+				messageDigest.update((byte) 0);
+			}
+			return messageDigest.digest();
+		} catch (NoSuchAlgorithmException e) {
+			throw new DSSException("Unable to compute the key protection digest. Reason : " + e.getMessage(), e);
+		}
+	}
+
 	@Override
 	protected Signature getSignatureInstance(String javaSignatureAlgorithm) throws NoSuchAlgorithmException {
 		return Signature.getInstance(javaSignatureAlgorithm, getProvider());
 	}
 
+	/**
+	 * A cached key entry together with the digest of the password it has been retrieved with
+	 */
+	private static final class CachedKeyEntry {
+
+		/** The key entry */
+		private final DSSPrivateKeyEntry key;
+
+		/** The SHA-256 digest of the key protection password */
+		private final byte[] protectionDigest;
+
+		private CachedKeyEntry(DSSPrivateKeyEntry key, byte[] protectionDigest) {
+			this.key = key;
+			this.protectionDigest = protectionDigest;
+		}
+
+	}
+
 	@Override
-	public void close() {
+	public synchronized void close() {
+		keysByAlias.clear();
+		keyStore = null;
 		if (provider != null) {
 			try {
 				try {
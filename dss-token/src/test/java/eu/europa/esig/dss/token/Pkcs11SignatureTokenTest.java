@@ -0,0 +1,151 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.token;
+
+import eu.europa.esig.dss.enumerations.DigestAlgorithm;
+import eu.europa.esig.dss.model.DSSException;
+import eu.europa.esig.dss.model.SignatureValue;
+import eu.europa.esig.dss.model.ToBeSigned;
+import org.junit.jupiter.api.Test;
+
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyStore;
+import java.security.KeyStore.PasswordProtection;
+import java.security.NoSuchAlgorithmException;
+import java.security.Signature;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class Pkcs11SignatureTokenTest {
+
+	@Test
+	public void noCacheTest() {
+		try (MockPkcs11SignatureToken token = new MockPkcs11SignatureToken()) {
+			List<DSSPrivateKeyEntry> keys = token.getKeys();
+			assertFalse(keys.isEmpty());
+
+			String alias = ((KSPrivateKeyEntry) keys.get(0)).getAlias();
+			assertNotNull(token.getKey(alias));
+			assertNotNull(token.getKey(alias));
+			assertEquals(3, token.loadCounter.get());
+		}
+	}
+
+	@Test
+	public void cacheKeyStoreTest() throws Exception {
+		try (MockPkcs11SignatureToken token = new MockPkcs11SignatureToken()) {
+			token.setCacheKeyStore(true);
+
+			List<DSSPrivateKeyEntry> keys = token.getKeys();
+			assertFalse(keys.isEmpty());
+
+			String alias = ((KSPrivateKeyEntry) keys.get(0)).getAlias();
+			DSSPrivateKeyEntry key = token.getKey(alias);
+			assertNotNull(key);
+			assertSame(key, token.getKey(alias));
+			assertEquals(1, token.loadCounter.get());
+
+			ExecutorService executor = Executors.newFixedThreadPool(10);
+			List<Future<SignatureValue>> futures = new ArrayList<>();
+			for (int i = 0; i < 50; i++) {
+				futures.add(executor.submit(() -> {
+					ToBeSigned toBeSigned = new ToBeSigned("Hello world".getBytes(StandardCharsets.UTF_8));
+					return token.sign(toBeSigned, DigestAlgorithm.SHA256, token.getKey(alias));
+				}));
+			}
+			for (Future<SignatureValue> future : futures) {
+				assertNotNull(future.get().getValue());
+			}
+			executor.shutdown();
+			assertEquals(1, token.loadCounter.get());
+
+			token.close();
+			assertNotNull(token.getKey(alias));
+			assertEquals(2, token.loadCounter.get());
+		}
+	}
+
+	@Test
+	public void cacheKeyStoreWithAnotherProtectionTest() {
+		try (MockPkcs11SignatureToken token = new MockPkcs11SignatureToken()) {
+			token.setCacheKeyStore(true);
+
+			String alias = ((KSPrivateKeyEntry) token.getKeys().get(0)).getAlias();
+			DSSPrivateKeyEntry key = token.getKey(alias);
+			assertNotNull(key);
+			assertSame(key, token.getKey(alias, new PasswordProtection("password".toCharArray())));
+
+			// the cached entry is not returned for a wrong password
+			PasswordProtection wrongProtection = new PasswordProtection("wrong".toCharArray());
+			assertThrows(DSSException.class, () -> token.getKey(alias, wrongProtection));
+			assertThrows(DSSException.class, () -> token.getKey(alias, null));
+
+			assertNotNull(token.getKey(alias));
+		}
+	}
+
+	private static class MockPkcs11SignatureToken extends Pkcs11SignatureToken {
+
+		private final AtomicInteger loadCounter = new AtomicInteger();
+
+		private final PasswordProtection passwordProtection = new PasswordProtection("password".toCharArray());
+
+		MockPkcs11SignatureToken() {
+			super("mock-pkcs11-library");
+		}
+
+		@Override
+		protected KeyStore loadKeyStore() throws DSSException {
+			loadCounter.incrementAndGet();
+			try (InputStream is = new FileInputStream("src/test/resources/user_a_rsa.p12")) {
+				KeyStore keyStore = KeyStore.getInstance("PKCS12");
+				keyStore.load(is, passwordProtection.getPassword());
+				return keyStore;
+			} catch (Exception e) {
+				throw new DSSException("Unable to load the KeyStore", e);
+			}
+		}
+
+		@Override
+		protected PasswordProtection getKeyProtectionParameter() {
+			return passwordProtection;
+		}
+
+		@Override
+		protected Signature getSignatureInstance(String javaSignatureAlgorithm) throws NoSuchAlgorithmException {
+			return Signature.getInstance(javaSignatureAlgorithm);
+		}
+
+	}
+
+}
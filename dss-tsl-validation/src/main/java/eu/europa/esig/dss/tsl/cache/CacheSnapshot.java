@@ -0,0 +1,267 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.tsl.cache;
+
+import eu.europa.esig.dss.model.DSSException;
+import eu.europa.esig.dss.tsl.download.XmlDownloadResult;
+import eu.europa.esig.dss.tsl.parsing.AbstractParsingResult;
+import eu.europa.esig.dss.tsl.validation.ValidationResult;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Represents a serializable snapshot of the synchronized {@code TLValidationJob} cache records
+ * (download, parsing and validation results), allowing to restore the job state on a cold start
+ * without parsing and validating the trusted lists again.
+ *
+ * The snapshot does not contain the trusted list documents, but only their digests. On restore, the documents
+ * obtained by the offline loader are compared against these digests and processed again only when changed.
+ *
+ * NOTE: the snapshot shall be read only from a trusted source (e.g. a file created by the same application)
+ */
+public class CacheSnapshot implements Serializable {
+
+	private static final long serialVersionUID = 3470163726018591839L;
+
+	/** The current version of the snapshot format */
+	public static final int CURRENT_VERSION = 1;
+
+	/** Defines the DSS packages of classes allowed to be deserialized within a snapshot */
+	private static final String[] ALLOWED_PACKAGES = { "eu.europa.esig.dss.tsl.", "eu.europa.esig.dss.spi.tsl.",
+			"eu.europa.esig.dss.model.", "eu.europa.esig.dss.enumerations.", "eu.europa.esig.trustedlist.enums." };
+
+	/** Defines the other classes allowed to be deserialized within a snapshot */
+	private static final Set<String> ALLOWED_CLASSES = new HashSet<>(Arrays.asList(
+			"eu.europa.esig.dss.spi.util.BaseTimeDependent",
+			"eu.europa.esig.dss.spi.util.TimeDependentValues",
+			"eu.europa.esig.dss.spi.x509.CertificateSourceEntity",
+			"eu.europa.esig.dss.spi.x509.CommonCertificateSource",
+			"eu.europa.esig.dss.spi.x509.CommonCertificateSource$CertificateIndexes",
+			"java.lang.Boolean",
+			"java.lang.Enum",
+			"java.lang.Integer",
+			"java.lang.Long",
+			"java.lang.Number",
+			"java.math.BigInteger",
+			"java.security.cert.Certificate$CertificateRep",
+			"java.util.ArrayList",
+			"java.util.Arrays$ArrayList",
+			"java.util.Collections$EmptyList",
+			"java.util.Collections$EmptyMap",
+			"java.util.Collections$EmptySet",
+			"java.util.Collections$SingletonList",
+			"java.util.Collections$SingletonMap",
+			"java.util.Collections$SingletonSet",
+			"java.util.Collections$UnmodifiableCollection",
+			"java.util.Collections$UnmodifiableList",
+			"java.util.Collections$UnmodifiableMap",
+			"java.util.Collections$UnmodifiableRandomAccessList",
+			"java.util.Collections$UnmodifiableSet",
+			"java.util.Date",
+			"java.util.EnumMap",
+			"java.util.EnumSet$SerializationProxy",
+			"java.util.HashMap",
+			"java.util.HashSet",
+			"java.util.LinkedHashMap",
+			"java.util.LinkedHashSet",
+			"java.util.LinkedList"));
+
+	/** The version of the snapshot format */
+	private final int version;
+
+	/** The snapshot creation time */
+	private final Date creationTime;
+
+	/** The download results by cache keys */
+	private final Map<String, XmlDownloadResult> downloadResults;
+
+	/** The parsing results by cache keys */
+	private final Map<String, AbstractParsingResult> parsingResults;
+
+	/** The validation results by cache keys */
+	private final Map<String, ValidationResult> validationResults;
+
+	/**
+	 * Default constructor
+	 *
+	 * @param downloadResults a map of {@link XmlDownloadResult}s by cache keys
+	 * @param parsingResults a map of {@link AbstractParsingResult}s by cache keys
+	 * @param validationResults a map of {@link ValidationResult}s by cache keys
+	 */
+	public CacheSnapshot(final Map<String, XmlDownloadResult> downloadResults,
+						 final Map<String, AbstractParsingResult> parsingResults,
+						 final Map<String, ValidationResult> validationResults) {
+		Objects.requireNonNull(downloadResults, "Download results cannot be null!");
+		Objects.requireNonNull(parsingResults, "Parsing results cannot be null!");
+		Objects.requireNonNull(validationResults, "Validation results cannot be null!");
+		this.version = CURRENT_VERSION;
+		this.creationTime = new Date();
+		this.downloadResults = new LinkedHashMap<>(downloadResults);
+		this.parsingResults = new LinkedHashMap<>(parsingResults);
+		this.validationResults = new LinkedHashMap<>(validationResults);
+	}
+
+	/**
+	 * Gets the version of the snapshot format
+	 *
+	 * @return version
+	 */
+	public int getVersion() {
+		return version;
+	}
+
+	/**
+	 * Gets the snapshot creation time
+	 *
+	 * @return {@link Date}
+	 */
+	public Date getCreationTime() {
+		return creationTime;
+	}
+
+	/**
+	 * Gets the download results by cache keys
+	 *
+	 * @return a map of {@link XmlDownloadResult}s
+	 */
+	public Map<String, XmlDownloadResult> getDownloadResults() {
+		return Collections.unmodifiableMap(downloadResults);
+	}
+
+	/**
+	 * Gets the parsing results by cache keys
+	 *
+	 * @return a map of {@link AbstractParsingResult}s
+	 */
+	public Map<String, AbstractParsingResult> getParsingResults() {
+		return Collections.unmodifiableMap(parsingResults);
+	}
+
+	/**
+	 * Gets the validation results by cache keys
+	 *
+	 * @return a map of {@link ValidationResult}s
+	 */
+	public Map<String, ValidationResult> getValidationResults() {
+		return Collections.unmodifiableMap(validationResults);
+	}
+
+	/**
+	 * Writes the snapshot to the given {@code outputStream}
+	 *
+	 * @param outputStream {@link OutputStream} to write the snapshot to (not closed)
+	 */
+	public void writeTo(OutputStream outputStream) {
+		try {
+			ObjectOutputStream oos = new ObjectOutputStream(outputStream);
+			oos.writeObject(this);
+			oos.flush();
+		} catch (IOException e) {
+			throw new DSSException(String.format("Unable to write the cache snapshot : %s", e.getMessage()), e);
+		}
+	}
+
+	/**
+	 * Reads a snapshot from the given {@code inputStream}
+	 *
+	 * @param inputStream {@link InputStream} containing a snapshot created with {@code writeTo(outputStream)}
+	 * @return {@link CacheSnapshot}
+	 */
+	public static CacheSnapshot readFrom(InputStream inputStream) {
+		try {
+			ObjectInputStream ois = new SnapshotObjectInputStream(inputStream);
+			Object object = ois.readObject();
+			if (!(object instanceof CacheSnapshot)) {
+				throw new DSSException("The content does not represent a cache snapshot!");
+			}
+			CacheSnapshot snapshot = (CacheSnapshot) object;
+			if (CURRENT_VERSION != snapshot.getVersion()) {
+				throw new DSSException(String.format("Unsupported cache snapshot version '%s' (expected : '%s')",
+						snapshot.getVersion(), CURRENT_VERSION));
+			}
+			return snapshot;
+		} catch (IOException | ClassNotFoundException e) {
+			throw new DSSException(String.format("Unable to read the cache snapshot : %s", e.getMessage()), e);
+		}
+	}
+
+	/**
+	 * Restricts the classes which can be deserialized
+	 */
+	private static class SnapshotObjectInputStream extends ObjectInputStream {
+
+		/**
+		 * Default constructor
+		 *
+		 * @param inputStream {@link InputStream}
+		 * @throws IOException if an error occurs on reading the stream header
+		 */
+		SnapshotObjectInputStream(InputStream inputStream) throws IOException {
+			super(inputStream);
+		}
+
+		@Override
+		protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+			String className = desc.getName();
+			if (className.startsWith("[")) {
+				// array type, e.g. '[B' or '[Ljava.lang.String;'
+				className = className.replaceAll("^\\[+", "");
+				if (className.length() == 1) {
+					return super.resolveClass(desc); // primitive array
+				}
+				className = className.substring(1, className.length() - 1);
+			}
+			if (isAllowed(className)) {
+				return super.resolveClass(desc);
+			}
+			throw new InvalidClassException(desc.getName(), "The class is not allowed within a cache snapshot");
+		}
+
+		private boolean isAllowed(String className) {
+			if (ALLOWED_CLASSES.contains(className)) {
+				return true;
+			}
+			for (String allowedPackage : ALLOWED_PACKAGES) {
+				if (className.startsWith(allowedPackage)) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+	}
+
+}
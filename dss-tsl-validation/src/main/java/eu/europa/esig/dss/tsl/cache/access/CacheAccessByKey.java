@@ -65,6 +65,15 @@ public class CacheAccessByKey extends ReadOnlyCacheAccessByKey {
 		return downloadCache.isUpToDate(key, xmlDownloadResult);
 	}
 
+	/**
+	 * Gets the cached download result
+	 *
+	 * @return {@link XmlDownloadResult}, null if not available
+	 */
+	public XmlDownloadResult getCachedDownloadResult() {
+		return downloadCache.get(key).getCachedResult();
+	}
+
 	/**
 	 * Updates the download result
 	 *
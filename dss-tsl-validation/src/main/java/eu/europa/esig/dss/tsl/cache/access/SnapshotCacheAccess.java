@@ -0,0 +1,129 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.tsl.cache.access;
+
+import eu.europa.esig.dss.tsl.cache.AbstractCache;
+import eu.europa.esig.dss.tsl.cache.CacheKey;
+import eu.europa.esig.dss.tsl.cache.CacheSnapshot;
+import eu.europa.esig.dss.tsl.cache.CachedResult;
+import eu.europa.esig.dss.tsl.cache.DownloadCache;
+import eu.europa.esig.dss.tsl.cache.ParsingCache;
+import eu.europa.esig.dss.tsl.cache.ValidationCache;
+import eu.europa.esig.dss.tsl.cache.state.CachedEntry;
+import eu.europa.esig.dss.tsl.download.XmlDownloadResult;
+import eu.europa.esig.dss.tsl.parsing.AbstractParsingResult;
+import eu.europa.esig.dss.tsl.validation.ValidationResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Creates and restores snapshots of the cache
+ */
+public class SnapshotCacheAccess {
+
+	private static final Logger LOG = LoggerFactory.getLogger(SnapshotCacheAccess.class);
+
+	/** Global download Cache */
+	private final DownloadCache downloadCache;
+
+	/** Global parsing Cache */
+	private final ParsingCache parsingCache;
+
+	/** Global validation Cache */
+	private final ValidationCache validationCache;
+
+	/**
+	 * Default constructor
+	 *
+	 * @param downloadCache {@link DownloadCache}
+	 * @param parsingCache {@link ParsingCache}
+	 * @param validationCache {@link ValidationCache}
+	 */
+	public SnapshotCacheAccess(final DownloadCache downloadCache, final ParsingCache parsingCache,
+							   final ValidationCache validationCache) {
+		this.downloadCache = downloadCache;
+		this.parsingCache = parsingCache;
+		this.validationCache = validationCache;
+	}
+
+	/**
+	 * Creates a snapshot of the cache records containing a result
+	 *
+	 * @return {@link CacheSnapshot}
+	 */
+	public CacheSnapshot createSnapshot() {
+		final Map<String, XmlDownloadResult> downloadResults = new LinkedHashMap<>();
+		for (Map.Entry<String, XmlDownloadResult> entry : getResults(downloadCache).entrySet()) {
+			// the document itself is not stored
+			final XmlDownloadResult downloadResult = entry.getValue();
+			downloadResults.put(entry.getKey(), new XmlDownloadResult(null, downloadResult.getDigest()));
+		}
+		final CacheSnapshot snapshot = new CacheSnapshot(downloadResults, getResults(parsingCache), getResults(validationCache));
+		LOG.debug("Cache snapshot created with {} download, {} parsing and {} validation results", downloadResults.size(),
+				snapshot.getParsingResults().size(), snapshot.getValidationResults().size());
+		return snapshot;
+	}
+
+	private <R extends CachedResult> Map<String, R> getResults(AbstractCache<R> cache) {
+		final Map<String, R> results = new LinkedHashMap<>();
+		for (CacheKey cacheKey : new ArrayList<>(cache.getKeys())) {
+			CachedEntry<R> cachedEntry = cache.get(cacheKey);
+			if (!cachedEntry.isEmpty() && !cachedEntry.isError() && !cachedEntry.isToBeDeleted()) {
+				results.put(cacheKey.getKey(), cachedEntry.getCachedResult());
+			}
+		}
+		return results;
+	}
+
+	/**
+	 * Restores the results from the {@code snapshot}. Only empty cache records are restored,
+	 * the records with an existing result are kept unchanged.
+	 *
+	 * The restored records are set to a desynchronized state, in order to be synchronized
+	 * with the {@code TrustedListsCertificateSource} on the next refresh.
+	 *
+	 * @param snapshot {@link CacheSnapshot} to restore
+	 */
+	public void restore(CacheSnapshot snapshot) {
+		final int restoredDownloads = restore(downloadCache, snapshot.getDownloadResults());
+		final int restoredParsings = restore(parsingCache, snapshot.getParsingResults());
+		final int restoredValidations = restore(validationCache, snapshot.getValidationResults());
+		LOG.debug("Restored {} download, {} parsing and {} validation results from the cache snapshot",
+				restoredDownloads, restoredParsings, restoredValidations);
+	}
+
+	private <R extends CachedResult> int restore(AbstractCache<R> cache, Map<String, ? extends R> results) {
+		int restored = 0;
+		for (Map.Entry<String, ? extends R> entry : results.entrySet()) {
+			final CacheKey cacheKey = new CacheKey(entry.getKey());
+			if (cache.isEmpty(cacheKey) && !cache.isToBeDeleted(cacheKey)) {
+				cache.update(cacheKey, entry.getValue());
+				restored++;
+			}
+		}
+		return restored;
+	}
+
+}
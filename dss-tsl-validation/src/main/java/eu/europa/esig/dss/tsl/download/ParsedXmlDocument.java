@@ -0,0 +1,89 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.tsl.download;
+
+import eu.europa.esig.dss.enumerations.DigestAlgorithm;
+import eu.europa.esig.dss.model.CommonDocument;
+import eu.europa.esig.dss.model.DSSDocument;
+import org.w3c.dom.Document;
+
+import java.io.InputStream;
+import java.util.Objects;
+
+/**
+ * Represents a downloaded XML document together with its DOM built during the download.
+ * Allows the following parsing and validation tasks to re-use the DOM instead of parsing the binaries again.
+ *
+ * NOTE: The DOM is not thread-safe and shall be used by one task at a time.
+ */
+@SuppressWarnings("serial")
+public class ParsedXmlDocument extends CommonDocument {
+
+	/** The downloaded document */
+	private final DSSDocument document;
+
+	/** The DOM built from the downloaded document */
+	private final transient Document dom;
+
+	/**
+	 * Default constructor
+	 *
+	 * @param document {@link DSSDocument} the downloaded document
+	 * @param dom {@link Document} built from the {@code document}
+	 */
+	public ParsedXmlDocument(final DSSDocument document, final Document dom) {
+		Objects.requireNonNull(document, "The document is null");
+		Objects.requireNonNull(dom, "The DOM is null");
+		this.document = document;
+		this.dom = dom;
+		this.name = document.getName();
+		this.mimeType = document.getMimeType();
+	}
+
+	/**
+	 * Gets the downloaded document
+	 *
+	 * @return {@link DSSDocument}
+	 */
+	public DSSDocument getDocument() {
+		return document;
+	}
+
+	/**
+	 * Gets the DOM built from the downloaded document
+	 *
+	 * @return {@link Document}
+	 */
+	public Document getDOM() {
+		return dom;
+	}
+
+	@Override
+	public InputStream openStream() {
+		return document.openStream();
+	}
+
+	@Override
+	public String getDigest(DigestAlgorithm digestAlgorithm) {
+		return document.getDigest(digestAlgorithm);
+	}
+
+}
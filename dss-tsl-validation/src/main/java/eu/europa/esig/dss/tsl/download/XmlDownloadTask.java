@@ -27,7 +27,10 @@ import eu.europa.esig.dss.model.DSSDocument;
 import eu.europa.esig.dss.model.DSSException;
 import eu.europa.esig.dss.model.Digest;
 import eu.europa.esig.dss.spi.DSSUtils;
+import eu.europa.esig.dss.spi.client.http.ConditionalFileLoader;
 import eu.europa.esig.dss.spi.client.http.DSSFileLoader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.w3c.dom.Document;
 
 import javax.xml.crypto.dsig.CanonicalizationMethod;
@@ -39,12 +42,20 @@ import java.util.function.Supplier;
  */
 public class XmlDownloadTask implements Supplier<XmlDownloadResult> {
 
+	private static final Logger LOG = LoggerFactory.getLogger(XmlDownloadTask.class);
+
 	/** The file loader */
 	private final DSSFileLoader dssFileLoader;
 
 	/** The URL to download the document from */
 	private final String url;
 
+	/** The result of the previous download, used to skip processing of an unchanged document (optional) */
+	private final XmlDownloadResult cachedResult;
+
+	/** The downloaded document with its DOM, available after the task execution */
+	private ParsedXmlDocument parsedDocument;
+
 	/**
 	 * Default constructor
 	 *
@@ -52,19 +63,43 @@ public class XmlDownloadTask implements Supplier<XmlDownloadResult> {
 	 * @param url {@link String} to download the document from
 	 */
 	public XmlDownloadTask(DSSFileLoader dssFileLoader, String url) {
+		this(dssFileLoader, url, null);
+	}
+
+	/**
+	 * Constructor with the result of a previous download. When the {@code dssFileLoader} is
+	 * a {@code ConditionalFileLoader} reporting the document as not modified since the previous download
+	 * (e.g. HTTP 304 Not Modified), the document is neither read nor parsed and {@code cachedResult} is returned.
+	 *
+	 * @param dssFileLoader {@link DSSFileLoader} to use
+	 * @param url {@link String} to download the document from
+	 * @param cachedResult {@link XmlDownloadResult} of the previous download (may be null)
+	 */
+	public XmlDownloadTask(DSSFileLoader dssFileLoader, String url, XmlDownloadResult cachedResult) {
 		Objects.requireNonNull(dssFileLoader, "The DSSFileLoader is null");
 		Objects.requireNonNull(url, "The url is null");
 		this.dssFileLoader = dssFileLoader;
 		this.url = url;
+		this.cachedResult = cachedResult;
 	}
 
 	@Override
 	public XmlDownloadResult get() {
 		try {
-			final DSSDocument dssDocument = dssFileLoader.getDocument(url);
-			assertDocumentIsValidXML(dssDocument);
+			final DSSDocument dssDocument;
+			if (cachedResult != null && dssFileLoader instanceof ConditionalFileLoader) {
+				dssDocument = ((ConditionalFileLoader) dssFileLoader).getDocumentIfModified(url, cachedResult.getDSSDocument());
+				if (dssDocument == null) {
+					LOG.debug("The document obtained from URL '{}' has not been modified", url);
+					return cachedResult;
+				}
+			} else {
+				dssDocument = dssFileLoader.getDocument(url);
+			}
+
+			final Document dom = buildDOM(dssDocument);
+			parsedDocument = new ParsedXmlDocument(dssDocument, dom);
 
-			final Document dom = DomUtils.buildDOM(dssDocument);
 			final byte[] canonicalizedContent = XMLCanonicalizer.createInstance(CanonicalizationMethod.EXCLUSIVE).canonicalize(dom);
 			return new XmlDownloadResult(dssDocument, new Digest(DigestAlgorithm.SHA256, DSSUtils.digest(DigestAlgorithm.SHA256, canonicalizedContent)));
 		} catch (DSSException e) {
@@ -74,13 +109,34 @@ public class XmlDownloadTask implements Supplier<XmlDownloadResult> {
 		}
 	}
 
-	private void assertDocumentIsValidXML(DSSDocument document) {
+	/**
+	 * Parses the document once. The obtained DOM is used to compute the digest and
+	 * is shared with the following parsing and validation tasks.
+	 */
+	private Document buildDOM(DSSDocument document) {
 		if (document == null) {
 			throw new NullPointerException(String.format("No document has been retrieved from URL '%s'!", url));
 		}
-		if (!DomUtils.isDOM(document)) {
-			throw new DSSException(String.format("The document obtained from URL '%s' is not a valid XML!", url));
+		if (DomUtils.startsWithXmlPreamble(document)) {
+			try {
+				return DomUtils.buildDOM(document);
+			} catch (Exception e) {
+				LOG.debug("Unable to parse the document obtained from URL '{}' : {}", url, e.getMessage());
+			}
 		}
+		throw new DSSException(String.format("The document obtained from URL '%s' is not a valid XML!", url));
+	}
+
+	/**
+	 * Returns the downloaded document together with its DOM built during the task execution.
+	 * The returned object is not stored within the download cache and is aimed to be passed
+	 * to the parsing and validation tasks of the same refresh, in order to avoid parsing the document again.
+	 *
+	 * @return {@link ParsedXmlDocument}, or NULL if the task has not been executed successfully
+	 *         or the document has not been parsed (not modified since the previous download)
+	 */
+	public ParsedXmlDocument getParsedDocument() {
+		return parsedDocument;
 	}
 
 }
@@ -30,6 +30,7 @@ import eu.europa.esig.dss.spi.tsl.TrustedListsCertificateSource;
 import eu.europa.esig.dss.tsl.alerts.TLValidationJobAlerter;
 import eu.europa.esig.dss.tsl.cache.CacheCleaner;
 import eu.europa.esig.dss.tsl.cache.CacheKey;
+import eu.europa.esig.dss.tsl.cache.CacheSnapshot;
 import eu.europa.esig.dss.tsl.cache.access.CacheAccessByKey;
 import eu.europa.esig.dss.tsl.cache.access.CacheAccessFactory;
 import eu.europa.esig.dss.tsl.cache.access.ReadOnlyCacheAccess;
@@ -265,6 +266,31 @@ public class TLValidationJob {
 		LOG.info("Offline refresh is DONE.");
 	}
 
+	/**
+	 * Used to execute the refresh in offline mode, re-using the results from a previously created {@code snapshot}.
+	 * The restored results are re-used only when the corresponding document obtained from the offline loader
+	 * has not been modified since the snapshot creation, otherwise the document is processed as usual.
+	 * Allows to skip the parsing and validation of the trusted lists on a cold start.
+	 *
+	 * @param snapshot {@link CacheSnapshot} created with {@code createCacheSnapshot()}
+	 */
+	public synchronized void offlineRefresh(CacheSnapshot snapshot) {
+		Objects.requireNonNull(snapshot, "The cache snapshot must be defined!");
+		cacheAccessFactory.getSnapshotCacheAccess().restore(snapshot);
+		LOG.info("Cache snapshot created at {} has been restored", snapshot.getCreationTime());
+		offlineRefresh();
+	}
+
+	/**
+	 * Creates a serializable snapshot of the current cache state, which can be stored
+	 * and restored on the next start with {@code offlineRefresh(snapshot)}
+	 *
+	 * @return {@link CacheSnapshot}
+	 */
+	public synchronized CacheSnapshot createCacheSnapshot() {
+		return cacheAccessFactory.getSnapshotCacheAccess().createSnapshot();
+	}
+
 	/**
 	 * Used to execute the refresh in online mode (all data will be updated from remote sources)
 	 * Used as default database update.
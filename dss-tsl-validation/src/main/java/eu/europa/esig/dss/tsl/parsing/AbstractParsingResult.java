@@ -31,6 +31,8 @@ import java.util.List;
  */
 public abstract class AbstractParsingResult implements CachedResult {
 
+	private static final long serialVersionUID = 6914226471281936652L;
+
 	/** The LOTL/TL TSLType */
 	private TSLType tslType;
 
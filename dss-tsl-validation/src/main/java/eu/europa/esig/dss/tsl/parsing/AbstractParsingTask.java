@@ -23,6 +23,7 @@ package eu.europa.esig.dss.tsl.parsing;
 import eu.europa.esig.dss.enumerations.TSLType;
 import eu.europa.esig.dss.model.DSSDocument;
 import eu.europa.esig.dss.model.DSSException;
+import eu.europa.esig.dss.tsl.download.ParsedXmlDocument;
 import eu.europa.esig.dss.utils.Utils;
 import eu.europa.esig.trustedlist.TrustedListFacade;
 import eu.europa.esig.trustedlist.jaxb.tsl.NextUpdateType;
@@ -65,8 +66,8 @@ public abstract class AbstractParsingTask<T extends AbstractParsingResult> imple
 	 * @return {@link TrustStatusListType}
 	 */
 	protected TrustStatusListType getJAXBObject() {
-		try (InputStream is = document.openStream()) {
-			return createTrustedListFacade().unmarshall(is);
+		try {
+			return unmarshall(createTrustedListFacade());
 		} catch (Exception e) {
 			String message = "Unable to parse binaries. Reason : '%s'";
 			// get complete error message in case if the message string is not defined directly
@@ -77,6 +78,16 @@ public abstract class AbstractParsingTask<T extends AbstractParsingResult> imple
 		}
 	}
 
+	private TrustStatusListType unmarshall(TrustedListFacade trustedListFacade) throws Exception {
+		if (document instanceof ParsedXmlDocument) {
+			// re-use the DOM built on download
+			return trustedListFacade.unmarshall(((ParsedXmlDocument) document).getDOM());
+		}
+		try (InputStream is = document.openStream()) {
+			return trustedListFacade.unmarshall(is);
+		}
+	}
+
 	/**
 	 * This method loads a {@code TrustedListFacade}
 	 *
@@ -90,13 +90,18 @@ public abstract class AbstractAnalysis  {
 		DSSDocument document = null;
 		try {
 			LOG.debug("Downloading url '{}'...", url);
-			XmlDownloadTask downloadTask = new XmlDownloadTask(dssFileLoader, url);
+			XmlDownloadTask downloadTask = new XmlDownloadTask(dssFileLoader, url, cacheAccess.getCachedDownloadResult());
 			XmlDownloadResult downloadResult = downloadTask.get();
 			if (!cacheAccess.isUpToDate(downloadResult)) {
 				cacheAccess.update(downloadResult);
 				expireCache();
 			}
-			document = downloadResult.getDSSDocument();
+			// the document with its DOM is not cached, but re-used by parsing and validation of the current refresh
+			document = downloadTask.getParsedDocument();
+			if (document == null) {
+				// the document has not been modified since the previous download
+				document = downloadResult.getDSSDocument();
+			}
 		} catch (Exception e) {
 			// wrapped exception
 			LOG.error(e.getMessage());
@@ -35,6 +35,7 @@ import eu.europa.esig.dss.simplereport.SimpleReport;
 import eu.europa.esig.dss.spi.DSSUtils;
 import eu.europa.esig.dss.spi.x509.CertificateSource;
 import eu.europa.esig.dss.spi.x509.CommonTrustedCertificateSource;
+import eu.europa.esig.dss.tsl.download.ParsedXmlDocument;
 import eu.europa.esig.dss.validation.CertificateVerifier;
 import eu.europa.esig.dss.validation.CommonCertificateVerifier;
 import eu.europa.esig.dss.validation.SignaturePolicyProvider;
@@ -84,7 +85,7 @@ public class TLValidatorTask implements Supplier<ValidationResult> {
 		CertificateVerifier certificateVerifier = new CommonCertificateVerifier(true);
 		certificateVerifier.setTrustedCertSources(buildTrustedCertificateSource(certificateSource));
 
-		XMLDocumentValidator xmlDocumentValidator = new XMLDocumentValidator(trustedList);
+		XMLDocumentValidator xmlDocumentValidator = createXMLDocumentValidator();
 		xmlDocumentValidator.setCertificateVerifier(certificateVerifier);
 		xmlDocumentValidator.setTokenExtractionStrategy(TokenExtractionStrategy.EXTRACT_CERTIFICATES_ONLY);
 		xmlDocumentValidator.setEnableEtsiValidationReport(false); // Ignore ETSI VR
@@ -100,6 +101,14 @@ public class TLValidatorTask implements Supplier<ValidationResult> {
 		return xmlDocumentValidator.validateDocument(getTrustedListValidationPolicy());
 	}
 
+	private XMLDocumentValidator createXMLDocumentValidator() {
+		if (trustedList instanceof ParsedXmlDocument) {
+			// re-use the DOM built on download
+			return new XMLDocumentValidator(trustedList, ((ParsedXmlDocument) trustedList).getDOM());
+		}
+		return new XMLDocumentValidator(trustedList);
+	}
+
 	private ValidationResult fillResult(Reports reports) {
 		SimpleReport simpleReport = reports.getSimpleReport();
 		if (simpleReport.getSignaturesCount() != 1) {
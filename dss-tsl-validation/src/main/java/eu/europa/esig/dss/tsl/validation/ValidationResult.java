@@ -35,6 +35,8 @@ import java.util.List;
  */
 public class ValidationResult implements CachedResult {
 
+	private static final long serialVersionUID = -1735460683851730217L;
+
 	/** The used certificate source */
 	private final CertificateSource certificateSource;
 
@@ -23,6 +23,8 @@ package eu.europa.esig.dss.tsl.download;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.io.File;
@@ -31,10 +33,12 @@ import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
+import eu.europa.esig.dss.model.DSSDocument;
 import eu.europa.esig.dss.model.DSSException;
 import eu.europa.esig.dss.model.FileDocument;
 import eu.europa.esig.dss.service.http.commons.FileCacheDataLoader;
 import eu.europa.esig.dss.spi.DSSUtils;
+import eu.europa.esig.dss.spi.client.http.ConditionalFileLoader;
 import eu.europa.esig.dss.spi.client.http.DSSFileLoader;
 import eu.europa.esig.dss.spi.client.http.MemoryDataLoader;
 
@@ -52,6 +56,7 @@ public class XmlDownloadTaskTest {
 		for (String url : dataMap.keySet()) {
 			XmlDownloadTask task = new XmlDownloadTask(dataLoader, url);
 			assertThrows(DSSException.class, () -> task.get());
+			assertNull(task.getParsedDocument());
 		}
 	}
 
@@ -81,6 +86,11 @@ public class XmlDownloadTaskTest {
 			assertNotNull(downloadResult.getDigest());
 			assertNotNull(downloadResult.getDigest().getAlgorithm());
 			assertNotNull(downloadResult.getDigest().getValue());
+
+			ParsedXmlDocument parsedDocument = task.getParsedDocument();
+			assertNotNull(parsedDocument);
+			assertNotNull(parsedDocument.getDOM());
+			assertEquals(downloadResult.getDSSDocument(), parsedDocument.getDocument());
 			if (first == null) {
 				first = downloadResult;
 			} else {
@@ -99,4 +109,64 @@ public class XmlDownloadTaskTest {
 		assertNotEquals(first.getDigest(), downloadResultDiff.getDigest());
 	}
 
+	@Test
+	public void notModifiedDocument() {
+		DSSDocument sample = new FileDocument(new File("src/test/resources/sample.xml"));
+		MockConditionalFileLoader fileLoader = new MockConditionalFileLoader(sample);
+
+		XmlDownloadTask task = new XmlDownloadTask(fileLoader, "sample");
+		XmlDownloadResult firstResult = task.get();
+		assertNotNull(task.getParsedDocument());
+
+		// the loader reports the document as not modified
+		fileLoader.notModified = true;
+		task = new XmlDownloadTask(fileLoader, "sample", firstResult);
+		XmlDownloadResult secondResult = task.get();
+		assertSame(firstResult, secondResult);
+		// the unchanged document is not parsed again
+		assertNull(task.getParsedDocument());
+
+		// no previous result to compare with
+		task = new XmlDownloadTask(fileLoader, "sample");
+		XmlDownloadResult thirdResult = task.get();
+		assertEquals(firstResult.getDigest(), thirdResult.getDigest());
+		assertNotNull(task.getParsedDocument());
+
+		fileLoader.notModified = false;
+		fileLoader.document = new FileDocument(new File("src/test/resources/sample-diff.xml"));
+		task = new XmlDownloadTask(fileLoader, "sample", firstResult);
+		XmlDownloadResult diffResult = task.get();
+		assertNotEquals(firstResult.getDigest(), diffResult.getDigest());
+		assertNotNull(task.getParsedDocument());
+	}
+
+	private static class MockConditionalFileLoader implements ConditionalFileLoader {
+
+		private static final long serialVersionUID = -1386154839574318392L;
+
+		private DSSDocument document;
+
+		private boolean notModified;
+
+		private MockConditionalFileLoader(DSSDocument document) {
+			this.document = document;
+		}
+
+		@Override
+		public DSSDocument getDocument(String url) {
+			return document;
+		}
+
+		@Override
+		public DSSDocument getDocumentIfModified(String url, DSSDocument previousDocument) {
+			return notModified ? null : document;
+		}
+
+		@Override
+		public boolean remove(String url) {
+			return false;
+		}
+
+	}
+
 }
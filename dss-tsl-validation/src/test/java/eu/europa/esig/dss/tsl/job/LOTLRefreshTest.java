@@ -22,9 +22,18 @@ package eu.europa.esig.dss.tsl.job;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.security.KeyPairGenerator;
+import java.security.Signature;
+import java.security.SignedObject;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -34,6 +43,7 @@ import org.junit.jupiter.api.io.TempDir;
 
 import eu.europa.esig.dss.enumerations.Indication;
 import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.model.DSSException;
 import eu.europa.esig.dss.model.FileDocument;
 import eu.europa.esig.dss.service.http.commons.FileCacheDataLoader;
 import eu.europa.esig.dss.spi.DSSUtils;
@@ -46,7 +56,10 @@ import eu.europa.esig.dss.spi.tsl.TrustedListsCertificateSource;
 import eu.europa.esig.dss.spi.tsl.ValidationInfoRecord;
 import eu.europa.esig.dss.spi.x509.CertificateSource;
 import eu.europa.esig.dss.spi.x509.CommonCertificateSource;
+import eu.europa.esig.dss.tsl.cache.CacheSnapshot;
+import eu.europa.esig.dss.tsl.parsing.AbstractParsingResult;
 import eu.europa.esig.dss.tsl.source.LOTLSource;
+import eu.europa.esig.dss.tsl.validation.ValidationResult;
 
 public class LOTLRefreshTest {
 
@@ -139,6 +152,73 @@ public class LOTLRefreshTest {
 		assertTrue(lotlInfo.getValidationCacheInfo().isError());
 	}
 
+	@Test
+	public void testCacheSnapshot() throws Exception {
+
+		Map<String, DSSDocument> urlMap = correctUrlMap();
+		urlMap.put("https://www.signatur.rtr.at/currenttl.xml", new FileDocument("src/test/resources/lotlCache/AT.xml"));
+		urlMap.put("https://tsl.belgium.be/tsl-be.xml", new FileDocument("src/test/resources/lotlCache/BE.xml"));
+		FileCacheDataLoader offlineFileLoader = getOfflineFileLoader(urlMap);
+
+		TLValidationJob job = new TLValidationJob();
+		job.setListOfTrustedListSources(getLOTLSource());
+		job.setOfflineDataLoader(offlineFileLoader);
+		TrustedListsCertificateSource trustedListsCertificateSource = new TrustedListsCertificateSource();
+		job.setTrustedListCertificateSource(trustedListsCertificateSource);
+
+		job.offlineRefresh();
+
+		checks(job, Indication.TOTAL_PASSED);
+
+		CacheSnapshot snapshot = job.createCacheSnapshot();
+		assertEquals(3, snapshot.getDownloadResults().size());
+		assertEquals(3, snapshot.getParsingResults().size());
+		assertEquals(3, snapshot.getValidationResults().size());
+
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		snapshot.writeTo(baos);
+		CacheSnapshot restoredSnapshot = CacheSnapshot.readFrom(new ByteArrayInputStream(baos.toByteArray()));
+		assertEquals(CacheSnapshot.CURRENT_VERSION, restoredSnapshot.getVersion());
+
+		TLValidationJob restoredJob = new TLValidationJob();
+		restoredJob.setListOfTrustedListSources(getLOTLSource());
+		restoredJob.setOfflineDataLoader(offlineFileLoader);
+		TrustedListsCertificateSource restoredCertificateSource = new TrustedListsCertificateSource();
+		restoredJob.setTrustedListCertificateSource(restoredCertificateSource);
+
+		restoredJob.offlineRefresh(restoredSnapshot);
+
+		checks(restoredJob, Indication.TOTAL_PASSED);
+		assertTrue(restoredCertificateSource.getNumberOfCertificates() > 0);
+		assertEquals(trustedListsCertificateSource.getNumberOfCertificates(), restoredCertificateSource.getNumberOfCertificates());
+
+		// the restored results are kept : the trusted lists have been neither parsed nor validated again
+		CacheSnapshot restoredJobSnapshot = restoredJob.createCacheSnapshot();
+		assertEquals(3, restoredJobSnapshot.getParsingResults().size());
+		for (Map.Entry<String, AbstractParsingResult> entry : restoredSnapshot.getParsingResults().entrySet()) {
+			assertSame(entry.getValue(), restoredJobSnapshot.getParsingResults().get(entry.getKey()));
+		}
+		assertEquals(3, restoredJobSnapshot.getValidationResults().size());
+		for (Map.Entry<String, ValidationResult> entry : restoredSnapshot.getValidationResults().entrySet()) {
+			assertSame(entry.getValue(), restoredJobSnapshot.getValidationResults().get(entry.getKey()));
+		}
+
+		assertUntrustedContent(new File("untrusted"));
+
+		KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("RSA");
+		keyPairGenerator.initialize(1024);
+		assertUntrustedContent(new SignedObject("untrusted", keyPairGenerator.generateKeyPair().getPrivate(),
+				Signature.getInstance("SHA256withRSA")));
+	}
+
+	private void assertUntrustedContent(Serializable object) throws Exception {
+		ByteArrayOutputStream untrustedBaos = new ByteArrayOutputStream();
+		try (ObjectOutputStream oos = new ObjectOutputStream(untrustedBaos)) {
+			oos.writeObject(object);
+		}
+		assertThrows(DSSException.class, () -> CacheSnapshot.readFrom(new ByteArrayInputStream(untrustedBaos.toByteArray())));
+	}
+
 	private FileCacheDataLoader getOfflineFileLoader(Map<String, DSSDocument> urlMap) {
 		FileCacheDataLoader offlineFileLoader = new FileCacheDataLoader();
 		offlineFileLoader.setCacheExpirationTime(Long.MAX_VALUE);
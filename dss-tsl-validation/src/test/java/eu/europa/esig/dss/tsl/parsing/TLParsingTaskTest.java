@@ -30,10 +30,12 @@ import eu.europa.esig.dss.spi.tsl.TrustService;
 import eu.europa.esig.dss.spi.tsl.TrustServiceProvider;
 import eu.europa.esig.dss.spi.tsl.TrustServiceStatusAndInformationExtensions;
 import eu.europa.esig.dss.spi.util.TimeDependentValues;
+import eu.europa.esig.dss.tsl.download.ParsedXmlDocument;
 import eu.europa.esig.dss.tsl.function.TrustServicePredicate;
 import eu.europa.esig.dss.tsl.function.TrustServiceProviderPredicate;
 import eu.europa.esig.dss.tsl.source.TLSource;
 import eu.europa.esig.dss.utils.Utils;
+import eu.europa.esig.dss.xml.utils.DomUtils;
 import eu.europa.esig.trustedlist.jaxb.tsl.TSPServiceType;
 import eu.europa.esig.trustedlist.jaxb.tsl.TSPType;
 import org.junit.jupiter.api.BeforeAll;
@@ -158,6 +160,30 @@ public class TLParsingTaskTest {
 		assertTrue(exception.getMessage().contains("Unable to parse binaries"));
 	}
 
+	@Test
+	public void parsedDocument() {
+		TLParsingResult result = new TLParsingTask(IE_TL, new TLSource()).get();
+
+		DSSDocument parsedDocument = new ParsedXmlDocument(IE_TL, DomUtils.buildDOM(IE_TL));
+		TLParsingResult resultFromDOM = new TLParsingTask(parsedDocument, new TLSource()).get();
+		assertNotNull(resultFromDOM);
+		assertEquals(result.getVersion(), resultFromDOM.getVersion());
+		assertEquals(result.getSequenceNumber(), resultFromDOM.getSequenceNumber());
+		assertEquals(result.getIssueDate(), resultFromDOM.getIssueDate());
+		assertEquals(result.getNextUpdateDate(), resultFromDOM.getNextUpdateDate());
+		assertEquals(result.getTerritory(), resultFromDOM.getTerritory());
+		assertEquals(result.getTrustServiceProviders().size(), resultFromDOM.getTrustServiceProviders().size());
+		checkTSPs(resultFromDOM.getTrustServiceProviders());
+	}
+
+	@Test
+	public void notParseableParsedDocument() {
+		DSSDocument parsedDocument = new ParsedXmlDocument(LOTL_NOT_PARSEABLE, DomUtils.buildDOM(LOTL_NOT_PARSEABLE));
+		TLParsingTask task = new TLParsingTask(parsedDocument, new TLSource());
+		DSSException exception = assertThrows(DSSException.class, () -> task.get());
+		assertTrue(exception.getMessage().contains("Unable to parse binaries"));
+	}
+
 	private void checkTSPs(List<TrustServiceProvider> trustServiceProviders) {
 		for (TrustServiceProvider tsp : trustServiceProviders) {
 
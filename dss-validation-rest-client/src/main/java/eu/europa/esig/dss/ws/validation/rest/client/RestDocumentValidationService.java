@@ -26,8 +26,10 @@ import java.util.List;
 import javax.ws.rs.Consumes;
 import javax.ws.rs.POST;
 import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
 import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
 
 import eu.europa.esig.dss.ws.dto.RemoteDocument;
 import eu.europa.esig.dss.ws.validation.dto.DataToValidateDTO;
@@ -41,6 +43,18 @@ import eu.europa.esig.dss.ws.validation.dto.WSReportsDTO;
 @Consumes(MediaType.APPLICATION_JSON)
 public interface RestDocumentValidationService extends Serializable {
 
+	/** The path parameter value to request the DiagnosticData */
+	String DIAGNOSTIC_DATA = "diagnostic-data";
+
+	/** The path parameter value to request the DetailedReport */
+	String DETAILED_REPORT = "detailed-report";
+
+	/** The path parameter value to request the SimpleReport */
+	String SIMPLE_REPORT = "simple-report";
+
+	/** The path parameter value to request the ETSI Validation Report (XML only) */
+	String VALIDATION_REPORT = "validation-report";
+
 	/**
 	 * This method returns the result of the validation of the signed file. The
 	 * results contains a Diagnostic Data, simple report, detailed report and
@@ -57,6 +71,44 @@ public interface RestDocumentValidationService extends Serializable {
 	@Path("validateSignature")
 	WSReportsDTO validateSignature(DataToValidateDTO dataToValidate);
 
+	/**
+	 * This method validates the signed file and returns the requested report in XML format.
+	 * The report is written directly into the response stream, without an intermediate
+	 * in-memory representation.
+	 *
+	 * @param report
+	 *                       the report to be returned : 'diagnostic-data', 'detailed-report',
+	 *                       'simple-report' or 'validation-report'
+	 * @param dataToValidate
+	 *                       a {@code DataToValidateDTO} which contains the
+	 *                       signature, the optional original document(s) and the
+	 *                       optional validation policy
+	 * @return a {@code Response} with the XML report as an entity
+	 */
+	@POST
+	@Path("validateSignature/xml/{report}")
+	@Produces(MediaType.APPLICATION_XML)
+	Response validateSignatureXmlReport(@PathParam("report") String report, DataToValidateDTO dataToValidate);
+
+	/**
+	 * This method validates the signed file and returns the requested report in JSON format.
+	 * The report is written directly into the response stream, without an intermediate
+	 * in-memory representation.
+	 *
+	 * @param report
+	 *                       the report to be returned : 'diagnostic-data', 'detailed-report'
+	 *                       or 'simple-report'
+	 * @param dataToValidate
+	 *                       a {@code DataToValidateDTO} which contains the
+	 *                       signature, the optional original document(s) and the
+	 *                       optional validation policy
+	 * @return a {@code Response} with the JSON report as an entity
+	 */
+	@POST
+	@Path("validateSignature/json/{report}")
+	@Produces(MediaType.APPLICATION_JSON)
+	Response validateSignatureJsonReport(@PathParam("report") String report, DataToValidateDTO dataToValidate);
+
 	/**
 	 * This method returns the original document(s) for the given signed file and
 	 * optionally the signatureId.
@@ -20,13 +20,19 @@
  */
 package eu.europa.esig.dss.ws.validation.rest;
 
+import eu.europa.esig.dss.validation.reports.Reports;
 import eu.europa.esig.dss.ws.dto.RemoteDocument;
 import eu.europa.esig.dss.ws.validation.common.RemoteDocumentValidationService;
 import eu.europa.esig.dss.ws.validation.dto.DataToValidateDTO;
 import eu.europa.esig.dss.ws.validation.dto.WSReportsDTO;
 import eu.europa.esig.dss.ws.validation.rest.client.RestDocumentValidationService;
 
+import javax.ws.rs.NotFoundException;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
+import java.io.OutputStream;
 import java.util.List;
+import java.util.function.BiConsumer;
 
 /**
  * REST implementation of the validation service
@@ -58,6 +64,61 @@ public class RestDocumentValidationServiceImpl implements RestDocumentValidation
 		return validationService.validateDocument(dataToValidate);
 	}
 
+	@Override
+	public Response validateSignatureXmlReport(String report, DataToValidateDTO dataToValidate) {
+		final StreamingOutput streamingOutput;
+		switch (report) {
+			case DIAGNOSTIC_DATA:
+				streamingOutput = writeReport(dataToValidate, Reports::writeXmlDiagnosticData);
+				break;
+			case DETAILED_REPORT:
+				streamingOutput = writeReport(dataToValidate, Reports::writeXmlDetailedReport);
+				break;
+			case SIMPLE_REPORT:
+				streamingOutput = writeReport(dataToValidate, Reports::writeXmlSimpleReport);
+				break;
+			case VALIDATION_REPORT:
+				streamingOutput = writeReport(dataToValidate, Reports::writeXmlValidationReport);
+				break;
+			default:
+				throw new NotFoundException(String.format("The XML report '%s' is not supported!", report));
+		}
+		return Response.ok(streamingOutput).build();
+	}
+
+	@Override
+	public Response validateSignatureJsonReport(String report, DataToValidateDTO dataToValidate) {
+		final StreamingOutput streamingOutput;
+		switch (report) {
+			case DIAGNOSTIC_DATA:
+				streamingOutput = writeReport(dataToValidate, Reports::writeJsonDiagnosticData);
+				break;
+			case DETAILED_REPORT:
+				streamingOutput = writeReport(dataToValidate, Reports::writeJsonDetailedReport);
+				break;
+			case SIMPLE_REPORT:
+				streamingOutput = writeReport(dataToValidate, Reports::writeJsonSimpleReport);
+				break;
+			default:
+				throw new NotFoundException(String.format("The JSON report '%s' is not supported!", report));
+		}
+		return Response.ok(streamingOutput).build();
+	}
+
+	/**
+	 * Validates the document and returns a {@code StreamingOutput} writing the report with the given writer.
+	 * The validation is performed before the response is committed, so a validation error is not
+	 * reported as a truncated response.
+	 *
+	 * @param dataToValidate {@link DataToValidateDTO}
+	 * @param reportWriter {@link BiConsumer} writing the report into the response stream
+	 * @return {@link StreamingOutput}
+	 */
+	private StreamingOutput writeReport(DataToValidateDTO dataToValidate, BiConsumer<Reports, OutputStream> reportWriter) {
+		final Reports reports = validationService.getReports(dataToValidate);
+		return os -> reportWriter.accept(reports, os);
+	}
+
 	@Override
 	public List<RemoteDocument> getOriginalDocuments(DataToValidateDTO dataToValidate) {
 		return validationService.getOriginalDocuments(dataToValidate);
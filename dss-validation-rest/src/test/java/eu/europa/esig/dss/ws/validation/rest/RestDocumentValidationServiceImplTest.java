@@ -0,0 +1,182 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.ws.validation.rest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.fasterxml.jackson.module.jaxb.JaxbAnnotationIntrospector;
+import eu.europa.esig.dss.model.FileDocument;
+import eu.europa.esig.dss.validation.CommonCertificateVerifier;
+import eu.europa.esig.dss.validation.reports.Reports;
+import eu.europa.esig.dss.ws.converter.RemoteDocumentConverter;
+import eu.europa.esig.dss.ws.dto.RemoteDocument;
+import eu.europa.esig.dss.ws.validation.common.RemoteDocumentValidationService;
+import eu.europa.esig.dss.ws.validation.dto.DataToValidateDTO;
+import eu.europa.esig.dss.ws.validation.rest.client.RestDocumentValidationService;
+import eu.europa.esig.dss.xml.utils.DomUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.w3c.dom.Document;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
+import javax.ws.rs.ext.RuntimeDelegate;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.RETURNS_SELF;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class RestDocumentValidationServiceImplTest {
+
+	private RestDocumentValidationServiceImpl restService;
+
+	private CapturingValidationService validationService;
+
+	private Response.ResponseBuilder responseBuilder;
+
+	@BeforeEach
+	public void init() {
+		validationService = new CapturingValidationService();
+		validationService.setVerifier(new CommonCertificateVerifier());
+		restService = new RestDocumentValidationServiceImpl();
+		restService.setValidationService(validationService);
+
+		// no JAX-RS implementation is available in the unit tests
+		responseBuilder = mock(Response.ResponseBuilder.class, RETURNS_SELF);
+		RuntimeDelegate runtimeDelegate = mock(RuntimeDelegate.class);
+		when(runtimeDelegate.createResponseBuilder()).thenReturn(responseBuilder);
+		RuntimeDelegate.setInstance(runtimeDelegate);
+	}
+
+	@AfterEach
+	public void reset() {
+		RuntimeDelegate.setInstance(null);
+	}
+
+	@Test
+	public void xmlReportsTest() throws Exception {
+		String diagnosticData = writeXmlReport(RestDocumentValidationService.DIAGNOSTIC_DATA);
+		assertXmlEquals(validationService.reports.getXmlDiagnosticData(), diagnosticData);
+
+		String detailedReport = writeXmlReport(RestDocumentValidationService.DETAILED_REPORT);
+		assertXmlEquals(validationService.reports.getXmlDetailedReport(), detailedReport);
+
+		String simpleReport = writeXmlReport(RestDocumentValidationService.SIMPLE_REPORT);
+		assertXmlEquals(validationService.reports.getXmlSimpleReport(), simpleReport);
+
+		String validationReport = writeXmlReport(RestDocumentValidationService.VALIDATION_REPORT);
+		assertXmlEquals(validationService.reports.getXmlValidationReport(), validationReport);
+	}
+
+	@Test
+	public void jsonReportsTest() throws Exception {
+		ObjectMapper om = new ObjectMapper();
+		om.setAnnotationIntrospector(new JaxbAnnotationIntrospector(TypeFactory.defaultInstance()));
+
+		String diagnosticData = writeJsonReport(RestDocumentValidationService.DIAGNOSTIC_DATA);
+		assertEquals(om.readTree(om.writeValueAsString(validationService.reports.getDiagnosticDataJaxb())),
+				om.readTree(diagnosticData));
+
+		String detailedReport = writeJsonReport(RestDocumentValidationService.DETAILED_REPORT);
+		assertEquals(om.readTree(om.writeValueAsString(validationService.reports.getDetailedReportJaxb())),
+				om.readTree(detailedReport));
+
+		String simpleReport = writeJsonReport(RestDocumentValidationService.SIMPLE_REPORT);
+		assertEquals(om.readTree(om.writeValueAsString(validationService.reports.getSimpleReportJaxb())),
+				om.readTree(simpleReport));
+	}
+
+	private void assertXmlEquals(String expected, String actual) {
+		// the attributes order and the indentation may differ between the marshalling into a String and into a stream
+		Document expectedDom = DomUtils.buildDOM(expected);
+		removeIndentation(expectedDom.getDocumentElement());
+		Document actualDom = DomUtils.buildDOM(actual);
+		removeIndentation(actualDom.getDocumentElement());
+		assertTrue(expectedDom.getDocumentElement().isEqualNode(actualDom.getDocumentElement()));
+	}
+
+	private void removeIndentation(Node node) {
+		NodeList childNodes = node.getChildNodes();
+		for (int i = childNodes.getLength() - 1; i >= 0; i--) {
+			Node child = childNodes.item(i);
+			if (Node.TEXT_NODE == child.getNodeType() && child.getTextContent().trim().isEmpty()) {
+				node.removeChild(child);
+			} else {
+				removeIndentation(child);
+			}
+		}
+	}
+
+	private String writeXmlReport(String report) throws Exception {
+		validationService.reports = null;
+		restService.validateSignatureXmlReport(report, getDataToValidate());
+		return writeEntity();
+	}
+
+	private String writeJsonReport(String report) throws Exception {
+		validationService.reports = null;
+		restService.validateSignatureJsonReport(report, getDataToValidate());
+		return writeEntity();
+	}
+
+	private DataToValidateDTO getDataToValidate() {
+		RemoteDocument signedFile = RemoteDocumentConverter.toRemoteDocument(new FileDocument("src/test/resources/xadesLTA.xml"));
+		return new DataToValidateDTO(signedFile, (RemoteDocument) null, null);
+	}
+
+	private String writeEntity() throws Exception {
+		// the validation is performed before the response is built
+		assertNotNull(validationService.reports);
+
+		ArgumentCaptor<Object> entityCaptor = ArgumentCaptor.forClass(Object.class);
+		verify(responseBuilder).entity(entityCaptor.capture());
+		assertTrue(entityCaptor.getValue() instanceof StreamingOutput);
+		clearInvocations(responseBuilder);
+
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		((StreamingOutput) entityCaptor.getValue()).write(baos);
+		return new String(baos.toByteArray(), StandardCharsets.UTF_8);
+	}
+
+	private static class CapturingValidationService extends RemoteDocumentValidationService {
+
+		private Reports reports;
+
+		@Override
+		public Reports getReports(DataToValidateDTO dataToValidate) {
+			reports = super.getReports(dataToValidate);
+			return reports;
+		}
+
+	}
+
+}
@@ -20,10 +20,13 @@
  */
 package eu.europa.esig.dss.ws.validation.common;
 
+import eu.europa.esig.dss.enumerations.DigestAlgorithm;
 import eu.europa.esig.dss.exception.IllegalInputException;
 import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.model.LRUMap;
 import eu.europa.esig.dss.policy.ValidationPolicy;
 import eu.europa.esig.dss.policy.ValidationPolicyFacade;
+import eu.europa.esig.dss.spi.DSSUtils;
 import eu.europa.esig.dss.utils.Utils;
 import eu.europa.esig.dss.validation.AdvancedSignature;
 import eu.europa.esig.dss.validation.CertificateVerifier;
@@ -40,6 +43,8 @@ import org.slf4j.LoggerFactory;
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * The remote validation service
@@ -54,6 +59,22 @@ public class RemoteDocumentValidationService {
 	/** The validation policy to be used by default */
 	private ValidationPolicy defaultValidationPolicy;
 
+	/**
+	 * The maximal amount of validation policies provided within the requests to be kept in the cache
+	 *
+	 * Default : 10
+	 */
+	private int validationPolicyCacheSize = 10;
+
+	/** The cache of parsed validation policies, with SHA-256 digests of the policy documents as keys */
+	private Map<String, ValidationPolicy> validationPolicyCache = LRUMap.synchronizedLRUMap(validationPolicyCacheSize);
+
+	/** The number of requests with a validation policy found in the cache */
+	private final AtomicLong validationPolicyCacheHits = new AtomicLong();
+
+	/** The number of requests with a validation policy not found in the cache */
+	private final AtomicLong validationPolicyCacheMisses = new AtomicLong();
+
 	/**
 	 * Default construction instantiating object with null certificate verifier
 	 */
@@ -92,6 +113,42 @@ public class RemoteDocumentValidationService {
 		this.defaultValidationPolicy = validationPolicy;
 	}
 
+	/**
+	 * Sets the maximal amount of validation policies provided within the requests to be cached.
+	 * A policy is identified by the digest of its binaries, and the least recently used policy is
+	 * evicted when the limit is reached. The cache is shared by all requests using the service
+	 * (e.g. by REST and SOAP endpoints). Use 0 (zero) to disable the cache.
+	 *
+	 * Default : 10
+	 *
+	 * @param validationPolicyCacheSize the maximal amount of validation policies to be cached
+	 */
+	public void setValidationPolicyCacheSize(int validationPolicyCacheSize) {
+		if (validationPolicyCacheSize < 0) {
+			throw new IllegalArgumentException("The validation policy cache size cannot be negative!");
+		}
+		this.validationPolicyCacheSize = validationPolicyCacheSize;
+		this.validationPolicyCache = LRUMap.synchronizedLRUMap(validationPolicyCacheSize);
+	}
+
+	/**
+	 * Gets the number of requests with a validation policy loaded from the cache
+	 *
+	 * @return the number of cache hits
+	 */
+	public long getValidationPolicyCacheHits() {
+		return validationPolicyCacheHits.get();
+	}
+
+	/**
+	 * Gets the number of requests with a validation policy parsed, as not present in the cache
+	 *
+	 * @return the number of cache misses
+	 */
+	public long getValidationPolicyCacheMisses() {
+		return validationPolicyCacheMisses.get();
+	}
+
 	/**
 	 * Validates the document
 	 *
@@ -99,6 +156,20 @@ public class RemoteDocumentValidationService {
 	 * @return {@link WSReportsDTO} response
 	 */
 	public WSReportsDTO validateDocument(DataToValidateDTO dataToValidate) {
+		Reports reports = getReports(dataToValidate);
+		return new WSReportsDTO(reports.getDiagnosticDataJaxb(), reports.getSimpleReportJaxb(),
+				reports.getDetailedReportJaxb(), reports.getEtsiValidationReportJaxb());
+	}
+
+	/**
+	 * Validates the document and returns the {@code Reports}.
+	 * This method allows writing of the reports directly into an output stream
+	 * (see {@code Reports.writeXmlDiagnosticData(os)}, {@code Reports.writeJsonDiagnosticData(os)}, etc.)
+	 *
+	 * @param dataToValidate {@link DataToValidateDTO} the request
+	 * @return {@link Reports}
+	 */
+	public Reports getReports(DataToValidateDTO dataToValidate) {
 		LOG.info("ValidateDocument in process...");
 		SignedDocumentValidator validator = initValidator(dataToValidate);
 
@@ -111,11 +182,8 @@ public class RemoteDocumentValidationService {
 		} else {
 			reports = validator.validateDocument();
 		}
-
-		WSReportsDTO reportsDTO = new WSReportsDTO(reports.getDiagnosticDataJaxb(), reports.getSimpleReportJaxb(), 
-				reports.getDetailedReportJaxb(), reports.getEtsiValidationReportJaxb());
 		LOG.info("ValidateDocument is finished");
-		return reportsDTO;
+		return reports;
 	}
 
 	/**
@@ -144,6 +212,26 @@ public class RemoteDocumentValidationService {
 	}
 
 	private ValidationPolicy getValidationPolicy(RemoteDocument policy) {
+		if (validationPolicyCacheSize == 0 || policy.getBytes() == null) {
+			return parseValidationPolicy(policy);
+		}
+
+		final Map<String, ValidationPolicy> cache = validationPolicyCache;
+		final String key = Utils.toHex(DSSUtils.digest(DigestAlgorithm.SHA256, policy.getBytes()));
+		ValidationPolicy validationPolicy = cache.get(key);
+		if (validationPolicy != null) {
+			validationPolicyCacheHits.incrementAndGet();
+			LOG.debug("The validation policy with digest '{}' is loaded from the cache.", key);
+			return validationPolicy;
+		}
+
+		validationPolicyCacheMisses.incrementAndGet();
+		validationPolicy = parseValidationPolicy(policy);
+		cache.put(key, validationPolicy);
+		return validationPolicy;
+	}
+
+	private ValidationPolicy parseValidationPolicy(RemoteDocument policy) {
 		try (ByteArrayInputStream bais = new ByteArrayInputStream(policy.getBytes())) {
 			return ValidationPolicyFacade.newFacade().getValidationPolicy(bais);
 		} catch (Exception e) {
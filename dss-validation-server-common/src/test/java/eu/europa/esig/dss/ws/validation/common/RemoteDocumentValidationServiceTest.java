@@ -34,7 +34,9 @@ import eu.europa.esig.dss.policy.EtsiValidationPolicy;
 import eu.europa.esig.dss.policy.ValidationPolicyFacade;
 import eu.europa.esig.dss.policy.jaxb.ConstraintsParameters;
 import eu.europa.esig.dss.simplereport.SimpleReport;
+import eu.europa.esig.dss.simplereport.SimpleReportFacade;
 import eu.europa.esig.dss.simplereport.jaxb.XmlEvidenceRecord;
+import eu.europa.esig.dss.simplereport.jaxb.XmlSimpleReport;
 import eu.europa.esig.dss.spi.DSSUtils;
 import eu.europa.esig.dss.utils.Utils;
 import eu.europa.esig.dss.validation.CommonCertificateVerifier;
@@ -48,6 +50,8 @@ import org.junit.jupiter.api.Test;
 
 import javax.xml.bind.JAXBElement;
 import javax.xml.bind.Unmarshaller;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -56,6 +60,7 @@ import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class RemoteDocumentValidationServiceTest {
@@ -85,6 +90,19 @@ public class RemoteDocumentValidationServiceTest {
 		validateReports(result);
 	}
 
+	@Test
+	public void testGetReports() throws Exception {
+		RemoteDocument signedFile = RemoteDocumentConverter.toRemoteDocument(new FileDocument("src/test/resources/xadesLTA.xml"));
+		DataToValidateDTO dto = new DataToValidateDTO(signedFile, (RemoteDocument) null, null);
+		Reports reports = validationService.getReports(dto);
+		assertNotNull(reports);
+
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		reports.writeXmlSimpleReport(baos);
+		XmlSimpleReport simpleReport = SimpleReportFacade.newFacade().unmarshall(new ByteArrayInputStream(baos.toByteArray()));
+		assertEquals(reports.getSimpleReportJaxb().getSignaturesCount(), simpleReport.getSignaturesCount());
+	}
+
 	@Test
 	public void testWithNoPolicyAndOriginalFile() throws Exception {
 		RemoteDocument signedFile = RemoteDocumentConverter.toRemoteDocument(new FileDocument("src/test/resources/xades-detached.xml"));
@@ -116,6 +134,30 @@ public class RemoteDocumentValidationServiceTest {
 		assertEquals("QES AdESQC TL based (Test WebServices)", result.getSimpleReport().getValidationPolicy().getPolicyName());
 	}
 
+	@Test
+	public void testWithCachedPolicy() throws Exception {
+		RemoteDocument signedFile = RemoteDocumentConverter.toRemoteDocument(new FileDocument("src/test/resources/xades-detached.xml"));
+		RemoteDocument originalFile = RemoteDocumentConverter.toRemoteDocument(new FileDocument("src/test/resources/sample.png"));
+		RemoteDocument policy = RemoteDocumentConverter.toRemoteDocument(new FileDocument("src/test/resources/constraint.xml"));
+		DataToValidateDTO dto = new DataToValidateDTO(signedFile, originalFile, policy);
+
+		for (int i = 0; i < 3; i++) {
+			WSReportsDTO result = validationService.validateDocument(dto);
+			validateReports(result);
+			assertEquals("QES AdESQC TL based (Test WebServices)", result.getSimpleReport().getValidationPolicy().getPolicyName());
+		}
+		assertEquals(1, validationService.getValidationPolicyCacheMisses());
+		assertEquals(2, validationService.getValidationPolicyCacheHits());
+
+		validationService.setValidationPolicyCacheSize(0);
+		WSReportsDTO result = validationService.validateDocument(dto);
+		validateReports(result);
+		assertEquals(1, validationService.getValidationPolicyCacheMisses());
+		assertEquals(2, validationService.getValidationPolicyCacheHits());
+
+		assertThrows(IllegalArgumentException.class, () -> validationService.setValidationPolicyCacheSize(-1));
+	}
+
 	@Test
 	public void testWithDefaultPolicyAndOriginalFile() throws Exception {
 		RemoteDocument signedFile = RemoteDocumentConverter.toRemoteDocument(new FileDocument("src/test/resources/xades-detached.xml"));
@@ -55,6 +55,7 @@ import org.apache.xml.security.keys.KeyInfo;
 import org.apache.xml.security.signature.Manifest;
 import org.apache.xml.security.signature.Reference;
 import org.apache.xml.security.signature.ReferenceNotInitializedException;
+import org.apache.xml.security.signature.XMLSignatureInput;
 import org.apache.xml.security.transforms.Transform;
 import org.apache.xml.security.transforms.Transforms;
 import org.apache.xml.security.utils.XMLUtils;
@@ -73,6 +74,7 @@ import javax.xml.xpath.XPathConstants;
 import javax.xml.xpath.XPathExpression;
 import javax.xml.xpath.XPathExpressionException;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.security.PublicKey;
 import java.util.ArrayList;
 import java.util.HashSet;
@@ -1073,19 +1075,8 @@ public final class DSSXMLUtils {
 	public static byte[] applyTransforms(final Node node, final List<DSSTransform> transforms) {
 		byte[] bytes = DSSUtils.EMPTY_BYTE_ARRAY;
 		if (Utils.isCollectionNotEmpty(transforms)) {
-			DSSTransformOutput output = new DSSTransformOutput(node);
-			Iterator<DSSTransform> iterator = transforms.iterator();
-			while (iterator.hasNext()) {
-				DSSTransform transform = iterator.next();
-				output = transform.performTransform(output);
-				bytes = output.getBytes();
-				if (iterator.hasNext()) {
-					if (Utils.isArrayEmpty(bytes)) {
-						throw new IllegalInputException(String.format(
-								"Unable to perform the next transform. The %s produced an empty output!", transform));
-					}
-				}
-			}
+			DSSTransformOutput output = performTransforms(node, transforms);
+			bytes = output.getBytes();
 
 			if (LOG.isDebugEnabled()) {
 				LOG.debug("Reference bytes after transforms: ");
@@ -1101,6 +1092,58 @@ public final class DSSXMLUtils {
 		}
 		return bytes;
 	}
+
+	/**
+	 * Applies transforms on the node and writes the result to the given {@code outputStream}
+	 * (e.g. a message-digest computation stream). The transforms output is streamed, therefore
+	 * the whole content after transforms is not materialized in memory.
+	 *
+	 * NOTE: writes the original node binaries, if the list of {@code transforms}
+	 * is empty
+	 *
+	 * @param node         {@link Node} to apply transforms on
+	 * @param transforms   a list of {@link DSSTransform}s to execute on the node
+	 * @param outputStream {@link OutputStream} to write the content obtained after transformations to
+	 */
+	public static void applyTransforms(final Node node, final List<DSSTransform> transforms, final OutputStream outputStream) {
+		if (Utils.isCollectionNotEmpty(transforms)) {
+			DSSTransformOutput output = performTransforms(node, transforms);
+			if (output.isEmpty()) {
+				LOG.warn("The output of reference transforms processing is an empty byte array!");
+			}
+			output.writeTo(outputStream);
+
+		} else {
+			try {
+				outputStream.write(DomUtils.getNodeBytes(node));
+			} catch (IOException e) {
+				throw new DSSException(String.format("Unable to write the node binaries : %s", e.getMessage()), e);
+			}
+		}
+	}
+
+	/**
+	 * Chains the {@code transforms} on the node. The intermediate results are passed from one transform to another
+	 * without being serialized, only the emptiness of the intermediate outputs is checked.
+	 *
+	 * @param node         {@link Node} to apply transforms on
+	 * @param transforms   a list of {@link DSSTransform}s to execute on the node
+	 * @return {@link DSSTransformOutput} the output of the last transform
+	 */
+	private static DSSTransformOutput performTransforms(final Node node, final List<DSSTransform> transforms) {
+		DSSTransformOutput output = new DSSTransformOutput(node);
+		Iterator<DSSTransform> iterator = transforms.iterator();
+		while (iterator.hasNext()) {
+			DSSTransform transform = iterator.next();
+			output = transform.performTransform(output);
+			if (iterator.hasNext() && output.isEmpty()) {
+				throw new IllegalInputException(String.format(
+						"Unable to perform the next transform. The %s produced an empty output!", transform));
+			}
+		}
+		return output;
+	}
+
 	/**
 	 * Applies transforms on document content and returns the byte array to be used for a
 	 * digest computation
@@ -1223,7 +1266,13 @@ public final class DSSXMLUtils {
 	 */
 	public static boolean isAbleToDeReferenceContent(Reference reference) {
 		try {
-			return reference.getContentsBeforeTransformation() != null;
+			final XMLSignatureInput contents = reference.getContentsBeforeTransformation();
+			if (contents == null) {
+				return false;
+			}
+			// the content is de-referenced again on digest computation, a stream opened by a resolver is not used
+			Utils.closeQuietly(contents.getOctetStreamReal());
+			return true;
 
 		} catch (ReferenceNotInitializedException e) {
 			if (LOG.isDebugEnabled()) {
@@ -20,6 +20,7 @@
  */
 package eu.europa.esig.dss.xades;
 
+import eu.europa.esig.dss.PreparedSignatureCache;
 import eu.europa.esig.dss.ProfileParameters;
 import eu.europa.esig.dss.signature.SigningOperation;
 import eu.europa.esig.dss.xades.reference.DSSReference;
@@ -54,6 +55,11 @@ public class XAdESProfileParameters extends ProfileParameters {
 	 */
 	private List<DSSReference> references;
 
+	/**
+	 * Defines the state the signature builder has been prepared with
+	 */
+	private PreparedSignatureCache preparedSignatureCache;
+
 	/**
 	 * Default constructor
 	 */
@@ -133,4 +139,25 @@ public class XAdESProfileParameters extends ProfileParameters {
 		this.references = references;
 	}
 
+	/**
+	 * Gets the state the signature builder has been prepared with on the data to be signed computation
+	 *
+	 * @return {@link PreparedSignatureCache}
+	 */
+	public PreparedSignatureCache getPreparedSignatureCache() {
+		if (preparedSignatureCache == null) {
+			preparedSignatureCache = new XAdESSignatureCache();
+		}
+		return preparedSignatureCache;
+	}
+
+	/**
+	 * Sets the state the signature builder has been prepared with
+	 *
+	 * @param preparedSignatureCache {@link PreparedSignatureCache}
+	 */
+	public void setPreparedSignatureCache(PreparedSignatureCache preparedSignatureCache) {
+		this.preparedSignatureCache = preparedSignatureCache;
+	}
+
 }
@@ -0,0 +1,77 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.xades;
+
+import eu.europa.esig.dss.AbstractSignatureParameters;
+import eu.europa.esig.dss.PreparedSignatureCache;
+import eu.europa.esig.dss.xml.common.definition.DSSNamespace;
+
+import java.util.List;
+
+/**
+ * This class is used as a DTO defining the state the XAdES signature builder has been prepared with
+ *
+ */
+public class XAdESSignatureCache extends PreparedSignatureCache {
+
+    private static final long serialVersionUID = 3529648035236927810L;
+
+    /**
+     * Default constructor instantiating object with null values
+     */
+    public XAdESSignatureCache() {
+        // empty
+    }
+
+    @Override
+    protected List<Object> getParametersState(AbstractSignatureParameters<?> parameters) {
+        final List<Object> state = super.getParametersState(parameters);
+        if (parameters instanceof XAdESSignatureParameters) {
+            XAdESSignatureParameters xadesParameters = (XAdESSignatureParameters) parameters;
+            // references, objects and data object formats are compared by instance
+            state.add(copyOf(xadesParameters.getReferences()));
+            state.add(copyOf(xadesParameters.getObjects()));
+            state.add(copyOf(xadesParameters.getDataObjectFormatList()));
+            state.add(xadesParameters.getRootDocument());
+            state.add(xadesParameters.isEn319132());
+            state.add(xadesParameters.isEmbedXML());
+            state.add(xadesParameters.isManifestSignature());
+            state.add(xadesParameters.getKeyInfoCanonicalizationMethod());
+            state.add(xadesParameters.getSignedInfoCanonicalizationMethod());
+            state.add(xadesParameters.getSignedPropertiesCanonicalizationMethod());
+            state.add(xadesParameters.getSigningCertificateDigestMethod());
+            state.add(xadesParameters.getTokenReferencesDigestAlgorithm());
+            state.add(xadesParameters.isSignKeyInfo());
+            state.add(xadesParameters.isAddX509SubjectName());
+            state.add(xadesParameters.getXPathLocationString());
+            state.add(xadesParameters.getXPathElementPlacement());
+            state.add(xadesParameters.isPrettyPrint());
+            state.add(getNamespaceDefinition(xadesParameters.getXmldsigNamespace()));
+            state.add(getNamespaceDefinition(xadesParameters.getXadesNamespace()));
+        }
+        return state;
+    }
+
+    private static String getNamespaceDefinition(DSSNamespace namespace) {
+        return namespace != null ? namespace.getPrefix() + ":" + namespace.getUri() : null;
+    }
+
+}
@@ -21,11 +21,13 @@
 package eu.europa.esig.dss.xades.reference;
 
 import eu.europa.esig.dss.model.DSSException;
+import eu.europa.esig.dss.utils.Utils;
 import org.apache.xml.security.exceptions.XMLSecurityException;
 import org.apache.xml.security.signature.XMLSignatureInput;
 import org.w3c.dom.Node;
 
 import java.io.IOException;
+import java.io.OutputStream;
 
 /**
  * Represents an {@code XMLSignatureInput} wrapper
@@ -76,4 +78,79 @@ public class DSSTransformOutput {
         }
     }
 
+    /**
+     * Writes the output after performing transforms to the given {@code OutputStream},
+     * without materializing the whole content in memory
+     *
+     * @param outputStream {@link OutputStream} to write the transforms output to
+     */
+    public void writeTo(OutputStream outputStream) {
+        try {
+            xmlSignatureInput.updateOutputStream(outputStream);
+        } catch (IOException | XMLSecurityException e) {
+            throw new DSSException(String.format("Cannot write Transform output. Reason : [%s]", e.getMessage()), e);
+        }
+    }
+
+    /**
+     * Checks whether the output after performing transforms is empty.
+     * For a NodeSet output, the serialization stops on the first produced byte.
+     *
+     * @return TRUE if the output is empty, FALSE otherwise
+     */
+    public boolean isEmpty() {
+        if (xmlSignatureInput.isOctetStream()) {
+            // the octet stream binaries are cached within the XMLSignatureInput
+            return Utils.isArrayEmpty(getBytes());
+        }
+        try {
+            xmlSignatureInput.updateOutputStream(new EmptyOutputCheckStream());
+            return true;
+        } catch (IOException | XMLSecurityException e) {
+            if (isNotEmptyOutputException(e)) {
+                return false;
+            }
+            throw new DSSException(String.format("Cannot process Transform output. Reason : [%s]", e.getMessage()), e);
+        }
+    }
+
+    private boolean isNotEmptyOutputException(Throwable e) {
+        Throwable cause = e;
+        while (cause != null) {
+            if (cause instanceof NotEmptyOutputException) {
+                return true;
+            }
+            cause = cause.getCause();
+        }
+        return false;
+    }
+
+    /**
+     * The stream interrupts the serialization on the first written byte
+     */
+    private static class EmptyOutputCheckStream extends OutputStream {
+
+        @Override
+        public void write(int b) throws IOException {
+            throw new NotEmptyOutputException();
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            if (len > 0) {
+                throw new NotEmptyOutputException();
+            }
+        }
+
+    }
+
+    /**
+     * Thrown by {@code EmptyOutputCheckStream} when a byte is written
+     */
+    private static class NotEmptyOutputException extends IOException {
+
+        private static final long serialVersionUID = -3461624612734936402L;
+
+    }
+
 }
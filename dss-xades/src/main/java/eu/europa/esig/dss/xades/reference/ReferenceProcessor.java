@@ -20,9 +20,11 @@
  */
 package eu.europa.esig.dss.xades.reference;
 
+import eu.europa.esig.dss.enumerations.DigestAlgorithm;
 import eu.europa.esig.dss.model.DSSDocument;
 import eu.europa.esig.dss.model.DigestDocument;
 import eu.europa.esig.dss.model.InMemoryDocument;
+import eu.europa.esig.dss.spi.DSSMessageDigestCalculator;
 import eu.europa.esig.dss.utils.Utils;
 import eu.europa.esig.dss.xades.DSSXMLUtils;
 import eu.europa.esig.dss.xades.XAdESSignatureParameters;
@@ -36,6 +38,7 @@ import org.w3c.dom.Document;
 import org.w3c.dom.Element;
 import org.w3c.dom.Node;
 
+import javax.xml.stream.XMLStreamException;
 import java.util.List;
 
 /**
@@ -75,11 +78,16 @@ public class ReferenceProcessor {
             return reference.getContents();
         }
 
+        List<DSSTransform> transforms = reference.getTransforms();
+        if (isDetachedReference(reference) && isOctetStreamTransforms(transforms)) {
+            // no DOM is required
+            return reference.getContents();
+        }
+
         Node nodeToTransform = dereferenceNode(reference);
         if (nodeToTransform == null) {
             return reference.getContents();
         }
-        List<DSSTransform> transforms = reference.getTransforms();
         if (isUniqueBase64Transform(transforms)) {
             return reference.getContents();
         }
@@ -94,6 +102,80 @@ public class ReferenceProcessor {
         return new InMemoryDocument(referenceOutputResult);
     }
 
+    /**
+     * Returns a base64-encoded digest of the output content after processing the given {@code DSSReference}.
+     * The transforms output is streamed to the message-digest computation without being materialized.
+     * For a detached reference (not same-document URI) containing only a canonicalization transform,
+     * the content is canonicalized from a StAX stream, without building a DOM.
+     *
+     * @param reference {@link DSSReference} to process
+     * @return {@link String} base64-encoded digest of the reference output content
+     */
+    public String getReferenceDigest(DSSReference reference) {
+        final DigestAlgorithm digestAlgorithm = reference.getDigestMethodAlgorithm();
+        if (reference.getContents() instanceof DigestDocument) {
+            return reference.getContents().getDigest(digestAlgorithm);
+        }
+
+        List<DSSTransform> transforms = reference.getTransforms();
+        if (isDetachedReference(reference)) {
+            if (isOctetStreamTransforms(transforms)) {
+                // no DOM is required
+                return reference.getContents().getDigest(digestAlgorithm);
+            } else if (isUniqueStreamableCanonicalization(transforms)) {
+                return getCanonicalizedContentDigest(reference.getContents(), transforms.get(0).getAlgorithm(), digestAlgorithm);
+            }
+        }
+
+        Node nodeToTransform = dereferenceNode(reference);
+        if (nodeToTransform == null) {
+            return reference.getContents().getDigest(digestAlgorithm);
+        }
+        if (isUniqueBase64Transform(transforms)) {
+            return reference.getContents().getDigest(digestAlgorithm);
+        }
+
+        final DSSMessageDigestCalculator messageDigestCalculator = new DSSMessageDigestCalculator(digestAlgorithm);
+        DSSXMLUtils.applyTransforms(nodeToTransform, transforms, messageDigestCalculator.getOutputStream());
+        return Utils.toBase64(messageDigestCalculator.getMessageDigest().getValue());
+    }
+
+    private String getCanonicalizedContentDigest(DSSDocument contents, String canonicalizationMethod,
+                                                 DigestAlgorithm digestAlgorithm) {
+        if (DomUtils.startsWithXmlPreamble(contents)) {
+            try {
+                final DSSMessageDigestCalculator messageDigestCalculator = new DSSMessageDigestCalculator(digestAlgorithm);
+                XMLStreamCanonicalizer.canonicalize(contents, canonicalizationMethod, messageDigestCalculator.getOutputStream());
+                return Utils.toBase64(messageDigestCalculator.getMessageDigest().getValue());
+            } catch (XMLStreamException e) {
+                LOG.debug("The reference content is not a valid XML ({}). The content cannot be transformed.", e.getMessage());
+            }
+        }
+        // cannot be transformed (same as for DOM processing)
+        return contents.getDigest(digestAlgorithm);
+    }
+
+    /**
+     * Checks whether the reference points to an external (not same-document) content, not to be embedded
+     * within the signature, i.e. a reference that can be processed without building a DOM of the signature
+     *
+     * @param reference {@link DSSReference}
+     * @return TRUE if the reference is a detached reference, FALSE otherwise
+     */
+    private boolean isDetachedReference(DSSReference reference) {
+        return (signatureParameters == null || !signatureParameters.isEmbedXML())
+                && !DSSXMLUtils.isSameDocumentReference(reference.getUri());
+    }
+
+    private boolean isOctetStreamTransforms(List<DSSTransform> transforms) {
+        return Utils.isCollectionEmpty(transforms) || isUniqueBase64Transform(transforms);
+    }
+
+    private boolean isUniqueStreamableCanonicalization(List<DSSTransform> transforms) {
+        return transforms != null && transforms.size() == 1 && transforms.get(0) instanceof CanonicalizationTransform
+                && XMLStreamCanonicalizer.isSupported(transforms.get(0).getAlgorithm());
+    }
+
     private Node dereferenceNode(DSSReference reference) {
         Document document = getDocumentToTransform(reference);
         /*
@@ -189,8 +271,7 @@ public class ReferenceProcessor {
                 DSSXMLUtils.incorporateTransforms(referenceDom, dssReference.getTransforms(), namespace);
                 DSSXMLUtils.incorporateDigestMethod(referenceDom, dssReference.getDigestMethodAlgorithm(), namespace);
 
-                DSSDocument documentAfterTransforms = getReferenceOutput(dssReference);
-                String base64EncodedDigestBytes = documentAfterTransforms.getDigest(dssReference.getDigestMethodAlgorithm());
+                String base64EncodedDigestBytes = getReferenceDigest(dssReference);
                 DSSXMLUtils.incorporateDigestValue(referenceDom, base64EncodedDigestBytes, namespace);
             }
         }
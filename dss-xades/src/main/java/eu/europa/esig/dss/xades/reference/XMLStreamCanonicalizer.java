@@ -0,0 +1,145 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.xades.reference;
+
+import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.model.DSSException;
+import org.apache.xml.security.c14n.Canonicalizer;
+import org.apache.xml.security.exceptions.XMLSecurityException;
+import org.apache.xml.security.stax.ext.Transformer;
+import org.apache.xml.security.stax.ext.stax.XMLSecEvent;
+import org.apache.xml.security.stax.ext.stax.XMLSecEventFactory;
+import org.apache.xml.security.stax.ext.stax.XMLSecStartElement;
+import org.apache.xml.security.stax.impl.transformer.canonicalizer.Canonicalizer11_OmitCommentsTransformer;
+import org.apache.xml.security.stax.impl.transformer.canonicalizer.Canonicalizer11_WithCommentsTransformer;
+import org.apache.xml.security.stax.impl.transformer.canonicalizer.Canonicalizer20010315_ExclOmitCommentsTransformer;
+import org.apache.xml.security.stax.impl.transformer.canonicalizer.Canonicalizer20010315_ExclWithCommentsTransformer;
+import org.apache.xml.security.stax.impl.transformer.canonicalizer.Canonicalizer20010315_OmitCommentsTransformer;
+import org.apache.xml.security.stax.impl.transformer.canonicalizer.Canonicalizer20010315_WithCommentsTransformer;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Canonicalizes an XML document by streaming its StAX events to the Santuario canonicalizers,
+ * without building a DOM. Used for detached references containing only a canonicalization transform.
+ *
+ * NOTE: documents containing a DOCTYPE declaration are rejected, as the DOM-based processing does.
+ */
+final class XMLStreamCanonicalizer {
+
+	/** The secure StAX factory (no DTD, no external entities) */
+	private static final XMLInputFactory XML_INPUT_FACTORY;
+
+	static {
+		XML_INPUT_FACTORY = XMLInputFactory.newInstance();
+		XML_INPUT_FACTORY.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+		XML_INPUT_FACTORY.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+		XML_INPUT_FACTORY.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, true);
+	}
+
+	/**
+	 * Utils class
+	 */
+	private XMLStreamCanonicalizer() {
+		// empty
+	}
+
+	/**
+	 * Checks whether the canonicalization {@code algorithm} can be processed in a streaming way
+	 *
+	 * @param algorithm {@link String} canonicalization algorithm uri
+	 * @return TRUE if the algorithm is supported, FALSE otherwise
+	 */
+	static boolean isSupported(String algorithm) {
+		return getTransformer(algorithm) != null;
+	}
+
+	/**
+	 * Canonicalizes the {@code document} with the given {@code algorithm} and writes the result to {@code outputStream}
+	 *
+	 * @param document {@link DSSDocument} XML document to canonicalize
+	 * @param algorithm {@link String} canonicalization algorithm uri
+	 * @param outputStream {@link OutputStream} to write the canonicalized content to
+	 * @throws XMLStreamException if the document is not a valid XML or contains a DOCTYPE declaration
+	 */
+	static void canonicalize(DSSDocument document, String algorithm, OutputStream outputStream) throws XMLStreamException {
+		final Transformer transformer = getTransformer(algorithm);
+		if (transformer == null) {
+			throw new IllegalArgumentException(String.format(
+					"The canonicalization method [%s] cannot be processed in a streaming way!", algorithm));
+		}
+		try (InputStream is = document.openStream()) {
+			transformer.setOutputStream(outputStream);
+			XMLStreamReader reader = XML_INPUT_FACTORY.createXMLStreamReader(is);
+			try {
+				XMLSecStartElement parent = null;
+				while (reader.hasNext()) {
+					int eventType = reader.next();
+					if (XMLStreamConstants.DTD == eventType) {
+						throw new XMLStreamException("DOCTYPE is not allowed");
+					}
+					XMLSecEvent event = XMLSecEventFactory.allocate(reader, parent);
+					if (XMLStreamConstants.START_ELEMENT == eventType) {
+						parent = event.asStartElement();
+					} else if (XMLStreamConstants.END_ELEMENT == eventType && parent != null) {
+						parent = parent.getParentXMLSecStartElement();
+					}
+					transformer.transform(event);
+				}
+				transformer.doFinal();
+			} finally {
+				reader.close();
+			}
+
+		} catch (IOException | XMLSecurityException e) {
+			throw new DSSException(String.format("Unable to canonicalize the document : %s", e.getMessage()), e);
+		}
+	}
+
+	private static Transformer getTransformer(String algorithm) {
+		if (algorithm == null) {
+			return null;
+		}
+		switch (algorithm) {
+			case Canonicalizer.ALGO_ID_C14N_OMIT_COMMENTS:
+				return new Canonicalizer20010315_OmitCommentsTransformer();
+			case Canonicalizer.ALGO_ID_C14N_WITH_COMMENTS:
+				return new Canonicalizer20010315_WithCommentsTransformer();
+			case Canonicalizer.ALGO_ID_C14N_EXCL_OMIT_COMMENTS:
+				return new Canonicalizer20010315_ExclOmitCommentsTransformer();
+			case Canonicalizer.ALGO_ID_C14N_EXCL_WITH_COMMENTS:
+				return new Canonicalizer20010315_ExclWithCommentsTransformer();
+			case Canonicalizer.ALGO_ID_C14N11_OMIT_COMMENTS:
+				return new Canonicalizer11_OmitCommentsTransformer();
+			case Canonicalizer.ALGO_ID_C14N11_WITH_COMMENTS:
+				return new Canonicalizer11_WithCommentsTransformer();
+			default:
+				return null;
+		}
+	}
+
+}
@@ -27,6 +27,10 @@ import eu.europa.esig.dss.xml.utils.SantuarioInitializer;
 import eu.europa.esig.dss.xades.SignatureBuilder;
 import eu.europa.esig.dss.xades.SignatureProfile;
 import eu.europa.esig.dss.xades.XAdESSignatureParameters;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collections;
 
 /**
  * Contains B level baseline profile for XAdES signature.
@@ -35,6 +39,8 @@ import eu.europa.esig.dss.xades.XAdESSignatureParameters;
  */
 public class XAdESLevelBaselineB implements SignatureProfile {
 
+	private static final Logger LOG = LoggerFactory.getLogger(XAdESLevelBaselineB.class);
+
 	static {
 		SantuarioInitializer.init();
 	}
@@ -69,7 +75,9 @@ public class XAdESLevelBaselineB implements SignatureProfile {
 	public byte[] getDataToSign(final DSSDocument dssDocument, final XAdESSignatureParameters parameters) throws DSSException {
 		final XAdESSignatureBuilder signatureBuilder = XAdESSignatureBuilder.getSignatureBuilder(parameters, dssDocument, certificateVerifier);
 		parameters.getContext().setBuilder(signatureBuilder);
-		return signatureBuilder.build();
+		final byte[] dataToSign = signatureBuilder.build();
+		parameters.getContext().getPreparedSignatureCache().init(parameters, Collections.singletonList(dssDocument));
+		return dataToSign;
 	}
 
 	/**
@@ -88,9 +96,15 @@ public class XAdESLevelBaselineB implements SignatureProfile {
 	@Override
 	public DSSDocument signDocument(final DSSDocument document, final XAdESSignatureParameters parameters, final byte[] signatureValue) throws DSSException {
 		SignatureBuilder builder = parameters.getContext().getBuilder();
-		if (builder != null) {
-			builder = parameters.getContext().getBuilder();
-		} else {
+		if (builder != null && !parameters.getContext().getPreparedSignatureCache().isValid(parameters, Collections.singletonList(document))) {
+			LOG.warn("The signature parameters or the document have been changed after the data to be signed computation. " +
+					"The signature is created using a complete processing...");
+			builder = null;
+			// the identifier and the default references are computed again from the current parameters and document
+			parameters.getContext().setDeterministicId(null);
+			parameters.getContext().setReferences(null);
+		}
+		if (builder == null) {
 			builder = XAdESSignatureBuilder.getSignatureBuilder(parameters, document, certificateVerifier);
 		}
 		final DSSDocument dssDocument = builder.signDocument(signatureValue);
@@ -71,8 +71,9 @@ public class DetachedSignatureResolver extends ResourceResolverSpi {
 	}
 
 	private XMLSignatureInput createFromCommonDocument(DSSDocument document) {
-		// Full binaries are required
-		final XMLSignatureInput result = new XMLSignatureInput(DSSUtils.toByteArray(document));
+		// The content is streamed to the digest computation (Santuario closes the stream after use)
+		// and is materialized only when a transform requires so
+		final XMLSignatureInput result = new XMLSignatureInput(document.openStream());
 		final MimeType mimeType = document.getMimeType();
 		if (mimeType != null) {
 			result.setMIMEType(mimeType.getMimeTypeString());
@@ -26,10 +26,10 @@ import eu.europa.esig.dss.enumerations.CertificateOrigin;
 import eu.europa.esig.dss.enumerations.CertificateRefOrigin;
 import eu.europa.esig.dss.model.Digest;
 import eu.europa.esig.dss.model.x509.CertificateToken;
-import eu.europa.esig.dss.spi.DSSUtils;
 import eu.europa.esig.dss.spi.x509.CandidatesForSigningCertificate;
 import eu.europa.esig.dss.spi.x509.CertificateRef;
 import eu.europa.esig.dss.spi.x509.CertificateSource;
+import eu.europa.esig.dss.spi.x509.CertificateTokenFactory;
 import eu.europa.esig.dss.spi.x509.CertificateValidity;
 import eu.europa.esig.dss.spi.x509.SignerIdentifier;
 import eu.europa.esig.dss.utils.Utils;
@@ -111,7 +111,7 @@ public class XAdESCertificateSource extends SignatureCertificateSource {
 			String base64EncodedCertificate = certificateElement.getTextContent();
 			try {
 				final byte[] derEncoded = Utils.fromBase64(base64EncodedCertificate);
-				final CertificateToken cert = DSSUtils.loadCertificate(derEncoded);
+				final CertificateToken cert = CertificateTokenFactory.getInstance().loadCertificate(derEncoded);
 				addCertificate(cert, origin);
 
 			} catch (Exception e) {
@@ -81,10 +81,28 @@ public class XMLDocumentValidator extends SignedDocumentValidator {
 	 *                    The instance of {@code DSSDocument} to validate
 	 */
 	public XMLDocumentValidator(final DSSDocument dssDocument) {
+		this(dssDocument, toDomDocument(dssDocument));
+	}
+
+	/**
+	 * The constructor for XMLDocumentValidator with an already parsed DOM of the document.
+	 * Allows to avoid parsing the document again, when the DOM has been built before.
+	 * The created instance is initialised with default {@code XAdESPaths}.
+	 *
+	 * NOTE: the provided DOM shall be built from {@code dssDocument} using
+	 * a secure namespace aware parser (see {@code DomUtils.buildDOM(dssDocument)})
+	 *
+	 * @param dssDocument
+	 *                    The instance of {@code DSSDocument} to validate
+	 * @param rootElement
+	 *                    {@link Document} DOM built from the {@code dssDocument}
+	 */
+	public XMLDocumentValidator(final DSSDocument dssDocument, final Document rootElement) {
 		Objects.requireNonNull(dssDocument, "Document to be validated cannot be null!");
+		Objects.requireNonNull(rootElement, "DOM of the document cannot be null!");
 
 		this.document = dssDocument;
-		this.rootElement = toDomDocument(dssDocument);
+		this.rootElement = rootElement;
 
 		xadesPathsHolders = new ArrayList<>();
 		xadesPathsHolders.add(new XAdES111Path());
@@ -92,7 +110,8 @@ public class XMLDocumentValidator extends SignedDocumentValidator {
 		xadesPathsHolders.add(new XAdES132Path());
 	}
 
-	private Document toDomDocument(DSSDocument document) {
+	private static Document toDomDocument(DSSDocument document) {
+		Objects.requireNonNull(document, "Document to be validated cannot be null!");
 		try {
 			return DomUtils.buildDOM(document);
 		} catch (Exception e) {
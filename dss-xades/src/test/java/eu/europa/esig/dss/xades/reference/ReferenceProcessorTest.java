@@ -0,0 +1,181 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.xades.reference;
+
+import eu.europa.esig.dss.enumerations.DigestAlgorithm;
+import eu.europa.esig.dss.exception.IllegalInputException;
+import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.model.FileDocument;
+import eu.europa.esig.dss.model.InMemoryDocument;
+import eu.europa.esig.dss.spi.DSSUtils;
+import eu.europa.esig.dss.utils.Utils;
+import eu.europa.esig.dss.xades.DSSXMLUtils;
+import eu.europa.esig.dss.xml.utils.DomUtils;
+import eu.europa.esig.dss.xml.utils.XMLCanonicalizer;
+import org.apache.xml.security.c14n.Canonicalizer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.xml.crypto.dsig.CanonicalizationMethod;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ReferenceProcessorTest {
+
+    private static final DSSDocument DOCUMENT = new FileDocument("src/test/resources/sample.xml");
+
+    @Test
+    public void canonicalizationTest() {
+        checkDigest(Collections.singletonList(new CanonicalizationTransform(CanonicalizationMethod.EXCLUSIVE)));
+        checkDigest(Collections.singletonList(new CanonicalizationTransform(CanonicalizationMethod.INCLUSIVE_WITH_COMMENTS)));
+    }
+
+    @Test
+    public void envelopedTest() {
+        checkDigest(Arrays.asList(new EnvelopedSignatureTransform(),
+                new CanonicalizationTransform(XMLCanonicalizer.DEFAULT_DSS_C14N_METHOD)));
+        checkDigest(Arrays.asList(new XPath2FilterEnvelopedSignatureTransform(),
+                new CanonicalizationTransform(XMLCanonicalizer.DEFAULT_DSS_C14N_METHOD)));
+    }
+
+    @Test
+    public void xPathTest() {
+        checkDigest(Arrays.asList(new XPathTransform("ancestor-or-self::*[local-name()='td']"),
+                new CanonicalizationTransform(XMLCanonicalizer.DEFAULT_DSS_C14N_METHOD)));
+        checkDigest(Arrays.asList(new XPath2FilterTransform("//*[local-name()='tr']", "intersect"),
+                new CanonicalizationTransform(XMLCanonicalizer.DEFAULT_DSS_C14N_METHOD)));
+    }
+
+    @Test
+    public void emptyIntermediateOutputTest() {
+        XPath2FilterTransform xPath2FilterTransform = new XPath2FilterTransform("/", "subtract");
+        List<DSSTransform> transforms = Arrays.asList(xPath2FilterTransform,
+                new CanonicalizationTransform(XMLCanonicalizer.DEFAULT_DSS_C14N_METHOD));
+
+        Exception exception = assertThrows(IllegalInputException.class, () ->
+                DSSXMLUtils.applyTransforms(DomUtils.buildDOM(DOCUMENT), transforms, new ByteArrayOutputStream()));
+        assertEquals(String.format("Unable to perform the next transform. The %s produced an empty output!",
+                xPath2FilterTransform), exception.getMessage());
+    }
+
+    @Test
+    public void detachedCanonicalizationTest() {
+        DSSDocument document = new InMemoryDocument(("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n" +
+                "<?pi before?><!-- comment before -->\n" +
+                "<root xmlns=\"urn:default\" xmlns:a=\"urn:a\" xmlns:unused=\"urn:unused\" b=\"2\" a:a=\"1\">\r\n" +
+                "  <a:child attr='&quot;&lt;&#x9;'>text &amp; <![CDATA[<cdata>]]></a:child><!-- comment -->\n" +
+                "  <empty/><?pi inside?>\n" +
+                "</root>\n<!-- comment after -->").getBytes(StandardCharsets.UTF_8), "detached.xml");
+        for (String canonicalizationMethod : Arrays.asList(CanonicalizationMethod.INCLUSIVE,
+                CanonicalizationMethod.INCLUSIVE_WITH_COMMENTS, CanonicalizationMethod.EXCLUSIVE,
+                CanonicalizationMethod.EXCLUSIVE_WITH_COMMENTS, Canonicalizer.ALGO_ID_C14N11_OMIT_COMMENTS,
+                Canonicalizer.ALGO_ID_C14N11_WITH_COMMENTS)) {
+            checkDetachedDigest(document, canonicalizationMethod);
+            checkDetachedDigest(DOCUMENT, canonicalizationMethod);
+        }
+    }
+
+    @Test
+    public void detachedNotXmlCanonicalizationTest() {
+        DSSDocument document = new InMemoryDocument("<not an xml".getBytes(StandardCharsets.UTF_8), "detached.xml");
+        checkDetachedDigest(document, CanonicalizationMethod.EXCLUSIVE);
+
+        document = new InMemoryDocument(("<?xml version=\"1.0\"?><!DOCTYPE root [<!ENTITY e \"entity\">]>" +
+                "<root>&e;</root>").getBytes(StandardCharsets.UTF_8), "detached.xml");
+        checkDetachedDigest(document, CanonicalizationMethod.EXCLUSIVE);
+
+        document = new InMemoryDocument("binaries".getBytes(StandardCharsets.UTF_8), "detached.bin");
+        DSSReference reference = getDetachedReference(document,
+                Collections.singletonList(new CanonicalizationTransform(CanonicalizationMethod.EXCLUSIVE)));
+        assertEquals(document.getDigest(DigestAlgorithm.SHA256), new ReferenceProcessor().getReferenceDigest(reference));
+    }
+
+    @Test
+    public void detachedLargeDocumentTest(@TempDir Path tempDir) throws IOException {
+        File file = tempDir.resolve("large.xml").toFile();
+        try (Writer writer = new OutputStreamWriter(new BufferedOutputStream(new FileOutputStream(file)), StandardCharsets.UTF_8)) {
+            writer.write("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<h:table xmlns:h=\"http://www.w3.org/TR/html4/\">\n");
+            for (int i = 0; i < 120000; i++) {
+                writer.write("\t<h:tr Id=\"r-" + i + "\"><!-- row --><h:td>Hello</h:td>\t<h:td>World &amp; " + i + "</h:td></h:tr>\n");
+            }
+            writer.write("</h:table>");
+        }
+        assertTrue(file.length() > 10_000_000);
+
+        DSSDocument document = new FileDocument(file);
+        checkDetachedDigest(document, CanonicalizationMethod.EXCLUSIVE);
+        checkDetachedDigest(document, CanonicalizationMethod.INCLUSIVE_WITH_COMMENTS);
+    }
+
+    private void checkDetachedDigest(DSSDocument document, String canonicalizationMethod) {
+        List<DSSTransform> transforms = Collections.singletonList(new CanonicalizationTransform(canonicalizationMethod));
+        DSSReference reference = getDetachedReference(document, transforms);
+
+        String streamedDigest = new ReferenceProcessor().getReferenceDigest(reference);
+
+        // DOM-based processing
+        String expectedDigest = DomUtils.isDOM(document) ?
+                Utils.toBase64(DSSUtils.digest(DigestAlgorithm.SHA256, DSSXMLUtils.applyTransforms(document, transforms))) :
+                document.getDigest(DigestAlgorithm.SHA256);
+        assertEquals(expectedDigest, streamedDigest, canonicalizationMethod);
+    }
+
+    private DSSReference getDetachedReference(DSSDocument document, List<DSSTransform> transforms) {
+        DSSReference reference = new DSSReference();
+        reference.setUri(document.getName());
+        reference.setContents(document);
+        reference.setDigestMethodAlgorithm(DigestAlgorithm.SHA256);
+        reference.setTransforms(transforms);
+        return reference;
+    }
+
+    private void checkDigest(List<DSSTransform> transforms) {
+        DSSReference reference = new DSSReference();
+        reference.setUri("");
+        reference.setContents(DOCUMENT);
+        reference.setDigestMethodAlgorithm(DigestAlgorithm.SHA256);
+        reference.setTransforms(transforms);
+
+        ReferenceProcessor referenceProcessor = new ReferenceProcessor();
+        DSSDocument referenceOutput = referenceProcessor.getReferenceOutput(reference);
+        assertEquals(referenceOutput.getDigest(DigestAlgorithm.SHA256), referenceProcessor.getReferenceDigest(reference));
+
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        DSSXMLUtils.applyTransforms(DomUtils.buildDOM(DOCUMENT), transforms, baos);
+        assertArrayEquals(DSSXMLUtils.applyTransforms(DomUtils.buildDOM(DOCUMENT), transforms), baos.toByteArray());
+    }
+
+}
@@ -0,0 +1,142 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.xades.signature;
+
+import eu.europa.esig.dss.PreparedSignatureCache;
+import eu.europa.esig.dss.enumerations.SignatureLevel;
+import eu.europa.esig.dss.enumerations.SignaturePackaging;
+import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.model.InMemoryDocument;
+import eu.europa.esig.dss.model.SignatureValue;
+import eu.europa.esig.dss.model.ToBeSigned;
+import eu.europa.esig.dss.signature.DocumentSignatureService;
+import eu.europa.esig.dss.xades.XAdESSignatureParameters;
+import eu.europa.esig.dss.xades.XAdESTimestampParameters;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class XAdESSignWithPreparedSignatureCacheTest extends AbstractXAdESTestSignature {
+
+	private DocumentSignatureService<XAdESSignatureParameters, XAdESTimestampParameters> service;
+	private XAdESSignatureParameters signatureParameters;
+	private DSSDocument documentToSign;
+
+	private boolean changeSigningDate;
+	private boolean changeDocument;
+	private boolean changeClaimedRoles;
+
+	@BeforeEach
+	public void init() throws Exception {
+		documentToSign = new InMemoryDocument("<root>Hello World</root>".getBytes(), "hello.xml");
+		signatureParameters = createSignatureParameters(new Date(), null);
+		service = new XAdESService(getOfflineCertificateVerifier());
+	}
+
+	private XAdESSignatureParameters createSignatureParameters(Date signingDate, List<String> claimedSignerRoles) {
+		XAdESSignatureParameters parameters = new XAdESSignatureParameters();
+		parameters.bLevel().setSigningDate(signingDate);
+		parameters.bLevel().setClaimedSignerRoles(claimedSignerRoles);
+		parameters.setSigningCertificate(getSigningCert());
+		parameters.setCertificateChain(getCertificateChain());
+		parameters.setSignaturePackaging(SignaturePackaging.ENVELOPING);
+		parameters.setSignatureLevel(SignatureLevel.XAdES_BASELINE_B);
+		return parameters;
+	}
+
+	@Override
+	protected DSSDocument sign() {
+		ToBeSigned dataToSign = service.getDataToSign(documentToSign, signatureParameters);
+
+		assertNotNull(signatureParameters.getContext().getBuilder());
+		PreparedSignatureCache signatureCache = signatureParameters.getContext().getPreparedSignatureCache();
+		assertTrue(signatureCache.isValid(signatureParameters, Collections.singletonList(documentToSign)));
+
+		SignatureValue signatureValue = getToken().sign(dataToSign, signatureParameters.getDigestAlgorithm(), getPrivateKeyEntry());
+
+		if (changeSigningDate) {
+			signatureParameters.bLevel().setSigningDate(new Date(signatureParameters.bLevel().getSigningDate().getTime() + 1000));
+		}
+		if (changeDocument) {
+			documentToSign = new InMemoryDocument("<root>Bye World</root>".getBytes(), "bye.xml");
+		}
+		if (changeClaimedRoles) {
+			signatureParameters.bLevel().setClaimedSignerRoles(Collections.singletonList("Manager"));
+		}
+		if (changeSigningDate || changeDocument || changeClaimedRoles) {
+			assertFalse(signatureCache.isValid(signatureParameters, Collections.singletonList(documentToSign)));
+
+			// the signature value is computed with equivalent parameters, the builder of the used parameters is outdated
+			XAdESSignatureParameters equivalentParameters = createSignatureParameters(
+					signatureParameters.bLevel().getSigningDate(), signatureParameters.bLevel().getClaimedSignerRoles());
+			dataToSign = service.getDataToSign(documentToSign, equivalentParameters);
+			signatureValue = getToken().sign(dataToSign, signatureParameters.getDigestAlgorithm(), getPrivateKeyEntry());
+		}
+
+		return service.signDocument(documentToSign, signatureParameters, signatureValue);
+	}
+
+	@Test
+	public void changedSigningDateTest() {
+		changeSigningDate = true;
+		super.signAndVerify();
+	}
+
+	@Test
+	public void changedDocumentTest() {
+		changeDocument = true;
+		super.signAndVerify();
+	}
+
+	@Test
+	public void changedClaimedRolesTest() {
+		changeClaimedRoles = true;
+		super.signAndVerify();
+	}
+
+	@Override
+	protected DocumentSignatureService<XAdESSignatureParameters, XAdESTimestampParameters> getService() {
+		return service;
+	}
+
+	@Override
+	protected XAdESSignatureParameters getSignatureParameters() {
+		return signatureParameters;
+	}
+
+	@Override
+	protected DSSDocument getDocumentToSign() {
+		return documentToSign;
+	}
+
+	@Override
+	protected String getSigningAlias() {
+		return GOOD_USER;
+	}
+
+}
@@ -27,9 +27,15 @@ import eu.europa.esig.dss.model.DSSDocument;
 import eu.europa.esig.dss.model.FileDocument;
 import eu.europa.esig.dss.model.SignatureValue;
 import eu.europa.esig.dss.model.ToBeSigned;
+import eu.europa.esig.dss.model.x509.CertificateToken;
 import eu.europa.esig.dss.simplereport.SimpleReport;
 import eu.europa.esig.dss.spi.x509.aia.DefaultAIASource;
+import eu.europa.esig.dss.spi.x509.revocation.crl.CRLSource;
+import eu.europa.esig.dss.spi.x509.revocation.crl.CRLToken;
+import eu.europa.esig.dss.spi.x509.revocation.ocsp.OCSPSource;
+import eu.europa.esig.dss.spi.x509.revocation.ocsp.OCSPToken;
 import eu.europa.esig.dss.test.PKIFactoryAccess;
+import eu.europa.esig.dss.utils.Utils;
 import eu.europa.esig.dss.validation.CertificateVerifier;
 import eu.europa.esig.dss.validation.CommonCertificateVerifier;
 import eu.europa.esig.dss.validation.OCSPFirstRevocationDataLoadingStrategyFactory;
@@ -44,12 +50,16 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
+import java.util.Date;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
@@ -188,6 +198,112 @@ public class ConcurrentValidationTest extends PKIFactoryAccess {
 
 	}
 
+	@Test
+	public void sequentialAndConcurrentRevocationFetchingTest() throws Exception {
+		final DSSDocument documentToSign = new FileDocument("src/test/resources/sample.xml");
+		final XAdESService service = new XAdESService(getOfflineCertificateVerifier());
+		service.setTspSource(getGoodTsa());
+
+		signingAlias = GOOD_USER;
+		XAdESSignatureParameters signatureParameters = new XAdESSignatureParameters();
+		signatureParameters.setSigningCertificate(getSigningCert());
+		signatureParameters.setCertificateChain(getCertificateChain());
+		signatureParameters.setSignatureLevel(SignatureLevel.XAdES_BASELINE_T);
+		signatureParameters.setSignaturePackaging(SignaturePackaging.ENVELOPED);
+
+		ToBeSigned dataToSign = service.getDataToSign(documentToSign, signatureParameters);
+		SignatureValue signatureValue = getToken().sign(dataToSign, signatureParameters.getSignatureAlgorithm(), getPrivateKeyEntry());
+		DSSDocument signedDocument = service.signDocument(documentToSign, signatureParameters, signatureValue);
+
+		// the revocation data is generated on request, the first response is returned for the next requests
+		OCSPSource ocspSource = new ReplayOCSPSource(pkiDelegatedOCSPSource());
+		CRLSource crlSource = new ReplayCRLSource(pkiCRLSource());
+		Date validationTime = new Date();
+
+		CertificateVerifier sequentialCertificateVerifier = getCompleteCertificateVerifier();
+		sequentialCertificateVerifier.setOcspSource(ocspSource);
+		sequentialCertificateVerifier.setCrlSource(crlSource);
+		String sequentialDiagnosticData = validate(signedDocument, sequentialCertificateVerifier, validationTime);
+
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			CertificateVerifier concurrentCertificateVerifier = getCompleteCertificateVerifier();
+			concurrentCertificateVerifier.setOcspSource(ocspSource);
+			concurrentCertificateVerifier.setCrlSource(crlSource);
+			concurrentCertificateVerifier.setExecutorService(executor);
+			for (int i = 0; i < 5; i++) {
+				assertEquals(sequentialDiagnosticData, validate(signedDocument, concurrentCertificateVerifier, validationTime));
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	private String validate(DSSDocument signedDocument, CertificateVerifier certificateVerifier, Date validationTime) {
+		SignedDocumentValidator validator = SignedDocumentValidator.fromDocument(signedDocument);
+		validator.setCertificateVerifier(certificateVerifier);
+		validator.setValidationTime(validationTime);
+
+		Reports reports = validator.validateDocument();
+		SimpleReport simpleReport = reports.getSimpleReport();
+		assertEquals(Indication.TOTAL_PASSED, simpleReport.getIndication(simpleReport.getFirstSignatureId()));
+		assertTrue(Utils.isCollectionNotEmpty(reports.getDiagnosticData().getAllRevocationData()));
+		return reports.getXmlDiagnosticData();
+	}
+
+	@SuppressWarnings("serial")
+	private static class ReplayOCSPSource implements OCSPSource {
+
+		private final OCSPSource ocspSource;
+
+		private final Map<String, OCSPToken> responses = new ConcurrentHashMap<>();
+
+		private ReplayOCSPSource(OCSPSource ocspSource) {
+			this.ocspSource = ocspSource;
+		}
+
+		@Override
+		public OCSPToken getRevocationToken(CertificateToken certificateToken, CertificateToken issuerCertificateToken) {
+			OCSPToken ocspToken = responses.computeIfAbsent(certificateToken.getDSSIdAsString(),
+					k -> ocspSource.getRevocationToken(certificateToken, issuerCertificateToken));
+			if (ocspToken == null) {
+				return null;
+			}
+			OCSPToken replayedToken = new OCSPToken(ocspToken.getBasicOCSPResp(), ocspToken.getLatestSingleResp(),
+					certificateToken, issuerCertificateToken);
+			replayedToken.setSourceURL(ocspToken.getSourceURL());
+			replayedToken.setExternalOrigin(ocspToken.getExternalOrigin());
+			return replayedToken;
+		}
+
+	}
+
+	@SuppressWarnings("serial")
+	private static class ReplayCRLSource implements CRLSource {
+
+		private final CRLSource crlSource;
+
+		private final Map<String, CRLToken> crls = new ConcurrentHashMap<>();
+
+		private ReplayCRLSource(CRLSource crlSource) {
+			this.crlSource = crlSource;
+		}
+
+		@Override
+		public CRLToken getRevocationToken(CertificateToken certificateToken, CertificateToken issuerCertificateToken) {
+			CRLToken crlToken = crls.computeIfAbsent(certificateToken.getDSSIdAsString(),
+					k -> crlSource.getRevocationToken(certificateToken, issuerCertificateToken));
+			if (crlToken == null) {
+				return null;
+			}
+			CRLToken replayedToken = new CRLToken(certificateToken, crlToken.getCrlValidity());
+			replayedToken.setSourceURL(crlToken.getSourceURL());
+			replayedToken.setExternalOrigin(crlToken.getExternalOrigin());
+			return replayedToken;
+		}
+
+	}
+
 	@Override
 	protected String getSigningAlias() {
 		return signingAlias;
@@ -22,14 +22,21 @@ package eu.europa.esig.dss.xml.common;
 
 import org.xml.sax.SAXException;
 
+import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
 import javax.xml.transform.Source;
+import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerConfigurationException;
 import javax.xml.transform.TransformerFactory;
 import javax.xml.validation.Schema;
 import javax.xml.validation.SchemaFactory;
 import javax.xml.validation.Validator;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.SynchronousQueue;
 
 /**
  * Builds the objects for dealing with XML
@@ -51,6 +58,21 @@ public final class XmlDefinerUtils {
 	/** Builds the secure version of {@code Validator} */
 	private ValidatorConfigurator secureValidatorConfigurator = ValidatorConfigurator.getSecureValidatorConfigurator();
 
+	/** The maximum number of idle factories of each type kept for reuse (0 disables the caching) */
+	private volatile int factoriesCacheSize = 16;
+
+	/**
+	 * Idle {@code DocumentBuilderFactory} instances. A factory is not thread-safe, therefore it is removed
+	 * from the pool for the time of its use and given back afterwards.
+	 */
+	private volatile BlockingQueue<DocumentBuilderFactory> documentBuilderFactoryPool = newPool(factoriesCacheSize);
+
+	/**
+	 * Idle {@code TransformerFactory} instances. A factory is not thread-safe, therefore it is removed
+	 * from the pool for the time of its use and given back afterwards.
+	 */
+	private volatile BlockingQueue<TransformerFactory> transformerFactoryPool = newPool(factoriesCacheSize);
+
 	/**
 	 * Singleton
 	 */
@@ -77,6 +99,7 @@ public final class XmlDefinerUtils {
 	 */
 	public void setDocumentBuilderFactoryBuilder(DocumentBuilderFactoryBuilder documentBuilderFactoryBuilder) {
 		this.secureDocumentBuilderFactoryBuilder = documentBuilderFactoryBuilder;
+		this.documentBuilderFactoryPool = newPool(factoriesCacheSize);
 	}
 
 	/**
@@ -87,6 +110,57 @@ public final class XmlDefinerUtils {
 	public DocumentBuilderFactory getSecureDocumentBuilderFactory() {
 		return secureDocumentBuilderFactoryBuilder.build();
 	}
+
+	/**
+	 * Returns a new DocumentBuilder with enabled security features.
+	 * The builder is created from a {@code DocumentBuilderFactory} taken from a bounded pool of idle factories
+	 * (see {@code #setFactoriesCacheSize}), thus avoiding the costly factory lookup on each call.
+	 * The factory is used by one thread at a time and is never exposed to the caller.
+	 *
+	 * @return {@link DocumentBuilder}
+	 * @throws ParserConfigurationException if the DocumentBuilder cannot be created
+	 */
+	public DocumentBuilder getSecureDocumentBuilder() throws ParserConfigurationException {
+		final BlockingQueue<DocumentBuilderFactory> pool = documentBuilderFactoryPool;
+		DocumentBuilderFactory documentBuilderFactory = pool.poll();
+		if (documentBuilderFactory == null) {
+			documentBuilderFactory = getSecureDocumentBuilderFactory();
+		}
+		try {
+			return documentBuilderFactory.newDocumentBuilder();
+		} finally {
+			pool.offer(documentBuilderFactory);
+		}
+	}
+
+	/**
+	 * Sets the maximum number of idle {@code DocumentBuilderFactory} and {@code TransformerFactory} instances
+	 * kept for reuse by {@code #getSecureDocumentBuilder} and {@code #getSecureTransformer}.
+	 * When the pool is empty (e.g. under a high concurrency) a new factory is built. When the pool is full,
+	 * the returned factory is discarded. The value 0 disables the caching.
+	 * NOTE: the cached factories are discarded when a new builder is set. A modification of an already
+	 *       defined builder instance is not taken into account for the cached factories.
+	 *
+	 * Default : 16
+	 *
+	 * @param factoriesCacheSize the maximum number of cached factories of each type
+	 */
+	public void setFactoriesCacheSize(int factoriesCacheSize) {
+		if (factoriesCacheSize < 0) {
+			throw new IllegalArgumentException("The cache size cannot be negative!");
+		}
+		this.factoriesCacheSize = factoriesCacheSize;
+		this.documentBuilderFactoryPool = newPool(factoriesCacheSize);
+		this.transformerFactoryPool = newPool(factoriesCacheSize);
+	}
+
+	private static <T> BlockingQueue<T> newPool(int size) {
+		if (size == 0) {
+			// never holds an element : poll() returns null and offer() is rejected
+			return new SynchronousQueue<>();
+		}
+		return new ArrayBlockingQueue<>(size);
+	}
 	
 	/**
 	 * Returns a Schema for a list of defined xsdSources
@@ -129,6 +203,7 @@ public final class XmlDefinerUtils {
 	 */
 	public void setTransformerFactoryBuilder(TransformerFactoryBuilder transformerFactoryBuilder) {
 		this.secureTransformerFactoryBuilder = transformerFactoryBuilder;
+		this.transformerFactoryPool = newPool(factoriesCacheSize);
 	}
 
 	/**
@@ -140,6 +215,28 @@ public final class XmlDefinerUtils {
 	public TransformerFactory getSecureTransformerFactory() {
 		return secureTransformerFactoryBuilder.build();
 	}
+
+	/**
+	 * Returns a new Transformer with enabled security features.
+	 * The transformer is created from a {@code TransformerFactory} taken from a bounded pool of idle factories
+	 * (see {@code #setFactoriesCacheSize}), thus avoiding the costly factory lookup on each call.
+	 * The factory is used by one thread at a time and is never exposed to the caller.
+	 *
+	 * @return {@link Transformer}
+	 * @throws TransformerConfigurationException if the Transformer cannot be created
+	 */
+	public Transformer getSecureTransformer() throws TransformerConfigurationException {
+		final BlockingQueue<TransformerFactory> pool = transformerFactoryPool;
+		TransformerFactory transformerFactory = pool.poll();
+		if (transformerFactory == null) {
+			transformerFactory = getSecureTransformerFactory();
+		}
+		try {
+			return transformerFactory.newTransformer();
+		} finally {
+			pool.offer(transformerFactory);
+		}
+	}
 	
 	/**
 	 * Sets a pre-configured builder to instantiate a {@code Validator}
@@ -24,14 +24,19 @@ import org.junit.jupiter.api.Test;
 import org.xml.sax.SAXException;
 
 import javax.xml.XMLConstants;
+import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.transform.Transformer;
 import javax.xml.transform.TransformerConfigurationException;
 import javax.xml.transform.TransformerFactory;
 import javax.xml.validation.SchemaFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class XmlDefinerUtilsTest {
 
@@ -134,4 +139,68 @@ public class XmlDefinerUtilsTest {
 
 	}
 
+	@Test
+	public void factoriesCacheTest() throws Exception {
+		XmlDefinerUtils xmlDefinerUtils = XmlDefinerUtils.getInstance();
+
+		final AtomicInteger documentBuilderFactoriesCounter = new AtomicInteger();
+		xmlDefinerUtils.setDocumentBuilderFactoryBuilder(new DocumentBuilderFactoryBuilder() {
+			@Override
+			public DocumentBuilderFactory build() {
+				documentBuilderFactoriesCounter.incrementAndGet();
+				return super.build();
+			}
+		});
+
+		final AtomicInteger transformerFactoriesCounter = new AtomicInteger();
+		xmlDefinerUtils.setTransformerFactoryBuilder(new TransformerFactoryBuilder() {
+			@Override
+			public TransformerFactory build() {
+				transformerFactoriesCounter.incrementAndGet();
+				return super.build();
+			}
+		});
+
+		try {
+			DocumentBuilder documentBuilder = xmlDefinerUtils.getSecureDocumentBuilder();
+			assertNotNull(documentBuilder);
+			assertNotSame(documentBuilder, xmlDefinerUtils.getSecureDocumentBuilder());
+			assertEquals(1, documentBuilderFactoriesCounter.get());
+
+			Transformer transformer = xmlDefinerUtils.getSecureTransformer();
+			assertNotNull(transformer);
+			assertNotSame(transformer, xmlDefinerUtils.getSecureTransformer());
+			assertEquals(1, transformerFactoriesCounter.get());
+
+			// the idle factories are shared between threads
+			Thread thread = new Thread(() -> {
+				try {
+					xmlDefinerUtils.getSecureDocumentBuilder();
+					xmlDefinerUtils.getSecureTransformer();
+				} catch (Exception e) {
+					throw new IllegalStateException(e);
+				}
+			});
+			thread.start();
+			thread.join();
+			assertEquals(1, documentBuilderFactoriesCounter.get());
+			assertEquals(1, transformerFactoriesCounter.get());
+
+			xmlDefinerUtils.setFactoriesCacheSize(0);
+			xmlDefinerUtils.getSecureDocumentBuilder();
+			xmlDefinerUtils.getSecureDocumentBuilder();
+			assertEquals(3, documentBuilderFactoriesCounter.get());
+			xmlDefinerUtils.getSecureTransformer();
+			xmlDefinerUtils.getSecureTransformer();
+			assertEquals(3, transformerFactoriesCounter.get());
+
+			assertThrows(IllegalArgumentException.class, () -> xmlDefinerUtils.setFactoriesCacheSize(-1));
+
+		} finally {
+			xmlDefinerUtils.setFactoriesCacheSize(16);
+			xmlDefinerUtils.setDocumentBuilderFactoryBuilder(DocumentBuilderFactoryBuilder.getSecureDocumentBuilderFactoryBuilder());
+			xmlDefinerUtils.setTransformerFactoryBuilder(TransformerFactoryBuilder.getSecureTransformerBuilder());
+		}
+	}
+
 }
@@ -24,6 +24,7 @@ import eu.europa.esig.dss.enumerations.MimeTypeEnum;
 import eu.europa.esig.dss.model.DSSDocument;
 import eu.europa.esig.dss.model.DSSException;
 import eu.europa.esig.dss.model.InMemoryDocument;
+import eu.europa.esig.dss.model.LRUMap;
 import eu.europa.esig.dss.utils.Utils;
 import eu.europa.esig.dss.xml.common.XmlDefinerUtils;
 import eu.europa.esig.dss.xml.common.definition.DSSAttribute;
@@ -121,6 +122,17 @@ public final class DomUtils {
 		namespacePrefixMapper = new NamespaceContextMap();
 	}
 
+	/** The maximum number of compiled XPath expressions cached per thread (0 to disable the cache) */
+	private static volatile int xPathExpressionCacheSize = 256;
+
+	/**
+	 * The cache of compiled XPath expressions by the XPath query string, used by the evaluation methods of this class.
+	 * The cache is maintained per thread, as XPathExpression is not thread-safe. The cached instances are
+	 * never returned to a caller ({@code #createXPathExpression} always compiles a new expression).
+	 * The whole cache is discarded on a new namespace registration.
+	 */
+	private static volatile ThreadLocal<Map<String, XPathExpression>> xPathExpressionCache = newXPathExpressionCache();
+
 	/**
 	 * This method allows to register a namespace and associated prefix. If the prefix exists already it is replaced.
 	 *
@@ -137,7 +149,45 @@ public final class DomUtils {
 		if (XMLNS.equals(prefix)) {
 			throw new UnsupportedOperationException(String.format("The default namespace '%s' cannot be registered!", XMLNS));
 		}
-		return namespacePrefixMapper.registerNamespace(prefix, uri);
+		final boolean result = namespacePrefixMapper.registerNamespace(prefix, uri);
+		// compiled expressions may depend on the previous prefix definition
+		xPathExpressionCache = newXPathExpressionCache();
+		return result;
+	}
+
+	/**
+	 * Removes the namespace registered with the given prefix (used to restore the global state in tests)
+	 *
+	 * @param prefix namespace prefix
+	 * @return true if the prefix was registered
+	 */
+	static boolean unregisterNamespace(final String prefix) {
+		final boolean result = namespacePrefixMapper.unregisterNamespace(prefix);
+		xPathExpressionCache = newXPathExpressionCache();
+		return result;
+	}
+
+	/**
+	 * Sets the maximum number of compiled XPath expressions cached within a thread by the XPath evaluation methods
+	 * (e.g. {@code #getValue}, {@code #getNodeList}).
+	 * When the limit is reached, the least recently used expression is removed from the cache.
+	 * Setting the value to 0 disables the cache.
+	 *
+	 * Default : 256
+	 *
+	 * @param cacheSize the maximum number of cached XPath expressions per thread
+	 */
+	public static void setXPathExpressionCacheSize(int cacheSize) {
+		if (cacheSize < 0) {
+			throw new IllegalArgumentException("The XPath expression cache size cannot be negative!");
+		}
+		xPathExpressionCacheSize = cacheSize;
+		xPathExpressionCache = newXPathExpressionCache();
+	}
+
+	private static ThreadLocal<Map<String, XPathExpression>> newXPathExpressionCache() {
+		final int cacheSize = xPathExpressionCacheSize;
+		return ThreadLocal.withInitial(() -> new LRUMap<>(cacheSize));
 	}
 
 	/**
@@ -166,10 +216,9 @@ public final class DomUtils {
 	 * @return an instance of Transformer with enabled secure features
 	 */
 	public static Transformer getSecureTransformer() {
-		TransformerFactory transformerFactory = getSecureTransformerFactory();
 		Transformer transformer;
 		try {
-			transformer = transformerFactory.newTransformer();
+			transformer = XmlDefinerUtils.getInstance().getSecureTransformer();
 			transformer.setOutputProperty(OutputKeys.METHOD, TRANSFORMER_METHOD_VALUE);
 		} catch (TransformerConfigurationException e) {
 			throw new DSSException(String.format("Unable to instantiate a new secure Transformer. Reason : %s", e.getMessage()), e);
@@ -224,7 +273,7 @@ public final class DomUtils {
 	 */
 	public static Document buildDOM() {
 		try {
-			return getSecureDocumentBuilderFactory().newDocumentBuilder().newDocument();
+			return XmlDefinerUtils.getInstance().getSecureDocumentBuilder().newDocument();
 		} catch (ParserConfigurationException e) {
 			throw new DSSException(String.format("Unable to build an empty DOM : %s", e.getMessage()), e);
 		}
@@ -262,7 +311,7 @@ public final class DomUtils {
 	 */
 	public static Document buildDOM(final InputStream inputStream) {
 		try (InputStream is = inputStream) {
-			return getSecureDocumentBuilderFactory().newDocumentBuilder().parse(is);
+			return XmlDefinerUtils.getInstance().getSecureDocumentBuilder().parse(is);
 		} catch (ParserConfigurationException | SAXException e) {
 			throw new DSSException(String.format("Unable to parse content (XML expected) : %s", e.getMessage()), e);
 		} catch (IOException e) {
@@ -377,6 +426,30 @@ public final class DomUtils {
 	 * @return an instance of {@code XPathExpression} for the given xpathString @ if
 	 */
 	public static XPathExpression createXPathExpression(final String xpathString) {
+		return compileXPathExpression(xpathString);
+	}
+
+	/**
+	 * Returns a compiled XPathExpression from the cache of the current thread, or compiles and caches a new one.
+	 * The returned instance is used internally for a single evaluation and shall never be exposed to a caller.
+	 *
+	 * @param xpathString XPath query string
+	 * @return {@code XPathExpression}
+	 */
+	static XPathExpression getCachedXPathExpression(final String xpathString) {
+		if (xPathExpressionCacheSize == 0) {
+			return compileXPathExpression(xpathString);
+		}
+		final Map<String, XPathExpression> cache = xPathExpressionCache.get();
+		XPathExpression xPathExpression = cache.get(xpathString);
+		if (xPathExpression == null) {
+			xPathExpression = compileXPathExpression(xpathString);
+			cache.put(xpathString, xPathExpression);
+		}
+		return xPathExpression;
+	}
+
+	private static XPathExpression compileXPathExpression(final String xpathString) {
 		final XPath xpath = factory.newXPath();
 		xpath.setNamespaceContext(namespacePrefixMapper);
 		try {
@@ -397,7 +470,7 @@ public final class DomUtils {
 	 */
 	public static String getValue(final Node xmlNode, final String xPathString) {
 		try {
-			final XPathExpression xPathExpression = createXPathExpression(xPathString);
+			final XPathExpression xPathExpression = getCachedXPathExpression(xPathString);
 			final String string = (String) xPathExpression.evaluate(xmlNode, XPathConstants.STRING);
 			return Utils.trim(string);
 		} catch (XPathExpressionException e) {
@@ -416,7 +489,7 @@ public final class DomUtils {
 	 */
 	public static NodeList getNodeList(final Node xmlNode, final String xPathString) {
 		try {
-			final XPathExpression expr = createXPathExpression(xPathString);
+			final XPathExpression expr = getCachedXPathExpression(xPathString);
 			return (NodeList) expr.evaluate(xmlNode, XPathConstants.NODESET);
 		} catch (XPathExpressionException e) {
 			throw new DSSException(String.format("Unable to find a NodeList by the given xPathString '%s'. Reason : %s",
@@ -65,6 +65,25 @@ public final class NamespaceContextMap implements NamespaceContext {
 		prefixes.add(prefix);
 	}
 
+	/**
+	 * Removes the namespace registered with the given prefix
+	 *
+	 * @param prefix namespace prefix
+	 * @return true if the prefix was registered
+	 */
+	boolean unregisterNamespace(final String prefix) {
+		final String namespace = prefixMap.remove(prefix);
+		if (namespace == null) {
+			return false;
+		}
+		Set<String> prefixes = namespaceMap.get(namespace);
+		prefixes.remove(prefix);
+		if (prefixes.isEmpty()) {
+			namespaceMap.remove(namespace);
+		}
+		return true;
+	}
+
 	/**
 	 * Returns a prefix map (a copy)
 	 *
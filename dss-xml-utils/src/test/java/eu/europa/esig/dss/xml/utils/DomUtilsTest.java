@@ -29,6 +29,7 @@ import org.w3c.dom.Element;
 import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
 
+import javax.xml.xpath.XPathExpression;
 import java.io.ByteArrayInputStream;
 import java.io.FileInputStream;
 import java.io.IOException;
@@ -37,8 +38,10 @@ import java.io.InputStream;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -199,5 +202,60 @@ public class DomUtilsTest {
 		assertNull(DomUtils.getElementById(
 				DomUtils.buildDOM("<el ids=\"signedData\">Text</el>"), "signedData"));
 	}
-	
+
+	@Test
+	public void xPathExpressionCacheTest() throws Exception {
+		Document document = DomUtils.buildDOM(XML_TEXT);
+
+		// the public method always returns a new expression
+		XPathExpression xPathExpression = DomUtils.createXPathExpression("./world");
+		assertNotSame(xPathExpression, DomUtils.createXPathExpression("./world"));
+
+		xPathExpression = DomUtils.getCachedXPathExpression("./world");
+		assertSame(xPathExpression, DomUtils.getCachedXPathExpression("./world"));
+		assertEquals(1, DomUtils.getNodesAmount(document.getDocumentElement(), "./world"));
+
+		try {
+			DomUtils.registerNamespace(new DSSNamespace("http://some-uri.net", "cache"));
+			assertNotSame(xPathExpression, DomUtils.getCachedXPathExpression("./world"));
+
+			Document namespaceDocument = DomUtils.buildDOM("<cache:hello xmlns:cache=\"http://some-uri.net\"><cache:world/></cache:hello>");
+			assertEquals(1, DomUtils.getNodesAmount(namespaceDocument.getDocumentElement(), "./cache:world"));
+
+			// the cached expression shall not be used after the prefix redefinition
+			DomUtils.registerNamespace(new DSSNamespace("http://other-uri.net", "cache"));
+			assertEquals(0, DomUtils.getNodesAmount(namespaceDocument.getDocumentElement(), "./cache:world"));
+
+		} finally {
+			DomUtils.unregisterNamespace("cache");
+		}
+
+		try {
+			DomUtils.setXPathExpressionCacheSize(0);
+			xPathExpression = DomUtils.getCachedXPathExpression("./world");
+			assertNotSame(xPathExpression, DomUtils.getCachedXPathExpression("./world"));
+			assertEquals(1, DomUtils.getNodesAmount(document.getDocumentElement(), "./world"));
+
+			DomUtils.setXPathExpressionCacheSize(1);
+			xPathExpression = DomUtils.getCachedXPathExpression("./world");
+			assertSame(xPathExpression, DomUtils.getCachedXPathExpression("./world"));
+			DomUtils.getCachedXPathExpression("./hello");
+			assertNotSame(xPathExpression, DomUtils.getCachedXPathExpression("./world"));
+
+			assertThrows(IllegalArgumentException.class, () -> DomUtils.setXPathExpressionCacheSize(-1));
+
+		} finally {
+			DomUtils.setXPathExpressionCacheSize(256);
+		}
+
+		// expressions are not shared between threads
+		xPathExpression = DomUtils.getCachedXPathExpression("./world");
+		final XPathExpression[] otherThreadExpression = new XPathExpression[1];
+		Thread thread = new Thread(() -> otherThreadExpression[0] = DomUtils.getCachedXPathExpression("./world"));
+		thread.start();
+		thread.join();
+		assertNotNull(otherThreadExpression[0]);
+		assertNotSame(xPathExpression, otherThreadExpression[0]);
+	}
+
 }
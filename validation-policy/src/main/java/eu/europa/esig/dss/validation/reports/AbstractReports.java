@@ -30,6 +30,8 @@ import org.xml.sax.SAXException;
 
 import javax.xml.bind.JAXBException;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 
 /**
  * This class is a container for all reports generated by the validation
@@ -67,7 +69,10 @@ public abstract class AbstractReports {
 	}
 
 	/**
-	 * Set if the XML shall be validated
+	 * Set if the XML shall be validated against the XSD on marshalling.
+	 * Can be disabled for the reports produced internally, as the validation of large documents is costly.
+	 *
+	 * Default : false (no validation is performed)
 	 *
 	 * @param validateXml if the XML reports shall be validated
 	 */
@@ -153,6 +158,105 @@ public abstract class AbstractReports {
 		}
 	}
 
+	/**
+	 * This method writes the XML representation of the JAXB SimpleReport into the {@code OutputStream}.
+	 * By default, the String representation returned by {@code getXmlSimpleReport()} is written.
+	 *
+	 * @param os {@link OutputStream} to write the XML content into
+	 * @throws DSSReportException - in case of marshalling error
+	 */
+	public void writeXmlSimpleReport(OutputStream os) throws DSSReportException {
+		try {
+			writeXml(getXmlSimpleReport(), os);
+		} catch (IOException e) {
+			throw new DSSReportException("An error occurred during writing of the Simple Report", e);
+		}
+	}
+
+	/**
+	 * This method writes the XML representation of the JAXB DiagnosticData into the {@code OutputStream}.
+	 * The report is marshalled directly into the stream, without an intermediate String representation.
+	 *
+	 * @param os {@link OutputStream} to write the XML content into
+	 * @throws DSSReportException - in case of marshalling error
+	 */
+	public void writeXmlDiagnosticData(OutputStream os) throws DSSReportException {
+		try {
+			if (xmlDiagnosticData != null) {
+				writeXml(xmlDiagnosticData, os);
+			} else {
+				DiagnosticDataFacade.newFacade().marshall(getDiagnosticDataJaxb(), os, validateXml);
+			}
+		} catch (JAXBException | IOException | SAXException e) {
+			throw new DSSReportException("An error occurred during marshalling of JAXB Diagnostic Data", e);
+		}
+	}
+
+	/**
+	 * This method writes the XML representation of the JAXB DetailedReport into the {@code OutputStream}.
+	 * The report is marshalled directly into the stream, without an intermediate String representation.
+	 *
+	 * @param os {@link OutputStream} to write the XML content into
+	 * @throws DSSReportException - in case of marshalling error
+	 */
+	public void writeXmlDetailedReport(OutputStream os) throws DSSReportException {
+		try {
+			if (xmlDetailedReport != null) {
+				writeXml(xmlDetailedReport, os);
+			} else {
+				DetailedReportFacade.newFacade().marshall(getDetailedReportJaxb(), os, validateXml);
+			}
+		} catch (JAXBException | IOException | SAXException e) {
+			throw new DSSReportException("An error occurred during marshalling of JAXB Detailed Report", e);
+		}
+	}
+
+	/**
+	 * This method writes the JSON representation of the JAXB DiagnosticData into the {@code OutputStream}.
+	 * The report is serialized directly into the stream, without an intermediate String representation.
+	 *
+	 * NOTE: requires jackson-module-jaxb-annotations to be present in the classpath
+	 *
+	 * @param os {@link OutputStream} to write the JSON content into
+	 * @throws DSSReportException - in case of serialization error
+	 */
+	public void writeJsonDiagnosticData(OutputStream os) throws DSSReportException {
+		try {
+			JsonReportWriter.write(getDiagnosticDataJaxb(), os);
+		} catch (IOException e) {
+			throw new DSSReportException("An error occurred during JSON serialization of JAXB Diagnostic Data", e);
+		}
+	}
+
+	/**
+	 * This method writes the JSON representation of the JAXB DetailedReport into the {@code OutputStream}.
+	 * The report is serialized directly into the stream, without an intermediate String representation.
+	 *
+	 * NOTE: requires jackson-module-jaxb-annotations to be present in the classpath
+	 *
+	 * @param os {@link OutputStream} to write the JSON content into
+	 * @throws DSSReportException - in case of serialization error
+	 */
+	public void writeJsonDetailedReport(OutputStream os) throws DSSReportException {
+		try {
+			JsonReportWriter.write(getDetailedReportJaxb(), os);
+		} catch (IOException e) {
+			throw new DSSReportException("An error occurred during JSON serialization of JAXB Detailed Report", e);
+		}
+	}
+
+	/**
+	 * Writes the already marshalled XML report into the {@code OutputStream}
+	 *
+	 * @param xml {@link String} the XML report
+	 * @param os {@link OutputStream} to write the XML into
+	 * @throws IOException if an error occurs on writing
+	 */
+	protected void writeXml(String xml, OutputStream os) throws IOException {
+		// the marshalled XML declares UTF-8 encoding
+		os.write(xml.getBytes(StandardCharsets.UTF_8));
+	}
+
 	/**
 	 * For debug purpose.
 	 */
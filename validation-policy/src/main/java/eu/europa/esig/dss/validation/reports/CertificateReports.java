@@ -29,6 +29,7 @@ import org.xml.sax.SAXException;
 
 import javax.xml.bind.JAXBException;
 import java.io.IOException;
+import java.io.OutputStream;
 
 /**
  * This class is a container for all reports generated by the certificate
@@ -97,4 +98,42 @@ public class CertificateReports extends AbstractReports {
 		}
 	}
 
+	/**
+	 * This method writes the XML representation of the JAXB XmlSimpleCertificateReport
+	 * into the {@code OutputStream}.
+	 * The report is marshalled directly into the stream, without an intermediate String representation.
+	 *
+	 * @param os {@link OutputStream} to write the XML content into
+	 * @throws DSSReportException - in case of marshalling error
+	 */
+	@Override
+	public void writeXmlSimpleReport(OutputStream os) throws DSSReportException {
+		try {
+			if (xmlSimpleReport != null) {
+				writeXml(xmlSimpleReport, os);
+			} else {
+				SimpleCertificateReportFacade.newFacade().marshall(getSimpleReportJaxb(), os, validateXml);
+			}
+		} catch (JAXBException | IOException | SAXException e) {
+			throw new DSSReportException("An error occurred during marshalling of JAXB Simple Report", e);
+		}
+	}
+
+	/**
+	 * This method writes the JSON representation of the JAXB XmlSimpleCertificateReport into the {@code OutputStream}.
+	 * The report is serialized directly into the stream, without an intermediate String representation.
+	 *
+	 * NOTE: requires jackson-module-jaxb-annotations to be present in the classpath
+	 *
+	 * @param os {@link OutputStream} to write the JSON content into
+	 * @throws DSSReportException - in case of serialization error
+	 */
+	public void writeJsonSimpleReport(OutputStream os) throws DSSReportException {
+		try {
+			JsonReportWriter.write(getSimpleReportJaxb(), os);
+		} catch (IOException e) {
+			throw new DSSReportException("An error occurred during JSON serialization of JAXB Simple Report", e);
+		}
+	}
+
 }
@@ -0,0 +1,66 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.validation.reports;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.fasterxml.jackson.module.jaxb.JaxbAnnotationIntrospector;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Serializes the JAXB reports into JSON, based on their JAXB annotations.
+ * The class is loaded only on a JSON serialization request, so the Jackson dependency remains optional.
+ */
+final class JsonReportWriter {
+
+	/** The ObjectMapper is thread-safe once configured */
+	private static final ObjectMapper OBJECT_MAPPER = createObjectMapper();
+
+	/**
+	 * Utils class
+	 */
+	private JsonReportWriter() {
+		// empty
+	}
+
+	private static ObjectMapper createObjectMapper() {
+		ObjectMapper om = new ObjectMapper();
+		om.setAnnotationIntrospector(new JaxbAnnotationIntrospector(TypeFactory.defaultInstance()));
+		// the stream is owned by the caller
+		om.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+		return om;
+	}
+
+	/**
+	 * Writes the JSON representation of the {@code jaxbObject} into the {@code OutputStream}
+	 *
+	 * @param jaxbObject the JAXB object to serialize
+	 * @param os {@link OutputStream} to write the JSON into
+	 * @throws IOException if an error occurs on serialization or writing
+	 */
+	static void write(Object jaxbObject, OutputStream os) throws IOException {
+		OBJECT_MAPPER.writeValue(os, jaxbObject);
+	}
+
+}
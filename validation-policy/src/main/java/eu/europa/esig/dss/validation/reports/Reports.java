@@ -31,6 +31,7 @@ import org.xml.sax.SAXException;
 
 import javax.xml.bind.JAXBException;
 import java.io.IOException;
+import java.io.OutputStream;
 
 /**
  * This class is a container for all reports generated by the signature validation
@@ -134,6 +135,62 @@ public class Reports extends AbstractReports {
 		}
 	}
 
+	/**
+	 * This method writes the XML representation of the JAXB SimpleReport into the {@code OutputStream}.
+	 * The report is marshalled directly into the stream, without an intermediate String representation.
+	 *
+	 * @param os {@link OutputStream} to write the XML content into
+	 * @throws DSSReportException - in case of marshalling error
+	 */
+	@Override
+	public void writeXmlSimpleReport(OutputStream os) throws DSSReportException {
+		try {
+			if (xmlSimpleReport != null) {
+				writeXml(xmlSimpleReport, os);
+			} else {
+				SimpleReportFacade.newFacade().marshall(getSimpleReportJaxb(), os, validateXml);
+			}
+		} catch (JAXBException | IOException | SAXException e) {
+			throw new DSSReportException("An error occurred during marshalling of JAXB Simple Report", e);
+		}
+	}
+
+	/**
+	 * This method writes the XML representation of the JAXB ETSI Validation Report into the {@code OutputStream}.
+	 * The report is marshalled directly into the stream, without an intermediate String representation.
+	 *
+	 * @param os {@link OutputStream} to write the XML content into
+	 * @throws DSSReportException - in case of marshalling error
+	 */
+	public void writeXmlValidationReport(OutputStream os) throws DSSReportException {
+		try {
+			if (xmlEtsiValidationReport != null) {
+				writeXml(xmlEtsiValidationReport, os);
+			} else {
+				ValidationReportFacade.newFacade().marshall(getEtsiValidationReportJaxb(), os, validateXml);
+			}
+		} catch (JAXBException | IOException | SAXException e) {
+			throw new DSSReportException("An error occurred during marshalling of JAXB Etsi Validation Report", e);
+		}
+	}
+
+	/**
+	 * This method writes the JSON representation of the JAXB SimpleReport into the {@code OutputStream}.
+	 * The report is serialized directly into the stream, without an intermediate String representation.
+	 *
+	 * NOTE: requires jackson-module-jaxb-annotations to be present in the classpath
+	 *
+	 * @param os {@link OutputStream} to write the JSON content into
+	 * @throws DSSReportException - in case of serialization error
+	 */
+	public void writeJsonSimpleReport(OutputStream os) throws DSSReportException {
+		try {
+			JsonReportWriter.write(getSimpleReportJaxb(), os);
+		} catch (IOException e) {
+			throw new DSSReportException("An error occurred during JSON serialization of JAXB Simple Report", e);
+		}
+	}
+
 	@Override
 	public void print() {
 		System.out.println("----------------Diagnostic data-----------------");
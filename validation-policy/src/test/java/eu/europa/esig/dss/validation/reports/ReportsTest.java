@@ -20,8 +20,27 @@
  */
 package eu.europa.esig.dss.validation.reports;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.fasterxml.jackson.module.jaxb.JaxbAnnotationIntrospector;
+import eu.europa.esig.dss.detailedreport.DetailedReportFacade;
+import eu.europa.esig.dss.detailedreport.jaxb.XmlDetailedReport;
+import eu.europa.esig.dss.diagnostic.DiagnosticDataFacade;
+import eu.europa.esig.dss.diagnostic.jaxb.XmlDiagnosticData;
+import eu.europa.esig.dss.policy.ValidationPolicyFacade;
+import eu.europa.esig.dss.simplereport.SimpleReportFacade;
+import eu.europa.esig.dss.simplereport.jaxb.XmlSimpleReport;
+import eu.europa.esig.dss.validation.executor.signature.DefaultSignatureProcessExecutor;
+import eu.europa.esig.validationreport.ValidationReportFacade;
+import eu.europa.esig.validationreport.jaxb.ValidationReportType;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -49,4 +68,78 @@ public class ReportsTest {
         assertThrows(NullPointerException.class, () -> reports.getXmlValidationReport());
     }
 
+    @Test
+    void writeXmlReportsTest() throws Exception {
+        XmlDiagnosticData diagnosticData = DiagnosticDataFacade.newFacade().unmarshall(new File("src/test/resources/DSS-1330-diag-data.xml"));
+
+        DefaultSignatureProcessExecutor executor = new DefaultSignatureProcessExecutor();
+        executor.setDiagnosticData(diagnosticData);
+        executor.setValidationPolicy(ValidationPolicyFacade.newFacade().getDefaultValidationPolicy());
+        executor.setCurrentTime(diagnosticData.getValidationDate());
+
+        Reports reports = executor.execute();
+        reports.setValidateXml(true);
+
+        ByteArrayOutputStream diagnosticDataOS = new ByteArrayOutputStream();
+        reports.writeXmlDiagnosticData(diagnosticDataOS);
+        ByteArrayOutputStream detailedReportOS = new ByteArrayOutputStream();
+        reports.writeXmlDetailedReport(detailedReportOS);
+        ByteArrayOutputStream simpleReportOS = new ByteArrayOutputStream();
+        reports.writeXmlSimpleReport(simpleReportOS);
+        ByteArrayOutputStream validationReportOS = new ByteArrayOutputStream();
+        reports.writeXmlValidationReport(validationReportOS);
+
+        XmlDiagnosticData writtenDiagnosticData = DiagnosticDataFacade.newFacade().unmarshall(
+                new ByteArrayInputStream(diagnosticDataOS.toByteArray()));
+        assertEquals(diagnosticData.getSignatures().size(), writtenDiagnosticData.getSignatures().size());
+        XmlDetailedReport writtenDetailedReport = DetailedReportFacade.newFacade().unmarshall(
+                new ByteArrayInputStream(detailedReportOS.toByteArray()));
+        assertEquals(reports.getDetailedReportJaxb().getSignatureOrTimestampOrEvidenceRecord().size(),
+                writtenDetailedReport.getSignatureOrTimestampOrEvidenceRecord().size());
+        XmlSimpleReport writtenSimpleReport = SimpleReportFacade.newFacade().unmarshall(
+                new ByteArrayInputStream(simpleReportOS.toByteArray()));
+        assertEquals(reports.getSimpleReportJaxb().getSignaturesCount(), writtenSimpleReport.getSignaturesCount());
+        ValidationReportType writtenValidationReport = ValidationReportFacade.newFacade().unmarshall(
+                new ByteArrayInputStream(validationReportOS.toByteArray()));
+        assertEquals(reports.getEtsiValidationReportJaxb().getSignatureValidationReport().size(),
+                writtenValidationReport.getSignatureValidationReport().size());
+
+        // written from the cached String representation
+        String xmlSimpleReport = reports.getXmlSimpleReport();
+        ByteArrayOutputStream cachedSimpleReportOS = new ByteArrayOutputStream();
+        reports.writeXmlSimpleReport(cachedSimpleReportOS);
+        assertEquals(xmlSimpleReport, new String(cachedSimpleReportOS.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void writeJsonReportsTest() throws Exception {
+        XmlDiagnosticData diagnosticData = DiagnosticDataFacade.newFacade().unmarshall(new File("src/test/resources/DSS-1330-diag-data.xml"));
+
+        DefaultSignatureProcessExecutor executor = new DefaultSignatureProcessExecutor();
+        executor.setDiagnosticData(diagnosticData);
+        executor.setValidationPolicy(ValidationPolicyFacade.newFacade().getDefaultValidationPolicy());
+        executor.setCurrentTime(diagnosticData.getValidationDate());
+
+        Reports reports = executor.execute();
+
+        ObjectMapper om = new ObjectMapper();
+        om.setAnnotationIntrospector(new JaxbAnnotationIntrospector(TypeFactory.defaultInstance()));
+
+        ByteArrayOutputStream diagnosticDataOS = new ByteArrayOutputStream();
+        reports.writeJsonDiagnosticData(diagnosticDataOS);
+        assertEquals(om.readTree(om.writeValueAsString(reports.getDiagnosticDataJaxb())),
+                om.readTree(diagnosticDataOS.toByteArray()));
+
+        ByteArrayOutputStream detailedReportOS = new ByteArrayOutputStream();
+        reports.writeJsonDetailedReport(detailedReportOS);
+        assertEquals(om.readTree(om.writeValueAsString(reports.getDetailedReportJaxb())),
+                om.readTree(detailedReportOS.toByteArray()));
+
+        ByteArrayOutputStream simpleReportOS = new ByteArrayOutputStream();
+        reports.writeJsonSimpleReport(simpleReportOS);
+        XmlSimpleReport writtenSimpleReport = om.readValue(simpleReportOS.toByteArray(), XmlSimpleReport.class);
+        assertEquals(reports.getSimpleReportJaxb().getSignaturesCount(), writtenSimpleReport.getSignaturesCount());
+        assertEquals(reports.getSimpleReportJaxb().getValidSignaturesCount(), writtenSimpleReport.getValidSignaturesCount());
+    }
+
 }